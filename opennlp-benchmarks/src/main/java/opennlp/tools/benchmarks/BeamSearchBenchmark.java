@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.ml.ArrayBeamSearch;
+import opennlp.tools.ml.BeamSearch;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.postag.POSContextGenerator;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.util.SequenceValidator;
+
+/**
+ * Measures the {@link BeamSearch} and the {@link ArrayBeamSearch} with the pos tagger
+ * model on all sentences of the pos tagger training data.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeamSearchBenchmark {
+
+  @Param({"3", "10"})
+  public int beamSize;
+
+  private BeamSearch<String> beamSearch;
+  private ArrayBeamSearch<String> arrayBeamSearch;
+
+  private POSContextGenerator contextGenerator;
+  private SequenceValidator<String> validator;
+  private String[][] sentences;
+
+  @Setup
+  public void setup() throws IOException {
+    POSModel posModel = BenchmarkModels.posModel();
+    MaxentModel model = BenchmarkModels.posMaxentModel();
+    beamSearch = new BeamSearch<>(beamSize, model);
+    arrayBeamSearch = new ArrayBeamSearch<>(beamSize, model);
+
+    contextGenerator = posModel.getFactory().getPOSContextGenerator();
+    validator = (i, inputSequence, outcomesSequence, outcome) -> true;
+    sentences = BenchmarkModels.posSamples().stream()
+        .map(POSSample::getSentence).toArray(String[][]::new);
+  }
+
+  @Benchmark
+  public void beamSearch(Blackhole blackhole) {
+    for (String[] sentence : sentences) {
+      blackhole.consume(beamSearch.bestSequence(sentence, null, contextGenerator, validator));
+    }
+  }
+
+  @Benchmark
+  public void arrayBeamSearch(Blackhole blackhole) {
+    for (String[] sentence : sentences) {
+      blackhole.consume(arrayBeamSearch.bestSequence(sentence, null, contextGenerator, validator));
+    }
+  }
+}
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import opennlp.tools.chunker.ChunkSampleStream;
+import opennlp.tools.chunker.ChunkerFactory;
+import opennlp.tools.chunker.ChunkerME;
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.doccat.DoccatFactory;
+import opennlp.tools.doccat.DoccatModel;
+import opennlp.tools.doccat.DocumentCategorizerME;
+import opennlp.tools.doccat.DocumentSample;
+import opennlp.tools.doccat.DocumentSampleStream;
+import opennlp.tools.langdetect.LanguageDetectorFactory;
+import opennlp.tools.langdetect.LanguageDetectorME;
+import opennlp.tools.langdetect.LanguageDetectorModel;
+import opennlp.tools.langdetect.LanguageDetectorSampleStream;
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.lemmatizer.LemmaSampleStream;
+import opennlp.tools.lemmatizer.LemmatizerFactory;
+import opennlp.tools.lemmatizer.LemmatizerME;
+import opennlp.tools.lemmatizer.LemmatizerModel;
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.BinaryFileDataReader;
+import opennlp.tools.ml.model.GenericModelReader;
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.NameSample;
+import opennlp.tools.namefind.NameSampleDataStream;
+import opennlp.tools.namefind.TokenNameFinderFactory;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.parser.ParseSampleStream;
+import opennlp.tools.parser.ParserModel;
+import opennlp.tools.parser.chunking.Parser;
+import opennlp.tools.parser.lang.en.HeadRules;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.postag.POSTaggerFactory;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.postag.WordTagSampleStream;
+import opennlp.tools.sentdetect.SentenceDetectorFactory;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.sentdetect.SentenceSampleStream;
+import opennlp.tools.tokenize.TokenSampleStream;
+import opennlp.tools.tokenize.TokenizerFactory;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.InputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.TrainingParameters;
+import opennlp.tools.util.model.BaseModel;
+
+/**
+ * Trains the models and loads the input data for the benchmarks from the test
+ * resources of opennlp-tools. The models are trained once per JVM and are shared
+ * by all benchmarks which run in it.
+ */
+public final class BenchmarkModels {
+
+  private static final Charset ISO_8859_1 = StandardCharsets.ISO_8859_1;
+
+  private static SentenceModel sentenceModel;
+  private static TokenizerModel tokenizerModel;
+  private static POSModel posModel;
+  private static ChunkerModel chunkerModel;
+  private static TokenNameFinderModel nameFinderModel;
+  private static LemmatizerModel lemmatizerModel;
+  private static DoccatModel doccatModel;
+  private static LanguageDetectorModel languageDetectorModel;
+  private static ParserModel parserModel;
+
+  private BenchmarkModels() {
+  }
+
+  /**
+   * Opens a resource of the test resources, for example "/opennlp/tools/postag/AnnotatedSentences.txt".
+   */
+  public static InputStreamFactory resource(String name) {
+    return () -> {
+      InputStream in = BenchmarkModels.class.getResourceAsStream(name);
+      if (in == null) {
+        throw new FileNotFoundException("Resource not found: " + name);
+      }
+      return in;
+    };
+  }
+
+  public static ObjectStream<String> lines(String name, Charset charset) throws IOException {
+    return new PlainTextByLineStream(resource(name), charset);
+  }
+
+  public static List<String> readLines(String name, Charset charset) throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(resource(name).createInputStream(), charset))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.trim().isEmpty()) {
+          lines.add(line);
+        }
+      }
+    }
+    return lines;
+  }
+
+  public static <T> List<T> readAll(ObjectStream<T> samples) throws IOException {
+    List<T> list = new ArrayList<>();
+    try (ObjectStream<T> in = samples) {
+      T sample;
+      while ((sample = in.read()) != null) {
+        list.add(sample);
+      }
+    }
+    return list;
+  }
+
+  public static TrainingParameters params(int iterations, int cutoff) {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, iterations);
+    params.put(TrainingParameters.CUTOFF_PARAM, cutoff);
+    params.put(AbstractTrainer.VERBOSE_PARAM, false);
+    return params;
+  }
+
+  public static byte[] serialize(BaseModel model) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    model.serialize(out);
+    return out.toByteArray();
+  }
+
+  // Input data
+
+  /**
+   * @return the text of the sentence detector training data, one sentence per line
+   */
+  public static List<String> sentences() throws IOException {
+    return readLines("/opennlp/tools/sentdetect/Sentences.txt", StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the tagged sentences of the pos tagger training data
+   */
+  public static List<POSSample> posSamples() throws IOException {
+    return readAll(new WordTagSampleStream(
+        lines("/opennlp/tools/postag/AnnotatedSentences.txt", StandardCharsets.UTF_8)));
+  }
+
+  public static List<NameSample> nameSamples() throws IOException {
+    return readAll(new NameSampleDataStream(
+        lines("/opennlp/tools/namefind/AnnotatedSentences.txt", ISO_8859_1)));
+  }
+
+  public static List<LemmaSample> lemmaSamples() throws IOException {
+    return readAll(new LemmaSampleStream(
+        lines("/opennlp/tools/lemmatizer/trial.old.tsv", StandardCharsets.UTF_8)));
+  }
+
+  public static List<DocumentSample> documentSamples() throws IOException {
+    return readAll(new DocumentSampleStream(
+        lines("/opennlp/tools/doccat/DoccatSample.txt", StandardCharsets.UTF_8)));
+  }
+
+  // Models
+
+  public static synchronized SentenceModel sentenceModel() throws IOException {
+    if (sentenceModel == null) {
+      sentenceModel = SentenceDetectorME.train("eng", new SentenceSampleStream(
+          lines("/opennlp/tools/sentdetect/Sentences.txt", StandardCharsets.UTF_8)),
+          new SentenceDetectorFactory("eng", true, null, null), params(100, 0));
+    }
+    return sentenceModel;
+  }
+
+  public static synchronized TokenizerModel tokenizerModel() throws IOException {
+    if (tokenizerModel == null) {
+      tokenizerModel = TokenizerME.train(new TokenSampleStream(
+          lines("/opennlp/tools/tokenize/token.train", StandardCharsets.UTF_8)),
+          new TokenizerFactory("eng", null, true, null), params(100, 0));
+    }
+    return tokenizerModel;
+  }
+
+  public static synchronized POSModel posModel() throws IOException {
+    if (posModel == null) {
+      posModel = POSTaggerME.train("eng", new WordTagSampleStream(
+          lines("/opennlp/tools/postag/AnnotatedSentences.txt", StandardCharsets.UTF_8)),
+          params(100, 5), new POSTaggerFactory());
+    }
+    return posModel;
+  }
+
+  /**
+   * @return the maxent model of the pos tagger model, read from the "pos.model" entry
+   *     of the serialized {@link #posModel()}
+   */
+  public static AbstractModel posMaxentModel() throws IOException {
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(serialize(posModel())))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        if ("pos.model".equals(entry.getName())) {
+          return new GenericModelReader(new BinaryFileDataReader(zip)).getModel();
+        }
+      }
+    }
+    throw new IOException("The pos model has no pos.model entry");
+  }
+
+  public static synchronized ChunkerModel chunkerModel() throws IOException {
+    if (chunkerModel == null) {
+      chunkerModel = ChunkerME.train("eng", new ChunkSampleStream(
+          lines("/opennlp/tools/chunker/test.txt", StandardCharsets.UTF_8)),
+          params(70, 1), new ChunkerFactory());
+    }
+    return chunkerModel;
+  }
+
+  public static synchronized TokenNameFinderModel nameFinderModel() throws IOException {
+    if (nameFinderModel == null) {
+      nameFinderModel = NameFinderME.train("eng", null, new NameSampleDataStream(
+          lines("/opennlp/tools/namefind/AnnotatedSentences.txt", ISO_8859_1)),
+          params(70, 1), new TokenNameFinderFactory());
+    }
+    return nameFinderModel;
+  }
+
+  public static synchronized LemmatizerModel lemmatizerModel() throws IOException {
+    if (lemmatizerModel == null) {
+      lemmatizerModel = LemmatizerME.train("eng", new LemmaSampleStream(
+          lines("/opennlp/tools/lemmatizer/trial.old.tsv", StandardCharsets.UTF_8)),
+          params(100, 5), new LemmatizerFactory());
+    }
+    return lemmatizerModel;
+  }
+
+  public static synchronized DoccatModel doccatModel() throws IOException {
+    if (doccatModel == null) {
+      doccatModel = DocumentCategorizerME.train("eng", new DocumentSampleStream(
+          lines("/opennlp/tools/doccat/DoccatSample.txt", StandardCharsets.UTF_8)),
+          params(100, 5), new DoccatFactory());
+    }
+    return doccatModel;
+  }
+
+  public static synchronized LanguageDetectorModel languageDetectorModel() throws IOException {
+    if (languageDetectorModel == null) {
+      languageDetectorModel = LanguageDetectorME.train(new LanguageDetectorSampleStream(
+          lines("/opennlp/tools/doccat/DoccatSample.txt", StandardCharsets.UTF_8)),
+          params(100, 5), new LanguageDetectorFactory());
+    }
+    return languageDetectorModel;
+  }
+
+  public static synchronized ParserModel parserModel() throws IOException {
+    if (parserModel == null) {
+      parserModel = Parser.train("eng", new ParseSampleStream(
+          lines("/opennlp/tools/parser/parser.train", StandardCharsets.UTF_8)),
+          headRules(), params(100, 0));
+    }
+    return parserModel;
+  }
+
+  public static HeadRules headRules() throws IOException {
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        resource("/opennlp/tools/parser/en_head_rules").createInputStream(), StandardCharsets.UTF_8))) {
+      return new HeadRules(reader);
+    }
+  }
+}
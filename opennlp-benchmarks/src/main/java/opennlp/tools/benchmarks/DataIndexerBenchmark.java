@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import opennlp.tools.ml.AbstractEventTrainer;
+import opennlp.tools.ml.model.AbstractDataIndexer;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.DataIndexerFactory;
+import opennlp.tools.ml.model.Event;
+import opennlp.tools.namefind.NameFinderEventStream;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Measures the indexing of the name finder training events with each data indexer.
+ * The threads are only used by the parallel two pass indexer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataIndexerBenchmark {
+
+  @Param({AbstractEventTrainer.DATA_INDEXER_ONE_PASS_VALUE,
+      AbstractEventTrainer.DATA_INDEXER_TWO_PASS_VALUE,
+      AbstractEventTrainer.DATA_INDEXER_PARALLEL_TWO_PASS_VALUE,
+      AbstractEventTrainer.DATA_INDEXER_ON_DISK_VALUE})
+  public String dataIndexer;
+
+  @Param({"1", "4"})
+  public int threads;
+
+  private List<Event> events;
+
+  @Setup
+  public void setup() throws IOException {
+    events = BenchmarkModels.readAll(new NameFinderEventStream(
+        ObjectStreamUtils.createObjectStream(BenchmarkModels.nameSamples())));
+  }
+
+  @Benchmark
+  public int index() throws IOException {
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractEventTrainer.DATA_INDEXER_PARAM, dataIndexer);
+    params.put(AbstractDataIndexer.CUTOFF_PARAM, 1);
+    params.put(TrainingParameters.THREADS_PARAM, threads);
+
+    DataIndexer indexer = DataIndexerFactory.getDataIndexer(params, new HashMap<>());
+    indexer.index(ObjectStreamUtils.createObjectStream(events));
+
+    int numUniqueEvents = indexer.getNumUniqueEvents();
+    if (indexer instanceof Closeable) {
+      ((Closeable) indexer).close();
+    }
+    return numUniqueEvents;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.doccat.BulkDocumentCategorizer;
+import opennlp.tools.doccat.DoccatModel;
+import opennlp.tools.doccat.DocumentCategorizerME;
+import opennlp.tools.doccat.DocumentSample;
+
+/**
+ * Measures the categorization of all documents of the document categorizer training data,
+ * one by one and as a batch with the {@link BulkDocumentCategorizer}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DocumentCategorizerBenchmark {
+
+  @Param({"1", "4"})
+  public int threads;
+
+  private DocumentCategorizerME categorizer;
+  private BulkDocumentCategorizer bulkCategorizer;
+  private String[][] documents;
+  private List<String[]> documentList;
+
+  @Setup
+  public void setup() throws IOException {
+    DoccatModel model = BenchmarkModels.doccatModel();
+    categorizer = new DocumentCategorizerME(model);
+    bulkCategorizer = new BulkDocumentCategorizer(model, threads);
+    documents = BenchmarkModels.documentSamples().stream()
+        .map(DocumentSample::getText).toArray(String[][]::new);
+    documentList = Arrays.asList(documents);
+  }
+
+  @TearDown
+  public void tearDown() {
+    bulkCategorizer.close();
+  }
+
+  @Benchmark
+  public void categorize(Blackhole blackhole) {
+    for (String[] document : documents) {
+      blackhole.consume(categorizer.categorize(document));
+    }
+  }
+
+  @Benchmark
+  public void categorizeBulk(Blackhole blackhole) {
+    blackhole.consume(bulkCategorizer.categorize(documentList, 1));
+  }
+}
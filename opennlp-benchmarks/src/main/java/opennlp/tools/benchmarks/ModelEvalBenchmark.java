@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.CompiledModel;
+import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.MappedModel;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.postag.POSSampleEventStream;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Measures the evaluation of all contexts of the pos tagger training events with a
+ * maxent (GIS) and a perceptron model, one by one, as a batch and with the compiled
+ * and the memory mapped form of the model.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ModelEvalBenchmark {
+
+  @Param({"MAXENT", "PERCEPTRON"})
+  public String algorithm;
+
+  private MaxentModel model;
+  private CompiledModel compiledModel;
+  private MappedModel mappedModel;
+
+  private String[][] contexts;
+  private double[][] probs;
+
+  @Setup
+  public void setup() throws IOException {
+    List<Event> events = BenchmarkModels.readAll(new POSSampleEventStream(
+        ObjectStreamUtils.createObjectStream(BenchmarkModels.posSamples())));
+
+    TrainingParameters params = BenchmarkModels.params(100, 5);
+    params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+    model = TrainerFactory.getEventTrainer(params, null)
+        .train(ObjectStreamUtils.createObjectStream(events));
+
+    compiledModel = CompiledModel.compile((AbstractModel) model);
+
+    Path mappedModelFile = Files.createTempFile("opennlp-benchmark", ".bin");
+    mappedModelFile.toFile().deleteOnExit();
+    MappedModel.write((AbstractModel) model, mappedModelFile);
+    mappedModel = MappedModel.open(mappedModelFile);
+
+    contexts = events.stream().map(Event::getContext).toArray(String[][]::new);
+    probs = new double[contexts.length][model.getNumOutcomes()];
+  }
+
+  @Benchmark
+  public void eval(Blackhole blackhole) {
+    for (String[] context : contexts) {
+      blackhole.consume(model.eval(context));
+    }
+  }
+
+  @Benchmark
+  public void evalReusedBuffer(Blackhole blackhole) {
+    for (String[] context : contexts) {
+      blackhole.consume(model.eval(context, probs[0]));
+    }
+  }
+
+  @Benchmark
+  public double[][] evalBatch() {
+    return model.eval(contexts, probs);
+  }
+
+  @Benchmark
+  public void evalCompiled(Blackhole blackhole) {
+    for (String[] context : contexts) {
+      blackhole.consume(compiledModel.eval(context, probs[0]));
+    }
+  }
+
+  @Benchmark
+  public void evalMapped(Blackhole blackhole) {
+    for (String[] context : contexts) {
+      blackhole.consume(mappedModel.eval(context, probs[0]));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import opennlp.tools.ml.model.MappedModel;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.postag.POSModel;
+
+/**
+ * Measures the loading of serialized models from a stream and from a file, and the
+ * opening of a memory mapped model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelLoadingBenchmark {
+
+  private byte[] posModelBytes;
+  private byte[] nameFinderModelBytes;
+  private File posModelFile;
+  private Path mappedModelFile;
+
+  @Setup
+  public void setup() throws IOException {
+    POSModel posModel = BenchmarkModels.posModel();
+    posModelBytes = BenchmarkModels.serialize(posModel);
+    nameFinderModelBytes = BenchmarkModels.serialize(BenchmarkModels.nameFinderModel());
+
+    posModelFile = File.createTempFile("opennlp-benchmark", ".bin");
+    posModel.serialize(posModelFile);
+
+    mappedModelFile = Files.createTempFile("opennlp-benchmark", ".bin");
+    MappedModel.write(BenchmarkModels.posMaxentModel(), mappedModelFile);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(posModelFile.toPath());
+    Files.deleteIfExists(mappedModelFile);
+  }
+
+  @Benchmark
+  public POSModel loadPOSModelFromStream() throws IOException {
+    return new POSModel(new ByteArrayInputStream(posModelBytes));
+  }
+
+  @Benchmark
+  public POSModel loadPOSModelFromFile() throws IOException {
+    return new POSModel(posModelFile);
+  }
+
+  @Benchmark
+  public TokenNameFinderModel loadNameFinderModelFromStream() throws IOException {
+    return new TokenNameFinderModel(new ByteArrayInputStream(nameFinderModelBytes));
+  }
+
+  @Benchmark
+  public MappedModel openMappedModel() throws IOException {
+    return MappedModel.open(mappedModelFile);
+  }
+}
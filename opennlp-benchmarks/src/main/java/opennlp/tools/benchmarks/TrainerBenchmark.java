@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.benchmarks;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import opennlp.tools.ml.AbstractEventTrainer;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.namefind.NameFinderEventStream;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Measures the training of a model from the indexed name finder training events.
+ * The indexing is done once during the setup, the on disk indexer measures training
+ * by scanning the cache file instead of the events in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TrainerBenchmark {
+
+  @Param({"MAXENT", "MAXENT_QN", "PERCEPTRON"})
+  public String algorithm;
+
+  @Param({"1", "4"})
+  public int threads;
+
+  @Param({AbstractEventTrainer.DATA_INDEXER_TWO_PASS_VALUE,
+      AbstractEventTrainer.DATA_INDEXER_ON_DISK_VALUE})
+  public String dataIndexer;
+
+  private DataIndexer indexer;
+
+  @Setup
+  public void setup() throws IOException {
+    List<Event> events = BenchmarkModels.readAll(new NameFinderEventStream(
+        ObjectStreamUtils.createObjectStream(BenchmarkModels.nameSamples())));
+
+    AbstractEventTrainer trainer = (AbstractEventTrainer) TrainerFactory.getEventTrainer(params(), null);
+    indexer = trainer.getDataIndexer(ObjectStreamUtils.createObjectStream(events));
+  }
+
+  private TrainingParameters params() {
+    TrainingParameters params = BenchmarkModels.params(50, 1);
+    params.put(TrainingParameters.ALGORITHM_PARAM, algorithm);
+    params.put(TrainingParameters.THREADS_PARAM, threads);
+    params.put(AbstractEventTrainer.DATA_INDEXER_PARAM, dataIndexer);
+    return params;
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    if (indexer instanceof Closeable) {
+      ((Closeable) indexer).close();
+    }
+  }
+
+  @Benchmark
+  public MaxentModel train() throws IOException {
+    return TrainerFactory.getEventTrainer(params(), null).train(indexer);
+  }
+}
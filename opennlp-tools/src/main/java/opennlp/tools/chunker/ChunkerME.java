@@ -40,6 +40,9 @@ import opennlp.tools.util.TrainingParameters;
 /**
  * The class represents a maximum-entropy-based chunker.  Such a chunker can be used to
  * find flat structures based on sequence inputs such as noun phrases or named entities.
+ * <p>
+ * Instances of this class are not thread-safe, the last decoded sequence is kept
+ * in the instance. Use {@link ThreadSafeChunkerME} to share one model between threads.
  */
 public class ChunkerME implements Chunker {
 
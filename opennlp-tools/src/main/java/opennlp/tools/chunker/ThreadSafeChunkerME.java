@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.chunker;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Sequence;
+import opennlp.tools.util.Span;
+
+/**
+ * A thread-safe version of the {@link ChunkerME}. One instance can be shared by all
+ * worker threads, it can be used in a single-threaded context as well and only incurs
+ * a minimal overhead.
+ * <p>
+ * All calls share the same immutable {@link ChunkerModel}. Each call borrows a
+ * {@link ChunkerME} from an {@link InstancePool}, therefore the number of created
+ * chunkers is bounded by the number of concurrent calls and not by the number of
+ * threads. The probabilities of the last decoded sequence are kept per thread.
+ */
+public class ThreadSafeChunkerME implements Chunker, AutoCloseable {
+
+  private final InstancePool<ChunkerME> pool;
+
+  private final ThreadLocal<double[]> chunkProbs = new ThreadLocal<>();
+
+  public ThreadSafeChunkerME(ChunkerModel model) {
+    pool = new InstancePool<>(() -> new ChunkerME(model));
+  }
+
+  @Override
+  public String[] chunk(String[] toks, String[] tags) {
+    ChunkerME chunker = pool.borrow();
+    try {
+      String[] chunks = chunker.chunk(toks, tags);
+      chunkProbs.set(chunker.probs());
+      return chunks;
+    } finally {
+      pool.release(chunker);
+    }
+  }
+
+  @Override
+  public Span[] chunkAsSpans(String[] toks, String[] tags) {
+    String[] preds = chunk(toks, tags);
+    return ChunkSample.phrasesAsSpanList(toks, tags, preds);
+  }
+
+  @Override
+  public Sequence[] topKSequences(String[] sentence, String[] tags) {
+    return pool.apply(chunker -> chunker.topKSequences(sentence, tags));
+  }
+
+  @Override
+  public Sequence[] topKSequences(String[] sentence, String[] tags, double minSequenceScore) {
+    return pool.apply(chunker -> chunker.topKSequences(sentence, tags, minSequenceScore));
+  }
+
+  /**
+   * Returns an array with the probabilities of the sequence which was last
+   * decoded by the calling thread.
+   *
+   * @return An array with the same number of probabilities as tokens were sent to <code>chunk</code>
+   *     when it was last called by the calling thread.
+   *
+   * @see ChunkerME#probs()
+   */
+  public double[] probs() {
+    double[] probs = chunkProbs.get();
+    if (probs == null) {
+      throw new IllegalStateException("No sentence was chunked by the calling thread");
+    }
+    return probs.clone();
+  }
+
+  /**
+   * Releases the pooled chunkers and the per-thread state of the calling thread.
+   */
+  @Override
+  public void close() {
+    pool.clear();
+    chunkProbs.remove();
+  }
+}
@@ -32,7 +32,6 @@ import opennlp.tools.dictionary.serializer.Attributes;
 import opennlp.tools.dictionary.serializer.DictionaryEntryPersistor;
 import opennlp.tools.dictionary.serializer.Entry;
 import opennlp.tools.util.StringList;
-import opennlp.tools.util.StringUtil;
 import opennlp.tools.util.model.DictionarySerializer;
 import opennlp.tools.util.model.SerializableArtifact;
 
@@ -44,9 +43,22 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
   private class StringListWrapper {
 
     private final StringList stringList;
+    private final int hashCode;
 
     private StringListWrapper(StringList stringList) {
       this.stringList = stringList;
+
+      // entries which are equal ignoring case must have the same hash code
+      int hash = 1;
+      for (int i = 0; i < stringList.size(); i++) {
+        String token = stringList.getToken(i);
+        int tokenHash = 0;
+        for (int ci = 0; ci < token.length(); ci++) {
+          tokenHash = 31 * tokenHash + Character.toLowerCase(Character.toUpperCase(token.charAt(ci)));
+        }
+        hash = 31 * hash + tokenHash;
+      }
+      hashCode = hash;
     }
 
     private StringList getStringList() {
@@ -80,8 +92,7 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
 
     @Override
     public int hashCode() {
-      // if lookup is too slow optimize this
-      return StringUtil.toLowerCase(this.stringList.toString()).hashCode();
+      return hashCode;
     }
 
     @Override
@@ -95,6 +106,8 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
   private int minTokenCount = 99999;
   private int maxTokenCount = 0;
 
+  private volatile TokenTrie tokenTrie;
+
 
   /**
    * Initializes an empty {@link Dictionary}.
@@ -124,6 +137,7 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
    */
   public void put(StringList tokens) {
     entrySet.add(new StringListWrapper(tokens));
+    tokenTrie = null;
     minTokenCount = Math.min(minTokenCount, tokens.size());
     maxTokenCount = Math.max(maxTokenCount, tokens.size());
   }
@@ -161,6 +175,43 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
    */
   public void remove(StringList tokens) {
     entrySet.remove(new StringListWrapper(tokens));
+    tokenTrie = null;
+  }
+
+  /**
+   * @return true if the entries are matched case sensitive
+   */
+  public boolean isCaseSensitive() {
+    return isCaseSensitive;
+  }
+
+  /**
+   * Retrieves the {@link TokenTrie} of the entries, which can find the longest entry
+   * starting at a token without creating a {@link StringList} for every candidate.
+   * The trie is compiled on first use and again after the dictionary was modified.
+   *
+   * @return the trie of the entries
+   */
+  public TokenTrie getTokenTrie() {
+    TokenTrie trie = tokenTrie;
+    if (trie == null) {
+      trie = TokenTrie.compile(this);
+      tokenTrie = trie;
+    }
+    return trie;
+  }
+
+  /**
+   * Finds the longest entry which starts at the given token, with the {@link TokenTrie}
+   * of the entries.
+   *
+   * @param tokens the tokens of the text
+   * @param start the index of the first token of the entry
+   *
+   * @return the number of tokens of the longest entry or zero if no entry starts at the token
+   */
+  public int longestMatch(String[] tokens, int start) {
+    return getTokenTrie().longestMatch(tokens, start);
   }
 
   /**
@@ -183,6 +234,7 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
 
       public void remove() {
         entries.remove();
+        tokenTrie = null;
       }
     };
   }
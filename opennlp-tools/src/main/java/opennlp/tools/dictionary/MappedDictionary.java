@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.dictionary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.StringList;
+import opennlp.tools.util.model.MappedDictionarySerializer;
+
+/**
+ * A read-only {@link Dictionary} which looks up its entries directly in a {@link ByteBuffer},
+ * usually a file which is mapped into memory with {@link #open(Path)}. The entries are
+ * stored in a {@link SortedTokenTable}, a lookup does a binary search over the chars
+ * in the buffer instead of hashing {@link StringList} objects on the heap.
+ * <p>
+ * A mapped dictionary is created from a dictionary with {@link #compile(Dictionary)} or
+ * written with {@link #write(Dictionary, OutputStream)}. Inside a model package it is
+ * stored in the binary format and read into a single direct buffer when the model is loaded.
+ * <p>
+ * The longest entry which starts at a token is found with {@link #longestMatch(String[], int)}
+ * directly in the sorted entries. The entries are only compiled into a {@link TokenTrie}
+ * on the heap if {@link #getTokenTrie()} is called.
+ * <p>
+ * Instances are immutable and thread-safe, {@link #put(StringList)} and
+ * {@link #remove(StringList)} throw an {@link UnsupportedOperationException}.
+ */
+public final class MappedDictionary extends Dictionary {
+
+  private static final int MAGIC = 0x4F4E4C44; // ONLD
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_SIZE = 8;
+
+  private final ByteBuffer buffer;
+  private final SortedTokenTable table;
+
+  /**
+   * Initializes the dictionary from a buffer which contains a dictionary in the
+   * mapped dictionary format. The buffer must not be modified afterwards.
+   *
+   * @param buffer the buffer, its content starts at position zero
+   *
+   * @throws InvalidFormatException if the buffer does not contain a valid dictionary
+   */
+  public MappedDictionary(ByteBuffer buffer) throws InvalidFormatException {
+    this(buffer, readTable(buffer));
+  }
+
+  private MappedDictionary(ByteBuffer buffer, SortedTokenTable table) {
+    super(table.isCaseSensitive());
+    this.buffer = buffer.duplicate();
+    this.table = table;
+  }
+
+  private static SortedTokenTable readTable(ByteBuffer buffer) throws InvalidFormatException {
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new InvalidFormatException("Not a mapped dictionary!");
+    }
+
+    if (buffer.getInt(4) != FORMAT_VERSION) {
+      throw new InvalidFormatException("Unsupported mapped dictionary version: " + buffer.getInt(4));
+    }
+
+    ByteBuffer tableBuffer = buffer.duplicate();
+    tableBuffer.position(HEADER_SIZE);
+    return new SortedTokenTable(tableBuffer.slice());
+  }
+
+  /**
+   * Maps a dictionary file into memory.
+   *
+   * @param path the dictionary file
+   *
+   * @return the dictionary
+   *
+   * @throws IOException if the file can not be read or is not a mapped dictionary
+   */
+  public static MappedDictionary open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new MappedDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Compiles a dictionary into a mapped dictionary which is stored in a heap buffer.
+   *
+   * @param dictionary the dictionary
+   *
+   * @return the mapped dictionary
+   */
+  public static MappedDictionary compile(Dictionary dictionary) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try {
+      write(dictionary, bytes);
+      return new MappedDictionary(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+    catch (IOException e) {
+      // a byte array stream does not fail and the written format is valid
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Writes a dictionary in the mapped dictionary format. The stream is not closed.
+   *
+   * @param dictionary the dictionary
+   * @param out the stream to write to
+   *
+   * @throws IOException if writing fails
+   */
+  public static void write(Dictionary dictionary, OutputStream out) throws IOException {
+    List<String[]> entries = new ArrayList<>(dictionary.size());
+    for (StringList entry : dictionary) {
+      String[] tokens = new String[entry.size()];
+      for (int i = 0; i < tokens.length; i++) {
+        tokens[i] = entry.getToken(i);
+      }
+      entries.add(tokens);
+    }
+
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    SortedTokenTable.write(entries, null, dictionary.isCaseSensitive(), data);
+    data.flush();
+  }
+
+  /**
+   * Writes this dictionary in the mapped dictionary format. The stream is not closed.
+   *
+   * @param out the stream to write to
+   *
+   * @throws IOException if writing fails
+   */
+  public void write(OutputStream out) throws IOException {
+    ByteBuffer content = buffer.duplicate();
+    content.clear();
+
+    WritableByteChannel channel = Channels.newChannel(out);
+    while (content.hasRemaining()) {
+      channel.write(content);
+    }
+  }
+
+  @Override
+  public void put(StringList tokens) {
+    throw new UnsupportedOperationException("A mapped dictionary is read-only!");
+  }
+
+  @Override
+  public void remove(StringList tokens) {
+    throw new UnsupportedOperationException("A mapped dictionary is read-only!");
+  }
+
+  @Override
+  public boolean contains(StringList tokens) {
+    return table.indexOf(tokens) >= 0;
+  }
+
+  /**
+   * Checks if this dictionary has an entry which consists of the given tokens,
+   * without creating a {@link StringList}.
+   *
+   * @param tokens the array which contains the tokens
+   * @param start the index of the first token
+   * @param length the number of tokens
+   *
+   * @return true if it contains the entry otherwise false
+   */
+  public boolean contains(String[] tokens, int start, int length) {
+    return table.indexOf(tokens, start, length) >= 0;
+  }
+
+  /**
+   * Finds the longest entry which starts at the given token with a search over the
+   * sorted entries in the buffer.
+   *
+   * @param tokens the tokens of the text
+   * @param start the index of the first token of the entry
+   *
+   * @return the number of tokens of the longest entry or zero if no entry starts at the token
+   */
+  @Override
+  public int longestMatch(String[] tokens, int start) {
+    return table.longestMatch(tokens, start);
+  }
+
+  @Override
+  public int getMinTokenCount() {
+    return table.size() > 0 ? table.getMinTokenCount() : super.getMinTokenCount();
+  }
+
+  @Override
+  public int getMaxTokenCount() {
+    return table.getMaxTokenCount();
+  }
+
+  @Override
+  public int size() {
+    return table.size();
+  }
+
+  @Override
+  public Iterator<StringList> iterator() {
+    return new Iterator<StringList>() {
+
+      private int entry;
+
+      public boolean hasNext() {
+        return entry < table.size();
+      }
+
+      public StringList next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return new StringList(table.getTokens(entry++));
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  @Override
+  public Set<String> asStringSet() {
+    return new AbstractSet<String>() {
+
+      @Override
+      public Iterator<String> iterator() {
+        return new Iterator<String>() {
+
+          private int entry;
+
+          public boolean hasNext() {
+            return entry < table.size();
+          }
+
+          public String next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            return table.getToken(entry++, 0);
+          }
+
+          public void remove() {
+            throw new UnsupportedOperationException();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return table.size();
+      }
+
+      @Override
+      public boolean contains(Object obj) {
+        return obj instanceof String && table.indexOf((String) obj) >= 0;
+      }
+    };
+  }
+
+  /**
+   * Two mapped dictionaries are equal if their binary content is equal.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+
+    if (obj instanceof MappedDictionary) {
+      MappedDictionary dictionary = (MappedDictionary) obj;
+
+      ByteBuffer content = buffer.duplicate();
+      content.clear();
+      ByteBuffer otherContent = dictionary.buffer.duplicate();
+      otherContent.clear();
+
+      return content.equals(otherContent);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    ByteBuffer content = buffer.duplicate();
+    content.clear();
+    return content.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder string = new StringBuilder("[");
+    for (StringList entry : this) {
+      if (string.length() > 1) {
+        string.append(", ");
+      }
+      string.append(entry);
+    }
+    return string.append(']').toString();
+  }
+
+  /**
+   * Gets the Serializer Class for {@link MappedDictionary}
+   * @return {@link MappedDictionarySerializer}
+   */
+  @Override
+  public Class<?> getArtifactSerializerClass() {
+    return MappedDictionarySerializer.class;
+  }
+}
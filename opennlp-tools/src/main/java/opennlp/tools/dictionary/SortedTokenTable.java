@@ -0,0 +1,556 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.dictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.StringList;
+
+/**
+ * A sorted table of token sequences which is read directly from a {@link ByteBuffer}.
+ * It stores the entries of a {@link MappedDictionary} and of a
+ * {@link opennlp.tools.postag.MappedTagDictionary}. Entries are found with a binary search
+ * which compares the chars in the buffer, a lookup does not create any objects.
+ * Every entry can have an int value.
+ * <p>
+ * The table starts with a header of eight ints: the number of entries, tokens and chars,
+ * the flags, the minimum and maximum token count of an entry and two unused ints.
+ * It is followed by these sections, all values are stored in big endian byte order
+ * and each section starts at a multiple of eight bytes:
+ * <ul>
+ * <li>entry offsets: the index of the first token of each entry, and the end index</li>
+ * <li>token offsets: the offset of each token in the token chars, and the end offset</li>
+ * <li>token chars: the chars of all tokens</li>
+ * <li>values: the value of each entry, only present if the table has values</li>
+ * </ul>
+ * The entries are ordered by comparing their tokens char by char, in a case insensitive
+ * table the chars are compared ignoring case. An entry is ordered before the entries it
+ * is a prefix of.
+ * Instances are immutable and thread-safe.
+ */
+public final class SortedTokenTable {
+
+  private static final int HEADER_SIZE = 32;
+
+  private static final int FLAG_CASE_SENSITIVE = 1;
+  private static final int FLAG_VALUES = 2;
+
+  private final boolean caseSensitive;
+  private final int numEntries;
+  private final int minTokenCount;
+  private final int maxTokenCount;
+
+  private final IntBuffer entryOffsets;
+  private final IntBuffer tokenOffsets;
+  private final CharBuffer tokenChars;
+  private final IntBuffer values;
+
+  /**
+   * Initializes the table from a buffer which contains a table in the sorted token
+   * table format. The buffer must not be modified afterwards.
+   *
+   * @param buffer the buffer, the table starts at position zero
+   *
+   * @throws InvalidFormatException if the buffer does not contain a valid table
+   */
+  public SortedTokenTable(ByteBuffer buffer) throws InvalidFormatException {
+    try {
+      numEntries = buffer.getInt(0);
+      int numTokens = buffer.getInt(4);
+      int numChars = buffer.getInt(8);
+      int flags = buffer.getInt(12);
+      minTokenCount = buffer.getInt(16);
+      maxTokenCount = buffer.getInt(20);
+
+      if (numEntries < 0 || numTokens < 0 || numChars < 0) {
+        throw new InvalidFormatException("Sorted token table is corrupt!");
+      }
+
+      caseSensitive = (flags & FLAG_CASE_SENSITIVE) != 0;
+
+      long offset = HEADER_SIZE;
+      entryOffsets = section(buffer, offset, 4L * (numEntries + 1)).asIntBuffer();
+      offset = align(offset + 4L * (numEntries + 1));
+      tokenOffsets = section(buffer, offset, 4L * (numTokens + 1)).asIntBuffer();
+      offset = align(offset + 4L * (numTokens + 1));
+      tokenChars = section(buffer, offset, 2L * numChars).asCharBuffer();
+      offset = align(offset + 2L * numChars);
+
+      if ((flags & FLAG_VALUES) != 0) {
+        values = section(buffer, offset, 4L * numEntries).asIntBuffer();
+      }
+      else {
+        values = null;
+      }
+    }
+    catch (IndexOutOfBoundsException | IllegalArgumentException | BufferUnderflowException e) {
+      throw new InvalidFormatException("Sorted token table is truncated or corrupt!", e);
+    }
+  }
+
+  private static ByteBuffer section(ByteBuffer buffer, long offset, long length) {
+    if (offset + length > buffer.capacity()) {
+      throw new IndexOutOfBoundsException("Section exceeds the buffer: " + (offset + length));
+    }
+
+    ByteBuffer section = buffer.duplicate();
+    section.limit((int) (offset + length));
+    section.position((int) offset);
+    return section.slice();
+  }
+
+  private static long align(long offset) {
+    return (offset + 7) & ~7L;
+  }
+
+  private static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  /**
+   * @return true if the tokens are compared case sensitive
+   */
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int size() {
+    return numEntries;
+  }
+
+  /**
+   * @return the minimum number of tokens of an entry, zero if the table is empty
+   */
+  public int getMinTokenCount() {
+    return minTokenCount;
+  }
+
+  /**
+   * @return the maximum number of tokens of an entry, zero if the table is empty
+   */
+  public int getMaxTokenCount() {
+    return maxTokenCount;
+  }
+
+  /**
+   * Retrieves the index of an entry.
+   *
+   * @param tokens the array which contains the tokens of the entry
+   * @param start the index of the first token of the entry
+   * @param length the number of tokens of the entry
+   *
+   * @return the index of the entry or -1 if the table does not contain it
+   */
+  public int indexOf(String[] tokens, int start, int length) {
+    int low = 0;
+    int high = numEntries - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+
+      int firstToken = entryOffsets.get(mid);
+      int tokenCount = entryOffsets.get(mid + 1) - firstToken;
+
+      int cmp = 0;
+      for (int i = 0; i < Math.min(tokenCount, length) && cmp == 0; i++) {
+        cmp = compareToken(firstToken + i, tokens[start + i]);
+      }
+      if (cmp == 0) {
+        cmp = tokenCount - length;
+      }
+
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Finds the longest entry which starts at the given token. The range of the entries which
+   * start with the tokens seen so far is narrowed down token by token, because an entry is
+   * ordered before the entries it is a prefix of, it is the first one in its range.
+   *
+   * @param tokens the tokens of the text
+   * @param start the index of the first token of the entry
+   *
+   * @return the number of tokens of the longest entry or zero if no entry starts at the token
+   */
+  public int longestMatch(String[] tokens, int start) {
+    int low = 0;
+    int high = numEntries;
+    int longest = 0;
+
+    int maxLength = Math.min(maxTokenCount, tokens.length - start);
+    for (int index = 0; index < maxLength && low < high; index++) {
+      // the entry which consists of the tokens seen so far is not longer
+      if (tokenCount(low) == index) {
+        low++;
+      }
+
+      low = bound(low, high, index, tokens[start + index], false);
+      high = bound(low, high, index, tokens[start + index], true);
+
+      if (low < high && tokenCount(low) == index + 1) {
+        longest = index + 1;
+      }
+    }
+
+    return longest;
+  }
+
+  /**
+   * Retrieves the first entry in the range whose token at the index is greater than
+   * or equal to the given token, or greater if upper is true. All entries in the range
+   * have more tokens than the index and are equal before it.
+   */
+  private int bound(int low, int high, int index, String token, boolean upper) {
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compareToken(entryOffsets.get(mid) + index, token);
+
+      if (cmp < 0 || upper && cmp == 0) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private int tokenCount(int entry) {
+    return entryOffsets.get(entry + 1) - entryOffsets.get(entry);
+  }
+
+  /**
+   * Retrieves the index of an entry.
+   *
+   * @param tokens the tokens of the entry
+   *
+   * @return the index of the entry or -1 if the table does not contain it
+   */
+  public int indexOf(StringList tokens) {
+    String[] tokenArray = new String[tokens.size()];
+    for (int i = 0; i < tokenArray.length; i++) {
+      tokenArray[i] = tokens.getToken(i);
+    }
+    return indexOf(tokenArray, 0, tokenArray.length);
+  }
+
+  /**
+   * Retrieves the index of an entry which consists of a single token.
+   *
+   * @param token the token
+   *
+   * @return the index of the entry or -1 if the table does not contain it
+   */
+  public int indexOf(CharSequence token) {
+    int low = 0;
+    int high = numEntries - 1;
+
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+
+      int firstToken = entryOffsets.get(mid);
+      int tokenCount = entryOffsets.get(mid + 1) - firstToken;
+
+      int cmp = tokenCount > 0 ? compareToken(firstToken, token) : 0;
+      if (cmp == 0) {
+        cmp = tokenCount - 1;
+      }
+
+      if (cmp < 0) {
+        low = mid + 1;
+      }
+      else if (cmp > 0) {
+        high = mid - 1;
+      }
+      else {
+        return mid;
+      }
+    }
+
+    return -1;
+  }
+
+  private int compareToken(int token, CharSequence other) {
+    int begin = tokenOffsets.get(token);
+    int length = tokenOffsets.get(token + 1) - begin;
+    int otherLength = other.length();
+
+    for (int i = 0; i < Math.min(length, otherLength); i++) {
+      char c1 = tokenChars.get(begin + i);
+      char c2 = other.charAt(i);
+
+      if (c1 != c2 && !caseSensitive) {
+        c1 = fold(c1);
+        c2 = fold(c2);
+      }
+
+      if (c1 != c2) {
+        return c1 - c2;
+      }
+    }
+
+    return length - otherLength;
+  }
+
+  /**
+   * @param entry the index of the entry
+   *
+   * @return the number of tokens of the entry
+   */
+  public int getTokenCount(int entry) {
+    checkEntry(entry);
+    return entryOffsets.get(entry + 1) - entryOffsets.get(entry);
+  }
+
+  /**
+   * Retrieves a token of an entry. The token is created from the chars in the buffer.
+   *
+   * @param entry the index of the entry
+   * @param index the index of the token in the entry
+   *
+   * @return the token
+   */
+  public String getToken(int entry, int index) {
+    if (index < 0 || index >= getTokenCount(entry)) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    int token = entryOffsets.get(entry) + index;
+    int begin = tokenOffsets.get(token);
+    int end = tokenOffsets.get(token + 1);
+
+    char[] chars = new char[end - begin];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = tokenChars.get(begin + i);
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Retrieves the tokens of an entry.
+   *
+   * @param entry the index of the entry
+   *
+   * @return the tokens
+   */
+  public String[] getTokens(int entry) {
+    String[] tokens = new String[getTokenCount(entry)];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = getToken(entry, i);
+    }
+    return tokens;
+  }
+
+  /**
+   * @param entry the index of the entry
+   *
+   * @return the value of the entry
+   *
+   * @throws IllegalStateException if the table has no values
+   */
+  public int getValue(int entry) {
+    if (values == null) {
+      throw new IllegalStateException("The table has no values!");
+    }
+
+    checkEntry(entry);
+    return values.get(entry);
+  }
+
+  private void checkEntry(int entry) {
+    if (entry < 0 || entry >= numEntries) {
+      throw new IndexOutOfBoundsException("Entry: " + entry);
+    }
+  }
+
+  static int compare(String[] tokens1, String[] tokens2, boolean caseSensitive) {
+    for (int i = 0; i < Math.min(tokens1.length, tokens2.length); i++) {
+      String token1 = tokens1[i];
+      String token2 = tokens2[i];
+
+      for (int ci = 0; ci < Math.min(token1.length(), token2.length()); ci++) {
+        char c1 = token1.charAt(ci);
+        char c2 = token2.charAt(ci);
+
+        if (c1 != c2 && !caseSensitive) {
+          c1 = fold(c1);
+          c2 = fold(c2);
+        }
+
+        if (c1 != c2) {
+          return c1 - c2;
+        }
+      }
+
+      if (token1.length() != token2.length()) {
+        return token1.length() - token2.length();
+      }
+    }
+
+    return tokens1.length - tokens2.length;
+  }
+
+  /**
+   * Sorts entries into the order of a sorted token table. The entry with table index i
+   * is the entry at index order[i] in the list.
+   *
+   * @param entries the tokens of the entries
+   * @param caseSensitive true if the tokens should be compared case sensitive
+   *
+   * @return the order of the entries
+   */
+  public static int[] sort(List<String[]> entries, boolean caseSensitive) {
+    Integer[] order = new Integer[entries.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i1, i2) -> compare(entries.get(i1), entries.get(i2), caseSensitive));
+
+    int[] sortedOrder = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      sortedOrder[i] = order[i];
+    }
+    return sortedOrder;
+  }
+
+  /**
+   * Writes a table in the sorted token table format. The stream must be positioned at a
+   * multiple of eight bytes, it is padded to a multiple of eight bytes afterwards.
+   *
+   * @param entries the tokens of the entries, in any order
+   * @param values the value of each entry or null if the table has no values
+   * @param caseSensitive true if the tokens should be compared case sensitive
+   * @param data the stream to write to
+   *
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the entries contain an entry twice or the
+   *     stream would exceed 2 GB with the table
+   */
+  public static void write(List<String[]> entries, int[] values, boolean caseSensitive,
+      DataOutputStream data) throws IOException {
+
+    if (values != null && values.length != entries.size()) {
+      throw new IllegalArgumentException("The number of values must match the number of entries!");
+    }
+
+    if (data.size() % 8 != 0) {
+      throw new IllegalArgumentException("The table must start at a multiple of eight bytes!");
+    }
+
+    int[] order = sort(entries, caseSensitive);
+
+    long numTokens = 0;
+    long numChars = 0;
+    int minTokenCount = entries.isEmpty() ? 0 : Integer.MAX_VALUE;
+    int maxTokenCount = 0;
+    for (int i = 0; i < order.length; i++) {
+      String[] tokens = entries.get(order[i]);
+
+      if (i > 0 && compare(entries.get(order[i - 1]), tokens, caseSensitive) == 0) {
+        throw new IllegalArgumentException("Duplicate entry: " + Arrays.toString(tokens));
+      }
+
+      numTokens += tokens.length;
+      for (String token : tokens) {
+        numChars += token.length();
+      }
+      minTokenCount = Math.min(minTokenCount, tokens.length);
+      maxTokenCount = Math.max(maxTokenCount, tokens.length);
+    }
+
+    // the offsets are ints and the table is read from a single mapped buffer,
+    // the size of all sections together is checked because they are written after each other
+    long tableSize = HEADER_SIZE + align(4L * (order.length + 1)) + align(4L * (numTokens + 1))
+        + align(2L * numChars) + (values != null ? align(4L * order.length) : 0);
+
+    if (data.size() + tableSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many tokens for a sorted token table!");
+    }
+
+    int flags = (caseSensitive ? FLAG_CASE_SENSITIVE : 0) | (values != null ? FLAG_VALUES : 0);
+
+    data.writeInt(order.length);
+    data.writeInt((int) numTokens);
+    data.writeInt((int) numChars);
+    data.writeInt(flags);
+    data.writeInt(minTokenCount);
+    data.writeInt(maxTokenCount);
+    data.writeInt(0);
+    data.writeInt(0);
+
+    int tokenIndex = 0;
+    for (int entry : order) {
+      data.writeInt(tokenIndex);
+      tokenIndex += entries.get(entry).length;
+    }
+    data.writeInt(tokenIndex);
+    pad(data);
+
+    int charOffset = 0;
+    for (int entry : order) {
+      for (String token : entries.get(entry)) {
+        data.writeInt(charOffset);
+        charOffset += token.length();
+      }
+    }
+    data.writeInt(charOffset);
+    pad(data);
+
+    for (int entry : order) {
+      for (String token : entries.get(entry)) {
+        data.writeChars(token);
+      }
+    }
+    pad(data);
+
+    if (values != null) {
+      for (int entry : order) {
+        data.writeInt(values[entry]);
+      }
+      pad(data);
+    }
+  }
+
+  private static void pad(DataOutputStream data) throws IOException {
+    while (data.size() % 8 != 0) {
+      data.writeByte(0);
+    }
+  }
+}
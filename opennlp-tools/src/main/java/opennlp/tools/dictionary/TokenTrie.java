@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.dictionary;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import opennlp.tools.util.StringList;
+
+/**
+ * A token level trie of the entries of a {@link Dictionary}, which finds the
+ * longest entry starting at a token with one walk down the trie.
+ * <p>
+ * The distinct tokens of the entries are mapped to token ids, and the edges of the
+ * trie are stored in one open addressing hash table which is keyed by the node and the
+ * token id, so the trie needs a few arrays regardless of the number of entries.
+ * A lookup does not allocate any objects.
+ * <p>
+ * If the dictionary is case insensitive, the tokens of the entries are folded once when the
+ * trie is compiled, and the tokens which are looked up are folded char by char while they
+ * are hashed and compared. Two tokens match if they are equal ignoring case, as defined by
+ * {@link String#compareToIgnoreCase(String)}.
+ * <p>
+ * Instances are immutable and thread-safe, changes to the dictionary after the trie
+ * was compiled are not reflected by the trie.
+ *
+ * @see Dictionary#getTokenTrie()
+ */
+public final class TokenTrie {
+
+  private final boolean caseSensitive;
+  private final int maxTokenCount;
+
+  // token table, slots contain the token id + 1 or zero if empty
+  private final String[] tokens;
+  private final int[] tokenHashes;
+  private final int[] tokenSlots;
+
+  // edge table, keyed by the node in the upper and the token id in the lower half
+  private final long[] edgeKeys;
+  private final int[] edgeChildren;
+
+  private final BitSet entryNodes;
+  private final int numNodes;
+
+  private TokenTrie(boolean caseSensitive, int maxTokenCount, String[] tokens, int[] tokenHashes,
+      int[] tokenSlots, long[] edgeKeys, int[] edgeChildren, BitSet entryNodes, int numNodes) {
+    this.caseSensitive = caseSensitive;
+    this.maxTokenCount = maxTokenCount;
+    this.tokens = tokens;
+    this.tokenHashes = tokenHashes;
+    this.tokenSlots = tokenSlots;
+    this.edgeKeys = edgeKeys;
+    this.edgeChildren = edgeChildren;
+    this.entryNodes = entryNodes;
+    this.numNodes = numNodes;
+  }
+
+  /**
+   * Compiles the trie of the entries of a dictionary.
+   *
+   * @param dictionary the dictionary
+   *
+   * @return the trie
+   */
+  public static TokenTrie compile(Dictionary dictionary) {
+    boolean caseSensitive = dictionary.isCaseSensitive();
+
+    Map<String, Integer> tokenIds = new HashMap<>();
+    EdgeTable edges = new EdgeTable();
+    BitSet entryNodes = new BitSet();
+    int numNodes = 1;
+    int maxTokenCount = 0;
+
+    for (StringList entry : dictionary) {
+      int node = 0;
+      for (int i = 0; i < entry.size(); i++) {
+        String token = caseSensitive ? entry.getToken(i) : fold(entry.getToken(i));
+
+        Integer tokenId = tokenIds.get(token);
+        if (tokenId == null) {
+          tokenId = tokenIds.size();
+          tokenIds.put(token, tokenId);
+        }
+
+        int child = edges.child(node, tokenId);
+        if (child < 0) {
+          child = numNodes++;
+          edges.put(node, tokenId, child);
+        }
+        node = child;
+      }
+
+      if (entry.size() > 0) {
+        entryNodes.set(node);
+        maxTokenCount = Math.max(maxTokenCount, entry.size());
+      }
+    }
+
+    String[] tokens = new String[tokenIds.size()];
+    int[] tokenHashes = new int[tokens.length];
+    int[] tokenSlots = new int[tableSize(tokens.length)];
+    for (Map.Entry<String, Integer> entry : tokenIds.entrySet()) {
+      int tokenId = entry.getValue();
+      tokens[tokenId] = entry.getKey();
+      tokenHashes[tokenId] = entry.getKey().hashCode();
+
+      int slot = mix(tokenHashes[tokenId]) & (tokenSlots.length - 1);
+      while (tokenSlots[slot] != 0) {
+        slot = (slot + 1) & (tokenSlots.length - 1);
+      }
+      tokenSlots[slot] = tokenId + 1;
+    }
+
+    return new TokenTrie(caseSensitive, maxTokenCount, tokens, tokenHashes, tokenSlots,
+        edges.keys, edges.children, entryNodes, numNodes);
+  }
+
+  /**
+   * The edge table while the trie is compiled, it grows when it is half full.
+   */
+  private static class EdgeTable {
+    private long[] keys = new long[1024];
+    private int[] children = new int[1024];
+    private int size;
+
+    private int child(int node, int tokenId) {
+      return TokenTrie.child(keys, children, edgeKey(node, tokenId));
+    }
+
+    private void put(int node, int tokenId, int child) {
+      if (2 * (size + 1) > keys.length) {
+        long[] oldKeys = keys;
+        int[] oldChildren = children;
+        keys = new long[oldKeys.length * 2];
+        children = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+          if (oldChildren[i] != 0) {
+            insert(oldKeys[i], oldChildren[i]);
+          }
+        }
+      }
+      insert(edgeKey(node, tokenId), child);
+      size++;
+    }
+
+    private void insert(long key, int child) {
+      int slot = edgeSlot(key, keys.length);
+      while (children[slot] != 0) {
+        slot = (slot + 1) & (keys.length - 1);
+      }
+      keys[slot] = key;
+      children[slot] = child;
+    }
+  }
+
+  private static int tableSize(int size) {
+    return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+  }
+
+  private static long edgeKey(int node, int tokenId) {
+    return ((long) node << 32) | tokenId;
+  }
+
+  private static int mix(int h) {
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    return h;
+  }
+
+  private static int edgeSlot(long key, int tableSize) {
+    key *= 0x9E3779B97F4A7C15L;
+    return (int) (key >>> 32) & (tableSize - 1);
+  }
+
+  /**
+   * Folds a char, two chars are equal ignoring case if their folded chars are equal.
+   */
+  private static char fold(char c) {
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+
+  private static String fold(String token) {
+    char[] chars = new char[token.length()];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = fold(token.charAt(i));
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Retrieves the id of a token.
+   *
+   * @param token the token
+   *
+   * @return the id or -1 if no entry contains the token
+   */
+  public int getTokenId(String token) {
+    int hash;
+    if (caseSensitive) {
+      hash = token.hashCode();
+    }
+    else {
+      hash = 0;
+      for (int i = 0; i < token.length(); i++) {
+        hash = 31 * hash + fold(token.charAt(i));
+      }
+    }
+
+    int mask = tokenSlots.length - 1;
+    int slot = mix(hash) & mask;
+
+    int tokenId;
+    while ((tokenId = tokenSlots[slot] - 1) >= 0) {
+      if (tokenHashes[tokenId] == hash && matches(tokens[tokenId], token)) {
+        return tokenId;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  private boolean matches(String entryToken, String token) {
+    if (caseSensitive) {
+      return entryToken.equals(token);
+    }
+
+    if (entryToken.length() != token.length()) {
+      return false;
+    }
+
+    for (int i = 0; i < token.length(); i++) {
+      if (entryToken.charAt(i) != fold(token.charAt(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private int child(int node, int tokenId) {
+    return child(edgeKeys, edgeChildren, edgeKey(node, tokenId));
+  }
+
+  // the root node is never a child, so zero marks an empty slot
+  private static int child(long[] keys, int[] children, long key) {
+    int slot = edgeSlot(key, keys.length);
+
+    int child;
+    while ((child = children[slot]) != 0) {
+      if (keys[slot] == key) {
+        return child;
+      }
+      slot = (slot + 1) & (keys.length - 1);
+    }
+
+    return -1;
+  }
+
+  /**
+   * Finds the longest entry which starts at the given token.
+   *
+   * @param tokenIds the token ids of the text, see {@link #getTokenId(String)}
+   * @param start the index of the first token of the entry
+   *
+   * @return the number of tokens of the longest entry or zero if no entry starts at the token
+   */
+  public int longestMatch(int[] tokenIds, int start) {
+    int length = 0;
+    int node = 0;
+    for (int i = start; i < tokenIds.length && tokenIds[i] >= 0; i++) {
+      node = child(node, tokenIds[i]);
+      if (node < 0) {
+        break;
+      }
+      if (entryNodes.get(node)) {
+        length = i - start + 1;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Finds the longest entry which starts at the given token.
+   *
+   * @param tokens the tokens of the text
+   * @param start the index of the first token of the entry
+   *
+   * @return the number of tokens of the longest entry or zero if no entry starts at the token
+   */
+  public int longestMatch(String[] tokens, int start) {
+    int length = 0;
+    int node = 0;
+    for (int i = start; i < tokens.length; i++) {
+      int tokenId = getTokenId(tokens[i]);
+      node = tokenId >= 0 ? child(node, tokenId) : -1;
+      if (node < 0) {
+        break;
+      }
+      if (entryNodes.get(node)) {
+        length = i - start + 1;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Checks if the tokens are an entry.
+   *
+   * @param tokens the tokens
+   *
+   * @return true if the tokens are an entry
+   */
+  public boolean contains(String[] tokens) {
+    return tokens.length > 0 && longestMatch(tokens, 0) == tokens.length;
+  }
+
+  /**
+   * @return true if the tokens are matched case sensitive
+   */
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @return the number of tokens of the longest entry
+   */
+  public int getMaxTokenCount() {
+    return maxTokenCount;
+  }
+
+  /**
+   * @return the number of distinct tokens of the entries
+   */
+  public int getNumTokens() {
+    return tokens.length;
+  }
+
+  /**
+   * @return the number of nodes of the trie, including the root
+   */
+  public int getNumNodes() {
+    return numNodes;
+  }
+
+  @Override
+  public String toString() {
+    return "TokenTrie[tokens=" + tokens.length + ", nodes=" + numNodes
+        + ", caseSensitive=" + caseSensitive + "]";
+  }
+}
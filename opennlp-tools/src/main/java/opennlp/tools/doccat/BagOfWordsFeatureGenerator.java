@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.featuregen.StringPattern;
 
 /**
@@ -59,4 +60,19 @@ public class BagOfWordsFeatureGenerator implements FeatureGenerator {
 
     return bagOfWords;
   }
+
+  @Override
+  public void extractFeatures(String[] text, Map<String, Object> extraInformation,
+      HashedFeatures features) {
+    Objects.requireNonNull(text, "text must not be null");
+
+    features.append("bow=");
+    features.pushPrefix();
+    for (String word : text) {
+      if (!useOnlyAllLetterTokens || StringPattern.recognize(word).isAllLetter()) {
+        features.add(word);
+      }
+    }
+    features.popPrefix();
+  }
 }
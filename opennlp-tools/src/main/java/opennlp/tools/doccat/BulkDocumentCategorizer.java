@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.doccat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import opennlp.tools.ml.model.CompiledModel;
+import opennlp.tools.ml.model.HashedFeatures;
+import opennlp.tools.ml.model.MaxentModel;
+
+/**
+ * Categorizes batches of tokenized documents, for example many short texts.
+ * <p>
+ * The features of a document are hashed into a reusable {@link HashedFeatures} buffer
+ * instead of being collected as strings, see
+ * {@link FeatureGenerator#extractFeatures(String[], Map, HashedFeatures)}, and are evaluated
+ * with the compiled form of the model if it can be compiled. The results are returned as
+ * {@link TopCategories} or written into a caller provided score matrix, no maps or boxed
+ * scores are created.
+ * <p>
+ * The documents of a batch are categorized in parallel. The threads take small chunks of
+ * consecutive documents until the batch is done, the calling thread takes part. The scores
+ * are the same as the ones of {@link DocumentCategorizerME#categorize(String[])}.
+ * <p>
+ * Instances are thread-safe, {@link #close()} stops the threads.
+ */
+public class BulkDocumentCategorizer implements AutoCloseable {
+
+  // Number of documents a thread takes at once
+  private static final int CHUNK_SIZE = 64;
+
+  // Evaluated with MaxentModel.eval(HashedFeatures, double[]), which is supported by
+  // the compiled model and by the AbstractModel a DoccatModel always contains
+  private final MaxentModel model;
+  private final DocumentCategorizerContextGenerator contextGenerator;
+  private final String[] categories;
+
+  private final int threads;
+  private final ExecutorService executor;
+
+  /**
+   * Initializes the categorizer to categorize on the calling thread only.
+   *
+   * @param model the doccat model
+   */
+  public BulkDocumentCategorizer(DoccatModel model) {
+    this(model, 1);
+  }
+
+  /**
+   * Initializes the categorizer and starts its threads.
+   *
+   * @param model the doccat model
+   * @param threads the number of threads which categorize a batch, including the calling thread
+   */
+  public BulkDocumentCategorizer(DoccatModel model, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be at least 1 but is " + threads + "!");
+    }
+
+    CompiledModel compiledModel = model.getCompiledModel();
+    this.model = compiledModel != null ? compiledModel : model.getMaxentModel();
+    this.contextGenerator =
+        new DocumentCategorizerContextGenerator(model.getFactory().getFeatureGenerators());
+
+    categories = new String[this.model.getNumOutcomes()];
+    for (int i = 0; i < categories.length; i++) {
+      categories[i] = this.model.getOutcome(i);
+    }
+
+    this.threads = threads;
+    if (threads > 1) {
+      executor = Executors.newFixedThreadPool(threads - 1, runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.doccat.BulkDocumentCategorizer.categorize()");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    else {
+      executor = null;
+    }
+  }
+
+  /**
+   * Categorizes the documents and returns their most probable categories.
+   *
+   * @param documents the tokens of the documents
+   * @param k the maximum number of categories per document
+   *
+   * @return the top categories of each document in input order
+   */
+  public List<TopCategories> categorize(List<String[]> documents, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be at least 1 but is " + k + "!");
+    }
+
+    int numCategories = Math.min(k, categories.length);
+    TopCategories[] results = new TopCategories[documents.size()];
+
+    forEachDocument(documents, (index, probs) -> {
+      int[] indexes = new int[numCategories];
+      double[] scores = new double[numCategories];
+      selectTopCategories(probs, indexes, scores);
+      results[index] = new TopCategories(categories, indexes, scores);
+    });
+
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Categorizes the documents and writes the score of every category of a document
+   * into the row of the document.
+   *
+   * @param documents the tokens of the documents
+   * @param scores the matrix the scores are written to, one row with
+   *               {@link #getNumberOfCategories()} columns per document
+   */
+  public void categorize(List<String[]> documents, double[][] scores) {
+    if (scores.length < documents.size()) {
+      throw new IllegalArgumentException("scores must have a row for every document!");
+    }
+
+    forEachDocument(documents, (index, probs) ->
+        System.arraycopy(probs, 0, scores[index], 0, probs.length));
+  }
+
+  /**
+   * @return the number of categories of the model
+   */
+  public int getNumberOfCategories() {
+    return categories.length;
+  }
+
+  /**
+   * @param index the index of the category
+   *
+   * @return the name of the category
+   */
+  public String getCategory(int index) {
+    return categories[index];
+  }
+
+  /**
+   * Stops the threads.
+   */
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Selects the categories with the highest scores, ties are ordered by category index.
+   */
+  private static void selectTopCategories(double[] probs, int[] indexes, double[] scores) {
+    int size = 0;
+    for (int ci = 0; ci < probs.length; ci++) {
+      double score = probs[ci];
+      if (size == indexes.length && score <= scores[size - 1]) {
+        continue;
+      }
+
+      int pos = size < indexes.length ? size++ : size - 1;
+      while (pos > 0 && scores[pos - 1] < score) {
+        indexes[pos] = indexes[pos - 1];
+        scores[pos] = scores[pos - 1];
+        pos--;
+      }
+      indexes[pos] = ci;
+      scores[pos] = score;
+    }
+  }
+
+  private interface DocumentConsumer {
+    void accept(int index, double[] probs);
+  }
+
+  /**
+   * Evaluates the documents on the threads and passes the scores of each document to
+   * the consumer. The scores array is reused for the next document.
+   */
+  private void forEachDocument(List<String[]> documents, DocumentConsumer consumer) {
+    int size = documents.size();
+    AtomicInteger nextChunk = new AtomicInteger();
+
+    Callable<Void> task = () -> {
+      HashedFeatures features = new HashedFeatures();
+      double[] probs = new double[categories.length];
+
+      int start;
+      while ((start = nextChunk.getAndAdd(CHUNK_SIZE)) < size) {
+        int end = Math.min(start + CHUNK_SIZE, size);
+        for (int i = start; i < end; i++) {
+          features.clear();
+          contextGenerator.getContext(documents.get(i), Collections.emptyMap(), features);
+          // Supported by both models, see the model field
+          model.eval(features, probs);
+          consumer.accept(i, probs);
+        }
+      }
+      return null;
+    };
+
+    int workers = Math.min(threads, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+    List<Future<Void>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < workers - 1; i++) {
+        futures.add(executor.submit(task));
+      }
+
+      task.call();
+
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while categorizing", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Exception during categorization: " + e.getCause().getMessage(),
+          e.getCause());
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException("Exception during categorization: " + e.getMessage(), e);
+    } finally {
+      // lets the other threads stop after their current chunk if one failed
+      nextChunk.set(size);
+      for (Future<Void> future : futures) {
+        future.cancel(true);
+      }
+    }
+  }
+}
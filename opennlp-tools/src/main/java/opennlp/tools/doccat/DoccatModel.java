@@ -25,6 +25,8 @@ import java.nio.file.Path;
 import java.util.Map;
 
 import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.CompiledModel;
+import opennlp.tools.ml.model.LazyCompiledModel;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.util.BaseToolFactory;
 import opennlp.tools.util.InvalidFormatException;
@@ -38,6 +40,8 @@ public class DoccatModel extends BaseModel {
   private static final String COMPONENT_NAME = "DocumentCategorizerME";
   private static final String DOCCAT_MODEL_ENTRY_NAME = "doccat.model";
 
+  private final LazyCompiledModel compiledModel = new LazyCompiledModel();
+
   public DoccatModel(String languageCode, MaxentModel doccatModel,
       Map<String, String> manifestInfoEntries, DoccatFactory factory) {
     super(COMPONENT_NAME, languageCode, manifestInfoEntries, factory);
@@ -83,4 +87,14 @@ public class DoccatModel extends BaseModel {
   public MaxentModel getMaxentModel() {
     return (MaxentModel) artifactMap.get(DOCCAT_MODEL_ENTRY_NAME);
   }
+
+  /**
+   * Retrieves the compiled form of the maxent model, it is compiled on first use
+   * and then shared by all categorizers which use this model.
+   *
+   * @return the compiled model or null if the model type can not be compiled
+   */
+  CompiledModel getCompiledModel() {
+    return compiledModel.get((AbstractModel) getMaxentModel());
+  }
 }
@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * Context generator for document categorizer
  */
@@ -44,4 +46,11 @@ class DocumentCategorizerContextGenerator {
 
     return context.toArray(new String[context.size()]);
   }
+
+  public void getContext(String[] text, Map<String, Object> extraInformation,
+      HashedFeatures features) {
+    for (FeatureGenerator mFeatureGenerator : mFeatureGenerators) {
+      mFeatureGenerator.extractFeatures(text, extraInformation, features);
+    }
+  }
 }
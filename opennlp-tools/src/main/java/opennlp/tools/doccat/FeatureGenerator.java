@@ -21,6 +21,8 @@ package opennlp.tools.doccat;
 import java.util.Collection;
 import java.util.Map;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * Interface for generating features for document categorization.
  */
@@ -34,4 +36,23 @@ public interface FeatureGenerator {
    * @return a collection of features
    */
   Collection<String> extractFeatures(String[] text, Map<String, Object> extraInformation);
+
+  /**
+   * Adds the ids of the features of the given text fragments to the specified buffer.
+   * The ids must be the hashes of the features which are returned by
+   * {@link #extractFeatures(String[], Map)}.
+   * <p>
+   * The default implementation hashes the extracted feature strings, generators override
+   * it to hash the features without creating the strings.
+   *
+   * @param text             the text fragments to extract features from
+   * @param extraInformation optional extra information to be used by the feature generator
+   * @param features         the buffer the feature ids are added to
+   */
+  default void extractFeatures(String[] text, Map<String, Object> extraInformation,
+      HashedFeatures features) {
+    for (String feature : extractFeatures(text, extraInformation)) {
+      features.add(feature);
+    }
+  }
 }
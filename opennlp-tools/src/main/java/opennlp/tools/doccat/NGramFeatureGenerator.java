@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.InvalidFormatException;
 
 /**
@@ -89,4 +90,36 @@ public class NGramFeatureGenerator implements FeatureGenerator {
 
     return features;
   }
+
+  /**
+   * Adds the ids of the ngram features of the given text fragments to the buffer,
+   * the ngrams which start at the same fragment share the hash of their common prefix.
+   *
+   * @param text      the text fragments to extract features from
+   * @param extraInfo optional extra information
+   * @param features  the buffer the feature ids are added to
+   */
+  @Override
+  public void extractFeatures(String[] text, Map<String, Object> extraInfo,
+      HashedFeatures features) {
+    Objects.requireNonNull(text, "text must not be null");
+
+    for (int i = 0; i <= text.length - minGram; i++) {
+      features.append("ng=");
+      int prefixes = 0;
+      for (int y = 0; y < maxGram && i + y < text.length; y++) {
+        features.append(':').append(text[i + y]);
+        // the ngram so far is the prefix of the next longer one
+        features.pushPrefix();
+        prefixes++;
+        int gramCount = y + 1;
+        if (maxGram >= gramCount && gramCount >= minGram) {
+          features.add();
+        }
+      }
+      for (; prefixes > 0; prefixes--) {
+        features.popPrefix();
+      }
+    }
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.doccat;
+
+/**
+ * The most probable categories of a document, ordered by descending score.
+ */
+public class TopCategories {
+
+  private final String[] categories;
+  private final int[] indexes;
+  private final double[] scores;
+
+  /**
+   * Initializes the top categories.
+   *
+   * @param categories the names of all categories, the array is shared and not copied
+   * @param indexes the indexes of the top categories, ordered by descending score
+   * @param scores the scores of the top categories
+   */
+  public TopCategories(String[] categories, int[] indexes, double[] scores) {
+    if (indexes.length != scores.length) {
+      throw new IllegalArgumentException("indexes and scores must have the same length!");
+    }
+
+    this.categories = categories;
+    this.indexes = indexes;
+    this.scores = scores;
+  }
+
+  /**
+   * @return the number of top categories
+   */
+  public int size() {
+    return indexes.length;
+  }
+
+  /**
+   * @param rank the rank of the category, zero for the best category
+   *
+   * @return the name of the category
+   */
+  public String getCategory(int rank) {
+    return categories[indexes[rank]];
+  }
+
+  /**
+   * @param rank the rank of the category, zero for the best category
+   *
+   * @return the index of the category in the model
+   */
+  public int getIndex(int rank) {
+    return indexes[rank];
+  }
+
+  /**
+   * @param rank the rank of the category, zero for the best category
+   *
+   * @return the score of the category
+   */
+  public double getScore(int rank) {
+    return scores[rank];
+  }
+
+  /**
+   * @return the name of the best category
+   */
+  public String getBestCategory() {
+    return getCategory(0);
+  }
+
+  /**
+   * @return the score of the best category
+   */
+  public double getBestScore() {
+    return getScore(0);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < indexes.length; i++) {
+      if (i > 0) {
+        sb.append(' ');
+      }
+      sb.append(getCategory(i)).append('[').append(String.format("%.4f", scores[i])).append(']');
+    }
+    return sb.toString();
+  }
+}
@@ -17,11 +17,10 @@
 
 package opennlp.tools.langdetect;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
-import opennlp.tools.ngram.NGramModel;
-import opennlp.tools.util.StringList;
+import opennlp.tools.util.StringUtil;
 import opennlp.tools.util.normalizer.AggregateCharSequenceNormalizer;
 import opennlp.tools.util.normalizer.CharSequenceNormalizer;
 
@@ -56,14 +55,12 @@ public class DefaultLanguageDetectorContextGenerator implements LanguageDetector
    */
   @Override
   public String[] getContext(CharSequence document) {
-    Collection<String> context = new ArrayList<>();
+    String text = StringUtil.toLowerCase(normalizer.normalize(document));
 
-    NGramModel model = new NGramModel();
-    model.add(normalizer.normalize(document), minLength, maxLength);
-
-    for (StringList tokenList : model) {
-      if (tokenList.size() > 0) {
-        context.add(tokenList.getToken(0));
+    Set<String> context = new LinkedHashSet<>();
+    for (int length = minLength; length <= maxLength; length++) {
+      for (int start = 0; start + length <= text.length(); start++) {
+        context.add(text.substring(start, start + length));
       }
     }
     return context.toArray(new String[context.size()]);
@@ -17,6 +17,8 @@
 
 package opennlp.tools.langdetect;
 
+import java.util.Arrays;
+
 /**
  * The interface for LanguageDetector which provide the @{@link Language} according to the context.
  */
@@ -24,6 +26,23 @@ public interface LanguageDetector {
 
   Language[] predictLanguages(CharSequence content);
 
+  /**
+   * Retrieves the k most probable languages, ordered by descending confidence.
+   *
+   * @param content the text to detect the language of
+   * @param k the number of languages to retrieve, must be positive
+   *
+   * @return the k most probable languages or all languages if there are less than k
+   */
+  default Language[] predictLanguages(CharSequence content, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be positive: " + k);
+    }
+
+    Language[] languages = predictLanguages(content);
+    return Arrays.copyOf(languages, Math.min(k, languages.length));
+  }
+
   Language predictLanguage(CharSequence content);
 
   String[] getSupportedLanguages();
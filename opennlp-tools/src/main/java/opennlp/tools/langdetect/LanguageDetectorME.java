@@ -25,6 +25,7 @@ import java.util.Map;
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.EventTrainer;
 import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.model.CompiledModel;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.TrainingParameters;
@@ -37,6 +38,11 @@ public class LanguageDetectorME implements LanguageDetector {
   private LanguageDetectorModel model;
   private LanguageDetectorContextGenerator mContextGenerator;
 
+  // the compiled model is used to look up the character n-grams without creating strings,
+  // it is null if the model can't be compiled or a custom context generator is used,
+  // the buffers for the lookup are allocated per call to keep the detector thread safe
+  private CompiledModel compiledModel;
+
   /**
    * Initializes the current instance with a language detector model. Default feature
    * generation is used.
@@ -46,11 +52,78 @@ public class LanguageDetectorME implements LanguageDetector {
   public LanguageDetectorME(LanguageDetectorModel model) {
     this.model = model;
     this.mContextGenerator = model.getFactory().getContextGenerator();
+
+    if (DefaultLanguageDetectorContextGenerator.class.equals(mContextGenerator.getClass())) {
+      compiledModel = model.getCompiledModel();
+    }
+  }
+
+  private double[] eval(CharSequence content) {
+    if (compiledModel == null) {
+      return model.getMaxentModel().eval(mContextGenerator.getContext(content.toString()));
+    }
+
+    DefaultLanguageDetectorContextGenerator generator =
+        (DefaultLanguageDetectorContextGenerator) mContextGenerator;
+
+    CharSequence text = generator.normalizer.normalize(content);
+    int[] rows = new int[text.length() * Math.max(0, generator.maxLength - generator.minLength + 1)];
+
+    int numRows = contextRows(generator, text, rows);
+    return compiledModel.eval(rows, numRows, null, new double[compiledModel.getNumOutcomes()]);
+  }
+
+  /**
+   * Looks up the distinct character n-grams of the content, as they are generated by
+   * {@link DefaultLanguageDetectorContextGenerator#getContext(CharSequence)}, in the
+   * compiled model. The hash code of the n-grams starting at a position is computed
+   * incrementally and n-grams unknown to the model are skipped.
+   *
+   * @param text the normalized content
+   * @param rows the buffer for the rows, large enough for all n-grams of the text
+   *
+   * @return the number of rows, which are stored at the beginning of the rows buffer
+   */
+  private int contextRows(DefaultLanguageDetectorContextGenerator generator,
+      CharSequence text, int[] rows) {
+    int length = text.length();
+
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = Character.toLowerCase(text.charAt(i));
+    }
+
+    int numRows = 0;
+    for (int start = 0; start < length; start++) {
+      int end = Math.min(length, start + generator.maxLength);
+      int hash = 0;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + chars[i];
+
+        if (i + 1 - start >= generator.minLength) {
+          int row = compiledModel.getPredicateIndex(chars, start, i + 1, hash);
+          if (row >= 0) {
+            rows[numRows++] = row;
+          }
+        }
+      }
+    }
+
+    // every n-gram is only counted once
+    Arrays.sort(rows, 0, numRows);
+    int numDistinct = 0;
+    for (int i = 0; i < numRows; i++) {
+      if (numDistinct == 0 || rows[numDistinct - 1] != rows[i]) {
+        rows[numDistinct++] = rows[i];
+      }
+    }
+
+    return numDistinct;
   }
 
   @Override
   public Language[] predictLanguages(CharSequence content) {
-    double[] eval = model.getMaxentModel().eval(mContextGenerator.getContext(content.toString()));
+    double[] eval = eval(content);
     Language[] arr = new Language[eval.length];
     for (int i = 0; i < eval.length; i++) {
       arr[i] = new Language(model.getMaxentModel().getOutcome(i), eval[i]);
@@ -60,9 +133,42 @@ public class LanguageDetectorME implements LanguageDetector {
     return arr;
   }
 
+  /**
+   * Retrieves the k most probable languages, ordered by descending confidence. Only the
+   * k best outcomes are selected, instead of sorting all of them.
+   */
+  @Override
+  public Language[] predictLanguages(CharSequence content, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be positive: " + k);
+    }
+
+    double[] eval = eval(content);
+
+    // insertion into the sorted top k, equal confidences keep the outcome order
+    int[] top = new int[Math.min(k, eval.length)];
+    int size = 0;
+    for (int oi = 0; oi < eval.length; oi++) {
+      if (size < top.length || eval[oi] > eval[top[size - 1]]) {
+        int i = size < top.length ? size++ : size - 1;
+        while (i > 0 && eval[oi] > eval[top[i - 1]]) {
+          top[i] = top[i - 1];
+          i--;
+        }
+        top[i] = oi;
+      }
+    }
+
+    Language[] arr = new Language[size];
+    for (int i = 0; i < size; i++) {
+      arr[i] = new Language(model.getMaxentModel().getOutcome(top[i]), eval[top[i]]);
+    }
+    return arr;
+  }
+
   @Override
   public Language predictLanguage(CharSequence content) {
-    return predictLanguages(content)[0];
+    return predictLanguages(content, 1)[0];
   }
 
   @Override
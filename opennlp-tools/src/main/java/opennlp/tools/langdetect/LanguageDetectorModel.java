@@ -24,6 +24,8 @@ import java.net.URL;
 import java.util.Map;
 
 import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.CompiledModel;
+import opennlp.tools.ml.model.LazyCompiledModel;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.util.BaseToolFactory;
 import opennlp.tools.util.InvalidFormatException;
@@ -37,6 +39,8 @@ public class LanguageDetectorModel extends BaseModel {
   private static final String COMPONENT_NAME = "LanguageDetectorME";
   private static final String LANGDETECT_MODEL_ENTRY_NAME = "langdetect.model";
 
+  private final LazyCompiledModel compiledModel = new LazyCompiledModel();
+
   public LanguageDetectorModel(MaxentModel langdetectModel,
                                Map<String, String> manifestInfoEntries,
                                LanguageDetectorFactory factory) {
@@ -79,4 +83,14 @@ public class LanguageDetectorModel extends BaseModel {
   public MaxentModel getMaxentModel() {
     return (MaxentModel) artifactMap.get(LANGDETECT_MODEL_ENTRY_NAME);
   }
+
+  /**
+   * Retrieves the compiled form of the maxent model, it is compiled on first use
+   * and then shared by all detectors which use this model.
+   *
+   * @return the compiled model or null if the model type can not be compiled
+   */
+  CompiledModel getCompiledModel() {
+    return compiledModel.get((AbstractModel) getMaxentModel());
+  }
 }
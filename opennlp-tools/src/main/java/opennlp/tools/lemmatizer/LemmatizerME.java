@@ -45,6 +45,9 @@ import opennlp.tools.util.TrainingParameters;
  * Grzegorz Chrupała. 2008. Towards a Machine-Learning Architecture
  * for Lexical Functional Grammar Parsing. PhD dissertation, Dublin City University.
  * http://grzegorz.chrupala.me/papers/phd-single.pdf
+ * <p>
+ * Instances of this class are not thread-safe, the last decoded sequence is kept
+ * in the instance. Use {@link ThreadSafeLemmatizerME} to share one model between threads.
  */
 public class LemmatizerME implements Lemmatizer {
 
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.lemmatizer;
+
+import java.util.List;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Sequence;
+
+/**
+ * A thread-safe version of the {@link LemmatizerME}. One instance can be shared by all
+ * worker threads, it can be used in a single-threaded context as well and only incurs
+ * a minimal overhead.
+ * <p>
+ * All calls share the same immutable {@link LemmatizerModel}. Each call borrows a
+ * {@link LemmatizerME} from an {@link InstancePool}, therefore the number of created
+ * lemmatizers is bounded by the number of concurrent calls and not by the number of
+ * threads. The probabilities of the last decoded sequence are kept per thread.
+ */
+public class ThreadSafeLemmatizerME implements Lemmatizer, AutoCloseable {
+
+  private final InstancePool<LemmatizerME> pool;
+
+  private final ThreadLocal<double[]> lemmaProbs = new ThreadLocal<>();
+
+  public ThreadSafeLemmatizerME(LemmatizerModel model) {
+    pool = new InstancePool<>(() -> new LemmatizerME(model));
+  }
+
+  @Override
+  public String[] lemmatize(String[] toks, String[] tags) {
+    LemmatizerME lemmatizer = pool.borrow();
+    try {
+      String[] lemmas = lemmatizer.lemmatize(toks, tags);
+      lemmaProbs.set(lemmatizer.probs());
+      return lemmas;
+    } finally {
+      pool.release(lemmatizer);
+    }
+  }
+
+  @Override
+  public List<List<String>> lemmatize(List<String> toks, List<String> tags) {
+    return pool.apply(lemmatizer -> lemmatizer.lemmatize(toks, tags));
+  }
+
+  /**
+   * @see LemmatizerME#topKSequences(String[], String[])
+   */
+  public Sequence[] topKSequences(String[] sentence, String[] tags) {
+    return pool.apply(lemmatizer -> lemmatizer.topKSequences(sentence, tags));
+  }
+
+  /**
+   * @see LemmatizerME#topKSequences(String[], String[], double)
+   */
+  public Sequence[] topKSequences(String[] sentence, String[] tags, double minSequenceScore) {
+    return pool.apply(lemmatizer -> lemmatizer.topKSequences(sentence, tags, minSequenceScore));
+  }
+
+  /**
+   * Returns an array with the probabilities of the sequence which was last decoded
+   * by the calling thread with {@link #lemmatize(String[], String[])}.
+   *
+   * @return An array with the same number of probabilities as tokens were sent to
+   *     <code>lemmatize</code> when it was last called by the calling thread.
+   *
+   * @see LemmatizerME#probs()
+   */
+  public double[] probs() {
+    double[] probs = lemmaProbs.get();
+    if (probs == null) {
+      throw new IllegalStateException("No sentence was lemmatized by the calling thread");
+    }
+    return probs.clone();
+  }
+
+  /**
+   * Releases the pooled lemmatizers and the per-thread state of the calling thread.
+   */
+  @Override
+  public void close() {
+    pool.clear();
+    lemmaProbs.remove();
+  }
+}
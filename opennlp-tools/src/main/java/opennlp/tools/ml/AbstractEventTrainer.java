@@ -17,6 +17,7 @@
 
 package opennlp.tools.ml;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 import opennlp.tools.ml.model.AbstractDataIndexer;
@@ -35,6 +36,8 @@ public abstract class AbstractEventTrainer extends AbstractTrainer implements Ev
   public static final String DATA_INDEXER_ONE_PASS_VALUE = "OnePass";
   public static final String DATA_INDEXER_TWO_PASS_VALUE = "TwoPass";
   public static final String DATA_INDEXER_ONE_PASS_REAL_VALUE = "OnePassRealValue";
+  public static final String DATA_INDEXER_PARALLEL_TWO_PASS_VALUE = "ParallelTwoPass";
+  public static final String DATA_INDEXER_ON_DISK_VALUE = "OnDisk";
 
   public AbstractEventTrainer() {
   }
@@ -90,6 +93,14 @@ public abstract class AbstractEventTrainer extends AbstractTrainer implements Ev
     DataIndexer indexer = getDataIndexer(hses);
 
     addToReport("Training-Eventhash", hses.calculateHashSum().toString(16));
-    return train(indexer);
+    try {
+      return train(indexer);
+    }
+    finally {
+      // an indexer can hold resources, e.g. the on disk indexer its cache file
+      if (indexer instanceof Closeable) {
+        ((Closeable) indexer).close();
+      }
+    }
   }
 }
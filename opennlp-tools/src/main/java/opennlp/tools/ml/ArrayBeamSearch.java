@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.ml.model.SequenceClassificationModel;
+import opennlp.tools.util.BeamSearchContextGenerator;
+import opennlp.tools.util.Sequence;
+import opennlp.tools.util.SequenceValidator;
+
+/**
+ * Performs k-best search over sequence like {@link BeamSearch}, but tracks the
+ * hypotheses as outcome ids, back pointers and probabilities in primitive arrays
+ * which are allocated once per search.
+ * <p>
+ * The outcomes of a step are selected with a partial selection of the k best
+ * scores instead of sorting all scores, and {@link Sequence} objects are only created
+ * for the sequences which are returned. The search returns the same sequences
+ * as {@link BeamSearch}, only hypotheses with identical scores might be ranked
+ * in a different order.
+ * <p>
+ * This class is thread-safe if the underlying {@link MaxentModel} is.
+ *
+ * @see BeamSearch
+ */
+public class ArrayBeamSearch<T> implements SequenceClassificationModel<T> {
+
+  private static final Object[] EMPTY_ADDITIONAL_CONTEXT = new Object[0];
+
+  private static final int zeroLog = -100000;
+
+  private final int size;
+  private final MaxentModel model;
+  private final String[] outcomes;
+
+  private final ContextCache contextsCache;
+
+  /**
+   * Creates new search object.
+   *
+   * @param size The size of the beam (k).
+   * @param model the model for assigning probabilities to the sequence outcomes.
+   */
+  public ArrayBeamSearch(int size, MaxentModel model) {
+    this(size, model, 0);
+  }
+
+  /**
+   * Creates new search object.
+   *
+   * @param size The size of the beam (k).
+   * @param model the model for assigning probabilities to the sequence outcomes.
+   * @param cacheSize the number of contexts for which the probabilities are cached,
+   *     zero to disable the cache
+   */
+  public ArrayBeamSearch(int size, MaxentModel model, int cacheSize) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be at least 1: " + size);
+    }
+
+    this.size = size;
+    this.model = model;
+
+    outcomes = new String[model.getNumOutcomes()];
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] = model.getOutcome(i);
+    }
+
+    contextsCache = cacheSize > 0 ? new ContextCache(cacheSize) : null;
+  }
+
+  /**
+   * Returns the best sequence of outcomes based on model for this object.
+   *
+   * @param sequence The input sequence.
+   * @param additionalContext An Object[] of additional context.
+   *     This is passed to the context generator blindly with the
+   *     assumption that the context are appropiate.
+   *
+   * @return The top ranked sequence of outcomes or null if no sequence could be found
+   */
+  public Sequence[] bestSequences(int numSequences, T[] sequence,
+      Object[] additionalContext, double minSequenceScore,
+      BeamSearchContextGenerator<T> cg, SequenceValidator<T> validator) {
+
+    if (additionalContext == null) {
+      additionalContext = EMPTY_ADDITIONAL_CONTEXT;
+    }
+
+    if (sequence.length == 0) {
+      return numSequences > 0 ? new Sequence[] {new Sequence()} : new Sequence[0];
+    }
+
+    Search search = new Search(sequence.length, Math.max(size, numSequences));
+
+    int beamSize = 1;
+
+    for (int i = 0; i < sequence.length && beamSize > 0; i++) {
+      search.candidateCount = 0;
+
+      for (int b = 0; b < beamSize; b++) {
+        double parentScore = i == 0 ? 0d : search.scores[b];
+
+        String[] priorOutcomes = search.history(i, b);
+        String[] contexts = cg.getContext(i, sequence, priorOutcomes, additionalContext);
+        double[] scores;
+        if (contextsCache != null) {
+          scores = contextsCache.computeIfAbsent(contexts, c -> model.eval(c, search.probs));
+        } else {
+          scores = model.eval(contexts, search.probs);
+        }
+
+        double min = search.kthLargest(scores, size);
+
+        for (int p = 0; p < scores.length; p++) {
+          if (scores[p] >= min && validator.validSequence(i, sequence, priorOutcomes, outcomes[p])) {
+            search.addCandidate(b, p, scores[p], parentScore, minSequenceScore);
+          }
+        }
+
+        // if no advanced sequences, advance all valid
+        if (search.candidateCount == 0) {
+          for (int p = 0; p < scores.length; p++) {
+            if (validator.validSequence(i, sequence, priorOutcomes, outcomes[p])) {
+              search.addCandidate(b, p, scores[p], parentScore, minSequenceScore);
+            }
+          }
+        }
+      }
+
+      beamSize = search.advance(i, i == sequence.length - 1 ? numSequences : size);
+    }
+
+    Sequence[] topSequences = new Sequence[beamSize];
+    for (int b = 0; b < beamSize; b++) {
+      topSequences[b] = search.toSequence(b);
+    }
+
+    return topSequences;
+  }
+
+  public Sequence[] bestSequences(int numSequences, T[] sequence,
+      Object[] additionalContext, BeamSearchContextGenerator<T> cg, SequenceValidator<T> validator) {
+    return bestSequences(numSequences, sequence, additionalContext, zeroLog, cg, validator);
+  }
+
+  public Sequence bestSequence(T[] sequence, Object[] additionalContext,
+      BeamSearchContextGenerator<T> cg, SequenceValidator<T> validator) {
+    Sequence[] sequences =  bestSequences(1, sequence, additionalContext, cg, validator);
+
+    if (sequences.length > 0)
+      return sequences[0];
+    else
+      return null;
+  }
+
+  /**
+   * Retrieves the cache of the evaluated contexts.
+   *
+   * @return the cache or null if caching is disabled
+   */
+  public ContextCache getContextCache() {
+    return contextsCache;
+  }
+
+  @Override
+  public String[] getOutcomes() {
+    return outcomes.clone();
+  }
+
+  /**
+   * The state of a single search. The hypotheses of every step are stored as
+   * back pointers into the previous step, the arrays of step i start at
+   * offset i * width.
+   */
+  private class Search {
+
+    private final int width;
+
+    private final int[] stepOutcomes;
+    private final int[] stepParents;
+    private final double[] stepProbs;
+
+    // the scores of the hypotheses of the last step
+    private final double[] scores;
+
+    private final int[] candidateParents;
+    private final int[] candidateOutcomes;
+    private final double[] candidateProbs;
+    private final double[] candidateScores;
+    private int candidateCount;
+
+    // indexes of the best candidates, ordered by descending score
+    private final int[] top;
+
+    private final double[] probs;
+    private final double[] topScores;
+
+    private Search(int length, int width) {
+      this.width = width;
+
+      stepOutcomes = new int[length * width];
+      stepParents = new int[length * width];
+      stepProbs = new double[length * width];
+      scores = new double[width];
+
+      int capacity = size * outcomes.length;
+      candidateParents = new int[capacity];
+      candidateOutcomes = new int[capacity];
+      candidateProbs = new double[capacity];
+      candidateScores = new double[capacity];
+      top = new int[width];
+
+      probs = new double[outcomes.length];
+      topScores = new double[size];
+    }
+
+    /**
+     * Retrieves the outcomes which lead to hypothesis b before step i.
+     */
+    private String[] history(int i, int b) {
+      String[] history = new String[i];
+      for (int s = i - 1; s >= 0; s--) {
+        history[s] = outcomes[stepOutcomes[s * width + b]];
+        b = stepParents[s * width + b];
+      }
+      return history;
+    }
+
+    /**
+     * Determines the k-th largest of the scores, or the smallest score if
+     * there are not more than k scores.
+     */
+    private double kthLargest(double[] values, int k) {
+      int n = 0;
+      for (double value : values) {
+        if (n < k) {
+          int j = n++;
+          while (j > 0 && topScores[j - 1] < value) {
+            topScores[j] = topScores[j - 1];
+            j--;
+          }
+          topScores[j] = value;
+        }
+        else if (value > topScores[k - 1]) {
+          int j = k - 1;
+          while (j > 0 && topScores[j - 1] < value) {
+            topScores[j] = topScores[j - 1];
+            j--;
+          }
+          topScores[j] = value;
+        }
+      }
+      return n > 0 ? topScores[n - 1] : 0d;
+    }
+
+    private void addCandidate(int parent, int outcome, double prob, double parentScore,
+        double minSequenceScore) {
+      double score = parentScore + Math.log(prob);
+      if (score > minSequenceScore) {
+        candidateParents[candidateCount] = parent;
+        candidateOutcomes[candidateCount] = outcome;
+        candidateProbs[candidateCount] = prob;
+        candidateScores[candidateCount] = score;
+        candidateCount++;
+      }
+    }
+
+    /**
+     * Selects the best candidates as the hypotheses of step i.
+     *
+     * @return the number of hypotheses of step i
+     */
+    private int advance(int i, int k) {
+      if (k == 0) {
+        return 0;
+      }
+
+      int n = 0;
+      for (int c = 0; c < candidateCount; c++) {
+        double score = candidateScores[c];
+        if (n < k || score > candidateScores[top[k - 1]]) {
+          int j = n < k ? n++ : k - 1;
+          while (j > 0 && candidateScores[top[j - 1]] < score) {
+            top[j] = top[j - 1];
+            j--;
+          }
+          top[j] = c;
+        }
+      }
+
+      int offset = i * width;
+      for (int b = 0; b < n; b++) {
+        int c = top[b];
+        stepOutcomes[offset + b] = candidateOutcomes[c];
+        stepParents[offset + b] = candidateParents[c];
+        stepProbs[offset + b] = candidateProbs[c];
+        scores[b] = candidateScores[c];
+      }
+
+      return n;
+    }
+
+    /**
+     * Creates the {@link Sequence} for hypothesis b of the last step.
+     */
+    private Sequence toSequence(int b) {
+      int length = stepOutcomes.length / width;
+
+      int[] path = new int[length];
+      for (int s = length - 1; s >= 0; s--) {
+        path[s] = s * width + b;
+        b = stepParents[s * width + b];
+      }
+
+      Sequence sequence = new Sequence();
+      for (int index : path) {
+        sequence.add(outcomes[stepOutcomes[index]], stepProbs[index]);
+      }
+      return sequence;
+    }
+  }
+}
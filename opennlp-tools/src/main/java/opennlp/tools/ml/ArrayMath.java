@@ -120,6 +120,24 @@ public class ArrayMath {
     }
   }
 
+  /**
+   * Sums up the parameters of the contexts from index from to index to (exclusive)
+   * for each outcome, all context values are one.
+   */
+  public static void sumFeatures(Context[] context, int from, int to, double[] prior) {
+    for (int ci = from; ci < to; ci++) {
+      if (context[ci] != null) {
+        Context predParams = context[ci];
+        int[] activeOutcomes = predParams.getOutcomes();
+        double[] activeParameters = predParams.getParameters();
+        for (int ai = 0; ai < activeOutcomes.length; ai++) {
+          int oid = activeOutcomes[ai];
+          prior[oid] += activeParameters[ai];
+        }
+      }
+    }
+  }
+
   // === Not really related to math ===
   /**
    * Convert a list of Double objects into an array of primitive doubles
@@ -25,7 +25,6 @@ import java.util.Queue;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.SequenceClassificationModel;
 import opennlp.tools.util.BeamSearchContextGenerator;
-import opennlp.tools.util.Cache;
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.SequenceValidator;
 
@@ -46,8 +45,7 @@ public class BeamSearch<T> implements SequenceClassificationModel<T> {
   protected int size;
   protected MaxentModel model;
 
-  private double[] probs;
-  private Cache<String[], double[]> contextsCache;
+  private ContextCache contextsCache;
   private static final int zeroLog = -100000;
 
   /**
@@ -60,16 +58,22 @@ public class BeamSearch<T> implements SequenceClassificationModel<T> {
     this(size, model, 0);
   }
 
+  /**
+   * Creates new search object.
+   *
+   * @param size The size of the beam (k).
+   * @param model the model for assigning probabilities to the sequence outcomes.
+   * @param cacheSize the number of contexts for which the probabilities are cached,
+   *     zero to disable the cache
+   */
   public BeamSearch(int size, MaxentModel model, int cacheSize) {
 
     this.size = size;
     this.model = model;
 
     if (cacheSize > 0) {
-      contextsCache = new Cache<>(cacheSize);
+      contextsCache = new ContextCache(cacheSize);
     }
-
-    this.probs = new double[model.getNumOutcomes()];
   }
 
   /**
@@ -91,6 +95,9 @@ public class BeamSearch<T> implements SequenceClassificationModel<T> {
     Queue<Sequence> tmp;
     prev.add(new Sequence());
 
+    // scratch buffer is local to the call to allow sharing the search between threads
+    double[] probs = new double[model.getNumOutcomes()];
+
     if (additionalContext == null) {
       additionalContext = EMPTY_ADDITIONAL_CONTEXT;
     }
@@ -174,6 +181,15 @@ public class BeamSearch<T> implements SequenceClassificationModel<T> {
       return null;
   }
 
+  /**
+   * Retrieves the cache of the evaluated contexts.
+   *
+   * @return the cache or null if caching is disabled
+   */
+  public ContextCache getContextCache() {
+    return contextsCache;
+  }
+
   @Override
   public String[] getOutcomes() {
     String[] outcomes = new String[model.getNumOutcomes()];
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache which maps the contexts (feature vectors) passed
+ * to a {@link opennlp.tools.ml.model.MaxentModel} to the evaluated outcome probabilities.
+ * <p>
+ * Contexts are compared by their content, not by array identity. The cache is split
+ * into independently locked segments, each segment evicts its least recently used entry
+ * when it is full. The number of cache hits and misses is counted.
+ * <p>
+ * The cache stores copies of the contexts and the probabilities, the arrays returned
+ * by the cache are shared and must not be modified by the caller.
+ */
+public class ContextCache {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private final Segment[] segments;
+  private final int segmentMask;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initializes the cache.
+   *
+   * @param capacity the maximum number of contexts which are cached
+   */
+  public ContextCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+
+    int numSegments = 1;
+    while (numSegments < MAX_SEGMENTS && numSegments * 2 * 16 <= capacity) {
+      numSegments *= 2;
+    }
+
+    segments = new Segment[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      // distribute the remainder, so the total capacity is exact
+      segments[i] = new Segment(capacity / numSegments + (i < capacity % numSegments ? 1 : 0));
+    }
+    segmentMask = numSegments - 1;
+  }
+
+  private Segment segmentFor(Key key) {
+    int h = key.hash;
+    h ^= h >>> 16;
+    return segments[h & segmentMask];
+  }
+
+  /**
+   * Retrieves the cached probabilities for the context.
+   *
+   * @param context the context
+   * @return the probabilities or null if the context is not cached
+   */
+  public double[] get(String[] context) {
+    Key key = new Key(context);
+    double[] probs = segmentFor(key).get(key);
+
+    if (probs != null) {
+      hits.increment();
+    }
+    else {
+      misses.increment();
+    }
+
+    return probs;
+  }
+
+  /**
+   * Puts a copy of the context and its probabilities into the cache.
+   *
+   * @param context the context
+   * @param probs the probabilities of the context
+   */
+  public void put(String[] context, double[] probs) {
+    Key key = new Key(context.clone());
+    segmentFor(key).put(key, probs.clone());
+  }
+
+  /**
+   * Retrieves the cached probabilities for the context, or evaluates and caches
+   * them if the context is not in the cache yet. The evaluation is not done while
+   * holding a lock, concurrent misses on the same context might evaluate it twice.
+   *
+   * @param context the context
+   * @param eval the function to evaluate the context, it might return a reused buffer
+   *
+   * @return the probabilities for the context
+   */
+  public double[] computeIfAbsent(String[] context, Function<String[], double[]> eval) {
+    Key key = new Key(context);
+    Segment segment = segmentFor(key);
+
+    double[] probs = segment.get(key);
+
+    if (probs == null) {
+      misses.increment();
+      probs = eval.apply(context).clone();
+      segment.put(new Key(context.clone(), key.hash), probs);
+    }
+    else {
+      hits.increment();
+    }
+
+    return probs;
+  }
+
+  /**
+   * Removes all entries from the cache, the hit and miss counters are not reset.
+   */
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * @return the number of cached contexts
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /**
+   * @return the number of lookups which found the context in the cache
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups which did not find the context in the cache
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "ContextCache{size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "}";
+  }
+
+  private static final class Key {
+
+    private final String[] context;
+    private final int hash;
+
+    private Key(String[] context) {
+      this(context, Arrays.hashCode(context));
+    }
+
+    private Key(String[] context, int hash) {
+      this.context = context;
+      this.hash = hash;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+
+      if (obj instanceof Key) {
+        Key other = (Key) obj;
+        return hash == other.hash && Arrays.equals(context, other.context);
+      }
+
+      return false;
+    }
+  }
+
+  private static final class Segment {
+
+    private final LinkedHashMap<Key, double[]> map;
+
+    private Segment(final int capacity) {
+      map = new LinkedHashMap<Key, double[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, double[]> eldest) {
+          return size() > capacity;
+        }
+      };
+    }
+
+    private synchronized double[] get(Key key) {
+      return map.get(key);
+    }
+
+    private synchronized void put(Key key, double[] probs) {
+      map.put(key, probs);
+    }
+
+    private synchronized void clear() {
+      map.clear();
+    }
+
+    private synchronized int size() {
+      return map.size();
+    }
+  }
+}
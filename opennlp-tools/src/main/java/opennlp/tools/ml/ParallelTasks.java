@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongConsumer;
+
+/**
+ * Utility methods for the trainers which split their work into one task per thread.
+ * <p>
+ * The work is split into contiguous shares of about the same weight, one per task. The
+ * tasks are run on an executor with one thread less than there are tasks, the calling
+ * thread runs the last task itself instead of waiting idle. The results of the tasks are
+ * combined in task order, so that they do not depend on the scheduling of the threads.
+ */
+public final class ParallelTasks {
+
+  private ParallelTasks() {
+  }
+
+  /**
+   * Splits the indexes from 0 to length into contiguous shares of about the same weight.
+   *
+   * @param length the number of indexes
+   * @param shares the number of shares
+   * @param weight the weight of an index
+   *
+   * @return the bounds of the shares, share i starts at bounds[i] and ends before bounds[i + 1]
+   */
+  public static int[] split(int length, int shares, IntToLongFunction weight) {
+    return splitSequence(length, shares, weights -> {
+      for (int i = 0; i < length; i++) {
+        weights.accept(weight.applyAsLong(i));
+      }
+    });
+  }
+
+  /**
+   * Splits the indexes from 0 to length into contiguous shares of about the same weight,
+   * the weights are passed in index order to the consumer given to weights, which is
+   * called twice. It is used when the weights are computed in a scan, for example of the
+   * events of a data indexer.
+   *
+   * @param length the number of indexes
+   * @param shares the number of shares
+   * @param weights passes the weights of all indexes in order to the given consumer
+   *
+   * @return the bounds of the shares, share i starts at bounds[i] and ends before bounds[i + 1]
+   */
+  public static int[] splitSequence(int length, int shares, Consumer<LongConsumer> weights) {
+    long[] total = new long[1];
+    weights.accept(weight -> total[0] += weight);
+
+    int[] bounds = new int[shares + 1];
+    long[] cumulated = new long[1];
+    int[] index = new int[1];
+    int[] share = {1};
+    weights.accept(weight -> {
+      cumulated[0] += weight;
+      index[0]++;
+      while (share[0] < shares && cumulated[0] * shares >= total[0] * share[0]) {
+        bounds[share[0]++] = index[0];
+      }
+    });
+    while (share[0] <= shares) {
+      bounds[share[0]++] = length;
+    }
+    return bounds;
+  }
+
+  /**
+   * Runs the tasks, the last one on the calling thread, and waits until all are done.
+   *
+   * @param executor the executor which runs all but the last task, it may be null
+   *     if there is only one task
+   * @param tasks the tasks to run
+   *
+   * @throws IllegalStateException if the calling thread was interrupted
+   * @throws RuntimeException if a task failed, exceptions thrown by the last task
+   *     are passed on unchanged if they are runtime exceptions
+   */
+  public static void invokeAll(ExecutorService executor, List<? extends Callable<?>> tasks) {
+    try {
+      List<Future<?>> futures = new ArrayList<>(tasks.size() - 1);
+      for (int i = 0; i < tasks.size() - 1; i++) {
+        futures.add(executor.submit(tasks.get(i)));
+      }
+
+      tasks.get(tasks.size() - 1).call();
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interruption is not supported!", e);
+    } catch (ExecutionException e) {
+      // Only runtime exception can be thrown during training, if one was thrown
+      // it should be re-thrown. That could for example be a NullPointerException
+      // which is caused through a bug in our implementation.
+      throw new RuntimeException("Exception during training: " + e.getMessage(), e);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException("Exception during training: " + e.getMessage(), e);
+    }
+  }
+}
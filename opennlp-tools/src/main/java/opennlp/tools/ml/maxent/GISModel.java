@@ -17,6 +17,8 @@
 
 package opennlp.tools.ml.maxent;
 
+import java.util.Arrays;
+
 import opennlp.tools.ml.ArrayMath;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.Context;
@@ -113,6 +115,37 @@ public final class GISModel extends AbstractModel {
   }
 
 
+  /**
+   * Evaluates a batch of contexts. The parameters of the predicates of all contexts
+   * are looked up once for the whole batch, see {@link #lookupParameters(String[][], int[])},
+   * before the contexts are scored.
+   */
+  @Override
+  public double[][] eval(String[][] contexts, double[][] probs) {
+    int[] offsets = new int[contexts.length + 1];
+    Context[] params = lookupParameters(contexts, offsets);
+
+    for (int i = 0; i < contexts.length; i++) {
+      eval(params, offsets[i], offsets[i + 1], probs[i]);
+    }
+
+    return probs;
+  }
+
+  @Override
+  protected double[] eval(Context[] params, int from, int to, double[] outsums) {
+    if (prior instanceof UniformPrior) {
+      prior.logPrior(outsums, (int[]) null, null);
+    }
+    else {
+      prior.logPrior(outsums, Arrays.copyOfRange(params, from, to), null);
+    }
+
+    ArrayMath.sumFeatures(params, from, to, outsums);
+    normalize(outsums, evalParams.getNumOutcomes());
+    return outsums;
+  }
+
   /**
    * Use this model to evaluate a context and return an array of the likelihood
    * of each outcome given the specified context and the specified parameters.
@@ -186,15 +219,19 @@ public final class GISModel extends AbstractModel {
 
     ArrayMath.sumFeatures(context, values, prior);
 
+    normalize(prior, model.getNumOutcomes());
+    return prior;
+  }
+
+  private static void normalize(double[] prior, int numOutcomes) {
     double normal = 0.0;
-    for (int oid = 0; oid < model.getNumOutcomes(); oid++) {
+    for (int oid = 0; oid < numOutcomes; oid++) {
       prior[oid] = Math.exp(prior[oid]);
       normal += prior[oid];
     }
 
-    for (int oid = 0; oid < model.getNumOutcomes(); oid++) {
+    for (int oid = 0; oid < numOutcomes; oid++) {
       prior[oid] /= normal;
     }
-    return prior;
   }
 }
@@ -18,21 +18,22 @@
 package opennlp.tools.ml.maxent;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.ParallelTasks;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.EvalParameters;
 import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.IndexedEventConsumer;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.MutableContext;
 import opennlp.tools.ml.model.OnePassDataIndexer;
@@ -94,21 +95,10 @@ public class GISTrainer extends AbstractEventTrainer {
    */
   private int numOutcomes;
   /**
-   * Records the array of predicates seen in each event.
+   * The indexed events, they are only visited with forEachEvent and don't
+   * have to be held in memory.
    */
-  private int[][] contexts;
-  /**
-   * The value associated with each context. If null then context values are assumes to be 1.
-   */
-  private float[][] values;
-  /**
-   * List of outcomes for each event i, in context[i].
-   */
-  private int[] outcomeList;
-  /**
-   * Records the num of times an event has been seen for each event i, in context[i].
-   */
-  private int[] numTimesEventsSeen;
+  private DataIndexer indexer;
   /**
    * Stores the String names of the outcomes. The GIS only tracks outcomes as
    * ints, and so this array is needed to save the model to disk and thereby
@@ -341,60 +331,50 @@ public class GISTrainer extends AbstractEventTrainer {
 
     /* Incorporate all of the needed info *****/
     display("Incorporating indexed data for training...  \n");
-    contexts = di.getContexts();
-    values = di.getValues();
-    /*
-    The number of times a predicate occured in the training data.
-   */
-    int[] predicateCounts = di.getPredCounts();
-    numTimesEventsSeen = di.getNumTimesEventsSeen();
-    numUniqueEvents = contexts.length;
+    indexer = di;
+    numUniqueEvents = di.getNumUniqueEvents();
     this.prior = modelPrior;
-    //printTable(contexts);
-
-    // determine the correction constant and its inverse
-    double correctionConstant = 0;
-    for (int ci = 0; ci < contexts.length; ci++) {
-      if (values == null || values[ci] == null) {
-        if (contexts[ci].length > correctionConstant) {
-          correctionConstant = contexts[ci].length;
-        }
-      } else {
-        float cl = values[ci][0];
-        for (int vi = 1; vi < values[ci].length; vi++) {
-          cl += values[ci][vi];
-        }
-
-        if (cl > correctionConstant) {
-          correctionConstant = cl;
-        }
-      }
-    }
-    display("done.\n");
 
     outcomeLabels = di.getOutcomeLabels();
-    outcomeList = di.getOutcomeList();
     numOutcomes = outcomeLabels.length;
 
     predLabels = di.getPredLabels();
     prior.setLabels(outcomeLabels, predLabels);
     numPreds = predLabels.length;
 
-    display("\tNumber of Event Tokens: " + numUniqueEvents + "\n");
-    display("\t    Number of Outcomes: " + numOutcomes + "\n");
-    display("\t  Number of Predicates: " + numPreds + "\n");
-
-    // set up feature arrays
+    // determine the correction constant and set up the feature
+    // arrays in one pass over the events
+    double[] correctionConstant = new double[1];
     float[][] predCount = new float[numPreds][numOutcomes];
-    for (int ti = 0; ti < numUniqueEvents; ti++) {
-      for (int j = 0; j < contexts[ti].length; j++) {
-        if (values != null && values[ti] != null) {
-          predCount[contexts[ti][j]][outcomeList[ti]] += numTimesEventsSeen[ti] * values[ti][j];
+    di.forEachEvent((ei, context, eventValues, outcome, numTimesSeen) -> {
+      if (eventValues == null) {
+        if (context.length > correctionConstant[0]) {
+          correctionConstant[0] = context.length;
+        }
+      } else {
+        float cl = eventValues[0];
+        for (int vi = 1; vi < eventValues.length; vi++) {
+          cl += eventValues[vi];
+        }
+
+        if (cl > correctionConstant[0]) {
+          correctionConstant[0] = cl;
+        }
+      }
+
+      for (int j = 0; j < context.length; j++) {
+        if (eventValues != null) {
+          predCount[context[j]][outcome] += numTimesSeen * eventValues[j];
         } else {
-          predCount[contexts[ti][j]][outcomeList[ti]] += numTimesEventsSeen[ti];
+          predCount[context[j]][outcome] += numTimesSeen;
         }
       }
-    }
+    });
+    display("done.\n");
+
+    display("\tNumber of Event Tokens: " + numUniqueEvents + "\n");
+    display("\t    Number of Outcomes: " + numOutcomes + "\n");
+    display("\t  Number of Predicates: " + numPreds + "\n");
 
     // A fake "observation" to cover features which are not detected in
     // the data.  The default is to assume that we observed "1/10th" of a
@@ -471,7 +451,7 @@ public class GISTrainer extends AbstractEventTrainer {
       display("Computing model parameters in " + threads + " threads...\n");
     }
 
-    findParameters(iterations, correctionConstant);
+    findParameters(iterations, correctionConstant[0]);
 
     // Create and return the model
     return new GISModel(params, predLabels, outcomeLabels);
@@ -482,45 +462,70 @@ public class GISTrainer extends AbstractEventTrainer {
   private void findParameters(int iterations, double correctionConstant) {
     int threads = modelExpects.length;
 
-    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
-      Thread thread = new Thread(runnable);
-      thread.setName("opennlp.tools.ml.maxent.ModelExpactationComputeTask.nextIteration()");
-      thread.setDaemon(true);
-      return thread;
-    });
+    // The events and the predicates are split once into one share per thread, each share
+    // has about the same amount of work, and the tasks are reused in every iteration.
+    int[] eventBounds = ParallelTasks.splitSequence(numUniqueEvents, threads, weights -> indexer.forEachEvent(
+        (ei, context, eventValues, outcome, numTimesSeen) -> {
+          long weight = numOutcomes;
+          for (int pi : context) {
+            weight += params[pi].getOutcomes().length;
+          }
+          weights.accept(weight);
+        }));
+    int[] predBounds = ParallelTasks.split(numPreds, threads, pi -> 1 + params[pi].getOutcomes().length);
+
+    List<ModelExpectationComputeTask> expectationTasks = new ArrayList<>(threads);
+    List<ParameterUpdateTask> updateTasks = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      expectationTasks.add(new ModelExpectationComputeTask(i, eventBounds[i],
+          eventBounds[i + 1] - eventBounds[i]));
+      updateTasks.add(new ParameterUpdateTask(predBounds[i], predBounds[i + 1], correctionConstant));
+    }
 
-    CompletionService<ModelExpectationComputeTask> completionService =
-        new ExecutorCompletionService<>(executor);
-    double prevLL = 0.0;
-    double currLL;
-    display("Performing " + iterations + " iterations.\n");
-    for (int i = 1; i <= iterations; i++) {
-      if (i < 10) {
-        display("  " + i + ":  ");
-      } else if (i < 100) {
-        display(" " + i + ":  ");
-      } else {
-        display(i + ":  ");
-      }
-      currLL = nextIteration(correctionConstant, completionService);
-      if (i > 1) {
-        if (prevLL > currLL) {
-          System.err.println("Model Diverging: loglikelihood decreased");
-          break;
+    ExecutorService executor = null;
+    if (threads > 1) {
+      executor = Executors.newFixedThreadPool(threads - 1, runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.ml.maxent.GISTrainer.findParameters()");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    try {
+      double prevLL = 0.0;
+      double currLL;
+      display("Performing " + iterations + " iterations.\n");
+      for (int i = 1; i <= iterations; i++) {
+        if (i < 10) {
+          display("  " + i + ":  ");
+        } else if (i < 100) {
+          display(" " + i + ":  ");
+        } else {
+          display(i + ":  ");
         }
-        if (currLL - prevLL < llThreshold) {
-          break;
+        currLL = nextIteration(executor, expectationTasks, updateTasks);
+        if (i > 1) {
+          if (prevLL > currLL) {
+            System.err.println("Model Diverging: loglikelihood decreased");
+            break;
+          }
+          if (currLL - prevLL < llThreshold) {
+            break;
+          }
         }
+        prevLL = currLL;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
       }
-      prevLL = currLL;
     }
 
     // kill a bunch of these big objects now that we don't need them
     observedExpects = null;
     modelExpects = null;
-    numTimesEventsSeen = null;
-    contexts = null;
-    executor.shutdown();
+    indexer = null;
   }
 
   //modeled on implementation in  Zhang Le's maxent kit
@@ -547,94 +552,32 @@ public class GISTrainer extends AbstractEventTrainer {
   }
 
   /* Compute one iteration of GIS and retutn log-likelihood.*/
-  private double nextIteration(double correctionConstant,
-                               CompletionService<ModelExpectationComputeTask> completionService) {
+  private double nextIteration(ExecutorService executor,
+                               List<ModelExpectationComputeTask> expectationTasks,
+                               List<ParameterUpdateTask> updateTasks) {
     // compute contribution of p(a|b_i) for each feature and the new
     // correction parameter
     double loglikelihood = 0.0;
     int numEvents = 0;
     int numCorrect = 0;
 
-    // Each thread gets equal number of tasks, if the number of tasks
-    // is not divisible by the number of threads, the first "leftOver"
-    // threads have one extra task.
-    int numberOfThreads = modelExpects.length;
-    int taskSize = numUniqueEvents / numberOfThreads;
-    int leftOver = numUniqueEvents % numberOfThreads;
-
-    // submit all tasks to the completion service.
-    for (int i = 0; i < numberOfThreads; i++) {
-      if (i < leftOver) {
-        completionService.submit(new ModelExpectationComputeTask(i, i * taskSize + i,
-            taskSize + 1));
-      } else {
-        completionService.submit(new ModelExpectationComputeTask(i,
-            i * taskSize + leftOver, taskSize));
-      }
-    }
-
-    for (int i = 0; i < numberOfThreads; i++) {
-      ModelExpectationComputeTask finishedTask;
-      try {
-        finishedTask = completionService.take().get();
-      } catch (InterruptedException e) {
-        // TODO: We got interrupted, but that is currently not really supported!
-        // For now we just print the exception and fail hard. We hopefully soon
-        // handle this case properly!
-        e.printStackTrace();
-        throw new IllegalStateException("Interruption is not supported!", e);
-      } catch (ExecutionException e) {
-        // Only runtime exception can be thrown during training, if one was thrown
-        // it should be re-thrown. That could for example be a NullPointerException
-        // which is caused through a bug in our implementation.
-        throw new RuntimeException("Exception during training: " + e.getMessage(), e);
-      }
+    ParallelTasks.invokeAll(executor, expectationTasks);
 
-      // When they are done, retrieve the results ...
-      numEvents += finishedTask.getNumEvents();
-      numCorrect += finishedTask.getNumCorrect();
-      loglikelihood += finishedTask.getLoglikelihood();
+    // the results are summed in task order, see ParallelTasks
+    for (ModelExpectationComputeTask finishedTask : expectationTasks) {
+      numEvents += finishedTask.numEvents;
+      numCorrect += finishedTask.numCorrect;
+      loglikelihood += finishedTask.loglikelihood;
     }
 
     display(".");
 
-    // merge the results of the two computations
-    for (int pi = 0; pi < numPreds; pi++) {
-      int[] activeOutcomes = params[pi].getOutcomes();
-
-      for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
-        for (int i = 1; i < modelExpects.length; i++) {
-          modelExpects[0][pi].updateParameter(aoi, modelExpects[i][pi].getParameters()[aoi]);
-        }
-      }
-    }
+    // merge the expectations of the threads and compute the new parameter
+    // values, each task does this for its own share of the predicates
+    ParallelTasks.invokeAll(executor, updateTasks);
 
     display(".");
 
-    // compute the new parameter values
-    for (int pi = 0; pi < numPreds; pi++) {
-      double[] observed = observedExpects[pi].getParameters();
-      double[] model = modelExpects[0][pi].getParameters();
-      int[] activeOutcomes = params[pi].getOutcomes();
-      for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
-        if (useGaussianSmoothing) {
-          params[pi].updateParameter(aoi, gaussianUpdate(pi, aoi, correctionConstant));
-        } else {
-          if (model[aoi] == 0) {
-            System.err.println("Model expects == 0 for " + predLabels[pi] + " " + outcomeLabels[aoi]);
-          }
-          //params[pi].updateParameter(aoi,(Math.log(observed[aoi]) - Math.log(model[aoi])));
-          params[pi].updateParameter(aoi, ((Math.log(observed[aoi]) - Math.log(model[aoi]))
-              / correctionConstant));
-        }
-
-        for (MutableContext[] modelExpect : modelExpects) {
-          modelExpect[pi].setParameter(aoi, 0.0); // re-initialize to 0.0's
-        }
-
-      }
-    }
-
     display(". loglikelihood=" + loglikelihood + "\t" + ((double) numCorrect / numEvents) + "\n");
 
     return loglikelihood;
@@ -646,80 +589,126 @@ public class GISTrainer extends AbstractEventTrainer {
     }
   }
 
-  private class ModelExpectationComputeTask implements Callable<ModelExpectationComputeTask> {
+  private class ModelExpectationComputeTask implements Callable<ModelExpectationComputeTask>,
+      IndexedEventConsumer {
 
     private final int startIndex;
     private final int length;
-    final private int threadIndex;
-    private double loglikelihood = 0;
-    private int numEvents = 0;
-    private int numCorrect = 0;
+    private final int threadIndex;
+    private final double[] modelDistribution;
+
+    private MutableContext[] expects;
+    private double loglikelihood;
+    private int numEvents;
+    private int numCorrect;
 
     // startIndex to compute, number of events to compute
     ModelExpectationComputeTask(int threadIndex, int startIndex, int length) {
       this.startIndex = startIndex;
       this.length = length;
       this.threadIndex = threadIndex;
+      this.modelDistribution = new double[numOutcomes];
     }
 
     public ModelExpectationComputeTask call() {
+      loglikelihood = 0;
+      numEvents = 0;
+      numCorrect = 0;
 
-      final double[] modelDistribution = new double[numOutcomes];
-
+      expects = modelExpects[threadIndex];
 
-      for (int ei = startIndex; ei < startIndex + length; ei++) {
+      // TODO: check interruption status here, if interrupted set a poisoned flag and return
+      indexer.forEachEvent(startIndex, startIndex + length, this);
 
-        // TODO: check interruption status here, if interrupted set a poisoned flag and return
+      return this;
+    }
 
-        if (values != null) {
-          prior.logPrior(modelDistribution, contexts[ei], values[ei]);
-          GISModel.eval(contexts[ei], values[ei], modelDistribution, evalParams);
-        } else {
-          prior.logPrior(modelDistribution, contexts[ei]);
-          GISModel.eval(contexts[ei], modelDistribution, evalParams);
-        }
-        for (int j = 0; j < contexts[ei].length; j++) {
-          int pi = contexts[ei][j];
-          int[] activeOutcomes = modelExpects[threadIndex][pi].getOutcomes();
-          for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
-            int oi = activeOutcomes[aoi];
-
-            // numTimesEventsSeen must also be thread safe
-            if (values != null && values[ei] != null) {
-              modelExpects[threadIndex][pi].updateParameter(aoi, modelDistribution[oi]
-                  * values[ei][j] * numTimesEventsSeen[ei]);
-            } else {
-              modelExpects[threadIndex][pi].updateParameter(aoi, modelDistribution[oi]
-                  * numTimesEventsSeen[ei]);
-            }
+    @Override
+    public void accept(int ei, int[] context, float[] eventValues, int outcome, int numTimesSeen) {
+      if (eventValues != null) {
+        prior.logPrior(modelDistribution, context, eventValues);
+        GISModel.eval(context, eventValues, modelDistribution, evalParams);
+      } else {
+        prior.logPrior(modelDistribution, context);
+        GISModel.eval(context, modelDistribution, evalParams);
+      }
+      for (int j = 0; j < context.length; j++) {
+        int pi = context[j];
+        int[] activeOutcomes = expects[pi].getOutcomes();
+        for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
+          int oi = activeOutcomes[aoi];
+
+          if (eventValues != null) {
+            expects[pi].updateParameter(aoi, modelDistribution[oi]
+                * eventValues[j] * numTimesSeen);
+          } else {
+            expects[pi].updateParameter(aoi, modelDistribution[oi]
+                * numTimesSeen);
           }
         }
+      }
 
-        loglikelihood += Math.log(modelDistribution[outcomeList[ei]]) * numTimesEventsSeen[ei];
+      loglikelihood += Math.log(modelDistribution[outcome]) * numTimesSeen;
 
-        numEvents += numTimesEventsSeen[ei];
-        if (printMessages) {
-          int max = ArrayMath.argmax(modelDistribution);
-          if (max == outcomeList[ei]) {
-            numCorrect += numTimesEventsSeen[ei];
-          }
+      numEvents += numTimesSeen;
+      if (printMessages) {
+        int max = ArrayMath.argmax(modelDistribution);
+        if (max == outcome) {
+          numCorrect += numTimesSeen;
         }
-
       }
-
-      return this;
     }
+  }
 
-    synchronized int getNumEvents() {
-      return numEvents;
-    }
+  /**
+   * Merges the model expectations of all threads and updates the parameters
+   * of a share of the predicates.
+   */
+  private class ParameterUpdateTask implements Callable<Void> {
+
+    private final int startPred;
+    private final int endPred;
+    private final double correctionConstant;
 
-    synchronized int getNumCorrect() {
-      return numCorrect;
+    ParameterUpdateTask(int startPred, int endPred, double correctionConstant) {
+      this.startPred = startPred;
+      this.endPred = endPred;
+      this.correctionConstant = correctionConstant;
     }
 
-    synchronized double getLoglikelihood() {
-      return loglikelihood;
+    public Void call() {
+      for (int pi = startPred; pi < endPred; pi++) {
+        double[] observed = observedExpects[pi].getParameters();
+        double[] model = modelExpects[0][pi].getParameters();
+        int[] activeOutcomes = params[pi].getOutcomes();
+
+        // merge the results of the threads
+        for (int i = 1; i < modelExpects.length; i++) {
+          double[] threadModel = modelExpects[i][pi].getParameters();
+          for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
+            model[aoi] += threadModel[aoi];
+          }
+        }
+
+        // compute the new parameter values
+        for (int aoi = 0; aoi < activeOutcomes.length; aoi++) {
+          if (useGaussianSmoothing) {
+            params[pi].updateParameter(aoi, gaussianUpdate(pi, aoi, correctionConstant));
+          } else {
+            if (model[aoi] == 0) {
+              System.err.println("Model expects == 0 for " + predLabels[pi] + " " + outcomeLabels[aoi]);
+            }
+            //params[pi].updateParameter(aoi,(Math.log(observed[aoi]) - Math.log(model[aoi])));
+            params[pi].updateParameter(aoi, ((Math.log(observed[aoi]) - Math.log(model[aoi]))
+                / correctionConstant));
+          }
+
+          for (MutableContext[] modelExpect : modelExpects) {
+            modelExpect[pi].setParameter(aoi, 0.0); // re-initialize to 0.0's
+          }
+        }
+      }
+      return null;
     }
   }
 }
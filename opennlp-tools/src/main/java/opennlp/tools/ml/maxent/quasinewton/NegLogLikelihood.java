@@ -21,7 +21,6 @@ import java.util.Arrays;
 
 import opennlp.tools.ml.ArrayMath;
 import opennlp.tools.ml.model.DataIndexer;
-import opennlp.tools.ml.model.OnePassRealValueDataIndexer;
 
 /**
  * Evaluate negative log-likelihood and its gradient from DataIndexer.
@@ -33,11 +32,8 @@ public class NegLogLikelihood implements Function {
   protected int numFeatures;
   protected int numContexts;
 
-  // Information from data index
-  protected final float[][] values;
-  protected final int[][] contexts;
-  protected final int[] outcomeList;
-  protected final int[] numTimesEventsSeen;
+  // Information from data index, the events are visited with forEachEvent
+  protected final DataIndexer indexer;
 
   // For calculating negLogLikelihood and gradient
   protected double[] tempSums;
@@ -47,20 +43,11 @@ public class NegLogLikelihood implements Function {
 
   public NegLogLikelihood(DataIndexer indexer) {
 
-    // Get data from indexer.
-    if (indexer instanceof OnePassRealValueDataIndexer) {
-      this.values = indexer.getValues();
-    } else {
-      this.values = null;
-    }
-
-    this.contexts    = indexer.getContexts();
-    this.outcomeList = indexer.getOutcomeList();
-    this.numTimesEventsSeen = indexer.getNumTimesEventsSeen();
+    this.indexer = indexer;
 
     this.numOutcomes = indexer.getOutcomeLabels().length;
     this.numFeatures = indexer.getPredLabels().length;
-    this.numContexts = this.contexts.length;
+    this.numContexts = indexer.getNumUniqueEvents();
     this.dimension   = numOutcomes * numFeatures;
 
     this.expectation = new double[numOutcomes];
@@ -85,27 +72,7 @@ public class NegLogLikelihood implements Function {
       throw new IllegalArgumentException(
           "x is invalid, its dimension is not equal to domain dimension.");
 
-    int ci, oi, ai, vectorIndex, outcome;
-    double predValue, logSumOfExps;
-    double negLogLikelihood = 0;
-
-    for (ci = 0; ci < numContexts; ci++) {
-      for (oi = 0; oi < numOutcomes; oi++) {
-        tempSums[oi] = 0;
-        for (ai = 0; ai < contexts[ci].length; ai++) {
-          vectorIndex = indexOf(oi, contexts[ci][ai]);
-          predValue = values != null ? values[ci][ai] : 1.0;
-          tempSums[oi] += predValue * x[vectorIndex];
-        }
-      }
-
-      logSumOfExps = ArrayMath.logSumOfExps(tempSums);
-
-      outcome = outcomeList[ci];
-      negLogLikelihood -= (tempSums[outcome] - logSumOfExps) * numTimesEventsSeen[ci];
-    }
-
-    return negLogLikelihood;
+    return negLogLikelihood(x, 0, numContexts, tempSums);
   }
 
   /**
@@ -117,41 +84,104 @@ public class NegLogLikelihood implements Function {
       throw new IllegalArgumentException(
           "x is invalid, its dimension is not equal to the function.");
 
-    int ci, oi, ai, vectorIndex;
-    double predValue, logSumOfExps;
-    int empirical;
-
     // Reset gradient
     Arrays.fill(gradient, 0);
 
-    for (ci = 0; ci < numContexts; ci++) {
-      for (oi = 0; oi < numOutcomes; oi++) {
-        expectation[oi] = 0;
-        for (ai = 0; ai < contexts[ci].length; ai++) {
-          vectorIndex = indexOf(oi, contexts[ci][ai]);
-          predValue = values != null ? values[ci][ai] : 1.0;
-          expectation[oi] += predValue * x[vectorIndex];
+    addGradient(x, 0, numContexts, expectation, gradient);
+
+    return gradient;
+  }
+
+  /**
+   * Computes the negative log-likelihood of a range of the events.
+   *
+   * @param sums a buffer with one element per outcome
+   */
+  protected double negLogLikelihood(double[] x, int fromIndex, int toIndex, double[] sums) {
+    double[] negLogLikelihood = new double[1];
+
+    indexer.forEachEvent(fromIndex, toIndex, (ci, context, values, outcome, numTimesSeen) -> {
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        sums[oi] = 0;
+        for (int ai = 0; ai < context.length; ai++) {
+          int vectorIndex = indexOf(oi, context[ai]);
+          double predValue = values != null ? values[ai] : 1.0;
+          sums[oi] += predValue * x[vectorIndex];
         }
       }
 
-      logSumOfExps = ArrayMath.logSumOfExps(expectation);
+      double logSumOfExps = ArrayMath.logSumOfExps(sums);
+
+      negLogLikelihood[0] -= (sums[outcome] - logSumOfExps) * numTimesSeen;
+    });
 
-      for (oi = 0; oi < numOutcomes; oi++) {
-        expectation[oi] = Math.exp(expectation[oi] - logSumOfExps);
+    return negLogLikelihood[0];
+  }
+
+  /**
+   * Adds the gradient of a range of the events to grad.
+   *
+   * @param expectations a buffer with one element per outcome
+   */
+  protected void addGradient(double[] x, int fromIndex, int toIndex, double[] expectations,
+      double[] grad) {
+
+    indexer.forEachEvent(fromIndex, toIndex, (ci, context, values, outcome, numTimesSeen) -> {
+      computeExpectations(x, context, values, expectations);
+
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        int empirical = outcome == oi ? 1 : 0;
+        for (int ai = 0; ai < context.length; ai++) {
+          int vectorIndex = indexOf(oi, context[ai]);
+          double predValue = values != null ? values[ai] : 1.0;
+          grad[vectorIndex] += predValue * (expectations[oi] - empirical) * numTimesSeen;
+        }
       }
+    });
+  }
 
-      for (oi = 0; oi < numOutcomes; oi++) {
-        empirical = outcomeList[ci] == oi ? 1 : 0;
-        for (ai = 0; ai < contexts[ci].length; ai++) {
-          vectorIndex = indexOf(oi, contexts[ci][ai]);
-          predValue = values != null ? values[ci][ai] : 1.0;
-          gradient[vectorIndex] +=
-              predValue * (expectation[oi] - empirical) * numTimesEventsSeen[ci];
+  /**
+   * Adds the gradient of a range of the events to grad, which is accumulated
+   * in float precision.
+   *
+   * @param expectations a buffer with one element per outcome
+   */
+  protected void addGradient(double[] x, int fromIndex, int toIndex, double[] expectations,
+      float[] grad) {
+
+    indexer.forEachEvent(fromIndex, toIndex, (ci, context, values, outcome, numTimesSeen) -> {
+      computeExpectations(x, context, values, expectations);
+
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        int empirical = outcome == oi ? 1 : 0;
+        for (int ai = 0; ai < context.length; ai++) {
+          int vectorIndex = indexOf(oi, context[ai]);
+          double predValue = values != null ? values[ai] : 1.0;
+          grad[vectorIndex] += (float) (predValue * (expectations[oi] - empirical) * numTimesSeen);
         }
       }
+    });
+  }
+
+  /**
+   * Computes the probabilities of the outcomes of an event.
+   */
+  private void computeExpectations(double[] x, int[] context, float[] values,
+      double[] expectations) {
+    for (int oi = 0; oi < numOutcomes; oi++) {
+      expectations[oi] = 0;
+      for (int ai = 0; ai < context.length; ai++) {
+        int vectorIndex = indexOf(oi, context[ai]);
+        double predValue = values != null ? values[ai] : 1.0;
+        expectations[oi] += predValue * x[vectorIndex];
+      }
     }
 
-    return gradient;
+    double logSumOfExps = ArrayMath.logSumOfExps(expectations);
+
+    for (int oi = 0; oi < numOutcomes; oi++) {
+      expectations[oi] = Math.exp(expectations[oi] - logSumOfExps);
+    }
   }
 
   protected int indexOf(int outcomeId, int featureId) {
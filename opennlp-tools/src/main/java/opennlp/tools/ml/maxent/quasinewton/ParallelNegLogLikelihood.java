@@ -17,42 +17,79 @@
 
 package opennlp.tools.ml.maxent.quasinewton;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
-import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.ParallelTasks;
 import opennlp.tools.ml.model.DataIndexer;
 
 /**
- * Evaluate negative log-likelihood and its gradient in parallel
+ * Evaluate negative log-likelihood and its gradient in parallel.
+ * <p>
+ * The events are split once with {@link ParallelTasks} into one range per thread, the cost
+ * of an event grows with the number of its predicates. The tasks, their gradient buffers
+ * and the worker threads are kept for all evaluations. The gradients of the threads are
+ * summed in parallel, each thread sums a range of the dimensions.
+ * <p>
+ * The gradients of the threads can be accumulated in float precision, that halves
+ * the memory of the buffers and the memory traffic of the reduction at the cost of
+ * some precision.
+ * <p>
+ * The worker threads are stopped with {@link #close()}.
  */
-public class ParallelNegLogLikelihood extends NegLogLikelihood {
+public class ParallelNegLogLikelihood extends NegLogLikelihood implements AutoCloseable {
 
   // Number of threads
-  private int threads;
+  private final int threads;
 
-  // Partial value of negative log-likelihood to be computed by each thread
-  private double[] negLogLikelihoodThread;
+  private final List<NegLLComputeTask> negLLTasks;
+  private final List<GradientComputeTask> gradientTasks;
+  private final List<GradientReduceTask> reduceTasks;
 
-  // Partial gradient
-  private double[][] gradientThread;
+  private final ExecutorService executor;
 
   public ParallelNegLogLikelihood(DataIndexer indexer, int threads) {
+    this(indexer, threads, false);
+  }
+
+  public ParallelNegLogLikelihood(DataIndexer indexer, int threads, boolean floatGradient) {
     super(indexer);
 
     if (threads <= 0)
       throw new IllegalArgumentException(
           "Number of threads must 1 or larger");
 
-    this.threads                = threads;
-    this.negLogLikelihoodThread = new double[threads];
-    this.gradientThread         = new double[threads][dimension];
+    this.threads = threads;
+
+    int[] eventBounds = ParallelTasks.splitSequence(numContexts, threads, weights ->
+        indexer.forEachEvent((ei, context, values, outcome, numTimesSeen) ->
+            weights.accept(context.length + 1)));
+
+    negLLTasks = new ArrayList<>(threads);
+    gradientTasks = new ArrayList<>(threads);
+    reduceTasks = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      negLLTasks.add(new NegLLComputeTask(eventBounds[i], eventBounds[i + 1]));
+      gradientTasks.add(new GradientComputeTask(eventBounds[i], eventBounds[i + 1], floatGradient));
+      reduceTasks.add(new GradientReduceTask((int) ((long) dimension * i / threads),
+          (int) ((long) dimension * (i + 1) / threads)));
+    }
+
+    if (threads > 1) {
+      executor = Executors.newFixedThreadPool(threads - 1, runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.ml.maxent.quasinewton.ParallelNegLogLikelihood");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    else {
+      executor = null;
+    }
   }
 
   /**
@@ -66,11 +103,14 @@ public class ParallelNegLogLikelihood extends NegLogLikelihood {
           "x is invalid, its dimension is not equal to domain dimension.");
 
     // Compute partial value of negative log-likelihood in each thread
-    computeInParallel(x, NegLLComputeTask.class);
+    for (NegLLComputeTask task : negLLTasks) {
+      task.x = x;
+    }
+    ParallelTasks.invokeAll(executor, negLLTasks);
 
     double negLogLikelihood = 0;
-    for (int t = 0; t < threads; t++) {
-      negLogLikelihood += negLogLikelihoodThread[t];
+    for (NegLLComputeTask task : negLLTasks) {
+      negLogLikelihood += task.negLogLikelihood;
     }
 
     return negLogLikelihood;
@@ -87,171 +127,124 @@ public class ParallelNegLogLikelihood extends NegLogLikelihood {
           "x is invalid, its dimension is not equal to the function.");
 
     // Compute partial gradient in each thread
-    computeInParallel(x, GradientComputeTask.class);
+    for (GradientComputeTask task : gradientTasks) {
+      task.x = x;
+    }
+    ParallelTasks.invokeAll(executor, gradientTasks);
 
     // Accumulate gradient
-    for (int i = 0; i < dimension; i++) {
-      gradient[i] = 0;
-      for (int t = 0; t < threads; t++) {
-        gradient[i] += gradientThread[t][i];
-      }
-    }
+    ParallelTasks.invokeAll(executor, reduceTasks);
 
     return gradient;
   }
 
   /**
-   * Compute tasks in parallel
+   * Stops the worker threads.
    */
-  private void computeInParallel(double[] x, Class<? extends ComputeTask> taskClass) {
-
-    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
-      Thread thread = new Thread(runnable);
-      thread.setName(
-          "opennlp.tools.ml.maxent.quasinewton.ParallelNegLogLikelihood.computeInParallel()");
-      thread.setDaemon(true);
-      return thread;
-    });
-
-    int taskSize = numContexts / threads;
-    int leftOver = numContexts % threads;
-
-    try {
-      Constructor<? extends ComputeTask> cons = taskClass.getConstructor(
-          ParallelNegLogLikelihood.class,
-          int.class, int.class, int.class, double[].class);
-
-      List<Future<?>> futures = new ArrayList<>();
-      for (int i = 0; i < threads; i++) {
-        if (i != threads - 1)
-          futures.add(executor.submit(
-              cons.newInstance(this, i, i * taskSize, taskSize, x)));
-        else
-          futures.add(executor.submit(
-              cons.newInstance(this, i, i * taskSize, taskSize + leftOver, x)));
-      }
-
-      for (Future<?> future: futures)
-        future.get();
-
-    } catch (Exception e) {
-      e.printStackTrace();
+  @Override
+  public void close() {
+    if (executor != null) {
+      executor.shutdown();
     }
-
-    executor.shutdown();
   }
 
   /**
-   * Task that is computed in parallel
+   * Task for computing partial value of negative log-likelihood
    */
-  abstract class ComputeTask implements Callable<ComputeTask> {
+  private class NegLLComputeTask implements Callable<Void> {
 
-    final int threadIndex;
+    // Range of contexts to compute
+    private final int startIndex;
+    private final int endIndex;
 
-    // Start index of contexts to compute
-    final int startIndex;
+    private final double[] tempSums;
 
-    // Number of contexts to compute
-    final int length;
+    private double[] x;
+    private double negLogLikelihood;
 
-    final double[] x;
+    NegLLComputeTask(int startIndex, int endIndex) {
+      this.startIndex = startIndex;
+      this.endIndex   = endIndex;
+      this.tempSums   = new double[numOutcomes];
+    }
 
-    public ComputeTask(int threadIndex, int startIndex, int length, double[] x) {
-      this.threadIndex = threadIndex;
-      this.startIndex  = startIndex;
-      this.length      = length;
-      this.x           = x;
+    @Override
+    public Void call() {
+      negLogLikelihood = negLogLikelihood(x, startIndex, endIndex, tempSums);
+      return null;
     }
   }
 
   /**
-   * Task for computing partial value of negative log-likelihood
+   * Task for computing partial gradient
    */
-  class NegLLComputeTask extends ComputeTask {
+  private class GradientComputeTask implements Callable<Void> {
 
-    final double[] tempSums;
+    // Range of contexts to compute
+    private final int startIndex;
+    private final int endIndex;
 
-    public NegLLComputeTask(int threadIndex, int startIndex, int length, double[] x) {
-      super(threadIndex, startIndex, length, x);
-      this.tempSums = new double[numOutcomes];
-    }
+    private final double[] expectation;
 
-    @Override
-    public NegLLComputeTask call() {
-      int ci, oi, ai, vectorIndex, outcome;
-      double predValue, logSumOfExps;
-      negLogLikelihoodThread[threadIndex] = 0;
-
-      for (ci = startIndex; ci < startIndex + length; ci++) {
-        for (oi = 0; oi < numOutcomes; oi++) {
-          tempSums[oi] = 0;
-          for (ai = 0; ai < contexts[ci].length; ai++) {
-            vectorIndex = indexOf(oi, contexts[ci][ai]);
-            predValue = values != null ? values[ci][ai] : 1.0;
-            tempSums[oi] += predValue * x[vectorIndex];
-          }
-        }
+    // Partial gradient, only one of them is used
+    private final double[] gradient;
+    private final float[] floatGradient;
 
-        logSumOfExps = ArrayMath.logSumOfExps(tempSums);
+    private double[] x;
 
-        outcome = outcomeList[ci];
-        negLogLikelihoodThread[threadIndex] -=
-            (tempSums[outcome] - logSumOfExps) * numTimesEventsSeen[ci];
-      }
+    GradientComputeTask(int startIndex, int endIndex, boolean useFloat) {
+      this.startIndex    = startIndex;
+      this.endIndex      = endIndex;
+      this.expectation   = new double[numOutcomes];
+      this.gradient      = useFloat ? null : new double[dimension];
+      this.floatGradient = useFloat ? new float[dimension] : null;
+    }
 
-      return this;
+    @Override
+    public Void call() {
+      if (floatGradient != null) {
+        Arrays.fill(floatGradient, 0);
+        addGradient(x, startIndex, endIndex, expectation, floatGradient);
+      }
+      else {
+        Arrays.fill(gradient, 0);
+        addGradient(x, startIndex, endIndex, expectation, gradient);
+      }
+      return null;
     }
   }
 
   /**
-   * Task for computing partial gradient
+   * Task for summing the partial gradients of a range of the dimensions
    */
-  class GradientComputeTask extends ComputeTask {
+  private class GradientReduceTask implements Callable<Void> {
 
-    final double[] expectation;
+    private final int startIndex;
+    private final int endIndex;
 
-    public GradientComputeTask(int threadIndex, int startIndex, int length, double[] x) {
-      super(threadIndex, startIndex, length, x);
-      this.expectation = new double[numOutcomes];
+    GradientReduceTask(int startIndex, int endIndex) {
+      this.startIndex = startIndex;
+      this.endIndex   = endIndex;
     }
 
     @Override
-    public GradientComputeTask call() {
-      int ci, oi, ai, vectorIndex;
-      double predValue, logSumOfExps;
-      int empirical;
-
-      // Reset gradientThread
-      Arrays.fill(gradientThread[threadIndex], 0);
-
-      for (ci = startIndex; ci < startIndex + length; ci++) {
-        for (oi = 0; oi < numOutcomes; oi++) {
-          expectation[oi] = 0;
-          for (ai = 0; ai < contexts[ci].length; ai++) {
-            vectorIndex = indexOf(oi, contexts[ci][ai]);
-            predValue = values != null ? values[ci][ai] : 1.0;
-            expectation[oi] += predValue * x[vectorIndex];
+    public Void call() {
+      Arrays.fill(gradient, startIndex, endIndex, 0);
+
+      // the partial gradients are summed in task order
+      for (GradientComputeTask task : gradientTasks) {
+        if (task.floatGradient != null) {
+          for (int i = startIndex; i < endIndex; i++) {
+            gradient[i] += task.floatGradient[i];
           }
         }
-
-        logSumOfExps = ArrayMath.logSumOfExps(expectation);
-
-        for (oi = 0; oi < numOutcomes; oi++) {
-          expectation[oi] = Math.exp(expectation[oi] - logSumOfExps);
-        }
-
-        for (oi = 0; oi < numOutcomes; oi++) {
-          empirical = outcomeList[ci] == oi ? 1 : 0;
-          for (ai = 0; ai < contexts[ci].length; ai++) {
-            vectorIndex = indexOf(oi, contexts[ci][ai]);
-            predValue = values != null ? values[ci][ai] : 1.0;
-            gradientThread[threadIndex][vectorIndex] +=
-                predValue * (expectation[oi] - empirical) * numTimesEventsSeen[ci];
+        else {
+          for (int i = startIndex; i < endIndex; i++) {
+            gradient[i] += task.gradient[i];
           }
         }
       }
-
-      return this;
+      return null;
     }
   }
 }
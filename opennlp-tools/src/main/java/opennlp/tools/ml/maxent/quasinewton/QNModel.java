@@ -17,6 +17,8 @@
 
 package opennlp.tools.ml.maxent.quasinewton;
 
+import java.util.Arrays;
+
 import opennlp.tools.ml.ArrayMath;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.Context;
@@ -62,6 +64,9 @@ public class QNModel extends AbstractModel {
    */
   private double[] eval(String[] context, float[] values, double[] probs) {
 
+    // the probs array might be reused by the caller
+    Arrays.fill(probs, 0);
+
     for (int ci = 0; ci < context.length; ci++) {
       Context pred = getPredIndex(context[ci]);
 
@@ -85,6 +90,35 @@ public class QNModel extends AbstractModel {
     return probs;
   }
 
+  /**
+   * Evaluates a batch of contexts. The parameters of the predicates of all contexts
+   * are looked up once for the whole batch, see {@link #lookupParameters(String[][], int[])},
+   * before the contexts are scored.
+   */
+  @Override
+  public double[][] eval(String[][] contexts, double[][] probs) {
+    int[] offsets = new int[contexts.length + 1];
+    Context[] params = lookupParameters(contexts, offsets);
+
+    for (int i = 0; i < contexts.length; i++) {
+      eval(params, offsets[i], offsets[i + 1], probs[i]);
+    }
+
+    return probs;
+  }
+
+  @Override
+  protected double[] eval(Context[] params, int from, int to, double[] probs) {
+    Arrays.fill(probs, 0);
+    ArrayMath.sumFeatures(params, from, to, probs);
+
+    double logSumExp = ArrayMath.logSumOfExps(probs);
+    for (int oi = 0; oi < outcomeNames.length; oi++) {
+      probs[oi] = Math.exp(probs[oi] - logSumExp);
+    }
+    return probs;
+  }
+
   /**
    * Model evaluation which should be used during training to report model accuracy.
    * @param context
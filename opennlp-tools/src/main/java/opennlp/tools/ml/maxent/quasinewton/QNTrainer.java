@@ -19,6 +19,7 @@ package opennlp.tools.ml.maxent.quasinewton;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -40,6 +41,10 @@ public class QNTrainer extends AbstractEventTrainer {
   public static final String THREADS_PARAM = "Threads";
   public static final int THREADS_DEFAULT  = 1;
 
+  // Accumulate the partial gradients of the threads in float precision
+  public static final String FLOAT_GRADIENT_PARAM = "FloatGradient";
+  public static final boolean FLOAT_GRADIENT_DEFAULT = false;
+
   public static final String L1COST_PARAM   = "L1Cost";
   public static final double L1COST_DEFAULT = 0.1;
 
@@ -57,6 +62,8 @@ public class QNTrainer extends AbstractEventTrainer {
   // Number of threads
   private int threads;
 
+  private boolean floatGradient;
+
   // L1-regularization cost
   private double l1Cost;
 
@@ -92,6 +99,7 @@ public class QNTrainer extends AbstractEventTrainer {
     this.m          = m < 0 ? M_DEFAULT : m;
     this.maxFctEval = maxFctEval < 0 ? MAX_FCT_EVAL_DEFAULT : maxFctEval;
     this.threads    = THREADS_DEFAULT;
+    this.floatGradient = FLOAT_GRADIENT_DEFAULT;
     this.l1Cost     = L1COST_DEFAULT;
     this.l2Cost     = L2COST_DEFAULT;
   }
@@ -106,6 +114,8 @@ public class QNTrainer extends AbstractEventTrainer {
     this.m = trainingParameters.getIntParameter(M_PARAM, M_DEFAULT);
     this.maxFctEval = trainingParameters.getIntParameter(MAX_FCT_EVAL_PARAM, MAX_FCT_EVAL_DEFAULT);
     this.threads = trainingParameters.getIntParameter(THREADS_PARAM, THREADS_DEFAULT);
+    this.floatGradient = trainingParameters.getBooleanParameter(FLOAT_GRADIENT_PARAM,
+        FLOAT_GRADIENT_DEFAULT);
     this.l1Cost = trainingParameters.getDoubleParameter(L1COST_PARAM, L1COST_DEFAULT);
     this.l2Cost = trainingParameters.getDoubleParameter(L2COST_PARAM, L2COST_DEFAULT);
   }
@@ -183,14 +193,22 @@ public class QNTrainer extends AbstractEventTrainer {
       objectiveFunction = new NegLogLikelihood(indexer);
     } else {
       System.out.println("Computing model parameters in " + threads + " threads ...");
-      objectiveFunction = new ParallelNegLogLikelihood(indexer, threads);
+      objectiveFunction = new ParallelNegLogLikelihood(indexer, threads, floatGradient);
     }
 
     QNMinimizer minimizer = new QNMinimizer(
         l1Cost, l2Cost, iterations, m, maxFctEval, printMessages);
     minimizer.setEvaluator(new ModelEvaluator(indexer));
 
-    double[] parameters = minimizer.minimize(objectiveFunction);
+    double[] parameters;
+    try {
+      parameters = minimizer.minimize(objectiveFunction);
+    }
+    finally {
+      if (objectiveFunction instanceof ParallelNegLogLikelihood) {
+        ((ParallelNegLogLikelihood) objectiveFunction).close();
+      }
+    }
 
     // Construct model with trained parameters
     String[] predLabels = indexer.getPredLabels();
@@ -232,30 +250,24 @@ public class QNTrainer extends AbstractEventTrainer {
      */
     @Override
     public double evaluate(double[] parameters) {
-      int[][] contexts  = indexer.getContexts();
-      float[][] values  = indexer.getValues();
-      int[] nEventsSeen = indexer.getNumTimesEventsSeen();
-      int[] outcomeList = indexer.getOutcomeList();
       int nOutcomes     = indexer.getOutcomeLabels().length;
       int nPredLabels   = indexer.getPredLabels().length;
 
-      int nCorrect     = 0;
-      int nTotalEvents = 0;
+      int[] nCorrect     = new int[1];
+      int[] nTotalEvents = new int[1];
 
-      for (int ei = 0; ei < contexts.length; ei++) {
-        int[] context  = contexts[ei];
-        float[] value  = values == null ? null : values[ei];
-
-        double[] probs = new double[nOutcomes];
+      double[] probs = new double[nOutcomes];
+      indexer.forEachEvent((ei, context, value, outcomeIndex, nEventsSeen) -> {
+        Arrays.fill(probs, 0);
         QNModel.eval(context, value, probs, nOutcomes, nPredLabels, parameters);
         int outcome = ArrayMath.argmax(probs);
-        if (outcome == outcomeList[ei]) {
-          nCorrect += nEventsSeen[ei];
+        if (outcome == outcomeIndex) {
+          nCorrect[0] += nEventsSeen;
         }
-        nTotalEvents += nEventsSeen[ei];
-      }
+        nTotalEvents[0] += nEventsSeen;
+      });
 
-      return (double) nCorrect / nTotalEvents;
+      return (double) nCorrect[0] / nTotalEvents[0];
     }
   }
 }
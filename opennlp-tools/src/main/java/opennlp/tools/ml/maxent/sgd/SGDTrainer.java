@@ -0,0 +1,847 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.maxent.sgd;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.ParallelTasks;
+import opennlp.tools.ml.maxent.GISModel;
+import opennlp.tools.ml.model.Context;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.IndexedEventConsumer;
+import opennlp.tools.util.InsufficientTrainingDataException;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Maxent model trainer using mini-batch stochastic gradient descent with AdaGrad
+ * or plain SGD updates.
+ * <p>
+ * The events are streamed from the event stream in every epoch and are not indexed,
+ * only the parameters and a few counters per predicate are kept in memory. The predicates
+ * and outcomes get their ids when they are seen first. If the cutoff is larger than one
+ * the predicates are counted in an additional pass over the events. The stream is reset
+ * before each pass and the events are shuffled within a window of
+ * {@link #SHUFFLE_BUFFER_SIZE_PARAM} events.
+ * <p>
+ * The gradient of a mini-batch is sparse, only the predicates of the events in the batch
+ * are updated. The L2 penalty of the steps in which a predicate is not updated is applied
+ * lazily, when the predicate occurs the next time and at the end of each epoch. With
+ * multiple threads the events of a batch are split between the threads, each computes the
+ * gradient of its share and the shares are summed in thread order.
+ * <p>
+ * The trained model is a {@link GISModel}, it contains only the non-zero parameters.
+ */
+public class SGDTrainer extends AbstractTrainer implements EventTrainer {
+
+  public static final String MAXENT_SGD_VALUE = "MAXENT_SGD";
+
+  public static final String UPDATER_PARAM = "Updater";
+  public static final String UPDATER_ADAGRAD_VALUE = "AdaGrad";
+  public static final String UPDATER_SGD_VALUE = "SGD";
+
+  /**
+   * The initial learning rate. With plain SGD it is divided by the square root of the epoch.
+   */
+  public static final String LEARNING_RATE_PARAM = "LearningRate";
+  public static final double LEARNING_RATE_DEFAULT = 0.1;
+
+  public static final String BATCH_SIZE_PARAM = "BatchSize";
+  public static final int BATCH_SIZE_DEFAULT = 32;
+
+  public static final String L2COST_PARAM = "L2Cost";
+  public static final double L2COST_DEFAULT = 0;
+
+  public static final String SHUFFLE_BUFFER_SIZE_PARAM = "ShuffleBufferSize";
+  public static final int SHUFFLE_BUFFER_SIZE_DEFAULT = 10000;
+
+  public static final String SEED_PARAM = "Seed";
+  public static final int SEED_DEFAULT = 1;
+
+  /**
+   * Training stops when the log-likelihood of an epoch changes less than this
+   * fraction compared to the previous epoch.
+   */
+  public static final String TOLERANCE_PARAM = "Tolerance";
+  public static final double TOLERANCE_DEFAULT = 0.0001;
+
+  private static final double EPSILON = 1e-8;
+
+  private boolean adaGrad;
+  private double learningRate;
+  private int batchSize;
+  private double l2Cost;
+  private int shuffleBufferSize;
+  private int seed;
+  private double tolerance;
+  private int threads;
+
+  // the learning rate of the current epoch for plain SGD
+  private double epochRate;
+
+  private int numPreds;
+  private int numOutcomes;
+
+  // the rows can be shorter than the number of outcomes, missing parameters are zero
+  private double[][] params = new double[0][];
+  // the sums of the squared gradients for AdaGrad
+  private double[][] squaredGradients = new double[0][];
+  // the step up to which the L2 penalty was applied to the predicate
+  private int[] regularizedStep = new int[0];
+  private int step;
+
+  public SGDTrainer() {
+  }
+
+  @Override
+  public void init(TrainingParameters trainingParameters, Map<String, String> reportMap) {
+    super.init(trainingParameters, reportMap);
+
+    String updater = trainingParameters.getStringParameter(UPDATER_PARAM, UPDATER_ADAGRAD_VALUE);
+    if (UPDATER_ADAGRAD_VALUE.equals(updater)) {
+      adaGrad = true;
+    }
+    else if (UPDATER_SGD_VALUE.equals(updater)) {
+      adaGrad = false;
+    }
+    else {
+      throw new IllegalArgumentException("Unknown updater: " + updater);
+    }
+
+    learningRate = trainingParameters.getDoubleParameter(LEARNING_RATE_PARAM, LEARNING_RATE_DEFAULT);
+    batchSize = trainingParameters.getIntParameter(BATCH_SIZE_PARAM, BATCH_SIZE_DEFAULT);
+    l2Cost = trainingParameters.getDoubleParameter(L2COST_PARAM, L2COST_DEFAULT);
+    shuffleBufferSize = trainingParameters.getIntParameter(SHUFFLE_BUFFER_SIZE_PARAM,
+        SHUFFLE_BUFFER_SIZE_DEFAULT);
+    seed = trainingParameters.getIntParameter(SEED_PARAM, SEED_DEFAULT);
+    tolerance = trainingParameters.getDoubleParameter(TOLERANCE_PARAM, TOLERANCE_DEFAULT);
+    threads = trainingParameters.getIntParameter(TrainingParameters.THREADS_PARAM, 1);
+  }
+
+  @Override
+  public void validate() {
+    super.validate();
+
+    if (learningRate <= 0) {
+      throw new IllegalArgumentException("Learning rate must be > 0");
+    }
+
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be >= 1");
+    }
+
+    if (l2Cost < 0) {
+      throw new IllegalArgumentException("Regularization costs must be >= 0");
+    }
+
+    if (shuffleBufferSize < 1) {
+      throw new IllegalArgumentException("Shuffle buffer size must be >= 1");
+    }
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads must be >= 1");
+    }
+  }
+
+  @Override
+  public GISModel train(ObjectStream<Event> events) throws IOException {
+    validate();
+
+    StreamEventSource source = new StreamEventSource(events, getCutoff());
+    GISModel model = train(source);
+    addToReport(AbstractTrainer.TRAINER_TYPE_PARAM, EventTrainer.EVENT_VALUE);
+    return model;
+  }
+
+  @Override
+  public GISModel train(DataIndexer indexer) throws IOException {
+    validate();
+
+    GISModel model = train(new IndexedEventSource(indexer));
+    addToReport(AbstractTrainer.TRAINER_TYPE_PARAM, EventTrainer.EVENT_VALUE);
+    return model;
+  }
+
+  private GISModel train(EventSource source) throws IOException {
+    int iterations = getIterations();
+
+    display("Training maxent model with " + (adaGrad ? UPDATER_ADAGRAD_VALUE : UPDATER_SGD_VALUE)
+        + ", batch size " + batchSize + " and " + threads + " threads\n");
+
+    numPreds = 0;
+    numOutcomes = 0;
+    params = new double[0][];
+    squaredGradients = new double[0][];
+    regularizedStep = new int[0];
+    step = 0;
+
+    Batch batch = new Batch();
+
+    List<GradientTask> tasks = new ArrayList<>(threads);
+    for (int i = 0; i < threads; i++) {
+      tasks.add(new GradientTask(batch, i, threads));
+    }
+
+    ExecutorService executor = null;
+    if (threads > 1) {
+      executor = Executors.newFixedThreadPool(threads - 1, runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.ml.maxent.sgd.SGDTrainer.train()");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    try {
+      double prevLL = 0;
+      display("Performing " + iterations + " iterations.\n");
+      for (int epoch = 1; epoch <= iterations; epoch++) {
+        epochRate = learningRate / Math.sqrt(epoch);
+
+        source.startEpoch(epoch);
+
+        double loglikelihood = 0;
+        long numEvents = 0;
+        long numCorrect = 0;
+
+        while (source.read(batch)) {
+          if (batch.size == batchSize || !source.hasNext()) {
+            // the parameters must be up to date before the batch is evaluated
+            for (int slot = 0; slot < batch.numSlots; slot++) {
+              regularize(batch.slotPreds[slot]);
+              growRow(batch.slotPreds[slot]);
+            }
+
+            ParallelTasks.invokeAll(executor, tasks);
+
+            for (GradientTask task : tasks) {
+              loglikelihood += task.loglikelihood;
+              numEvents += task.numEvents;
+              numCorrect += task.numCorrect;
+            }
+
+            update(batch, tasks);
+            batch.clear();
+          }
+        }
+
+        if (numOutcomes < 2) {
+          throw new InsufficientTrainingDataException("Training data must contain more than one outcome");
+        }
+
+        // bring all parameters up to date for the next epoch and the model
+        for (int pi = 0; pi < numPreds; pi++) {
+          regularize(pi);
+        }
+
+        if (epoch < 10) {
+          display("  " + epoch + ":  ");
+        } else if (epoch < 100) {
+          display(" " + epoch + ":  ");
+        } else {
+          display(epoch + ":  ");
+        }
+        display("loglikelihood=" + loglikelihood + "\t" + ((double) numCorrect / numEvents) + "\n");
+
+        if (epoch > 1 && Math.abs(loglikelihood - prevLL) < tolerance * Math.abs(prevLL)) {
+          break;
+        }
+        prevLL = loglikelihood;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
+      }
+      source.close();
+    }
+
+    return createModel(source.getPredLabels(), source.getOutcomeLabels());
+  }
+
+  private GISModel createModel(String[] predLabels, String[] outcomeLabels) {
+    List<String> modelPreds = new ArrayList<>();
+    List<Context> modelParams = new ArrayList<>();
+
+    for (int pi = 0; pi < numPreds; pi++) {
+      double[] row = params[pi];
+
+      int active = 0;
+      for (double param : row) {
+        if (param != 0) {
+          active++;
+        }
+      }
+
+      if (active > 0) {
+        int[] outcomes = new int[active];
+        double[] parameters = new double[active];
+        for (int oi = 0, ai = 0; oi < row.length; oi++) {
+          if (row[oi] != 0) {
+            outcomes[ai] = oi;
+            parameters[ai++] = row[oi];
+          }
+        }
+        modelPreds.add(predLabels[pi]);
+        modelParams.add(new Context(outcomes, parameters));
+      }
+    }
+
+    return new GISModel(modelParams.toArray(new Context[modelParams.size()]),
+        modelPreds.toArray(new String[modelPreds.size()]), outcomeLabels);
+  }
+
+  /**
+   * Applies the L2 penalty of the steps since the last update of the predicate.
+   */
+  private void regularize(int pred) {
+    int skipped = step - regularizedStep[pred];
+    regularizedStep[pred] = step;
+
+    if (l2Cost == 0 || skipped == 0) {
+      return;
+    }
+
+    double[] row = params[pred];
+    for (int oi = 0; oi < row.length; oi++) {
+      if (row[oi] != 0) {
+        double rate = adaGrad
+            ? learningRate / (Math.sqrt(squaredGradients[pred][oi]) + EPSILON) : epochRate;
+        double decay = 1 - rate * l2Cost;
+        row[oi] = decay > 0 ? row[oi] * Math.pow(decay, skipped) : 0;
+      }
+    }
+  }
+
+  private void update(Batch batch, List<GradientTask> tasks) {
+    double[] gradient = tasks.get(0).gradient;
+
+    long weight = 0;
+    for (int ei = 0; ei < batch.size; ei++) {
+      weight += batch.counts[ei];
+    }
+
+    for (int slot = 0; slot < batch.numSlots; slot++) {
+      int pred = batch.slotPreds[slot];
+      double[] row = params[pred];
+      double[] squares = squaredGradients[pred];
+
+      int base = slot * numOutcomes;
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        double g = gradient[base + oi];
+        for (int i = 1; i < tasks.size(); i++) {
+          g += tasks.get(i).gradient[base + oi];
+        }
+        g /= weight;
+
+        if (g != 0) {
+          if (adaGrad) {
+            squares[oi] += g * g;
+            row[oi] -= learningRate * g / (Math.sqrt(squares[oi]) + EPSILON);
+          }
+          else {
+            row[oi] -= epochRate * g;
+          }
+        }
+      }
+    }
+
+    step++;
+  }
+
+  private int internPred() {
+    int pred = numPreds++;
+    if (pred == params.length) {
+      int capacity = Math.max(16, params.length + (params.length >> 1));
+      params = Arrays.copyOf(params, capacity);
+      squaredGradients = Arrays.copyOf(squaredGradients, capacity);
+      regularizedStep = Arrays.copyOf(regularizedStep, capacity);
+    }
+    params[pred] = new double[numOutcomes];
+    if (adaGrad) {
+      squaredGradients[pred] = new double[numOutcomes];
+    }
+    // a new predicate has no penalty to catch up
+    regularizedStep[pred] = step;
+    return pred;
+  }
+
+  private void growRow(int pred) {
+    if (params[pred].length < numOutcomes) {
+      params[pred] = Arrays.copyOf(params[pred], numOutcomes);
+      if (adaGrad) {
+        squaredGradients[pred] = Arrays.copyOf(squaredGradients[pred], numOutcomes);
+      }
+    }
+  }
+
+  /**
+   * The events of a mini-batch. The predicates are numbered per batch, the slot of a
+   * predicate is the index of its gradient row.
+   */
+  private class Batch {
+
+    private int size;
+    private int[][] contexts = new int[batchSize][];
+    private int[] contextLengths = new int[batchSize];
+    private float[][] values = new float[batchSize][];
+    private int[] outcomes = new int[batchSize];
+    private int[] counts = new int[batchSize];
+
+    private int numSlots;
+    private int[] slotPreds = new int[16];
+    private int[] predSlots = new int[0];
+
+    private void add(int[] context, int length, float[] contextValues, int outcome, int count) {
+      if (contexts[size] == null || contexts[size].length < length) {
+        contexts[size] = new int[Math.max(length, 8)];
+      }
+
+      int[] slots = contexts[size];
+      for (int i = 0; i < length; i++) {
+        slots[i] = slot(context[i]);
+      }
+
+      contextLengths[size] = length;
+      values[size] = contextValues;
+      outcomes[size] = outcome;
+      counts[size] = count;
+      size++;
+    }
+
+    private int slot(int pred) {
+      if (pred >= predSlots.length) {
+        int oldLength = predSlots.length;
+        predSlots = Arrays.copyOf(predSlots, Math.max(pred + 1, oldLength + (oldLength >> 1)));
+        Arrays.fill(predSlots, oldLength, predSlots.length, -1);
+      }
+
+      int slot = predSlots[pred];
+      if (slot == -1) {
+        slot = numSlots++;
+        if (slot == slotPreds.length) {
+          slotPreds = Arrays.copyOf(slotPreds, slotPreds.length * 2);
+        }
+        slotPreds[slot] = pred;
+        predSlots[pred] = slot;
+      }
+      return slot;
+    }
+
+    private void clear() {
+      for (int slot = 0; slot < numSlots; slot++) {
+        predSlots[slotPreds[slot]] = -1;
+      }
+      numSlots = 0;
+      Arrays.fill(values, 0, size, null);
+      size = 0;
+    }
+  }
+
+  /**
+   * Computes the gradient of the log-likelihood for a share of the events of a batch.
+   */
+  private class GradientTask implements Callable<Void> {
+
+    private final Batch batch;
+    private final int share;
+    private final int shares;
+
+    private double[] gradient = new double[0];
+    private double[] probs = new double[0];
+
+    private double loglikelihood;
+    private long numEvents;
+    private long numCorrect;
+
+    GradientTask(Batch batch, int share, int shares) {
+      this.batch = batch;
+      this.share = share;
+      this.shares = shares;
+    }
+
+    public Void call() {
+      int length = batch.numSlots * numOutcomes;
+      if (gradient.length < length) {
+        gradient = new double[Math.max(length, gradient.length * 2)];
+      }
+      Arrays.fill(gradient, 0, length, 0);
+
+      if (probs.length != numOutcomes) {
+        probs = new double[numOutcomes];
+      }
+
+      loglikelihood = 0;
+      numEvents = 0;
+      numCorrect = 0;
+
+      int from = (int) ((long) batch.size * share / shares);
+      int to = (int) ((long) batch.size * (share + 1) / shares);
+
+      for (int ei = from; ei < to; ei++) {
+        int[] context = batch.contexts[ei];
+        int contextLength = batch.contextLengths[ei];
+        float[] values = batch.values[ei];
+        int outcome = batch.outcomes[ei];
+        int count = batch.counts[ei];
+
+        Arrays.fill(probs, 0);
+        for (int ci = 0; ci < contextLength; ci++) {
+          double value = values != null ? values[ci] : 1;
+          double[] row = params[batch.slotPreds[context[ci]]];
+          for (int oi = 0; oi < numOutcomes; oi++) {
+            probs[oi] += value * row[oi];
+          }
+        }
+
+        double max = probs[0];
+        int best = 0;
+        for (int oi = 1; oi < numOutcomes; oi++) {
+          if (probs[oi] > max) {
+            max = probs[oi];
+            best = oi;
+          }
+        }
+
+        double sum = 0;
+        for (int oi = 0; oi < numOutcomes; oi++) {
+          probs[oi] = Math.exp(probs[oi] - max);
+          sum += probs[oi];
+        }
+        for (int oi = 0; oi < numOutcomes; oi++) {
+          probs[oi] /= sum;
+        }
+
+        loglikelihood += Math.log(probs[outcome]) * count;
+        numEvents += count;
+        if (best == outcome) {
+          numCorrect += count;
+        }
+
+        // the gradient of the negative log-likelihood
+        probs[outcome] -= 1;
+        for (int ci = 0; ci < contextLength; ci++) {
+          double value = (values != null ? values[ci] : 1) * count;
+          int base = context[ci] * numOutcomes;
+          for (int oi = 0; oi < numOutcomes; oi++) {
+            gradient[base + oi] += value * probs[oi];
+          }
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Supplies the events of one epoch after the other.
+   */
+  private interface EventSource {
+
+    void startEpoch(int epoch) throws IOException;
+
+    /**
+     * Adds the next event to the batch.
+     *
+     * @return false if the epoch has no more events
+     */
+    boolean read(Batch batch) throws IOException;
+
+    boolean hasNext();
+
+    String[] getPredLabels();
+
+    String[] getOutcomeLabels();
+
+    void close() throws IOException;
+  }
+
+  /**
+   * Streams the events and assigns the predicate and outcome ids.
+   */
+  private class StreamEventSource implements EventSource {
+
+    private final ObjectStream<Event> events;
+    private final int cutoff;
+
+    private final Map<String, Integer> predIds = new HashMap<>();
+    private final List<String> predLabels = new ArrayList<>();
+    private final Map<String, Integer> outcomeIds = new HashMap<>();
+    private final List<String> outcomeLabels = new ArrayList<>();
+
+    // the predicates which pass the cutoff, null if all do
+    private Map<String, Integer> predCounts;
+
+    private Event[] buffer;
+    private int buffered;
+    private boolean exhausted;
+    private Random random;
+
+    private int[] context = new int[16];
+    private float[] contextValues = new float[16];
+
+    StreamEventSource(ObjectStream<Event> events, int cutoff) {
+      this.events = events;
+      this.cutoff = cutoff;
+    }
+
+    @Override
+    public void startEpoch(int epoch) throws IOException {
+      if (epoch == 1 && cutoff > 1) {
+        display("Counting predicates... ");
+        predCounts = new HashMap<>();
+        Event event;
+        while ((event = events.read()) != null) {
+          for (String pred : event.getContext()) {
+            predCounts.merge(pred, 1, Integer::sum);
+          }
+        }
+        predCounts.values().removeIf(count -> count < cutoff);
+        display("done. " + predCounts.size() + " predicates pass the cutoff\n");
+        events.reset();
+      }
+      else if (epoch > 1) {
+        events.reset();
+      }
+
+      random = new Random(seed + epoch);
+      buffer = new Event[shuffleBufferSize];
+      buffered = 0;
+      exhausted = false;
+      fill();
+    }
+
+    private void fill() throws IOException {
+      while (!exhausted && buffered < buffer.length) {
+        Event event = events.read();
+        if (event != null) {
+          buffer[buffered++] = event;
+        }
+        else {
+          exhausted = true;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return buffered > 0;
+    }
+
+    @Override
+    public boolean read(Batch batch) throws IOException {
+      if (buffered == 0) {
+        return false;
+      }
+
+      // a random event of the window is replaced with the next one of the stream
+      int index = random.nextInt(buffered);
+      Event event = buffer[index];
+      buffer[index] = buffer[--buffered];
+      buffer[buffered] = null;
+      fill();
+
+      String[] preds = event.getContext();
+      float[] values = event.getValues();
+      if (context.length < preds.length) {
+        context = new int[preds.length];
+        contextValues = new float[preds.length];
+      }
+
+      int length = 0;
+      for (int ci = 0; ci < preds.length; ci++) {
+        Integer pred = predIds.get(preds[ci]);
+        if (pred == null) {
+          if (predCounts != null && !predCounts.containsKey(preds[ci])) {
+            continue;
+          }
+          pred = internPred();
+          predIds.put(preds[ci], pred);
+          predLabels.add(preds[ci]);
+        }
+        if (values != null) {
+          contextValues[length] = values[ci];
+        }
+        context[length++] = pred;
+      }
+
+      Integer outcome = outcomeIds.get(event.getOutcome());
+      if (outcome == null) {
+        outcome = numOutcomes++;
+        outcomeIds.put(event.getOutcome(), outcome);
+        outcomeLabels.add(event.getOutcome());
+      }
+
+      batch.add(context, length, values != null ? Arrays.copyOf(contextValues, length) : null,
+          outcome, 1);
+      return true;
+    }
+
+    @Override
+    public String[] getPredLabels() {
+      return predLabels.toArray(new String[predLabels.size()]);
+    }
+
+    @Override
+    public String[] getOutcomeLabels() {
+      return outcomeLabels.toArray(new String[outcomeLabels.size()]);
+    }
+
+    @Override
+    public void close() {
+      buffer = null;
+      predCounts = null;
+    }
+  }
+
+  /**
+   * Supplies the events of a data indexer in a new random order in every epoch. The events
+   * are visited with {@link DataIndexer#forEachEvent(int, int, IndexedEventConsumer)} in
+   * blocks of {@link #SHUFFLE_BUFFER_SIZE_PARAM} events. The order of the blocks and the
+   * order of the events within each block are shuffled, and only the current block is held
+   * in memory, so the events of an indexer which keeps them on disk are not loaded into memory.
+   */
+  private class IndexedEventSource implements EventSource {
+
+    private final DataIndexer indexer;
+    private final int numEvents;
+    private final int[] blocks;
+    private int nextBlock;
+    private Random random;
+
+    // the events of the current block, the arrays are reused for the following blocks
+    private final int[][] contexts;
+    private final int[] contextLengths;
+    private final float[][] values;
+    private final int[] outcomes;
+    private final int[] counts;
+    private final int[] order;
+    private int size;
+    private int next;
+
+    IndexedEventSource(DataIndexer indexer) {
+      this.indexer = indexer;
+      numEvents = indexer.getNumUniqueEvents();
+
+      blocks = new int[(numEvents + shuffleBufferSize - 1) / shuffleBufferSize];
+      for (int i = 0; i < blocks.length; i++) {
+        blocks[i] = i;
+      }
+
+      int blockSize = Math.min(shuffleBufferSize, numEvents);
+      contexts = new int[blockSize][];
+      contextLengths = new int[blockSize];
+      values = new float[blockSize][];
+      outcomes = new int[blockSize];
+      counts = new int[blockSize];
+      order = new int[blockSize];
+    }
+
+    @Override
+    public void startEpoch(int epoch) {
+      if (epoch == 1) {
+        numOutcomes = indexer.getOutcomeLabels().length;
+        for (int i = 0; i < indexer.getPredLabels().length; i++) {
+          internPred();
+        }
+      }
+
+      random = new Random(seed + epoch);
+      shuffle(blocks, blocks.length);
+      nextBlock = 0;
+      size = 0;
+      next = 0;
+    }
+
+    private void shuffle(int[] array, int length) {
+      for (int i = length - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+      }
+    }
+
+    private void readBlock(int block) {
+      int fromIndex = block * shuffleBufferSize;
+      int toIndex = Math.min(fromIndex + shuffleBufferSize, numEvents);
+
+      indexer.forEachEvent(fromIndex, toIndex, (ei, context, eventValues, outcome, numTimesSeen) -> {
+        int i = ei - fromIndex;
+        if (contexts[i] == null || contexts[i].length < context.length) {
+          contexts[i] = new int[context.length];
+        }
+        System.arraycopy(context, 0, contexts[i], 0, context.length);
+        contextLengths[i] = context.length;
+        values[i] = eventValues != null ? eventValues.clone() : null;
+        outcomes[i] = outcome;
+        counts[i] = numTimesSeen;
+      });
+
+      size = toIndex - fromIndex;
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      shuffle(order, size);
+      next = 0;
+    }
+
+    @Override
+    public boolean read(Batch batch) {
+      if (next == size) {
+        if (nextBlock == blocks.length) {
+          return false;
+        }
+        readBlock(blocks[nextBlock++]);
+      }
+
+      int i = order[next++];
+      batch.add(contexts[i], contextLengths[i], values[i], outcomes[i], counts[i]);
+      return true;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < size || nextBlock < blocks.length;
+    }
+
+    @Override
+    public String[] getPredLabels() {
+      return indexer.getPredLabels();
+    }
+
+    @Override
+    public String[] getOutcomeLabels() {
+      return indexer.getOutcomeLabels();
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -27,6 +27,9 @@ import opennlp.tools.ml.ArrayMath;
 
 public abstract class AbstractModel implements MaxentModel {
 
+  // Marks unknown predicates in the lookups of a batch
+  private static final Context UNKNOWN_PREDICATE = new Context(new int[0], new double[0]);
+
   /** Mapping between predicates/contexts and an integer representing them. */
   protected Map<String, Context> pmap;
   /** The names of the outcomes. */
@@ -41,6 +44,8 @@ public abstract class AbstractModel implements MaxentModel {
   /** The type of the model. */
   protected ModelType modelType;
 
+  private volatile HashedPredicates hashedPredicates;
+
   protected AbstractModel(Context[] params, String[] predLabels,
       Map<String, Context> pmap, String[] outcomeNames) {
     this.pmap = pmap;
@@ -64,6 +69,46 @@ public abstract class AbstractModel implements MaxentModel {
   }
 
 
+  /**
+   * Looks up the parameters of the predicates of a batch of contexts. The parameters
+   * of all contexts are stored one after the other in the returned array, the parameters
+   * of context i start at offsets[i] and end before offsets[i + 1]. Unknown predicates
+   * are stored as null.
+   * <p>
+   * The contexts of a batch usually share many predicates, each distinct predicate is
+   * looked up only once in the parameters of the model. The lookups of the batch are kept
+   * in a small map, which is cheaper to probe than the large map of the model.
+   *
+   * @param contexts the contexts of the batch
+   * @param offsets the array the offsets are written to, must have the length contexts.length + 1
+   *
+   * @return the parameters of the predicates
+   */
+  protected Context[] lookupParameters(String[][] contexts, int[] offsets) {
+    int length = 0;
+    for (int i = 0; i < contexts.length; i++) {
+      offsets[i] = length;
+      length += contexts[i].length;
+    }
+    offsets[contexts.length] = length;
+
+    Map<String, Context> batchParams = new HashMap<>();
+    Context[] params = new Context[length];
+    for (int i = 0; i < contexts.length; i++) {
+      String[] context = contexts[i];
+      for (int ci = 0, offset = offsets[i]; ci < context.length; ci++) {
+        Context param = batchParams.get(context[ci]);
+        if (param == null) {
+          param = pmap.getOrDefault(context[ci], UNKNOWN_PREDICATE);
+          batchParams.put(context[ci], param);
+        }
+        params[offset + ci] = param != UNKNOWN_PREDICATE ? param : null;
+      }
+    }
+
+    return params;
+  }
+
   /**
    * Return the name of the outcome corresponding to the highest likelihood
    * in the parameter ocs.
@@ -108,6 +153,64 @@ public abstract class AbstractModel implements MaxentModel {
     }
   }
 
+  /**
+   * Evaluates a context which is given as the parameters of its predicates. The
+   * parameters of the context are stored in params from index from to index to
+   * (exclusive), unknown predicates are stored as null. All context values are one.
+   * <p>
+   * This is used to evaluate hashed features, see {@link #eval(HashedFeatures, double[])},
+   * and the default implementation throws an {@link UnsupportedOperationException}.
+   *
+   * @param params the parameters of the predicates
+   * @param from the index of the first parameter of the context
+   * @param to the index after the last parameter of the context
+   * @param probs the array the probabilities of the outcomes are written to
+   *
+   * @return the probabilities of the outcomes
+   */
+  protected double[] eval(Context[] params, int from, int to, double[] probs) {
+    throw new UnsupportedOperationException("Evaluation of parameters is not supported by "
+        + getClass().getName());
+  }
+
+  /**
+   * Evaluates a context which is given as hashed feature ids. The ids are mapped with
+   * a hashed index directly to the parameters of the predicates, which are then evaluated
+   * with {@link #eval(Context[], int, int, double[])}.
+   */
+  @Override
+  public double[] eval(HashedFeatures context, double[] probs) {
+    HashedPredicates predicates = hashedPredicates;
+    if (predicates == null) {
+      predicates = new HashedPredicates(pmap);
+      hashedPredicates = predicates;
+    }
+
+    Context[] params = new Context[context.size];
+    for (int i = 0; i < context.size; i++) {
+      int index = predicates.index.getIndex(context.ids[i]);
+      if (index >= 0) {
+        params[i] = predicates.params[index];
+      }
+    }
+
+    return eval(params, 0, params.length, probs);
+  }
+
+  private static class HashedPredicates {
+    private final Context[] params;
+    private final HashedPredicateIndex index;
+
+    private HashedPredicates(Map<String, Context> pmap) {
+      String[] names = pmap.keySet().toArray(new String[pmap.size()]);
+      params = new Context[names.length];
+      for (int i = 0; i < names.length; i++) {
+        params[i] = pmap.get(names[i]);
+      }
+      index = HashedPredicateIndex.build(names);
+    }
+  }
+
   /**
    * Return the name of an outcome corresponding to an int id.
    *
@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Map;
+
+import opennlp.tools.ml.ArrayMath;
+
+/**
+ * A read-only, compiled form of a maxent, quasi-newton or perceptron {@link AbstractModel}
+ * which is optimized for evaluation.
+ * <p>
+ * The predicates are mapped to row indexes with a minimal perfect hash function
+ * (see {@link PredicateIndex}) and the parameters are stored in one contiguous
+ * array, either as dense matrix with one row of outcome parameters per predicate or,
+ * if most predicates only have parameters for a few outcomes, in compressed sparse
+ * row format. Evaluating a context is then a lookup of the rows followed by summing up
+ * the parameters of the rows, without boxing, {@link Context} objects or hash map entries.
+ * <p>
+ * The compiled model computes the same probabilities as the model it was compiled from.
+ * A compiled model can not be serialized, it is intended to be created from a loaded model
+ * before it is used for evaluation. Instances are immutable and thread-safe.
+ */
+public final class CompiledModel implements MaxentModel {
+
+  /**
+   * The memory layout of the model parameters.
+   */
+  public enum Layout {
+
+    /**
+     * One row with a parameter for each outcome per predicate.
+     */
+    DENSE,
+
+    /**
+     * Only the parameters of the active outcomes are stored, in compressed sparse row format.
+     */
+    SPARSE
+  }
+
+  // the largest array size which can be allocated
+  private static final int MAX_PARAMETERS = Integer.MAX_VALUE - 8;
+
+  private final AbstractModel.ModelType modelType;
+  private final String[] outcomeNames;
+  private final int numOutcomes;
+
+  private final PredicateIndex predicateIndex;
+  private volatile HashedPredicateIndex hashedPredicateIndex;
+
+  // dense layout: numOutcomes parameters per row
+  private final double[] weights;
+
+  // sparse layout: the parameters of row i are at rowOffsets[i] until rowOffsets[i + 1]
+  private final int[] rowOffsets;
+  private final int[] columns;
+
+  private CompiledModel(AbstractModel.ModelType modelType, String[] outcomeNames,
+      PredicateIndex predicateIndex, double[] weights, int[] rowOffsets, int[] columns) {
+    this.modelType = modelType;
+    this.outcomeNames = outcomeNames;
+    this.numOutcomes = outcomeNames.length;
+    this.predicateIndex = predicateIndex;
+    this.weights = weights;
+    this.rowOffsets = rowOffsets;
+    this.columns = columns;
+  }
+
+  /**
+   * Compiles the model, the layout is chosen based on the number of parameters
+   * which would be stored in each layout.
+   *
+   * @param model the model to compile
+   *
+   * @return the compiled model
+   *
+   * @throws IllegalArgumentException if the model type can not be compiled
+   */
+  public static CompiledModel compile(AbstractModel model) {
+    return compile(model, null);
+  }
+
+  /**
+   * Compiles the model.
+   *
+   * @param model the model to compile
+   * @param layout the layout of the parameters or null to choose it automatically
+   *
+   * @return the compiled model
+   *
+   * @throws IllegalArgumentException if the model type can not be compiled or the model
+   *     has too many parameters for the layout
+   */
+  public static CompiledModel compile(AbstractModel model, Layout layout) {
+
+    AbstractModel.ModelType modelType = checkModelType(model);
+
+    String[] outcomeNames = model.outcomeNames;
+    int numOutcomes = outcomeNames.length;
+
+    String[] predicates = new String[model.pmap.size()];
+    long numParameters = 0;
+    int i = 0;
+    for (Map.Entry<String, Context> entry : model.pmap.entrySet()) {
+      predicates[i++] = entry.getKey();
+      numParameters += entry.getValue().getOutcomes().length;
+    }
+
+    long numDenseParameters = (long) predicates.length * numOutcomes;
+
+    if (layout == null) {
+      // a sparse parameter needs 12 bytes, a dense one 8 bytes
+      layout = 2L * numDenseParameters <= 3L * numParameters && numDenseParameters <= MAX_PARAMETERS
+          ? Layout.DENSE : Layout.SPARSE;
+    }
+
+    if (numParameters > MAX_PARAMETERS
+        || Layout.DENSE.equals(layout) && numDenseParameters > MAX_PARAMETERS) {
+      throw new IllegalArgumentException("Model has too many parameters for the " + layout
+          + " layout of a compiled model!");
+    }
+
+    PredicateIndex predicateIndex = PredicateIndex.build(predicates);
+
+    if (Layout.DENSE.equals(layout)) {
+      double[] weights = new double[(int) numDenseParameters];
+
+      for (int row = 0; row < predicateIndex.size(); row++) {
+        Context context = model.pmap.get(predicateIndex.getPredicate(row));
+        int[] outcomes = context.getOutcomes();
+        double[] parameters = context.getParameters();
+
+        for (int ai = 0; ai < outcomes.length; ai++) {
+          weights[row * numOutcomes + outcomes[ai]] += parameters[ai];
+        }
+      }
+
+      return new CompiledModel(modelType, outcomeNames, predicateIndex, weights, null, null);
+    }
+    else {
+      int[] rowOffsets = new int[predicates.length + 1];
+      int[] columns = new int[(int) numParameters];
+      double[] weights = new double[(int) numParameters];
+
+      int offset = 0;
+      for (int row = 0; row < predicateIndex.size(); row++) {
+        Context context = model.pmap.get(predicateIndex.getPredicate(row));
+        int[] outcomes = context.getOutcomes();
+        double[] parameters = context.getParameters();
+
+        rowOffsets[row] = offset;
+        System.arraycopy(outcomes, 0, columns, offset, outcomes.length);
+        System.arraycopy(parameters, 0, weights, offset, parameters.length);
+        offset += outcomes.length;
+      }
+      rowOffsets[predicates.length] = offset;
+
+      return new CompiledModel(modelType, outcomeNames, predicateIndex, weights, rowOffsets, columns);
+    }
+  }
+
+  /**
+   * Checks that the evaluation of the model can be done with summed up parameters.
+   *
+   * @return the model type
+   */
+  static AbstractModel.ModelType checkModelType(AbstractModel model) {
+    AbstractModel.ModelType modelType = model.getModelType();
+
+    if (AbstractModel.ModelType.Maxent.equals(modelType)) {
+      if (model.prior != null && !(model.prior instanceof UniformPrior)) {
+        throw new IllegalArgumentException("Only models with a uniform prior can be compiled!");
+      }
+    }
+    else if (!AbstractModel.ModelType.Perceptron.equals(modelType)
+        && !AbstractModel.ModelType.MaxentQn.equals(modelType)) {
+      throw new IllegalArgumentException("Model type can not be compiled: " + modelType);
+    }
+
+    return modelType;
+  }
+
+  /**
+   * @return the layout of the parameters
+   */
+  public Layout getLayout() {
+    return columns == null ? Layout.DENSE : Layout.SPARSE;
+  }
+
+  /**
+   * @return the type of the model this model was compiled from
+   */
+  public AbstractModel.ModelType getModelType() {
+    return modelType;
+  }
+
+  /**
+   * Retrieves the row index of a predicate, which can be passed to
+   * {@link #eval(int[], float[], double[])}.
+   *
+   * @param predicate the predicate
+   *
+   * @return the row index or -1 if the predicate is unknown to the model
+   */
+  public int getPredicateIndex(String predicate) {
+    return predicateIndex.getIndex(predicate);
+  }
+
+  /**
+   * Retrieves the row index of the predicate which consists of the chars from start to end,
+   * without creating a {@link String}.
+   *
+   * @param chars the chars
+   * @param start the index of the first char of the predicate
+   * @param end the index after the last char of the predicate
+   * @param hash the hash code of the predicate, which must be computed like {@link String#hashCode()}
+   *
+   * @return the row index or -1 if the predicate is unknown to the model
+   */
+  public int getPredicateIndex(char[] chars, int start, int end, int hash) {
+    return predicateIndex.getIndex(chars, start, end, hash);
+  }
+
+  /**
+   * @return the number of predicates known to the model
+   */
+  public int getNumPredicates() {
+    return predicateIndex.size();
+  }
+
+  public double[] eval(String[] context) {
+    return eval(context, null, new double[numOutcomes]);
+  }
+
+  public double[] eval(String[] context, double[] probs) {
+    return eval(context, null, probs);
+  }
+
+  public double[] eval(String[] context, float[] values) {
+    return eval(context, values, new double[numOutcomes]);
+  }
+
+  /**
+   * Evaluates a context with the specified context values.
+   *
+   * @param context the predicates which have been observed at the present decision point
+   * @param values the values of the predicates or null if all values are one
+   * @param probs the array the probabilities are written to
+   *
+   * @return the probabilities for the outcomes, which is the passed probs array
+   */
+  public double[] eval(String[] context, float[] values, double[] probs) {
+    initScores(probs);
+
+    for (int ci = 0; ci < context.length; ci++) {
+      int row = predicateIndex.getIndex(context[ci]);
+
+      if (row >= 0) {
+        addRow(row, values != null ? values[ci] : 1, probs);
+      }
+    }
+
+    return normalize(probs);
+  }
+
+  /**
+   * Evaluates a context which is given as row indexes, see {@link #getPredicateIndex(String)}.
+   * Indexes which are negative are ignored.
+   *
+   * @param rows the row indexes of the predicates
+   * @param values the values of the predicates or null if all values are one
+   * @param probs the array the probabilities are written to
+   *
+   * @return the probabilities for the outcomes, which is the passed probs array
+   */
+  public double[] eval(int[] rows, float[] values, double[] probs) {
+    return eval(rows, rows.length, values, probs);
+  }
+
+  /**
+   * Evaluates a context which is given as the first length row indexes of the rows array.
+   * Indexes which are negative are ignored.
+   *
+   * @param rows the row indexes of the predicates
+   * @param length the number of row indexes to evaluate
+   * @param values the values of the predicates or null if all values are one
+   * @param probs the array the probabilities are written to
+   *
+   * @return the probabilities for the outcomes, which is the passed probs array
+   */
+  public double[] eval(int[] rows, int length, float[] values, double[] probs) {
+    initScores(probs);
+
+    for (int ci = 0; ci < length; ci++) {
+      if (rows[ci] >= 0) {
+        addRow(rows[ci], values != null ? values[ci] : 1, probs);
+      }
+    }
+
+    return normalize(probs);
+  }
+
+  /**
+   * Evaluates a context which is given as hashed feature ids, the ids are mapped to
+   * the rows with an additional hash table which is built on first use.
+   */
+  @Override
+  public double[] eval(HashedFeatures context, double[] probs) {
+    HashedPredicateIndex index = hashedPredicateIndex;
+    if (index == null) {
+      String[] predicates = new String[predicateIndex.size()];
+      for (int i = 0; i < predicates.length; i++) {
+        predicates[i] = predicateIndex.getPredicate(i);
+      }
+      index = HashedPredicateIndex.build(predicates);
+      hashedPredicateIndex = index;
+    }
+
+    initScores(probs);
+
+    for (int ci = 0; ci < context.size; ci++) {
+      int row = index.getIndex(context.ids[ci]);
+
+      if (row >= 0) {
+        addRow(row, 1, probs);
+      }
+    }
+
+    return normalize(probs);
+  }
+
+  private void initScores(double[] scores) {
+    initScores(modelType, scores, numOutcomes);
+  }
+
+  /**
+   * Initializes the scores before the parameters are summed up, for maxent models
+   * the scores start with the log of the uniform prior.
+   */
+  static void initScores(AbstractModel.ModelType modelType, double[] scores, int numOutcomes) {
+    if (AbstractModel.ModelType.Maxent.equals(modelType)) {
+      Arrays.fill(scores, 0, numOutcomes, Math.log(1.0 / numOutcomes));
+    }
+    else {
+      Arrays.fill(scores, 0, numOutcomes, 0d);
+    }
+  }
+
+  private void addRow(int row, double value, double[] scores) {
+    if (columns == null) {
+      int offset = row * numOutcomes;
+      for (int oid = 0; oid < numOutcomes; oid++) {
+        scores[oid] += weights[offset + oid] * value;
+      }
+    }
+    else {
+      for (int i = rowOffsets[row], end = rowOffsets[row + 1]; i < end; i++) {
+        scores[columns[i]] += weights[i] * value;
+      }
+    }
+  }
+
+  private double[] normalize(double[] scores) {
+    return normalize(modelType, scores, numOutcomes);
+  }
+
+  /**
+   * Turns the summed up scores into probabilities, like the model type does.
+   */
+  static double[] normalize(AbstractModel.ModelType modelType, double[] scores, int numOutcomes) {
+    switch (modelType) {
+      case MaxentQn:
+        double logSumExp = ArrayMath.logSumOfExps(scores);
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          scores[oid] = Math.exp(scores[oid] - logSumExp);
+        }
+        return scores;
+
+      case Perceptron:
+        double maxScore = 1;
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          if (maxScore < Math.abs(scores[oid]))
+            maxScore = Math.abs(scores[oid]);
+        }
+
+        double perceptronNormal = 0.0;
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          scores[oid] = Math.exp(scores[oid] / maxScore);
+          perceptronNormal += scores[oid];
+        }
+
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          scores[oid] /= perceptronNormal;
+        }
+        return scores;
+
+      default:
+        double normal = 0.0;
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          scores[oid] = Math.exp(scores[oid]);
+          normal += scores[oid];
+        }
+
+        for (int oid = 0; oid < numOutcomes; oid++) {
+          scores[oid] /= normal;
+        }
+        return scores;
+    }
+  }
+
+  public String getBestOutcome(double[] ocs) {
+    return outcomeNames[ArrayMath.argmax(ocs)];
+  }
+
+  public String getAllOutcomes(double[] ocs) {
+    if (ocs.length != outcomeNames.length) {
+      return "The double array sent as a parameter to CompiledModel.getAllOutcomes() " +
+          "must not have been produced by this model.";
+    }
+    else {
+      DecimalFormat df =  new DecimalFormat("0.0000");
+      StringBuilder sb = new StringBuilder(ocs.length * 2);
+      sb.append(outcomeNames[0]).append("[").append(df.format(ocs[0])).append("]");
+      for (int i = 1; i < ocs.length; i++) {
+        sb.append("  ").append(outcomeNames[i]).append("[").append(df.format(ocs[i])).append("]");
+      }
+      return sb.toString();
+    }
+  }
+
+  public String getOutcome(int i) {
+    return outcomeNames[i];
+  }
+
+  public int getIndex(String outcome) {
+    for (int i = 0; i < outcomeNames.length; i++) {
+      if (outcomeNames[i].equals(outcome))
+        return i;
+    }
+    return -1;
+  }
+
+  public int getNumOutcomes() {
+    return numOutcomes;
+  }
+}
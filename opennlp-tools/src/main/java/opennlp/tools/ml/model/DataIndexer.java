@@ -75,6 +75,49 @@ public interface DataIndexer {
    * @return The number of total events indexed.
    */
   int getNumEvents();
+
+  /**
+   * Returns the number of unique events, these are the events passed to
+   * {@link #forEachEvent(int, int, IndexedEventConsumer)}.
+   * @return The number of unique events.
+   */
+  default int getNumUniqueEvents() {
+    return getContexts().length;
+  }
+
+  /**
+   * Passes the unique events from <code>fromIndex</code> (inclusive) to <code>toIndex</code>
+   * (exclusive) in order to the consumer. Trainers which visit the events through this method
+   * instead of the arrays can be trained on indexers which do not hold the events in memory.
+   * <p>
+   * The arrays passed to the consumer must not be modified or retained. Different ranges
+   * can be visited concurrently.
+   *
+   * @param fromIndex the index of the first event
+   * @param toIndex the index after the last event
+   * @param consumer the consumer of the events
+   */
+  default void forEachEvent(int fromIndex, int toIndex, IndexedEventConsumer consumer) {
+    int[][] contexts = getContexts();
+    float[][] values = getValues();
+    int[] outcomeList = getOutcomeList();
+    int[] numTimesEventsSeen = getNumTimesEventsSeen();
+
+    for (int ei = fromIndex; ei < toIndex; ei++) {
+      consumer.accept(ei, contexts[ei], values != null ? values[ei] : null,
+          outcomeList[ei], numTimesEventsSeen[ei]);
+    }
+  }
+
+  /**
+   * Passes all unique events in order to the consumer.
+   *
+   * @param consumer the consumer of the events
+   * @see #forEachEvent(int, int, IndexedEventConsumer)
+   */
+  default void forEachEvent(IndexedEventConsumer consumer) {
+    forEachEvent(0, getNumUniqueEvents(), consumer);
+  }
   
   /**
    * Sets parameters used during the data indexing.
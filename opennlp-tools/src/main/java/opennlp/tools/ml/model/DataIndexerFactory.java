@@ -50,6 +50,14 @@ public class DataIndexerFactory {
         indexer = new OnePassRealValueDataIndexer();
         break;
 
+      case AbstractEventTrainer.DATA_INDEXER_PARALLEL_TWO_PASS_VALUE:
+        indexer = new ParallelTwoPassDataIndexer();
+        break;
+
+      case AbstractEventTrainer.DATA_INDEXER_ON_DISK_VALUE:
+        indexer = new OnDiskDataIndexer();
+        break;
+
       default:
         // if the user passes in a class name for the indexer, try to instantiate the class.
         indexer = ExtensionLoader.instantiateExtension(DataIndexer.class, indexerParam);
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer of feature ids, which are 64 bit hashes of the feature strings.
+ * <p>
+ * A feature is hashed while its parts are appended, the feature string itself is never
+ * created. The id of a feature only depends on its chars, appending "w=" and then a token
+ * results in the same id as adding the string "w=" + token, see {@link #hash(CharSequence)}.
+ * Models map the ids back to their predicates, see {@link MaxentModel#eval(HashedFeatures, double[])}.
+ * <p>
+ * Prefixes which are shared by many features, for example the position of a feature in a
+ * window, can be pushed once with {@link #pushPrefix()}, they are then prepended to all
+ * following features until they are popped again.
+ * <p>
+ * Instances are not thread-safe, a buffer is typically cleared and refilled for every
+ * context which is evaluated.
+ */
+public final class HashedFeatures {
+
+  // 64 bit FNV-1a over the chars of the feature
+  private static final long OFFSET_BASIS = 0xCBF29CE484222325L;
+  private static final long PRIME = 0x100000001B3L;
+
+  long[] ids = new long[32];
+  int size;
+
+  private long[] prefixes = new long[8];
+  private int numPrefixes;
+
+  // the hash state after the pushed prefixes and of the feature which is appended
+  private long seed = OFFSET_BASIS;
+  private long state = OFFSET_BASIS;
+
+  private static long update(long state, char c) {
+    return (state ^ c) * PRIME;
+  }
+
+  private static long finish(long state) {
+    state ^= state >>> 33;
+    state *= 0xFF51AFD7ED558CCDL;
+    state ^= state >>> 33;
+    state *= 0xC4CEB9FE1A85EC53L;
+    state ^= state >>> 33;
+    return state;
+  }
+
+  /**
+   * Computes the id of a feature.
+   *
+   * @param feature the feature
+   *
+   * @return the id
+   */
+  public static long hash(CharSequence feature) {
+    return hash(feature, 0, feature.length());
+  }
+
+  /**
+   * Computes the id of the feature which consists of the chars from start to end.
+   *
+   * @param chars the chars
+   * @param start the index of the first char of the feature
+   * @param end the index after the last char of the feature
+   *
+   * @return the id
+   */
+  public static long hash(CharSequence chars, int start, int end) {
+    long state = OFFSET_BASIS;
+    for (int i = start; i < end; i++) {
+      state = update(state, chars.charAt(i));
+    }
+    return finish(state);
+  }
+
+  /**
+   * Appends chars to the feature which is currently built.
+   *
+   * @param chars the chars
+   *
+   * @return this buffer
+   */
+  public HashedFeatures append(CharSequence chars) {
+    return append(chars, 0, chars.length());
+  }
+
+  /**
+   * Appends the chars from start to end to the feature which is currently built.
+   *
+   * @param chars the chars
+   * @param start the index of the first char
+   * @param end the index after the last char
+   *
+   * @return this buffer
+   */
+  public HashedFeatures append(CharSequence chars, int start, int end) {
+    for (int i = start; i < end; i++) {
+      state = update(state, chars.charAt(i));
+    }
+    return this;
+  }
+
+  /**
+   * Appends the chars lower cased like {@link opennlp.tools.util.StringUtil#toLowerCase(CharSequence)}
+   * to the feature which is currently built.
+   *
+   * @param chars the chars
+   *
+   * @return this buffer
+   */
+  public HashedFeatures appendLowerCase(CharSequence chars) {
+    for (int i = 0; i < chars.length(); i++) {
+      state = update(state, Character.toLowerCase(chars.charAt(i)));
+    }
+    return this;
+  }
+
+  /**
+   * Appends a char to the feature which is currently built.
+   *
+   * @param c the char
+   *
+   * @return this buffer
+   */
+  public HashedFeatures append(char c) {
+    state = update(state, c);
+    return this;
+  }
+
+  /**
+   * Appends the decimal representation of a number, as created by
+   * {@link Integer#toString(int)}, to the feature which is currently built.
+   *
+   * @param number the number
+   *
+   * @return this buffer
+   */
+  public HashedFeatures append(int number) {
+    long n = number;
+    if (n < 0) {
+      state = update(state, '-');
+      n = -n;
+    }
+
+    long divisor = 1;
+    while (divisor * 10 <= n) {
+      divisor *= 10;
+    }
+
+    for (; divisor > 0; divisor /= 10) {
+      state = update(state, (char) ('0' + n / divisor % 10));
+    }
+    return this;
+  }
+
+  /**
+   * Adds the feature which was built by the appended chars and starts a new feature.
+   */
+  public void add() {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    ids[size++] = finish(state);
+    state = seed;
+  }
+
+  /**
+   * Adds a feature.
+   *
+   * @param feature the feature
+   */
+  public void add(CharSequence feature) {
+    append(feature).add();
+  }
+
+  /**
+   * Adds a feature which is the concatenation of a prefix and a value.
+   *
+   * @param prefix the prefix
+   * @param value the value
+   */
+  public void add(CharSequence prefix, CharSequence value) {
+    append(prefix).append(value).add();
+  }
+
+  /**
+   * Uses the chars which were appended since the last feature was added as prefix
+   * of all following features, until {@link #popPrefix()} is called.
+   */
+  public void pushPrefix() {
+    if (numPrefixes == prefixes.length) {
+      prefixes = Arrays.copyOf(prefixes, numPrefixes * 2);
+    }
+    prefixes[numPrefixes++] = seed;
+    seed = state;
+  }
+
+  /**
+   * Removes the prefix which was pushed last, chars which were appended since then are discarded.
+   *
+   * @throws IllegalStateException if no prefix was pushed
+   */
+  public void popPrefix() {
+    if (numPrefixes == 0) {
+      throw new IllegalStateException("No prefix was pushed!");
+    }
+    seed = prefixes[--numPrefixes];
+    state = seed;
+  }
+
+  /**
+   * Adds the feature which was built by the appended chars, unless a feature with the
+   * same id was already added at or after the index from, and starts a new feature.
+   *
+   * @param from the index of the first feature which is checked
+   *
+   * @return true if the feature was added
+   */
+  public boolean addDistinct(int from) {
+    long id = finish(state);
+    state = seed;
+
+    for (int i = from; i < size; i++) {
+      if (ids[i] == id) {
+        return false;
+      }
+    }
+
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    ids[size++] = id;
+    return true;
+  }
+
+  /**
+   * Removes all features and prefixes.
+   */
+  public void clear() {
+    size = 0;
+    numPrefixes = 0;
+    seed = OFFSET_BASIS;
+    state = OFFSET_BASIS;
+  }
+
+  /**
+   * @return the number of features
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Retrieves the id of a feature.
+   *
+   * @param index the index of the feature
+   *
+   * @return the id
+   */
+  public long get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+    return ids[index];
+  }
+
+  /**
+   * @return the ids of the features, the array is a copy
+   */
+  public long[] toArray() {
+    return Arrays.copyOf(ids, size);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.util.Arrays;
+
+/**
+ * Maps the ids of the predicates of a model, as computed by {@link HashedFeatures#hash(CharSequence)},
+ * to the indexes of the predicates with an open addressing hash table.
+ * <p>
+ * Two different predicates with the same 64 bit id are extremely unlikely, if it happens
+ * both predicates can't be found by their id anymore.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+final class HashedPredicateIndex {
+
+  private static final int EMPTY = -1;
+  private static final int AMBIGUOUS = -2;
+
+  private final long[] keys;
+  private final int[] indexes;
+  private final int mask;
+
+  private HashedPredicateIndex(long[] keys, int[] indexes) {
+    this.keys = keys;
+    this.indexes = indexes;
+    this.mask = keys.length - 1;
+  }
+
+  /**
+   * Builds the index for the ids of the predicates.
+   *
+   * @param ids the ids of the predicates, the index of a predicate is its position in the array
+   *
+   * @return the index
+   */
+  static HashedPredicateIndex build(long[] ids) {
+    int tableSize = Integer.highestOneBit(Math.max(2, ids.length) * 2 - 1) << 1;
+
+    long[] keys = new long[tableSize];
+    int[] indexes = new int[tableSize];
+    Arrays.fill(indexes, EMPTY);
+
+    int mask = tableSize - 1;
+    for (int i = 0; i < ids.length; i++) {
+      int slot = (int) ids[i] & mask;
+      while (indexes[slot] != EMPTY && keys[slot] != ids[i]) {
+        slot = (slot + 1) & mask;
+      }
+
+      if (indexes[slot] == EMPTY) {
+        keys[slot] = ids[i];
+        indexes[slot] = i;
+      }
+      else {
+        indexes[slot] = AMBIGUOUS;
+      }
+    }
+
+    return new HashedPredicateIndex(keys, indexes);
+  }
+
+  /**
+   * Builds the index for the predicates.
+   *
+   * @param predicates the predicates
+   *
+   * @return the index
+   */
+  static HashedPredicateIndex build(String[] predicates) {
+    long[] ids = new long[predicates.length];
+    for (int i = 0; i < predicates.length; i++) {
+      ids[i] = HashedFeatures.hash(predicates[i]);
+    }
+    return build(ids);
+  }
+
+  /**
+   * Retrieves the index of the predicate with the given id.
+   *
+   * @param id the id
+   *
+   * @return the index or -1 if no predicate has the id
+   */
+  int getIndex(long id) {
+    int slot = (int) id & mask;
+
+    int index;
+    while ((index = indexes[slot]) != EMPTY) {
+      if (keys[slot] == id) {
+        return Math.max(index, -1);
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+/**
+ * Receives the indexed events of a {@link DataIndexer} one after another.
+ *
+ * @see DataIndexer#forEachEvent(int, int, IndexedEventConsumer)
+ */
+@FunctionalInterface
+public interface IndexedEventConsumer {
+
+  /**
+   * Processes one indexed event. The arrays are only valid during the call, an
+   * indexer which streams its events may reuse them for the following events.
+   *
+   * @param eventIndex the index of the event
+   * @param context the predicate indexes of the event
+   * @param values the values of the predicates or null if all values are 1
+   * @param outcome the outcome index of the event
+   * @param numTimesSeen the number of times the event was seen
+   */
+  void accept(int eventIndex, int[] context, float[] values, int outcome, int numTimesSeen);
+}
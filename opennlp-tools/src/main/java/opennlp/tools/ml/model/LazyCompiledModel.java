@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.Serializable;
+
+/**
+ * Holds the {@link CompiledModel} of a model, which is compiled on first use and then
+ * shared by all users of the model. The compiled model is not serialized, after
+ * deserialization it is compiled again on first use.
+ */
+public final class LazyCompiledModel implements Serializable {
+
+  private transient CompiledModel compiledModel;
+  private transient boolean compiled;
+
+  /**
+   * Retrieves the compiled form of the model, the model is compiled on the first call.
+   *
+   * @param model the model to compile, it must be the same on every call
+   *
+   * @return the compiled model or null if the model type can not be compiled
+   */
+  public synchronized CompiledModel get(AbstractModel model) {
+    if (!compiled) {
+      try {
+        compiledModel = CompiledModel.compile(model);
+      }
+      catch (IllegalArgumentException e) {
+        // the model is evaluated through the maxent model instead
+      }
+      compiled = true;
+    }
+    return compiledModel;
+  }
+}
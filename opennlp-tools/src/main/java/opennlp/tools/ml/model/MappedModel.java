@@ -0,0 +1,532 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormat;
+import java.util.Map;
+
+import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * A maxent, quasi-newton or perceptron model which is evaluated directly from a
+ * {@link ByteBuffer} in a flat binary format, usually a file which is mapped into memory
+ * with {@link #open(Path)}. Opening a mapped model does not parse the predicates and
+ * parameters, and the pages of the file are shared by all processes which map it.
+ * <p>
+ * The format consists of a header followed by these sections, all values are stored in
+ * big endian byte order and each section starts at a multiple of eight bytes:
+ * <ul>
+ * <li>outcomes: for each outcome the number of chars followed by the chars of its name</li>
+ * <li>predicate offsets: the offset of each predicate in the predicate chars, and the end offset</li>
+ * <li>predicate chars: the chars of all predicates</li>
+ * <li>hash table: an open addressing table over the hash codes of the predicates,
+ *     the hash codes followed by the predicate row plus one, zero marks a free slot</li>
+ * <li>row offsets: the offset of the parameters of each predicate row, and the end offset</li>
+ * <li>columns: the outcome of each parameter</li>
+ * <li>weights: the value of each parameter</li>
+ * </ul>
+ * Models are written with {@link #write(AbstractModel, OutputStream)}.
+ * Instances are immutable and thread-safe.
+ */
+public final class MappedModel implements MaxentModel {
+
+  private static final int MAGIC = 0x4F4E4C50; // ONLP
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_SIZE = 64;
+
+  private static final int TYPE_MAXENT = 0;
+  private static final int TYPE_PERCEPTRON = 1;
+  private static final int TYPE_MAXENT_QN = 2;
+
+  private final AbstractModel.ModelType modelType;
+  private final String[] outcomeNames;
+  private final int numOutcomes;
+  private final int numPredicates;
+
+  private final IntBuffer predicateOffsets;
+  private final CharBuffer predicateChars;
+  private final IntBuffer tableHashes;
+  private final IntBuffer tableRows;
+  private final int tableMask;
+  private final IntBuffer rowOffsets;
+  private final IntBuffer columns;
+  private final DoubleBuffer weights;
+
+  private volatile HashedPredicateIndex hashedPredicateIndex;
+
+  /**
+   * Initializes the model from a buffer which contains a model in the mapped model format.
+   * The buffer must not be modified afterwards.
+   *
+   * @param buffer the buffer, its content starts at position zero
+   *
+   * @throws InvalidFormatException if the buffer does not contain a valid model
+   */
+  public MappedModel(ByteBuffer buffer) throws InvalidFormatException {
+    ByteBuffer header = buffer.duplicate();
+
+    if (header.capacity() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+      throw new InvalidFormatException("Not a mapped model!");
+    }
+
+    if (header.getInt(4) != FORMAT_VERSION) {
+      throw new InvalidFormatException("Unsupported mapped model version: " + header.getInt(4));
+    }
+
+    switch (header.getInt(8)) {
+      case TYPE_MAXENT:
+        modelType = AbstractModel.ModelType.Maxent;
+        break;
+      case TYPE_PERCEPTRON:
+        modelType = AbstractModel.ModelType.Perceptron;
+        break;
+      case TYPE_MAXENT_QN:
+        modelType = AbstractModel.ModelType.MaxentQn;
+        break;
+      default:
+        throw new InvalidFormatException("Unknown model type: " + header.getInt(8));
+    }
+
+    numOutcomes = header.getInt(12);
+    numPredicates = header.getInt(16);
+    int numParameters = header.getInt(20);
+    int tableSize = header.getInt(24);
+    int numChars = header.getInt(28);
+
+    try {
+      ByteBuffer outcomes = section(buffer, header.getInt(32), header.getInt(36) - header.getInt(32));
+      outcomeNames = new String[numOutcomes];
+      for (int i = 0; i < numOutcomes; i++) {
+        char[] name = new char[outcomes.getInt()];
+        outcomes.asCharBuffer().get(name);
+        outcomes.position(outcomes.position() + 2 * name.length);
+        outcomeNames[i] = new String(name);
+      }
+
+      predicateOffsets = section(buffer, header.getInt(36), 4 * (numPredicates + 1)).asIntBuffer();
+      predicateChars = section(buffer, header.getInt(40), 2 * numChars).asCharBuffer();
+      tableHashes = section(buffer, header.getInt(44), 4 * tableSize).asIntBuffer();
+      tableRows = section(buffer, header.getInt(48), 4 * tableSize).asIntBuffer();
+      rowOffsets = section(buffer, header.getInt(52), 4 * (numPredicates + 1)).asIntBuffer();
+      columns = section(buffer, header.getInt(56), 4 * numParameters).asIntBuffer();
+      weights = section(buffer, header.getInt(60), 8 * numParameters).asDoubleBuffer();
+    }
+    catch (IndexOutOfBoundsException | IllegalArgumentException | BufferUnderflowException e) {
+      throw new InvalidFormatException("Mapped model is truncated or corrupt!", e);
+    }
+
+    if (Integer.bitCount(tableSize) != 1) {
+      throw new InvalidFormatException("Invalid hash table size: " + tableSize);
+    }
+    tableMask = tableSize - 1;
+  }
+
+  private static ByteBuffer section(ByteBuffer buffer, int offset, int length) {
+    ByteBuffer section = buffer.duplicate();
+    section.limit(offset + length);
+    section.position(offset);
+    return section.slice();
+  }
+
+  /**
+   * Maps a model file into memory.
+   *
+   * @param path the model file
+   *
+   * @return the model
+   *
+   * @throws IOException if the file can not be read or is not a mapped model
+   */
+  public static MappedModel open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new MappedModel(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Writes a model in the mapped model format.
+   *
+   * @param model the model, a maxent model with uniform prior, a quasi-newton
+   *              or a perceptron model
+   * @param path the file to write to
+   *
+   * @throws IOException if writing fails
+   */
+  public static void write(AbstractModel model, Path path) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(model, out);
+    }
+  }
+
+  /**
+   * Writes a model in the mapped model format. The stream is not closed.
+   *
+   * @param model the model, a maxent model with uniform prior, a quasi-newton
+   *              or a perceptron model
+   * @param out the stream to write to
+   *
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the model type is not supported
+   */
+  public static void write(AbstractModel model, OutputStream out) throws IOException {
+
+    AbstractModel.ModelType modelType = CompiledModel.checkModelType(model);
+
+    int type;
+    switch (modelType) {
+      case Perceptron:
+        type = TYPE_PERCEPTRON;
+        break;
+      case MaxentQn:
+        type = TYPE_MAXENT_QN;
+        break;
+      default:
+        type = TYPE_MAXENT;
+    }
+
+    String[] outcomeNames = model.outcomeNames;
+
+    int numPredicates = model.pmap.size();
+    String[] predicates = new String[numPredicates];
+    Context[] params = new Context[numPredicates];
+    long numParameters = 0;
+    long numChars = 0;
+    int row = 0;
+    for (Map.Entry<String, Context> entry : model.pmap.entrySet()) {
+      predicates[row] = entry.getKey();
+      params[row] = entry.getValue();
+      numParameters += params[row].getOutcomes().length;
+      numChars += predicates[row].length();
+      row++;
+    }
+
+    // load factor of the table is at most one half
+    int tableSize = Integer.highestOneBit(Math.max(1, numPredicates * 2 - 1)) * 2;
+    int[] tableHashes = new int[tableSize];
+    int[] tableRows = new int[tableSize];
+    for (row = 0; row < numPredicates; row++) {
+      int h = predicates[row].hashCode();
+      int slot = mix(h) & (tableSize - 1);
+      while (tableRows[slot] != 0) {
+        slot = (slot + 1) & (tableSize - 1);
+      }
+      tableHashes[slot] = h;
+      tableRows[slot] = row + 1;
+    }
+
+    long outcomesSize = 0;
+    for (String outcome : outcomeNames) {
+      outcomesSize += 4 + 2 * outcome.length();
+    }
+
+    long[] sectionSizes = {outcomesSize, 4L * (numPredicates + 1), 2L * numChars, 4L * tableSize,
+        4L * tableSize, 4L * (numPredicates + 1), 4L * numParameters, 8L * numParameters};
+    int[] sectionOffsets = new int[sectionSizes.length];
+    long offset = HEADER_SIZE;
+    for (int i = 0; i < sectionSizes.length; i++) {
+      sectionOffsets[i] = (int) offset;
+      offset = align(offset + sectionSizes[i]);
+    }
+
+    if (offset > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Model is too large for the mapped model format!");
+    }
+
+    DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeInt(type);
+    data.writeInt(outcomeNames.length);
+    data.writeInt(numPredicates);
+    data.writeInt((int) numParameters);
+    data.writeInt(tableSize);
+    data.writeInt((int) numChars);
+    for (int sectionOffset : sectionOffsets) {
+      data.writeInt(sectionOffset);
+    }
+
+    for (String outcome : outcomeNames) {
+      data.writeInt(outcome.length());
+      data.writeChars(outcome);
+    }
+    pad(data);
+
+    int charOffset = 0;
+    for (String predicate : predicates) {
+      data.writeInt(charOffset);
+      charOffset += predicate.length();
+    }
+    data.writeInt(charOffset);
+    pad(data);
+
+    for (String predicate : predicates) {
+      data.writeChars(predicate);
+    }
+    pad(data);
+
+    for (int h : tableHashes) {
+      data.writeInt(h);
+    }
+    pad(data);
+
+    for (int r : tableRows) {
+      data.writeInt(r);
+    }
+    pad(data);
+
+    int parameterOffset = 0;
+    for (Context context : params) {
+      data.writeInt(parameterOffset);
+      parameterOffset += context.getOutcomes().length;
+    }
+    data.writeInt(parameterOffset);
+    pad(data);
+
+    for (Context context : params) {
+      for (int outcome : context.getOutcomes()) {
+        data.writeInt(outcome);
+      }
+    }
+    pad(data);
+
+    for (Context context : params) {
+      for (double parameter : context.getParameters()) {
+        data.writeDouble(parameter);
+      }
+    }
+    pad(data);
+
+    data.flush();
+  }
+
+  private static long align(long offset) {
+    return (offset + 7) & ~7L;
+  }
+
+  private static void pad(DataOutputStream data) throws IOException {
+    while (data.size() % 8 != 0) {
+      data.writeByte(0);
+    }
+  }
+
+  private static int mix(int h) {
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    return h;
+  }
+
+  /**
+   * Retrieves the row index of a predicate, which can be passed to
+   * {@link #eval(int[], float[], double[])}.
+   *
+   * @param predicate the predicate
+   *
+   * @return the row index or -1 if the predicate is unknown to the model
+   */
+  public int getPredicateIndex(String predicate) {
+    int h = predicate.hashCode();
+    int slot = mix(h) & tableMask;
+
+    int row;
+    while ((row = tableRows.get(slot) - 1) >= 0) {
+      if (tableHashes.get(slot) == h && matches(predicate, row)) {
+        return row;
+      }
+      slot = (slot + 1) & tableMask;
+    }
+
+    return -1;
+  }
+
+  private boolean matches(String predicate, int row) {
+    int start = predicateOffsets.get(row);
+    int length = predicateOffsets.get(row + 1) - start;
+
+    if (length != predicate.length()) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (predicateChars.get(start + i) != predicate.charAt(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the number of predicates known to the model
+   */
+  public int getNumPredicates() {
+    return numPredicates;
+  }
+
+  /**
+   * @return the type of the model
+   */
+  public AbstractModel.ModelType getModelType() {
+    return modelType;
+  }
+
+  public double[] eval(String[] context) {
+    return eval(context, null, new double[numOutcomes]);
+  }
+
+  public double[] eval(String[] context, double[] probs) {
+    return eval(context, null, probs);
+  }
+
+  public double[] eval(String[] context, float[] values) {
+    return eval(context, values, new double[numOutcomes]);
+  }
+
+  /**
+   * Evaluates a context with the specified context values.
+   *
+   * @param context the predicates which have been observed at the present decision point
+   * @param values the values of the predicates or null if all values are one
+   * @param probs the array the probabilities are written to
+   *
+   * @return the probabilities for the outcomes, which is the passed probs array
+   */
+  public double[] eval(String[] context, float[] values, double[] probs) {
+    CompiledModel.initScores(modelType, probs, numOutcomes);
+
+    for (int ci = 0; ci < context.length; ci++) {
+      int row = getPredicateIndex(context[ci]);
+
+      if (row >= 0) {
+        addRow(row, values != null ? values[ci] : 1, probs);
+      }
+    }
+
+    return CompiledModel.normalize(modelType, probs, numOutcomes);
+  }
+
+  /**
+   * Evaluates a context which is given as row indexes, see {@link #getPredicateIndex(String)}.
+   * Indexes which are negative are ignored.
+   *
+   * @param rows the row indexes of the predicates
+   * @param values the values of the predicates or null if all values are one
+   * @param probs the array the probabilities are written to
+   *
+   * @return the probabilities for the outcomes, which is the passed probs array
+   */
+  public double[] eval(int[] rows, float[] values, double[] probs) {
+    CompiledModel.initScores(modelType, probs, numOutcomes);
+
+    for (int ci = 0; ci < rows.length; ci++) {
+      if (rows[ci] >= 0) {
+        addRow(rows[ci], values != null ? values[ci] : 1, probs);
+      }
+    }
+
+    return CompiledModel.normalize(modelType, probs, numOutcomes);
+  }
+
+  /**
+   * Evaluates a context which is given as hashed feature ids, the ids are mapped to
+   * the rows with an additional hash table which is built on first use.
+   */
+  @Override
+  public double[] eval(HashedFeatures context, double[] probs) {
+    HashedPredicateIndex index = hashedPredicateIndex;
+    if (index == null) {
+      long[] ids = new long[numPredicates];
+      for (int row = 0; row < numPredicates; row++) {
+        ids[row] = HashedFeatures.hash(predicateChars,
+            predicateOffsets.get(row), predicateOffsets.get(row + 1));
+      }
+      index = HashedPredicateIndex.build(ids);
+      hashedPredicateIndex = index;
+    }
+
+    CompiledModel.initScores(modelType, probs, numOutcomes);
+
+    for (int ci = 0; ci < context.size; ci++) {
+      int row = index.getIndex(context.ids[ci]);
+
+      if (row >= 0) {
+        addRow(row, 1, probs);
+      }
+    }
+
+    return CompiledModel.normalize(modelType, probs, numOutcomes);
+  }
+
+  private void addRow(int row, double value, double[] scores) {
+    for (int i = rowOffsets.get(row), end = rowOffsets.get(row + 1); i < end; i++) {
+      scores[columns.get(i)] += weights.get(i) * value;
+    }
+  }
+
+  public String getBestOutcome(double[] ocs) {
+    return outcomeNames[ArrayMath.argmax(ocs)];
+  }
+
+  public String getAllOutcomes(double[] ocs) {
+    if (ocs.length != outcomeNames.length) {
+      return "The double array sent as a parameter to MappedModel.getAllOutcomes() " +
+          "must not have been produced by this model.";
+    }
+    else {
+      DecimalFormat df =  new DecimalFormat("0.0000");
+      StringBuilder sb = new StringBuilder(ocs.length * 2);
+      sb.append(outcomeNames[0]).append("[").append(df.format(ocs[0])).append("]");
+      for (int i = 1; i < ocs.length; i++) {
+        sb.append("  ").append(outcomeNames[i]).append("[").append(df.format(ocs[i])).append("]");
+      }
+      return sb.toString();
+    }
+  }
+
+  public String getOutcome(int i) {
+    return outcomeNames[i];
+  }
+
+  public int getIndex(String outcome) {
+    for (int i = 0; i < outcomeNames.length; i++) {
+      if (outcomeNames[i].equals(outcome))
+        return i;
+    }
+    return -1;
+  }
+
+  public int getNumOutcomes() {
+    return numOutcomes;
+  }
+}
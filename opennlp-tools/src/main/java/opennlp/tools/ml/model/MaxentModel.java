@@ -53,6 +53,49 @@ public interface MaxentModel {
    */
   double[] eval(String[] context, float[] values);
 
+  /**
+   * Evaluates a batch of contexts.
+   *
+   * @param contexts The contexts, each a list of String names of the contextual
+   *                 predicates which are to be evaluated together.
+   * @param probs The output matrix with one row per context, each row must have the length
+   *              {@link #getNumOutcomes()}. Row i is populated with the probabilities for each
+   *              of the different outcomes of context i, all of which sum to 1.
+   * @return the output matrix
+   */
+  default double[][] eval(String[][] contexts, double[][] probs) {
+    for (int i = 0; i < contexts.length; i++) {
+      double[] p = eval(contexts[i], probs[i]);
+      if (p != probs[i]) {
+        System.arraycopy(p, 0, probs[i], 0, probs[i].length);
+      }
+    }
+    return probs;
+  }
+
+  /**
+   * Evaluates a context which is given as hashed feature ids, the ids are mapped to the
+   * predicates of the model by {@link HashedFeatures#hash(CharSequence)}. The result is the
+   * same as evaluating the feature strings, except that features which are unknown to the
+   * model are ignored.
+   * <p>
+   * The compiled and the mapped models and the in-tree {@link AbstractModel} implementations
+   * support hashed features, the default implementation throws an
+   * {@link UnsupportedOperationException}. Callers which accept an arbitrary model must
+   * be prepared for that.
+   *
+   * @param context the ids of the predicates which are to be evaluated together
+   * @param probs An array which is populated with the probabilities for each of the different
+   *         outcomes, all of which sum to 1.
+   * @return an array of the probabilities for each of the different outcomes, all of which sum to 1.
+   *
+   * @throws UnsupportedOperationException if the model does not support hashed features
+   */
+  default double[] eval(HashedFeatures context, double[] probs) {
+    throw new UnsupportedOperationException("Hashed features are not supported by "
+        + getClass().getName());
+  }
+
   /**
    * Simple function to return the outcome associated with the index
    * containing the highest probability in the double[].
@@ -0,0 +1,601 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import opennlp.tools.util.InsufficientTrainingDataException;
+import opennlp.tools.util.ObjectStream;
+
+/**
+ * Collecting event and context counts by making two passes over the events, like the
+ * {@link TwoPassDataIndexer}, but instead of holding the indexed events in memory they
+ * are written to a compact cache file. Trainers visit the events with
+ * {@link #forEachEvent(int, int, IndexedEventConsumer)}, which scans the memory mapped
+ * cache file sequentially. Only the labels, the predicate counts and one offset per
+ * block of events are held in memory, the heap needed for training is bounded by the
+ * model parameters instead of by the training data.
+ * <p>
+ * During the first pass the predicates and outcomes are interned to integers and counted,
+ * and the events are written varint encoded to a temporary spill file. During the second
+ * pass the predicates below the cutoff are removed and the events are written with their
+ * final indexes to the cache file. The cache file is deleted when the indexer is closed,
+ * the directory it is created in is set with {@link #CACHE_DIRECTORY_PARAM}.
+ * <p>
+ * The events are not sorted and merged, they are kept in the order of the event stream
+ * and each is seen once. The values of real valued events are kept. The arrays returned
+ * by {@link #getContexts()} and the other per event getters are only created on request
+ * for trainers which do not use forEachEvent, they hold all events in memory.
+ */
+public class OnDiskDataIndexer extends AbstractDataIndexer implements Closeable {
+
+  public static final String CACHE_DIRECTORY_PARAM = "CacheDirectory";
+
+  private static final int BLOCK_SIZE = 1024;
+
+  private final int blockSize;
+  private final long maxWindowSize;
+
+  private File cacheFile;
+  private FileChannel channel;
+
+  // the file is mapped in windows of whole blocks, a mapping is limited to 2 GB
+  private MappedByteBuffer[] windows;
+  private int[] windowFirstBlocks;
+  private long[] windowOffsets;
+  private long[] blockOffsets;
+
+  private int numUniqueEvents;
+  private int maxContextLength;
+  private boolean hasValues;
+
+  private float[][] values;
+
+  public OnDiskDataIndexer() {
+    this(BLOCK_SIZE, Integer.MAX_VALUE);
+  }
+
+  OnDiskDataIndexer(int blockSize, long maxWindowSize) {
+    this.blockSize = blockSize;
+    this.maxWindowSize = maxWindowSize;
+  }
+
+  @Override
+  public void index(ObjectStream<Event> eventStream) throws IOException {
+    int cutoff = trainingParameters.getIntParameter(CUTOFF_PARAM, CUTOFF_DEFAULT);
+    String cacheDirectory = trainingParameters.getStringParameter(CACHE_DIRECTORY_PARAM, null);
+    File directory = cacheDirectory != null ? new File(cacheDirectory) : null;
+
+    close();
+
+    long start = System.currentTimeMillis();
+
+    display("Indexing events with OnDisk using cutoff of " + cutoff + "\n\n");
+
+    display("\tComputing event counts...  ");
+
+    File spill = File.createTempFile("events", null, directory);
+    spill.deleteOnExit();
+    try {
+      Dictionary predicates = new Dictionary();
+      Dictionary outcomes = new Dictionary();
+
+      int eventCount;
+      try (OutputStream out = new BufferedOutputStream(new FileOutputStream(spill))) {
+        eventCount = computeEventCounts(eventStream, out, predicates, outcomes);
+      }
+
+      display("done. " + eventCount + " events\n");
+
+      display("\tIndexing...  ");
+
+      int[] predicateMap = computePredicateMap(predicates, cutoff);
+
+      cacheFile = File.createTempFile("events-cache", null, directory);
+      cacheFile.deleteOnExit();
+
+      long cacheSize = writeCache(spill, eventCount, predicateMap, predicates, outcomes);
+      if (numUniqueEvents == 0) {
+        throw new InsufficientTrainingDataException("Insufficient training data to create model.");
+      }
+
+      mapCache(cacheSize);
+
+      display("done.\n");
+    }
+    catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+    finally {
+      spill.delete();
+    }
+
+    display(String.format("Done indexing %d events to %s in %.2f s.\n", numUniqueEvents,
+        cacheFile, (System.currentTimeMillis() - start) / 1000d));
+  }
+
+  /**
+   * Reads the events, interns and counts their predicates and outcomes and writes
+   * them varint encoded to the spill file.
+   *
+   * @return the number of events
+   */
+  private int computeEventCounts(ObjectStream<Event> eventStream, OutputStream out,
+      Dictionary predicates, Dictionary outcomes) throws IOException {
+    Encoder encoder = new Encoder();
+    int eventCount = 0;
+
+    Event ev;
+    while ((ev = eventStream.read()) != null) {
+      eventCount++;
+
+      encoder.reset();
+      encoder.writeVarint(outcomes.intern(ev.getOutcome()));
+
+      String[] context = ev.getContext();
+      encoder.writeVarint(context.length);
+      for (String pred : context) {
+        encoder.writeVarint(predicates.intern(pred));
+      }
+
+      float[] eventValues = ev.getValues();
+      if (eventValues == null) {
+        encoder.writeVarint(0);
+      }
+      else {
+        encoder.writeVarint(eventValues.length + 1);
+        for (float value : eventValues) {
+          encoder.writeFloat(value);
+        }
+      }
+
+      encoder.writeTo(out);
+    }
+
+    return eventCount;
+  }
+
+  /**
+   * Assigns the indexes to the predicates which occur at least cutoff times,
+   * in the sort order of the predicates.
+   *
+   * @return a map from the interned ids to the indexes, -1 for predicates below the cutoff
+   */
+  private int[] computePredicateMap(Dictionary predicates, int cutoff) {
+    Integer[] predicateSet = new Integer[predicates.size()];
+    int numPredicates = 0;
+    for (int id = 0; id < predicates.size(); id++) {
+      if (predicates.counts[id] >= cutoff) {
+        predicateSet[numPredicates++] = id;
+      }
+    }
+    predicateSet = Arrays.copyOf(predicateSet, numPredicates);
+    Arrays.sort(predicateSet, (id1, id2) -> predicates.labels[id1].compareTo(predicates.labels[id2]));
+
+    int[] predicateMap = new int[predicates.size()];
+    Arrays.fill(predicateMap, -1);
+
+    predLabels = new String[numPredicates];
+    predCounts = new int[numPredicates];
+    for (int i = 0; i < numPredicates; i++) {
+      predicateMap[predicateSet[i]] = i;
+      predLabels[i] = predicates.labels[predicateSet[i]];
+      predCounts[i] = predicates.counts[predicateSet[i]];
+    }
+
+    return predicateMap;
+  }
+
+  /**
+   * Reads the spill file, maps the predicates to their indexes and writes the events
+   * which still have predicates to the cache file.
+   *
+   * @return the size of the cache file
+   */
+  private long writeCache(File spill, int eventCount, int[] predicateMap, Dictionary predicates,
+      Dictionary outcomes) throws IOException {
+
+    List<Long> offsets = new ArrayList<>();
+    long offset = 0;
+
+    numUniqueEvents = 0;
+    maxContextLength = 0;
+    hasValues = false;
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(spill)));
+         OutputStream out = new BufferedOutputStream(new FileOutputStream(cacheFile))) {
+
+      Encoder encoder = new Encoder();
+      int[] context = new int[16];
+      int[] preds = new int[16];
+      float[] eventValues = new float[16];
+
+      for (int i = 0; i < eventCount; i++) {
+        int outcome = readVarint(in);
+
+        int length = readVarint(in);
+        if (context.length < length) {
+          context = new int[length];
+          preds = new int[length];
+        }
+
+        int numPreds = 0;
+        for (int ci = 0; ci < length; ci++) {
+          context[ci] = readVarint(in);
+          if (predicateMap[context[ci]] != -1) {
+            preds[numPreds++] = ci;
+          }
+        }
+
+        int valuesLength = readVarint(in) - 1;
+        if (eventValues.length < valuesLength) {
+          eventValues = new float[valuesLength];
+        }
+        for (int vi = 0; vi < valuesLength; vi++) {
+          eventValues[vi] = in.readFloat();
+        }
+
+        // drop events with no active features
+        if (numPreds == 0) {
+          String[] names = new String[length];
+          for (int ci = 0; ci < length; ci++) {
+            names[ci] = predicates.labels[context[ci]];
+          }
+          display("Dropped event " + outcomes.labels[outcome] + ":" + Arrays.asList(names) + "\n");
+          continue;
+        }
+
+        if (numUniqueEvents % blockSize == 0) {
+          offsets.add(offset);
+        }
+
+        encoder.reset();
+        encoder.writeVarint(outcome);
+        encoder.writeVarint(numPreds);
+        for (int pi = 0; pi < numPreds; pi++) {
+          encoder.writeVarint(predicateMap[context[preds[pi]]]);
+        }
+        if (valuesLength == -1) {
+          encoder.writeVarint(0);
+        }
+        else {
+          encoder.writeVarint(numPreds + 1);
+          for (int pi = 0; pi < numPreds; pi++) {
+            encoder.writeFloat(eventValues[preds[pi]]);
+          }
+          hasValues = true;
+        }
+        offset += encoder.writeTo(out);
+
+        maxContextLength = Math.max(maxContextLength, numPreds);
+        numUniqueEvents++;
+      }
+    }
+
+    // like the other indexers the outcomes of dropped events are kept
+    outcomeLabels = Arrays.copyOf(outcomes.labels, outcomes.size());
+    blockOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+    return offset;
+  }
+
+  /**
+   * Maps the cache file in windows, each window contains whole blocks of events.
+   */
+  private void mapCache(long cacheSize) throws IOException {
+    channel = new RandomAccessFile(cacheFile, "r").getChannel();
+
+    List<MappedByteBuffer> mapped = new ArrayList<>();
+    List<Integer> firstBlocks = new ArrayList<>();
+
+    int numBlocks = blockOffsets.length;
+    for (int block = 0; block < numBlocks; ) {
+      long windowOffset = blockOffsets[block];
+
+      int end = block + 1;
+      while (end < numBlocks && blockEnd(end, cacheSize) - windowOffset <= maxWindowSize) {
+        end++;
+      }
+
+      long size = blockEnd(end - 1, cacheSize) - windowOffset;
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("The events of block " + block + " exceed the maximum mapping size!");
+      }
+
+      mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, windowOffset, size));
+      firstBlocks.add(block);
+      block = end;
+    }
+
+    windows = mapped.toArray(new MappedByteBuffer[mapped.size()]);
+    windowFirstBlocks = firstBlocks.stream().mapToInt(Integer::intValue).toArray();
+    windowOffsets = new long[windows.length];
+    for (int window = 0; window < windows.length; window++) {
+      windowOffsets[window] = blockOffsets[windowFirstBlocks[window]];
+    }
+  }
+
+  private long blockEnd(int block, long cacheSize) {
+    return block + 1 < blockOffsets.length ? blockOffsets[block + 1] : cacheSize;
+  }
+
+  @Override
+  public void forEachEvent(int fromIndex, int toIndex, IndexedEventConsumer consumer) {
+    MappedByteBuffer[] mappedWindows = windows;
+    if (mappedWindows == null) {
+      throw new IllegalStateException("The events are not indexed or the indexer is closed!");
+    }
+
+    if (fromIndex < 0 || toIndex > numUniqueEvents || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("Invalid range from " + fromIndex + " to " + toIndex
+          + " of " + numUniqueEvents + " events!");
+    }
+
+    if (fromIndex == toIndex) {
+      return;
+    }
+
+    // the arrays are reused for all events with the same number of predicates
+    int[][] contexts = new int[maxContextLength + 1][];
+    float[][] eventValues = new float[maxContextLength + 1][];
+
+    int block = fromIndex / blockSize;
+    int window = Arrays.binarySearch(windowFirstBlocks, block);
+    if (window < 0) {
+      window = -window - 2;
+    }
+    ByteBuffer buffer = positionAt(mappedWindows, window, block);
+
+    for (int ei = block * blockSize; ei < toIndex; ei++) {
+      if (ei % blockSize == 0 && window + 1 < windowFirstBlocks.length
+          && windowFirstBlocks[window + 1] == ei / blockSize) {
+        window++;
+        buffer = positionAt(mappedWindows, window, ei / blockSize);
+      }
+
+      int outcome = readVarint(buffer);
+
+      int length = readVarint(buffer);
+      int[] context = contexts[length];
+      if (context == null) {
+        context = contexts[length] = new int[length];
+      }
+      for (int ci = 0; ci < length; ci++) {
+        context[ci] = readVarint(buffer);
+      }
+
+      float[] predValues = null;
+      if (readVarint(buffer) != 0) {
+        predValues = eventValues[length];
+        if (predValues == null) {
+          predValues = eventValues[length] = new float[length];
+        }
+        for (int ci = 0; ci < length; ci++) {
+          predValues[ci] = buffer.getFloat();
+        }
+      }
+
+      if (ei >= fromIndex) {
+        consumer.accept(ei, context, predValues, outcome, 1);
+      }
+    }
+  }
+
+  private ByteBuffer positionAt(MappedByteBuffer[] mappedWindows, int window, int block) {
+    ByteBuffer buffer = mappedWindows[window].duplicate();
+    buffer.position((int) (blockOffsets[block] - windowOffsets[window]));
+    return buffer;
+  }
+
+  @Override
+  public int getNumUniqueEvents() {
+    return numUniqueEvents;
+  }
+
+  @Override
+  public int getNumEvents() {
+    return numUniqueEvents;
+  }
+
+  @Override
+  public synchronized int[][] getContexts() {
+    loadEvents();
+    return contexts;
+  }
+
+  @Override
+  public synchronized int[] getOutcomeList() {
+    loadEvents();
+    return outcomeList;
+  }
+
+  @Override
+  public synchronized int[] getNumTimesEventsSeen() {
+    loadEvents();
+    return numTimesEventsSeen;
+  }
+
+  @Override
+  public synchronized float[][] getValues() {
+    if (!hasValues) {
+      return null;
+    }
+    loadEvents();
+    return values;
+  }
+
+  /**
+   * Reads all events into memory, for trainers which need the event arrays.
+   */
+  private void loadEvents() {
+    if (contexts == null && windows != null) {
+      int[][] eventContexts = new int[numUniqueEvents][];
+      float[][] allValues = hasValues ? new float[numUniqueEvents][] : null;
+      int[] outcomes = new int[numUniqueEvents];
+
+      forEachEvent(0, numUniqueEvents, (ei, context, predValues, outcome, numTimesSeen) -> {
+        eventContexts[ei] = context.clone();
+        if (predValues != null) {
+          allValues[ei] = predValues.clone();
+        }
+        outcomes[ei] = outcome;
+      });
+
+      int[] seen = new int[numUniqueEvents];
+      Arrays.fill(seen, 1);
+
+      contexts = eventContexts;
+      values = allValues;
+      outcomeList = outcomes;
+      numTimesEventsSeen = seen;
+    }
+  }
+
+  /**
+   * Closes and deletes the cache file. Afterwards the events can't be visited anymore.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    windows = null;
+    contexts = null;
+    values = null;
+    outcomeList = null;
+    numTimesEventsSeen = null;
+
+    try {
+      if (channel != null) {
+        channel.close();
+      }
+    }
+    finally {
+      channel = null;
+      if (cacheFile != null) {
+        cacheFile.delete();
+        cacheFile = null;
+      }
+    }
+  }
+
+  private static int readVarint(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      int b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      if (b < 0x80) {
+        return value;
+      }
+    }
+  }
+
+  private static int readVarint(ByteBuffer buffer) {
+    int value = 0;
+    for (int shift = 0; ; shift += 7) {
+      int b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Encodes one event into a reusable byte array.
+   */
+  private static final class Encoder {
+    private byte[] bytes = new byte[256];
+    private int size;
+
+    private void reset() {
+      size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+      if (bytes.length < capacity) {
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+      }
+    }
+
+    private void writeVarint(int value) {
+      ensureCapacity(size + 5);
+      while ((value & ~0x7F) != 0) {
+        bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      bytes[size++] = (byte) value;
+    }
+
+    private void writeFloat(float value) {
+      ensureCapacity(size + 4);
+      int bits = Float.floatToIntBits(value);
+      bytes[size++] = (byte) (bits >>> 24);
+      bytes[size++] = (byte) (bits >>> 16);
+      bytes[size++] = (byte) (bits >>> 8);
+      bytes[size++] = (byte) bits;
+    }
+
+    private int writeTo(OutputStream out) throws IOException {
+      out.write(bytes, 0, size);
+      return size;
+    }
+  }
+
+  /**
+   * Interns labels to consecutive ids and counts how often each label occurs.
+   */
+  private static final class Dictionary {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] labels = new String[64];
+    private int[] counts = new int[64];
+
+    private int intern(String label) {
+      Integer id = ids.get(label);
+      if (id == null) {
+        id = ids.size();
+        ids.put(label, id);
+        if (id == labels.length) {
+          labels = Arrays.copyOf(labels, id * 2);
+          counts = Arrays.copyOf(counts, id * 2);
+        }
+        labels[id] = label;
+      }
+      counts[id]++;
+      return id;
+    }
+
+    private int size() {
+      return ids.size();
+    }
+  }
+}
@@ -0,0 +1,568 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Collecting event and context counts by making two passes over the events, like the
+ * {@link TwoPassDataIndexer}, but with multiple threads and without keeping all
+ * events in memory.
+ * <p>
+ * During the first pass the predicates are interned to integers and counted, and the
+ * events are written integer encoded to a temporary spill file. The events are read on
+ * the calling thread and encoded in batches on the worker threads.
+ * <p>
+ * During the second pass the spill file is split into runs, each run is mapped
+ * to the predicates which passed the cutoff, sorted, merged and written to a
+ * temporary run file on a worker thread. Afterwards the sorted runs are merged
+ * into the unique events. Only the events of the runs which are processed at the
+ * same time and the unique events are held in memory.
+ * <p>
+ * The contexts, outcomes and counts of the indexed events are identical to the ones of the
+ * {@link TwoPassDataIndexer}. The values of real valued events differ if predicates are
+ * removed by the cutoff: they are reduced to the values of the remaining predicates, so they
+ * stay aligned with the contexts. The {@link TwoPassDataIndexer} keeps the values of all
+ * predicates of the event.
+ * The number of threads is set with {@link TrainingParameters#THREADS_PARAM}
+ * and the number of events in a run with {@link #RUN_SIZE_PARAM}.
+ */
+public class ParallelTwoPassDataIndexer extends AbstractDataIndexer {
+
+  public static final String RUN_SIZE_PARAM = "IndexRunSize";
+  public static final int RUN_SIZE_DEFAULT = 100000;
+
+  private static final int BATCH_SIZE = 1024;
+
+  private ConcurrentHashMap<String, Predicate> predicates;
+  private AtomicInteger nextPredicateId;
+
+  private int numEvents;
+
+  public ParallelTwoPassDataIndexer() {}
+
+  @Override
+  public void index(ObjectStream<Event> eventStream) throws IOException {
+    int cutoff = trainingParameters.getIntParameter(CUTOFF_PARAM, CUTOFF_DEFAULT);
+    boolean sort = trainingParameters.getBooleanParameter(SORT_PARAM, SORT_DEFAULT);
+    int threads = trainingParameters.getIntParameter(TrainingParameters.THREADS_PARAM, 1);
+    int runSize = trainingParameters.getIntParameter(RUN_SIZE_PARAM, RUN_SIZE_DEFAULT);
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be at least 1 but is " + threads + "!");
+    }
+
+    if (runSize < 1) {
+      throw new IllegalArgumentException("Run size must be at least 1 but is " + runSize + "!");
+    }
+
+    long start = System.currentTimeMillis();
+
+    display("Indexing events with ParallelTwoPass using cutoff of " + cutoff
+        + " and " + threads + " threads\n\n");
+
+    predicates = new ConcurrentHashMap<>();
+    nextPredicateId = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    File spill = File.createTempFile("events", null);
+    spill.deleteOnExit();
+    List<Run> runs = new ArrayList<>();
+
+    try {
+      display("\tComputing event counts...  ");
+
+      Map<String, Integer> outcomeMap = new HashMap<>();
+      List<Batch> batches = computeEventCounts(eventStream, executor, threads, spill, outcomeMap);
+      int eventCount = batches.stream().mapToInt(batch -> batch.numEvents).sum();
+
+      outcomeLabels = toIndexedStringArray(outcomeMap);
+      String[] tempLabels = new String[nextPredicateId.get()];
+      int[] predicateMap = computePredicateMap(cutoff, tempLabels);
+
+      display("done. " + eventCount + " events\n");
+
+      display("\tIndexing...  ");
+
+      List<Future<Run>> runFutures = new ArrayList<>();
+      for (int from = 0; from < batches.size(); ) {
+        long offset = batches.get(from).offset;
+        int runEvents = 0;
+        while (from < batches.size() && runEvents < runSize) {
+          runEvents += batches.get(from++).numEvents;
+        }
+
+        int count = runEvents;
+        runFutures.add(executor.submit(
+            () -> createRun(spill, offset, count, predicateMap, tempLabels, sort)));
+      }
+
+      for (Future<Run> runFuture : runFutures) {
+        runs.add(get(runFuture));
+      }
+
+      display("done.\n");
+
+      if (sort) {
+        display("Sorting and merging events... ");
+      }
+      else {
+        display("Collecting events... ");
+      }
+
+      numEvents = runs.stream().mapToInt(run -> run.numEvents).sum();
+      List<ComparableEvent> uniqueEvents = merge(runs, sort);
+
+      if (sort) {
+        display("done. Reduced " + numEvents + " events to " + uniqueEvents.size() + ".\n");
+      }
+
+      // the events are already sorted and merged, this only collects them
+      sortAndMerge(uniqueEvents, false);
+    }
+    finally {
+      executor.shutdownNow();
+      spill.delete();
+      for (Run run : runs) {
+        run.file.delete();
+      }
+      predicates = null;
+    }
+
+    display(String.format("Done indexing in %.2f s.\n", (System.currentTimeMillis() - start) / 1000d));
+  }
+
+  @Override
+  public int getNumEvents() {
+    return numEvents;
+  }
+
+  /**
+   * Reads the events, interns and counts their predicates and writes them integer
+   * encoded to the spill file.
+   *
+   * @return the batches in the order they were written to the spill file
+   */
+  private List<Batch> computeEventCounts(ObjectStream<Event> eventStream, ExecutorService executor,
+      int threads, File spill, Map<String, Integer> outcomeMap) throws IOException {
+
+    List<Batch> batches = new ArrayList<>();
+    Deque<Future<Batch>> pending = new ArrayDeque<>();
+
+    try (FileOutputStream out = new FileOutputStream(spill)) {
+      long offset = 0;
+
+      Event[] events = new Event[BATCH_SIZE];
+      int[] outcomes = new int[BATCH_SIZE];
+      int size = 0;
+
+      Event ev;
+      do {
+        ev = eventStream.read();
+
+        if (ev != null) {
+          Integer outcome = outcomeMap.get(ev.getOutcome());
+          if (outcome == null) {
+            outcome = outcomeMap.size();
+            outcomeMap.put(ev.getOutcome(), outcome);
+          }
+
+          events[size] = ev;
+          outcomes[size] = outcome;
+          size++;
+        }
+
+        if (size == BATCH_SIZE || (ev == null && size > 0)) {
+          Event[] batchEvents = events;
+          int[] batchOutcomes = outcomes;
+          int batchSize = size;
+          pending.add(executor.submit(() -> encode(batchEvents, batchOutcomes, batchSize)));
+
+          events = new Event[BATCH_SIZE];
+          outcomes = new int[BATCH_SIZE];
+          size = 0;
+        }
+
+        // the batches are written in order, at most two per thread are in flight
+        while (!pending.isEmpty() && (pending.size() > 2 * threads || ev == null)) {
+          Batch batch = get(pending.poll());
+          batch.offset = offset;
+          out.write(batch.bytes);
+          offset += batch.bytes.length;
+          batch.bytes = null;
+          batches.add(batch);
+        }
+      }
+      while (ev != null);
+    }
+    finally {
+      for (Future<Batch> future : pending) {
+        future.cancel(true);
+      }
+    }
+
+    return batches;
+  }
+
+  private Batch encode(Event[] events, int[] outcomes, int size) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 64);
+    DataOutputStream out = new DataOutputStream(bytes);
+
+    for (int i = 0; i < size; i++) {
+      String[] context = events[i].getContext();
+
+      out.writeInt(outcomes[i]);
+      out.writeInt(context.length);
+      for (String pred : context) {
+        out.writeInt(intern(pred));
+      }
+      writeValues(out, events[i].getValues());
+    }
+
+    out.flush();
+    return new Batch(size, bytes.toByteArray());
+  }
+
+  private int intern(String pred) {
+    Predicate predicate = predicates.get(pred);
+
+    if (predicate == null) {
+      predicate = predicates.computeIfAbsent(pred,
+          name -> new Predicate(name, nextPredicateId.getAndIncrement()));
+    }
+
+    predicate.count.increment();
+    return predicate.id;
+  }
+
+  /**
+   * Assigns the indexes to the predicates which occur at least cutoff times,
+   * in the sort order of the predicates.
+   *
+   * @return a map from the interned ids to the indexes, -1 for predicates below the cutoff
+   */
+  private int[] computePredicateMap(int cutoff, String[] tempLabels) {
+    Predicate[] predicateSet = predicates.values().stream()
+        .peek(predicate -> tempLabels[predicate.id] = predicate.name)
+        .filter(predicate -> predicate.count.sum() >= cutoff)
+        .sorted((p1, p2) -> p1.name.compareTo(p2.name))
+        .toArray(Predicate[]::new);
+
+    int[] predicateMap = new int[tempLabels.length];
+    Arrays.fill(predicateMap, -1);
+
+    predLabels = new String[predicateSet.length];
+    predCounts = new int[predicateSet.length];
+    for (int i = 0; i < predicateSet.length; i++) {
+      predicateMap[predicateSet[i].id] = i;
+      predLabels[i] = predicateSet[i].name;
+      predCounts[i] = (int) predicateSet[i].count.sum();
+    }
+
+    return predicateMap;
+  }
+
+  /**
+   * Reads a part of the spill file, maps the predicates to their indexes, sorts and
+   * merges the events and writes them to a run file.
+   */
+  private Run createRun(File spill, long offset, int count, int[] predicateMap,
+      String[] tempLabels, boolean sort) throws IOException {
+
+    List<ComparableEvent> events = new ArrayList<>(count);
+
+    try (FileInputStream file = new FileInputStream(spill)) {
+      file.getChannel().position(offset);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(file));
+
+      int[] context = new int[16];
+      int[] preds = new int[16];
+
+      for (int i = 0; i < count; i++) {
+        int outcome = in.readInt();
+
+        int length = in.readInt();
+        if (context.length < length) {
+          context = new int[length];
+          preds = new int[length];
+        }
+
+        int numPreds = 0;
+        for (int ci = 0; ci < length; ci++) {
+          context[ci] = in.readInt();
+          if (predicateMap[context[ci]] != -1) {
+            preds[numPreds++] = ci;
+          }
+        }
+
+        float[] values = readValues(in);
+
+        // drop events with no active features
+        if (numPreds > 0) {
+          int[] predIndexes = new int[numPreds];
+          float[] predValues = values != null ? new float[numPreds] : null;
+          for (int pi = 0; pi < numPreds; pi++) {
+            predIndexes[pi] = predicateMap[context[preds[pi]]];
+            if (predValues != null) {
+              predValues[pi] = values[preds[pi]];
+            }
+          }
+
+          events.add(new ComparableEvent(outcome, predIndexes, predValues));
+        }
+        else {
+          String[] names = new String[length];
+          for (int ci = 0; ci < length; ci++) {
+            names[ci] = tempLabels[context[ci]];
+          }
+          display("Dropped event " + outcomeLabels[outcome] + ":" + Arrays.asList(names) + "\n");
+        }
+      }
+    }
+
+    int numRunEvents = events.size();
+
+    if (sort && !events.isEmpty()) {
+      Collections.sort(events);
+
+      int numUnique = 1;
+      for (int i = 1; i < events.size(); i++) {
+        ComparableEvent last = events.get(numUnique - 1);
+        ComparableEvent event = events.get(i);
+        if (last.compareTo(event) == 0) {
+          last.seen++;
+        }
+        else {
+          events.set(numUnique++, event);
+        }
+      }
+      events.subList(numUnique, events.size()).clear();
+    }
+
+    File runFile = File.createTempFile("events-run", null);
+    runFile.deleteOnExit();
+
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(runFile)))) {
+      for (ComparableEvent event : events) {
+        out.writeInt(event.outcome);
+        out.writeInt(event.seen);
+        out.writeInt(event.predIndexes.length);
+        for (int pred : event.predIndexes) {
+          out.writeInt(pred);
+        }
+        writeValues(out, event.values);
+      }
+    }
+
+    return new Run(runFile, numRunEvents, events.size());
+  }
+
+  /**
+   * Merges the sorted runs, or concatenates them in case they are not sorted.
+   */
+  private static List<ComparableEvent> merge(List<Run> runs, boolean sort) throws IOException {
+    List<ComparableEvent> uniqueEvents = new ArrayList<>();
+
+    List<RunReader> readers = new ArrayList<>(runs.size());
+    try {
+      for (Run run : runs) {
+        readers.add(new RunReader(run));
+      }
+
+      if (sort) {
+        PriorityQueue<RunReader> heads =
+            new PriorityQueue<>(Math.max(1, readers.size()), (r1, r2) -> r1.head.compareTo(r2.head));
+
+        for (RunReader reader : readers) {
+          if (reader.advance()) {
+            heads.add(reader);
+          }
+        }
+
+        ComparableEvent last = null;
+        while (!heads.isEmpty()) {
+          RunReader reader = heads.poll();
+
+          if (last != null && last.compareTo(reader.head) == 0) {
+            last.seen += reader.head.seen;
+          }
+          else {
+            last = reader.head;
+            uniqueEvents.add(last);
+          }
+
+          if (reader.advance()) {
+            heads.add(reader);
+          }
+        }
+      }
+      else {
+        for (RunReader reader : readers) {
+          while (reader.advance()) {
+            uniqueEvents.add(reader.head);
+          }
+        }
+      }
+    }
+    finally {
+      for (RunReader reader : readers) {
+        reader.close();
+      }
+    }
+
+    return uniqueEvents;
+  }
+
+  private static void writeValues(DataOutputStream out, float[] values) throws IOException {
+    if (values == null) {
+      out.writeInt(-1);
+    }
+    else {
+      out.writeInt(values.length);
+      for (float value : values) {
+        out.writeFloat(value);
+      }
+    }
+  }
+
+  private static float[] readValues(DataInputStream in) throws IOException {
+    int length = in.readInt();
+
+    if (length == -1) {
+      return null;
+    }
+
+    float[] values = new float[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = in.readFloat();
+    }
+    return values;
+  }
+
+  private static <T> T get(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while indexing events!", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new RuntimeException("Exception during indexing: " + e.getMessage(), e);
+    }
+  }
+
+  private static final class Predicate {
+    private final String name;
+    private final int id;
+    private final LongAdder count = new LongAdder();
+
+    private Predicate(String name, int id) {
+      this.name = name;
+      this.id = id;
+    }
+  }
+
+  private static final class Batch {
+    private final int numEvents;
+    private byte[] bytes;
+    private long offset;
+
+    private Batch(int numEvents, byte[] bytes) {
+      this.numEvents = numEvents;
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class Run {
+    private final File file;
+    private final int numEvents;
+    private final int numUniqueEvents;
+
+    private Run(File file, int numEvents, int numUniqueEvents) {
+      this.file = file;
+      this.numEvents = numEvents;
+      this.numUniqueEvents = numUniqueEvents;
+    }
+  }
+
+  private static final class RunReader implements Closeable {
+    private final DataInputStream in;
+    private int remaining;
+    private ComparableEvent head;
+
+    private RunReader(Run run) throws IOException {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file)));
+      remaining = run.numUniqueEvents;
+    }
+
+    private boolean advance() throws IOException {
+      if (remaining == 0) {
+        head = null;
+        return false;
+      }
+
+      int outcome = in.readInt();
+      int seen = in.readInt();
+      int[] predIndexes = new int[in.readInt()];
+      for (int i = 0; i < predIndexes.length; i++) {
+        predIndexes[i] = in.readInt();
+      }
+
+      head = new ComparableEvent(outcome, predIndexes, readValues(in));
+      head.seen = seen;
+      remaining--;
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
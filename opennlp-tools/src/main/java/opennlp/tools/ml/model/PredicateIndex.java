@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps a fixed set of predicates to the indexes 0 to n - 1 with a perfect hash
+ * function over the {@link String#hashCode()} of the predicates.
+ * <p>
+ * The hash function is built with the hash and displace method: the predicates are
+ * distributed to buckets and for every bucket a seed is searched which maps all its
+ * predicates to free slots. There are about ten percent more slots than predicates,
+ * so a seed for the last buckets is found quickly, and each slot stores the index of
+ * its predicate. A lookup needs two hash computations, an array access to the seed and
+ * the slot and one comparison with the predicate at the index.
+ * Predicates which share their hash code with other predicates can not be separated
+ * by the hash function, they and the predicates of the rare buckets for which no seed
+ * is found are stored in an additional map instead.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class PredicateIndex {
+
+  /**
+   * The average number of predicates per bucket.
+   */
+  private static final int BUCKET_LOAD = 4;
+
+  private static final int MAX_SEED = 1 << 16;
+
+  private final String[] predicates;
+  private final int[] hashes;
+  private final int[] seeds;
+  private final int[] slotIndexes;
+  private final Map<String, Integer> collisions;
+
+  // the sorted hash codes of the colliding predicates
+  private final int[] collisionHashes;
+
+  private PredicateIndex(String[] predicates, int[] hashes, int[] seeds, int[] slotIndexes,
+      Map<String, Integer> collisions) {
+    this.predicates = predicates;
+    this.hashes = hashes;
+    this.seeds = seeds;
+    this.slotIndexes = slotIndexes;
+    this.collisions = collisions;
+
+    if (collisions != null) {
+      collisionHashes = collisions.keySet().stream().mapToInt(String::hashCode).sorted().toArray();
+    }
+    else {
+      collisionHashes = null;
+    }
+  }
+
+  /**
+   * Builds the index for the given predicates.
+   *
+   * @param predicates the predicates, must not contain duplicates
+   *
+   * @return the index
+   *
+   * @throws IllegalArgumentException if the predicates contain duplicates
+   */
+  public static PredicateIndex build(String[] predicates) {
+    return build(predicates, MAX_SEED);
+  }
+
+  /**
+   * Builds the index, the seed search for a bucket gives up after the given number of seeds.
+   */
+  static PredicateIndex build(String[] predicates, int maxSeed) {
+
+    // predicates which have a unique hash code can be placed with the hash function
+    Map<Integer, Integer> hashCounts = new HashMap<>(predicates.length * 2);
+    for (String predicate : predicates) {
+      hashCounts.merge(predicate.hashCode(), 1, Integer::sum);
+    }
+
+    String[] hashed = new String[predicates.length];
+    int numHashed = 0;
+    String[] colliding = new String[predicates.length];
+    int numColliding = 0;
+
+    for (String predicate : predicates) {
+      if (hashCounts.get(predicate.hashCode()) == 1) {
+        hashed[numHashed++] = predicate;
+      }
+      else {
+        colliding[numColliding++] = predicate;
+      }
+    }
+
+    int numBuckets = Math.max(1, (numHashed + BUCKET_LOAD - 1) / BUCKET_LOAD);
+
+    // sort the predicates by bucket with a counting sort
+    int[] bucketStart = new int[numBuckets + 1];
+    for (int i = 0; i < numHashed; i++) {
+      bucketStart[bucket(hashed[i].hashCode(), numBuckets) + 1]++;
+    }
+    for (int b = 0; b < numBuckets; b++) {
+      bucketStart[b + 1] += bucketStart[b];
+    }
+
+    int[] bucketHashes = new int[numHashed];
+    int[] fill = Arrays.copyOf(bucketStart, numBuckets);
+    for (int i = 0; i < numHashed; i++) {
+      int h = hashed[i].hashCode();
+      bucketHashes[fill[bucket(h, numBuckets)]++] = h;
+    }
+
+    // place the largest buckets first, they are the hardest to place
+    Integer[] bucketOrder = new Integer[numBuckets];
+    for (int b = 0; b < numBuckets; b++) {
+      bucketOrder[b] = b;
+    }
+    Arrays.sort(bucketOrder, (b1, b2) -> Integer.compare(
+        bucketStart[b2 + 1] - bucketStart[b2], bucketStart[b1 + 1] - bucketStart[b1]));
+
+    int numSlots = (int) Math.min(Integer.MAX_VALUE - 8, numHashed + numHashed / 10L + 1);
+
+    // a seed of zero marks a bucket which could not be placed
+    int[] seeds = new int[numBuckets];
+    boolean[] occupied = new boolean[numSlots];
+    int[] slots = new int[numHashed];
+
+    for (int b : bucketOrder) {
+      int start = bucketStart[b];
+      int end = bucketStart[b + 1];
+
+      if (start == end) {
+        break;
+      }
+
+      int seed = 0;
+      boolean placed = false;
+      while (!placed && seed < maxSeed) {
+        seed++;
+
+        placed = true;
+        for (int i = start; i < end && placed; i++) {
+          int slot = slot(bucketHashes[i], seed, numSlots);
+          if (occupied[slot]) {
+            placed = false;
+          }
+          else {
+            for (int j = start; j < i; j++) {
+              if (slots[j] == slot) {
+                placed = false;
+                break;
+              }
+            }
+          }
+          slots[i] = slot;
+        }
+      }
+
+      if (placed) {
+        seeds[b] = seed;
+        for (int i = start; i < end; i++) {
+          occupied[slots[i]] = true;
+        }
+      }
+    }
+
+    // the indexes are assigned in slot order, the predicates of unplaced buckets are
+    // added to the colliding ones
+    int[] slotIndexes = new int[numSlots];
+    Arrays.fill(slotIndexes, -1);
+    int[] slotHashes = new int[numSlots];
+    String[] slotPredicates = new String[numSlots];
+    for (int i = 0; i < numHashed; i++) {
+      int h = hashed[i].hashCode();
+      int seed = seeds[bucket(h, numBuckets)];
+      if (seed != 0) {
+        int slot = slot(h, seed, numSlots);
+        slotPredicates[slot] = hashed[i];
+        slotHashes[slot] = h;
+      }
+      else {
+        colliding[numColliding++] = hashed[i];
+      }
+    }
+
+    String[] indexedPredicates = new String[predicates.length];
+    int[] hashes = new int[predicates.length];
+    int index = 0;
+    for (int slot = 0; slot < numSlots; slot++) {
+      if (slotPredicates[slot] != null) {
+        slotIndexes[slot] = index;
+        indexedPredicates[index] = slotPredicates[slot];
+        hashes[index] = slotHashes[slot];
+        index++;
+      }
+    }
+
+    Map<String, Integer> collisions = null;
+    if (numColliding > 0) {
+      collisions = new HashMap<>(numColliding * 2);
+      for (int i = 0; i < numColliding; i++) {
+        indexedPredicates[index] = colliding[i];
+        if (collisions.put(colliding[i], index) != null) {
+          throw new IllegalArgumentException("Duplicate predicate: " + colliding[i]);
+        }
+        index++;
+      }
+    }
+
+    return new PredicateIndex(indexedPredicates, hashes, seeds, slotIndexes, collisions);
+  }
+
+  private static int mix(int h, int seed) {
+    h ^= seed * 0x9E3779B9;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static int reduce(int h, int n) {
+    return (int) (((h & 0xFFFFFFFFL) * n) >>> 32);
+  }
+
+  private static int bucket(int h, int numBuckets) {
+    return reduce(mix(h, 0), numBuckets);
+  }
+
+  private static int slot(int h, int seed, int n) {
+    return reduce(mix(h, seed), n);
+  }
+
+  /**
+   * Retrieves the index of the predicate.
+   *
+   * @param predicate the predicate
+   *
+   * @return the index or -1 if the predicate is not known
+   */
+  public int getIndex(String predicate) {
+    int h = predicate.hashCode();
+    int hashedIndex = hashedIndex(h);
+
+    if (hashedIndex >= 0 && hashes[hashedIndex] == h) {
+      return predicate.equals(predicates[hashedIndex]) ? hashedIndex : -1;
+    }
+
+    if (collisions != null) {
+      Integer index = collisions.get(predicate);
+      if (index != null) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Retrieves the index of the predicate which consists of the chars from start to end,
+   * without creating a {@link String}.
+   *
+   * @param chars the chars
+   * @param start the index of the first char of the predicate
+   * @param end the index after the last char of the predicate
+   * @param hash the hash code of the predicate, which must be computed like {@link String#hashCode()}
+   *
+   * @return the index or -1 if the predicate is not known
+   */
+  public int getIndex(char[] chars, int start, int end, int hash) {
+    int hashedIndex = hashedIndex(hash);
+
+    if (hashedIndex >= 0 && hashes[hashedIndex] == hash) {
+      return regionEquals(predicates[hashedIndex], chars, start, end) ? hashedIndex : -1;
+    }
+
+    if (collisionHashes != null && Arrays.binarySearch(collisionHashes, hash) >= 0) {
+      Integer index = collisions.get(new String(chars, start, end - start));
+      if (index != null) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Retrieves the index of the predicate in the slot for the hash code, the hash code
+   * still has to be compared.
+   *
+   * @return the index or -1 if the slot is empty or the bucket could not be placed
+   */
+  private int hashedIndex(int h) {
+    int seed = seeds[bucket(h, seeds.length)];
+    return seed != 0 ? slotIndexes[slot(h, seed, slotIndexes.length)] : -1;
+  }
+
+  private static boolean regionEquals(String predicate, char[] chars, int start, int end) {
+    if (predicate.length() != end - start) {
+      return false;
+    }
+
+    for (int i = start; i < end; i++) {
+      if (predicate.charAt(i - start) != chars[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Retrieves the predicate stored at the index.
+   *
+   * @param index the index
+   *
+   * @return the predicate
+   */
+  public String getPredicate(int index) {
+    return predicates[index];
+  }
+
+  /**
+   * @return the number of predicates in the index
+   */
+  public int size() {
+    return predicates.length;
+  }
+}
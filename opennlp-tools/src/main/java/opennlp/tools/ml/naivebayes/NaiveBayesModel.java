@@ -17,6 +17,7 @@
 
 package opennlp.tools.ml.naivebayes;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import opennlp.tools.ml.model.AbstractModel;
@@ -75,7 +76,7 @@ public class NaiveBayesModel extends AbstractModel {
 
   public double[] eval(String[] context, float[] values, double[] outsums) {
     Context[] scontexts = new Context[context.length];
-    java.util.Arrays.fill(outsums, 0);
+    Arrays.fill(outsums, 0);
     for (int i = 0; i < context.length; i++) {
       scontexts[i] = pmap.get(context[i]);
     }
@@ -88,45 +89,98 @@ public class NaiveBayesModel extends AbstractModel {
 
   static double[] eval(Context[] context, float[] values, double[] prior,
                        EvalParameters model, boolean normalize) {
-    Probabilities<Integer> probabilities = new LogProbabilities<>();
+    return eval(context, 0, context.length, values, prior, model);
+  }
+
+  /**
+   * Evaluates the contexts from index from to index to (exclusive). The log probabilities
+   * are accumulated in the prior array, which is then normalized.
+   */
+  private static double[] eval(Context[] context, int from, int to, float[] values, double[] prior,
+                               EvalParameters model) {
     double[] outcomeTotals = model instanceof NaiveBayesEvalParameters
         ? ((NaiveBayesEvalParameters) model).getOutcomeTotals() : new double[prior.length];
     long vocabulary = model instanceof NaiveBayesEvalParameters
         ? ((NaiveBayesEvalParameters) model).getVocabulary() : 0;
+    int numOutcomes = outcomeTotals.length;
+
+    Arrays.fill(prior, 0, numOutcomes, 0);
+
     double[] activeParameters;
     int[] activeOutcomes;
     double value = 1;
-    for (int ci = 0; ci < context.length; ci++) {
+    for (int ci = from; ci < to; ci++) {
       if (context[ci] != null) {
         Context predParams = context[ci];
         activeOutcomes = predParams.getOutcomes();
         activeParameters = predParams.getParameters();
         if (values != null) {
-          value = values[ci];
+          value = values[ci - from];
         }
         int ai = 0;
-        for (int i = 0; i < outcomeTotals.length && ai < activeOutcomes.length; ++i) {
+        for (int i = 0; i < numOutcomes && ai < activeOutcomes.length; ++i) {
           int oid = activeOutcomes[ai];
           double numerator = oid == i ? activeParameters[ai++] * value : 0;
           double denominator = outcomeTotals[i];
-          probabilities.addIn(i, getProbability(numerator, denominator, vocabulary, true), 1);
+          prior[i] += Math.log(getProbability(numerator, denominator, vocabulary, true));
         }
       }
     }
     double total = 0;
-    for (int i = 0; i < outcomeTotals.length; ++i) {
+    for (int i = 0; i < numOutcomes; ++i) {
       total += outcomeTotals[i];
     }
-    for (int i = 0; i < outcomeTotals.length; ++i) {
+    for (int i = 0; i < numOutcomes; ++i) {
       double numerator = outcomeTotals[i];
-      probabilities.addIn(i, numerator / total, 1);
+      prior[i] += Math.log(numerator / total);
+    }
+
+    // normalize the log probabilities, like LogProbabilities does
+    double highestLogProbability = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < numOutcomes; ++i) {
+      if (prior[i] > highestLogProbability) {
+        highestLogProbability = prior[i];
+      }
+    }
+    double sum = 0;
+    for (int i = 0; i < numOutcomes; ++i) {
+      double p = Math.exp(prior[i] - highestLogProbability);
+      if (Double.isNaN(p)) {
+        p = 0;
+      }
+      sum += p;
+      prior[i] = p;
     }
-    for (int i = 0; i < outcomeTotals.length; ++i) {
-      prior[i] = probabilities.get(i);
+    if (sum > Double.MIN_VALUE) {
+      for (int i = 0; i < numOutcomes; ++i) {
+        prior[i] /= sum;
+      }
     }
     return prior;
   }
 
+  /**
+   * Evaluates a batch of contexts. The parameters of the predicates of all contexts
+   * are looked up once for the whole batch, see {@link #lookupParameters(String[][], int[])},
+   * before the contexts are scored.
+   */
+  @Override
+  public double[][] eval(String[][] contexts, double[][] probs) {
+    int[] offsets = new int[contexts.length + 1];
+    Context[] params = lookupParameters(contexts, offsets);
+
+    for (int i = 0; i < contexts.length; i++) {
+      eval(params, offsets[i], offsets[i + 1], probs[i]);
+    }
+
+    return probs;
+  }
+
+  @Override
+  protected double[] eval(Context[] params, int from, int to, double[] probs) {
+    return eval(params, from, to, null, probs, evalParams);
+  }
+
   static double[] eval(int[] context, float[] values, double[] prior,
                               EvalParameters model, boolean normalize) {
     Context[] scontexts = new Context[context.length];
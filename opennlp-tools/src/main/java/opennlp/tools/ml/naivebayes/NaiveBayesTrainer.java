@@ -55,24 +55,9 @@ public class NaiveBayesTrainer extends AbstractEventTrainer {
    */
   private int numOutcomes;
   /**
-   * Records the array of predicates seen in each event.
+   * The indexed events, they are only visited with forEachEvent.
    */
-  private int[][] contexts;
-
-  /**
-   * The value associates with each context. If null then context values are assumes to be 1.
-   */
-  private float[][] values;
-
-  /**
-   * List of outcomes for each event i, in context[i].
-   */
-  private int[] outcomeList;
-
-  /**
-   * Records the num of times an event has been seen for each event i, in context[i].
-   */
-  private int[] numTimesEventsSeen;
+  private DataIndexer indexer;
 
   /**
    * Stores the String names of the outcomes.  The NaiveBayes only tracks outcomes
@@ -109,14 +94,11 @@ public class NaiveBayesTrainer extends AbstractEventTrainer {
 
   public AbstractModel trainModel(DataIndexer di) {
     display("Incorporating indexed data for training...  \n");
-    contexts = di.getContexts();
-    values = di.getValues();
-    numTimesEventsSeen = di.getNumTimesEventsSeen();
+    indexer = di;
     numEvents = di.getNumEvents();
-    numUniqueEvents = contexts.length;
+    numUniqueEvents = di.getNumUniqueEvents();
 
     outcomeLabels = di.getOutcomeLabels();
-    outcomeList = di.getOutcomeList();
 
     predLabels = di.getPredLabels();
     numPreds = predLabels.length;
@@ -134,6 +116,8 @@ public class NaiveBayesTrainer extends AbstractEventTrainer {
 
     display("...done.\n");
 
+    indexer = null;
+
     /* Create and return the model ****/
     return new NaiveBayesModel(finalParameters, predLabels, outcomeLabels);
   }
@@ -156,19 +140,18 @@ public class NaiveBayesTrainer extends AbstractEventTrainer {
 
     double stepSize = 1;
 
-    for (int ei = 0; ei < numUniqueEvents; ei++) {
-      int targetOutcome = outcomeList[ei];
-      for (int ni = 0; ni < this.numTimesEventsSeen[ei]; ni++) {
-        for (int ci = 0; ci < contexts[ei].length; ci++) {
-          int pi = contexts[ei][ci];
-          if (values == null) {
+    indexer.forEachEvent((ei, context, eventValues, targetOutcome, numTimesSeen) -> {
+      for (int ni = 0; ni < numTimesSeen; ni++) {
+        for (int ci = 0; ci < context.length; ci++) {
+          int pi = context[ci];
+          if (eventValues == null) {
             params[pi].updateParameter(targetOutcome, stepSize);
           } else {
-            params[pi].updateParameter(targetOutcome, stepSize * values[ei][ci]);
+            params[pi].updateParameter(targetOutcome, stepSize * eventValues[ci]);
           }
         }
       }
-    }
+    });
 
     // Output the final training stats.
     trainingStats(evalParams);
@@ -178,25 +161,22 @@ public class NaiveBayesTrainer extends AbstractEventTrainer {
   }
 
   private double trainingStats(EvalParameters evalParams) {
-    int numCorrect = 0;
+    int[] numCorrect = new int[1];
 
-    for (int ei = 0; ei < numUniqueEvents; ei++) {
-      for (int ni = 0; ni < this.numTimesEventsSeen[ei]; ni++) {
+    indexer.forEachEvent((ei, context, eventValues, outcome, numTimesSeen) -> {
+      for (int ni = 0; ni < numTimesSeen; ni++) {
 
         double[] modelDistribution = new double[numOutcomes];
 
-        if (values != null)
-          NaiveBayesModel.eval(contexts[ei], values[ei], modelDistribution, evalParams, false);
-        else
-          NaiveBayesModel.eval(contexts[ei], null, modelDistribution, evalParams, false);
+        NaiveBayesModel.eval(context, eventValues, modelDistribution, evalParams, false);
 
         int max = ArrayMath.argmax(modelDistribution);
-        if (max == outcomeList[ei])
-          numCorrect++;
+        if (max == outcome)
+          numCorrect[0]++;
       }
-    }
-    double trainingAccuracy = (double) numCorrect / numEvents;
-    display("Stats: (" + numCorrect + "/" + numEvents + ") " + trainingAccuracy + "\n");
+    });
+    double trainingAccuracy = (double) numCorrect[0] / numEvents;
+    display("Stats: (" + numCorrect[0] + "/" + numEvents + ") " + trainingAccuracy + "\n");
     return trainingAccuracy;
   }
 
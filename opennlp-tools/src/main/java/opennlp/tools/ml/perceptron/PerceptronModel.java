@@ -17,6 +17,8 @@
 
 package opennlp.tools.ml.perceptron;
 
+import java.util.Arrays;
+
 import opennlp.tools.ml.ArrayMath;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.Context;
@@ -43,7 +45,7 @@ public class PerceptronModel extends AbstractModel {
 
   public double[] eval(String[] context, float[] values,double[] outsums) {
     Context[] scontexts = new Context[context.length];
-    java.util.Arrays.fill(outsums, 0);
+    Arrays.fill(outsums, 0);
     for (int i = 0; i < context.length; i++) {
       scontexts[i] = pmap.get(context[i]);
     }
@@ -70,25 +72,52 @@ public class PerceptronModel extends AbstractModel {
     ArrayMath.sumFeatures(context, values, prior);
 
     if (normalize) {
-      int numOutcomes = model.getNumOutcomes();
+      normalize(prior, model.getNumOutcomes());
+    }
+    return prior;
+  }
 
-      double maxPrior = 1;
+  /**
+   * Evaluates a batch of contexts. The parameters of the predicates of all contexts
+   * are looked up once for the whole batch, see {@link #lookupParameters(String[][], int[])},
+   * before the contexts are scored.
+   */
+  @Override
+  public double[][] eval(String[][] contexts, double[][] probs) {
+    int[] offsets = new int[contexts.length + 1];
+    Context[] params = lookupParameters(contexts, offsets);
+
+    for (int i = 0; i < contexts.length; i++) {
+      eval(params, offsets[i], offsets[i + 1], probs[i]);
+    }
 
-      for (int oid = 0; oid < numOutcomes; oid++) {
-        if (maxPrior < Math.abs(prior[oid]))
-          maxPrior = Math.abs(prior[oid]);
-      }
+    return probs;
+  }
 
-      double normal = 0.0;
-      for (int oid = 0; oid < numOutcomes; oid++) {
-        prior[oid] = Math.exp(prior[oid] / maxPrior);
-        normal += prior[oid];
-      }
+  @Override
+  protected double[] eval(Context[] params, int from, int to, double[] outsums) {
+    Arrays.fill(outsums, 0);
+    ArrayMath.sumFeatures(params, from, to, outsums);
+    normalize(outsums, evalParams.getNumOutcomes());
+    return outsums;
+  }
 
-      for (int oid = 0; oid < numOutcomes; oid++) {
-        prior[oid] /= normal;
-      }
+  private static void normalize(double[] prior, int numOutcomes) {
+    double maxPrior = 1;
+
+    for (int oid = 0; oid < numOutcomes; oid++) {
+      if (maxPrior < Math.abs(prior[oid]))
+        maxPrior = Math.abs(prior[oid]);
+    }
+
+    double normal = 0.0;
+    for (int oid = 0; oid < numOutcomes; oid++) {
+      prior[oid] = Math.exp(prior[oid] / maxPrior);
+      normal += prior[oid];
+    }
+
+    for (int oid = 0; oid < numOutcomes; oid++) {
+      prior[oid] /= normal;
     }
-    return prior;
   }
 }
@@ -18,9 +18,18 @@
 package opennlp.tools.ml.perceptron;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.ParallelTasks;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.EvalParameters;
@@ -33,7 +42,14 @@ import opennlp.tools.util.TrainingParameters;
  * average weighting as described in:
  * Discriminative Training Methods for Hidden Markov Models: Theory and Experiments
  * with the Perceptron Algorithm. Michael Collins, EMNLP 2002.
- *
+ * <p>
+ * With more than one thread the events are split into one shard per thread and
+ * trained with iterative parameter mixing as described in:
+ * Distributed Training Strategies for the Structured Perceptron.
+ * Ryan McDonald, Keith Hall and Gideon Mann, NAACL 2010.
+ * Every iteration each shard is trained on a copy of the parameters and afterwards
+ * the parameters are set to the mean of the shard parameters, weighted by the
+ * number of events in the shard. The averaging is done on the mixed parameters.
  */
 public class PerceptronTrainer extends AbstractEventTrainer {
 
@@ -49,17 +65,8 @@ public class PerceptronTrainer extends AbstractEventTrainer {
   private int numPreds;
   /** Number of outcomes. */
   private int numOutcomes;
-  /** Records the array of predicates seen in each event. */
-  private int[][] contexts;
-
-  /** The value associates with each context. If null then context values are assumes to be 1. */
-  private float[][] values;
-
-  /** List of outcomes for each event i, in context[i]. */
-  private int[] outcomeList;
-
-  /** Records the num of times an event has been seen for each event i, in context[i]. */
-  private int[] numTimesEventsSeen;
+  /** The indexed events, they are only visited with forEachEvent. */
+  private DataIndexer indexer;
 
   /** Stores the String names of the outcomes.  The GIS only tracks outcomes
   as ints, and so this array is needed to save the model to disk and
@@ -79,6 +86,8 @@ public class PerceptronTrainer extends AbstractEventTrainer {
 
   private boolean useSkippedlAveraging;
 
+  private int threads = 1;
+
   public PerceptronTrainer() {
   }
 
@@ -144,6 +153,8 @@ public class PerceptronTrainer extends AbstractEventTrainer {
 
     this.setTolerance(tolerance);
 
+    this.setThreads(trainingParameters.getIntParameter(TrainingParameters.THREADS_PARAM, 1));
+
     model = this.trainModel(iterations, indexer, cutoff, useAverage);
 
     return model;
@@ -202,20 +213,32 @@ public class PerceptronTrainer extends AbstractEventTrainer {
     useSkippedlAveraging = averaging;
   }
 
+  /**
+   * Specifies the number of threads which train the model. With one thread the
+   * events are trained in order, otherwise with iterative parameter mixing.
+   *
+   * @param threads the number of threads
+   */
+  public void setThreads(int threads) {
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be at least one or greater but is " + threads + "!");
+    }
+
+    this.threads = threads;
+  }
+
   public AbstractModel trainModel(int iterations, DataIndexer di, int cutoff) {
     return trainModel(iterations,di,cutoff,true);
   }
 
   public AbstractModel trainModel(int iterations, DataIndexer di, int cutoff, boolean useAverage) {
     display("Incorporating indexed data for training...  \n");
-    contexts = di.getContexts();
-    values = di.getValues();
-    numTimesEventsSeen = di.getNumTimesEventsSeen();
+    indexer = di;
     numEvents = di.getNumEvents();
-    numUniqueEvents = contexts.length;
+    numUniqueEvents = di.getNumUniqueEvents();
 
     outcomeLabels = di.getOutcomeLabels();
-    outcomeList = di.getOutcomeList();
 
     predLabels = di.getPredLabels();
     numPreds = predLabels.length;
@@ -233,6 +256,8 @@ public class PerceptronTrainer extends AbstractEventTrainer {
 
     display("...done.\n");
 
+    indexer = null;
+
     /* Create and return the model *************/
     return new PerceptronModel(finalParameters, predLabels, outcomeLabels);
   }
@@ -275,86 +300,68 @@ public class PerceptronTrainer extends AbstractEventTrainer {
     // A counter for the denominator for averaging.
     int numTimesSummed = 0;
 
-    double stepsize = 1;
-    for (int i = 1; i <= iterations; i++) {
-
-      // Decrease the stepsize by a small amount.
-      if (stepSizeDecrease != null)
-        stepsize *= 1 - stepSizeDecrease;
-
-      displayIteration(i);
-
-      int numCorrect = 0;
-
-      for (int ei = 0; ei < numUniqueEvents; ei++) {
-        int targetOutcome = outcomeList[ei];
-
-        for (int ni = 0; ni < this.numTimesEventsSeen[ei]; ni++) {
-
-          // Compute the model's prediction according to the current parameters.
-          double[] modelDistribution = new double[numOutcomes];
-          if (values != null)
-            PerceptronModel.eval(contexts[ei], values[ei], modelDistribution, evalParams, false);
-          else
-            PerceptronModel.eval(contexts[ei], null, modelDistribution, evalParams, false);
-
-          int maxOutcome = ArrayMath.argmax(modelDistribution);
-
-          // If the predicted outcome is different from the target
-          // outcome, do the standard update: boost the parameters
-          // associated with the target and reduce those associated
-          // with the incorrect predicted outcome.
-          if (maxOutcome != targetOutcome) {
-            for (int ci = 0; ci < contexts[ei].length; ci++) {
-              int pi = contexts[ei][ci];
-              if (values == null) {
-                params[pi].updateParameter(targetOutcome, stepsize);
-                params[pi].updateParameter(maxOutcome, -stepsize);
-              } else {
-                params[pi].updateParameter(targetOutcome, stepsize * values[ei][ci]);
-                params[pi].updateParameter(maxOutcome, -stepsize * values[ei][ci]);
-              }
-            }
-          }
+    ShardedParameters shards = null;
+    int numShards = Math.min(threads, numUniqueEvents);
+    if (numShards > 1) {
+      display("Training with parameter mixing in " + numShards + " threads.\n");
+      shards = new ShardedParameters(numShards, allOutcomesPattern);
+    }
+
+    try {
+      double stepsize = 1;
+      for (int i = 1; i <= iterations; i++) {
+
+        // Decrease the stepsize by a small amount.
+        if (stepSizeDecrease != null)
+          stepsize *= 1 - stepSizeDecrease;
 
-          // Update the counts for accuracy.
-          if (maxOutcome == targetOutcome)
-            numCorrect++;
+        displayIteration(i);
+
+        int numCorrect;
+        if (shards == null) {
+          numCorrect = trainEvents(0, numUniqueEvents, params, evalParams, stepsize);
+        }
+        else {
+          numCorrect = trainShards(shards, params, stepsize);
         }
-      }
 
-      // Calculate the training accuracy and display.
-      double trainingAccuracy = (double) numCorrect / numEvents;
-      if (i < 10 || (i % 10) == 0)
-        display(". (" + numCorrect + "/" + numEvents + ") " + trainingAccuracy + "\n");
+        // Calculate the training accuracy and display.
+        double trainingAccuracy = (double) numCorrect / numEvents;
+        if (i < 10 || (i % 10) == 0)
+          display(". (" + numCorrect + "/" + numEvents + ") " + trainingAccuracy + "\n");
 
-      // TODO: Make averaging configurable !!!
+        // TODO: Make averaging configurable !!!
 
-      boolean doAveraging;
+        boolean doAveraging;
 
-      doAveraging = useAverage && useSkippedlAveraging && (i < 20 || isPerfectSquare(i)) || useAverage;
+        doAveraging = useAverage && useSkippedlAveraging && (i < 20 || isPerfectSquare(i)) || useAverage;
 
-      if (doAveraging) {
-        numTimesSummed++;
-        for (int pi = 0; pi < numPreds; pi++)
-          for (int aoi = 0; aoi < numOutcomes; aoi++)
-            summedParams[pi].updateParameter(aoi, params[pi].getParameters()[aoi]);
-      }
+        if (doAveraging) {
+          numTimesSummed++;
+          for (int pi = 0; pi < numPreds; pi++)
+            for (int aoi = 0; aoi < numOutcomes; aoi++)
+              summedParams[pi].updateParameter(aoi, params[pi].getParameters()[aoi]);
+        }
 
-      // If the tolerance is greater than the difference between the
-      // current training accuracy and all of the previous three
-      // training accuracies, stop training.
-      if (Math.abs(prevAccuracy1 - trainingAccuracy) < tolerance
-          && Math.abs(prevAccuracy2 - trainingAccuracy) < tolerance
-          && Math.abs(prevAccuracy3 - trainingAccuracy) < tolerance) {
-        display("Stopping: change in training set accuracy less than " + tolerance + "\n");
-        break;
-      }
+        // If the tolerance is greater than the difference between the
+        // current training accuracy and all of the previous three
+        // training accuracies, stop training.
+        if (Math.abs(prevAccuracy1 - trainingAccuracy) < tolerance
+            && Math.abs(prevAccuracy2 - trainingAccuracy) < tolerance
+            && Math.abs(prevAccuracy3 - trainingAccuracy) < tolerance) {
+          display("Stopping: change in training set accuracy less than " + tolerance + "\n");
+          break;
+        }
 
-      // Update the previous training accuracies.
-      prevAccuracy1 = prevAccuracy2;
-      prevAccuracy2 = prevAccuracy3;
-      prevAccuracy3 = trainingAccuracy;
+        // Update the previous training accuracies.
+        prevAccuracy1 = prevAccuracy2;
+        prevAccuracy2 = prevAccuracy3;
+        prevAccuracy3 = trainingAccuracy;
+      }
+    } finally {
+      if (shards != null) {
+        shards.executor.shutdown();
+      }
     }
 
     // Output the final training stats.
@@ -376,26 +383,146 @@ public class PerceptronTrainer extends AbstractEventTrainer {
 
   }
 
-  private double trainingStats(EvalParameters evalParams) {
+  /**
+   * Trains one iteration over a range of the events.
+   *
+   * @return the number of events which were predicted correctly before the update
+   */
+  private int trainEvents(int from, int to, MutableContext[] params, EvalParameters evalParams,
+      double stepsize) {
+    int[] numCorrect = new int[1];
+
+    double[] modelDistribution = new double[numOutcomes];
+
+    indexer.forEachEvent(from, to, (ei, context, eventValues, targetOutcome, numTimesSeen) -> {
+      for (int ni = 0; ni < numTimesSeen; ni++) {
+
+        // Compute the model's prediction according to the current parameters.
+        Arrays.fill(modelDistribution, 0);
+        PerceptronModel.eval(context, eventValues, modelDistribution, evalParams, false);
+
+        int maxOutcome = ArrayMath.argmax(modelDistribution);
+
+        // If the predicted outcome is different from the target
+        // outcome, do the standard update: boost the parameters
+        // associated with the target and reduce those associated
+        // with the incorrect predicted outcome.
+        if (maxOutcome != targetOutcome) {
+          for (int ci = 0; ci < context.length; ci++) {
+            int pi = context[ci];
+            if (eventValues == null) {
+              params[pi].updateParameter(targetOutcome, stepsize);
+              params[pi].updateParameter(maxOutcome, -stepsize);
+            } else {
+              params[pi].updateParameter(targetOutcome, stepsize * eventValues[ci]);
+              params[pi].updateParameter(maxOutcome, -stepsize * eventValues[ci]);
+            }
+          }
+        }
+
+        // Update the counts for accuracy.
+        if (maxOutcome == targetOutcome)
+          numCorrect[0]++;
+      }
+    });
+
+    return numCorrect[0];
+  }
+
+  /**
+   * Trains one iteration of all shards in parallel and mixes the shard parameters
+   * into the parameters.
+   *
+   * @return the number of events which were predicted correctly before the update
+   */
+  private int trainShards(ShardedParameters shards, MutableContext[] params, double stepsize) {
+    int numShards = shards.params.length;
+
+    List<Callable<Integer>> trainTasks = new ArrayList<>(numShards);
+    for (int si = 0; si < numShards; si++) {
+      int from = shards.starts[si];
+      int to = shards.starts[si + 1];
+      MutableContext[] shardParams = shards.params[si];
+      EvalParameters shardEvalParams = shards.evalParams[si];
+      trainTasks.add(() -> trainEvents(from, to, shardParams, shardEvalParams, stepsize));
+    }
+
     int numCorrect = 0;
+    for (int shardCorrect : invokeAll(shards.executor, trainTasks)) {
+      numCorrect += shardCorrect;
+    }
+
+    // each task mixes the parameters of a range of the predicates
+    List<Callable<Integer>> mixTasks = new ArrayList<>(numShards);
+    for (int si = 0; si < numShards; si++) {
+      int from = (int) ((long) numPreds * si / numShards);
+      int to = (int) ((long) numPreds * (si + 1) / numShards);
+      mixTasks.add(() -> mixParameters(from, to, shards, params));
+    }
+    invokeAll(shards.executor, mixTasks);
+
+    return numCorrect;
+  }
+
+  /**
+   * Sets the parameters of a range of the predicates to the weighted mean of the
+   * shard parameters, and the shard parameters to the mixed parameters.
+   *
+   * @return the number of mixed predicates
+   */
+  private int mixParameters(int from, int to, ShardedParameters shards, MutableContext[] params) {
+    for (int pi = from; pi < to; pi++) {
+      double[] mixed = params[pi].getParameters();
+
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        double sum = 0;
+        for (int si = 0; si < shards.params.length; si++) {
+          sum += shards.weights[si] * shards.params[si][pi].getParameters()[oi];
+        }
+        mixed[oi] = sum;
+      }
+
+      for (MutableContext[] shardParams : shards.params) {
+        System.arraycopy(mixed, 0, shardParams[pi].getParameters(), 0, numOutcomes);
+      }
+    }
 
-    for (int ei = 0; ei < numUniqueEvents; ei++) {
-      for (int ni = 0; ni < this.numTimesEventsSeen[ei]; ni++) {
+    return to - from;
+  }
+
+  private static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) {
+    List<T> results = new ArrayList<>(tasks.size());
+    try {
+      for (Future<T> future : executor.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      throw new IllegalStateException("Interruption is not supported!", e);
+    } catch (ExecutionException e) {
+      // Only runtime exception can be thrown during training, if one was thrown
+      // it should be re-thrown.
+      throw new RuntimeException("Exception during training: " + e.getMessage(), e);
+    }
+    return results;
+  }
+
+  private double trainingStats(EvalParameters evalParams) {
+    int[] numCorrect = new int[1];
+
+    indexer.forEachEvent((ei, context, eventValues, outcome, numTimesSeen) -> {
+      for (int ni = 0; ni < numTimesSeen; ni++) {
 
         double[] modelDistribution = new double[numOutcomes];
 
-        if (values != null)
-          PerceptronModel.eval(contexts[ei], values[ei], modelDistribution, evalParams,false);
-        else
-          PerceptronModel.eval(contexts[ei], null, modelDistribution, evalParams, false);
+        PerceptronModel.eval(context, eventValues, modelDistribution, evalParams, false);
 
         int max = ArrayMath.argmax(modelDistribution);
-        if (max == outcomeList[ei])
-          numCorrect++;
+        if (max == outcome)
+          numCorrect[0]++;
       }
-    }
-    double trainingAccuracy = (double) numCorrect / numEvents;
-    display("Stats: (" + numCorrect + "/" + numEvents + ") " + trainingAccuracy + "\n");
+    });
+    double trainingAccuracy = (double) numCorrect[0] / numEvents;
+    display("Stats: (" + numCorrect[0] + "/" + numEvents + ") " + trainingAccuracy + "\n");
     return trainingAccuracy;
   }
 
@@ -418,4 +545,53 @@ public class PerceptronTrainer extends AbstractEventTrainer {
     return root * root == n;
   }
 
+  /**
+   * The shards of the events, and for each shard the parameters it is trained on.
+   */
+  private class ShardedParameters {
+
+    private final int[] starts;
+    private final double[] weights;
+    private final MutableContext[][] params;
+    private final EvalParameters[] evalParams;
+    private final ExecutorService executor;
+
+    private ShardedParameters(int numShards, int[] allOutcomesPattern) {
+
+      // the shards are contiguous ranges with about the same number of events
+      starts = ParallelTasks.splitSequence(numUniqueEvents, numShards, events -> indexer.forEachEvent(
+          (ei, context, eventValues, outcome, numTimesSeen) -> events.accept(numTimesSeen)));
+
+      long totalEvents = 0;
+      long[] shardEvents = new long[numShards];
+      int si;
+      for (si = 0; si < numShards; si++) {
+        int shard = si;
+        indexer.forEachEvent(starts[si], starts[si + 1],
+            (ei, context, eventValues, outcome, numTimesSeen) -> shardEvents[shard] += numTimesSeen);
+        totalEvents += shardEvents[si];
+      }
+
+      weights = new double[numShards];
+      for (si = 0; si < numShards; si++) {
+        weights[si] = totalEvents > 0 ? (double) shardEvents[si] / totalEvents : 1d / numShards;
+      }
+
+      params = new MutableContext[numShards][numPreds];
+      evalParams = new EvalParameters[numShards];
+      for (si = 0; si < numShards; si++) {
+        for (int pi = 0; pi < numPreds; pi++) {
+          params[si][pi] = new MutableContext(allOutcomesPattern, new double[numOutcomes]);
+        }
+        evalParams[si] = new EvalParameters(params[si], numOutcomes);
+      }
+
+      executor = Executors.newFixedThreadPool(numShards, runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.ml.perceptron.PerceptronTrainer.trainShards()");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
 }
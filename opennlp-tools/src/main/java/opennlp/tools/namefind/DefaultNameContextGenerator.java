@@ -20,6 +20,7 @@ package opennlp.tools.namefind;
 import java.util.ArrayList;
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.featuregen.AdaptiveFeatureGenerator;
 import opennlp.tools.util.featuregen.BigramNameFeatureGenerator;
 import opennlp.tools.util.featuregen.CachedFeatureGenerator;
@@ -140,4 +141,41 @@ public class DefaultNameContextGenerator implements NameContextGenerator {
 
     return features.toArray(new String[features.size()]);
   }
+
+  /**
+   * Adds the ids of the features which {@link #getContext(int, String[], String[], Object[])}
+   * generates to the buffer, without creating the feature strings.
+   *
+   * @param features the buffer the feature ids are added to
+   * @param index the index of the token
+   * @param tokens the tokens of the sentence
+   * @param preds the previous outcomes
+   * @param additionalContext the additional context
+   */
+  public void getContext(HashedFeatures features, int index, String[] tokens, String[] preds,
+      Object[] additionalContext) {
+
+    for (AdaptiveFeatureGenerator featureGenerator : featureGenerators) {
+      featureGenerator.createFeatures(features, tokens, index, preds);
+    }
+
+    //previous outcome features
+    String po = NameFinderME.OTHER;
+    String ppo = NameFinderME.OTHER;
+
+    if (preds != null) {
+      if (index > 1) {
+        ppo = preds[index - 2];
+      }
+
+      if (index > 0) {
+        po = preds[index - 1];
+      }
+      features.add("po=", po);
+      features.append("pow=").append(po).append(',').append(tokens[index]).add();
+      features.append("powf=").append(po).append(',')
+          .append(FeatureGeneratorUtil.tokenFeature(tokens[index])).add();
+      features.add("ppo=", ppo);
+    }
+  }
 }
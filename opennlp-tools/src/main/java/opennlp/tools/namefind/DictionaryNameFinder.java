@@ -17,13 +17,12 @@
 
 package opennlp.tools.namefind;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 import opennlp.tools.dictionary.Dictionary;
 import opennlp.tools.util.Span;
-import opennlp.tools.util.StringList;
 
 /**
  * This is a dictionary based name finder, it scans text
@@ -57,35 +56,20 @@ public class DictionaryNameFinder implements TokenNameFinder {
     this(dictionary, DEFAULT_TYPE);
   }
 
+  /**
+   * Finds the names with {@link Dictionary#longestMatch(String[], int)}. At every token
+   * the longest entry which starts there is matched, and the search continues after it.
+   */
   public Span[] find(String[] textTokenized) {
-    List<Span> namesFound = new LinkedList<>();
+    List<Span> namesFound = new ArrayList<>();
 
     for (int offsetFrom = 0; offsetFrom < textTokenized.length; offsetFrom++) {
-      Span nameFound = null;
-      String[] tokensSearching;
-
-      for (int offsetTo = offsetFrom; offsetTo < textTokenized.length; offsetTo++) {
-        int lengthSearching = offsetTo - offsetFrom + 1;
-
-        if (lengthSearching > mDictionary.getMaxTokenCount()) {
-          break;
-        } else {
-          tokensSearching = new String[lengthSearching];
-          System.arraycopy(textTokenized, offsetFrom, tokensSearching, 0,
-              lengthSearching);
-
-          StringList entryForSearch = new StringList(tokensSearching);
-
-          if (mDictionary.contains(entryForSearch)) {
-            nameFound = new Span(offsetFrom, offsetTo + 1, type);
-          }
-        }
-      }
+      int length = mDictionary.longestMatch(textTokenized, offsetFrom);
 
-      if (nameFound != null) {
-        namesFound.add(nameFound);
+      if (length > 0) {
+        namesFound.add(new Span(offsetFrom, offsetFrom + length, type));
         // skip over the found tokens for the next search
-        offsetFrom += nameFound.length() - 1;
+        offsetFrom += length - 1;
       }
     }
     return namesFound.toArray(new Span[namesFound.size()]);
@@ -51,6 +51,10 @@ import opennlp.tools.util.featuregen.WindowFeatureGenerator;
 
 /**
  * Class for creating a maximum-entropy-based name finder.
+ * <p>
+ * Instances of this class are not thread-safe, the last decoded sequence and the
+ * adaptive data of the feature generators are kept in the instance. Use
+ * {@link ThreadSafeNameFinderME} to share one model between threads.
  */
 public class NameFinderME implements TokenNameFinder {
 
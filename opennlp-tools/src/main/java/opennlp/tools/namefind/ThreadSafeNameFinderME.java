@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.namefind;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import opennlp.tools.util.Span;
+
+/**
+ * A thread-safe version of the {@link NameFinderME}. Using it is completely transparent.
+ * You can use it in a single-threaded context as well, it only incurs a minimal overhead.
+ * <p>
+ * All threads share the same immutable {@link TokenNameFinderModel}. The mutable
+ * decoding state of the name finder (last decoded sequence, adaptive data of the
+ * feature generators and the additional context) is kept per thread, so that one
+ * instance of this class can be shared by all worker threads.
+ * <p>
+ * The feature generators themselves are not shared between the threads. They hold the
+ * adaptive data and per sentence caches in their own fields, and the
+ * {@link opennlp.tools.util.featuregen.AdaptiveFeatureGenerator} interface offers no
+ * way to pass this state in from the outside. The resources they use, for example
+ * dictionaries or word clusters, are artifacts of the model and are shared.
+ * <p>
+ * Note: Adaptive data is collected per thread, therefore {@link #clearAdaptiveData()}
+ * only clears the data of the calling thread. The per-thread state of all threads
+ * is released by {@link #close()}.
+ */
+public class ThreadSafeNameFinderME implements TokenNameFinder, AutoCloseable {
+
+  private static final String[][] EMPTY = new String[0][0];
+
+  private final TokenNameFinderModel model;
+
+  /**
+   * The state of all threads, the entries of terminated threads are removed by the
+   * garbage collector.
+   */
+  private final Set<ThreadState> threadStates =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  private final ThreadLocal<ThreadState> threadLocal = ThreadLocal.withInitial(() -> {
+    ThreadState state = new ThreadState();
+    threadStates.add(state);
+    return state;
+  });
+
+  public ThreadSafeNameFinderME(TokenNameFinderModel model) {
+    this.model = model;
+  }
+
+  private NameFinderME getNameFinder() {
+    ThreadState state = threadLocal.get();
+    NameFinderME nameFinder = state.nameFinder;
+    if (nameFinder == null) {
+      nameFinder = new NameFinderME(model);
+      state.nameFinder = nameFinder;
+    }
+    return nameFinder;
+  }
+
+  private NameFinderME getDocumentNameFinder() {
+    ThreadState state = threadLocal.get();
+    NameFinderME nameFinder = state.documentNameFinder;
+    if (nameFinder == null) {
+      nameFinder = new NameFinderME(model);
+      state.documentNameFinder = nameFinder;
+    }
+    return nameFinder;
+  }
+
+  @Override
+  public Span[] find(String[] tokens) {
+    return find(tokens, EMPTY);
+  }
+
+  /**
+   * Generates name tags for the given sequence, typically a sentence, returning
+   * token spans for any identified names.
+   *
+   * @param tokens an array of the tokens or words of the sequence, typically a sentence.
+   * @param additionalContext features which are based on context outside of the
+   *     sentence but which should also be used.
+   *
+   * @return an array of spans for each of the names identified.
+   *
+   * @see NameFinderME#find(String[], String[][])
+   */
+  public Span[] find(String[] tokens, String[][] additionalContext) {
+    return getNameFinder().find(tokens, additionalContext);
+  }
+
+  /**
+   * Generates name tags for all sentences of a document. The sentences are processed
+   * in order and share the adaptive data which is collected during this call. The
+   * document is decoded independently of the other find methods, it neither uses nor
+   * changes the adaptive data which the calling thread collected with them.
+   *
+   * @param sentences the tokens of each sentence of the document
+   *
+   * @return an array with the identified name spans for each sentence
+   */
+  public Span[][] find(String[][] sentences) {
+    NameFinderME nameFinder = getDocumentNameFinder();
+
+    Span[][] names = new Span[sentences.length][];
+    try {
+      for (int i = 0; i < sentences.length; i++) {
+        names[i] = nameFinder.find(sentences[i], EMPTY);
+      }
+    } finally {
+      nameFinder.clearAdaptiveData();
+    }
+
+    return names;
+  }
+
+  /**
+   * Returns the probabilities of the sequence which was last decoded
+   * by the calling thread.
+   *
+   * @return the probabilities of the last decoded sequence
+   *
+   * @see NameFinderME#probs()
+   */
+  public double[] probs() {
+    return getNameFinder().probs();
+  }
+
+  /**
+   * Returns an array of probabilities for each of the specified spans, the
+   * spans must have been found by the calling thread.
+   *
+   * @see NameFinderME#probs(Span[])
+   */
+  public double[] probs(Span[] spans) {
+    return getNameFinder().probs(spans);
+  }
+
+  @Override
+  public void clearAdaptiveData() {
+    getNameFinder().clearAdaptiveData();
+  }
+
+  /**
+   * Releases the per-thread state of all threads. It should be called when no thread
+   * uses this name finder any more, a thread which calls it again afterwards starts
+   * with a new state.
+   */
+  @Override
+  public void close() {
+    synchronized (threadStates) {
+      for (ThreadState state : threadStates) {
+        state.nameFinder = null;
+        state.documentNameFinder = null;
+      }
+    }
+  }
+
+  private static class ThreadState {
+    private volatile NameFinderME nameFinder;
+    private volatile NameFinderME documentNameFinder;
+  }
+}
@@ -19,11 +19,12 @@ package opennlp.tools.parser;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 import opennlp.tools.chunker.Chunker;
 import opennlp.tools.dictionary.Dictionary;
@@ -80,14 +81,14 @@ public abstract class AbstractBottomUpParser implements Parser {
   private SortedSet<Parse> completeParses;
 
   /**
-   * Incomplete parses which will be advanced.
+   * Incomplete parses which will be advanced, best parse first.
    */
-  private SortedSet<Parse> odh;
+  private Parse[] odh;
 
   /**
    * Incomplete parses which have been advanced.
    */
-  private SortedSet<Parse> ndh;
+  private ParseHeap ndh;
 
   /**
    * The head rules for the parser.
@@ -172,6 +173,21 @@ public abstract class AbstractBottomUpParser implements Parser {
    */
   protected boolean debugOn = false;
 
+  /**
+   * The maximum number of parses advanced for a sentence, zero if not limited.
+   */
+  private int maxDerivations;
+
+  /**
+   * The maximum time in nanoseconds spent to parse a sentence, zero if not limited.
+   */
+  private long timeoutNanos;
+
+  /**
+   * Specifies whether the search for the last sentence was stopped by one of the limits.
+   */
+  private boolean searchStopped;
+
   public AbstractBottomUpParser(POSTagger tagger, Chunker chunker, HeadRules headRules,
       int beamSize, double advancePercentage) {
     this.tagger = tagger;
@@ -182,8 +198,8 @@ public abstract class AbstractBottomUpParser implements Parser {
     reportFailedParse = true;
     this.headRules = headRules;
     this.punctSet = headRules.getPunctuationTags();
-    odh = new TreeSet<>();
-    ndh = new TreeSet<>();
+    odh = new Parse[Math.max(K, 1)];
+    ndh = new ParseHeap(K);
     completeParses = new TreeSet<>();
   }
 
@@ -196,6 +212,43 @@ public abstract class AbstractBottomUpParser implements Parser {
     this.reportFailedParse = errorReporting;
   }
 
+  /**
+   * Limits the number of parses which are advanced for a sentence. If the limit is
+   * reached the search stops and the best parses found so far are returned.
+   *
+   * @param maxDerivations The maximum number of advanced parses, zero for no limit.
+   */
+  public void setMaxDerivations(int maxDerivations) {
+    if (maxDerivations < 0) {
+      throw new IllegalArgumentException(
+          "Max derivations must not be negative but is " + maxDerivations + "!");
+    }
+    this.maxDerivations = maxDerivations;
+  }
+
+  /**
+   * Limits the time spent to parse a sentence. If the time is up the search stops
+   * and the best parses found so far are returned.
+   *
+   * @param timeout The maximum time in milliseconds, zero for no limit.
+   */
+  public void setTimeout(long timeout) {
+    if (timeout < 0) {
+      throw new IllegalArgumentException("Timeout must not be negative but is " + timeout + "!");
+    }
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+  }
+
+  /**
+   * Returns whether the search for the last parsed sentence was stopped because the
+   * time or the number of derivations was exhausted.
+   *
+   * @return true if the search was stopped, false if it completed.
+   */
+  public boolean isSearchStopped() {
+    return searchStopped;
+  }
+
   /**
    * Assigns parent references for the specified parse so that they
    * are consistent with the children references.
@@ -268,33 +321,42 @@ public abstract class AbstractBottomUpParser implements Parser {
 
   public Parse[] parse(Parse tokens, int numParses) {
     if (createDerivationString) tokens.setDerivation(new StringBuffer(100));
-    odh.clear();
     ndh.clear();
     completeParses.clear();
     int derivationStage = 0; //derivation length
     int maxDerivationLength = 2 * tokens.getChildCount() + 3;
-    odh.add(tokens);
+    odh[0] = tokens;
+    int odhSize = 1;
     Parse guess = null;
     double minComplete = 2;
     double bestComplete = -100000; //approximating -infinity/0 in ln domain
-    while (odh.size() > 0 && (completeParses.size() < M || (odh.first()).getProb() < minComplete)
-        && derivationStage < maxDerivationLength) {
-      ndh = new TreeSet<>();
-
-      int derivationRank = 0;
-      for (Iterator<Parse> pi = odh.iterator(); pi.hasNext()
-          && derivationRank < K; derivationRank++) { // foreach derivation
-        Parse tp = pi.next();
-        //TODO: Need to look at this for K-best parsing cases
-        /*
-         //this parse and the ones which follow will never win, stop advancing.
-         if (tp.getProb() < bestComplete) {
-         break;
-         }
-         */
+    int derivations = 0;
+    long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+    searchStopped = false;
+    while (odhSize > 0 && (completeParses.size() < M || odh[0].getProb() < minComplete)
+        && derivationStage < maxDerivationLength && !searchStopped) {
+
+      for (int derivationRank = 0; derivationRank < odhSize && derivationRank < K;
+          derivationRank++) { // foreach derivation
+        Parse tp = odh[derivationRank];
         if (guess == null && derivationStage == 2) {
           guess = tp;
         }
+        // The parses are ordered and advancing never raises the probability, this parse and the
+        // ones which follow can't beat the best complete parse anymore. Once the beam holds M
+        // complete parses the search only continues while all parses are below the best
+        // complete parse, so stopping here does not change the best parse.
+        if (numParses == 1 && completeParses.size() >= M && tp.getProb() < bestComplete) {
+          break;
+        }
+        if ((maxDerivations > 0 && derivations++ >= maxDerivations)
+            || (deadline != 0 && System.nanoTime() - deadline > 0)) {
+          searchStopped = true;
+          if (guess == null) {
+            guess = odh[0];
+          }
+          break;
+        }
         if (debugOn) {
           System.out.print(derivationStage + " " + derivationRank + " " + tp.getProb());
           tp.show();
@@ -344,8 +406,12 @@ public abstract class AbstractBottomUpParser implements Parser {
         }
       }
       derivationStage++;
-      odh = ndh;
+      if (!searchStopped) {
+        odhSize = ndh.drainTo(odh);
+      }
     }
+    ndh.clear();
+    Arrays.fill(odh, null);
     if (completeParses.size() == 0) {
       // if (reportFailedParse) System.err.println("Couldn't find parse for: " + tokens);
       //Parse r = (Parse) odh.first();
@@ -359,7 +425,7 @@ public abstract class AbstractBottomUpParser implements Parser {
     else {
       List<Parse> topParses = new ArrayList<>(numParses);
       while (!completeParses.isEmpty() && topParses.size() < numParses) {
-        Parse tp = completeParses.last();
+        Parse tp = completeParses.first();
         completeParses.remove(tp);
         topParses.add(tp);
         //parses.remove(tp);
@@ -423,8 +489,8 @@ public abstract class AbstractBottomUpParser implements Parser {
         else { //make previous constituent if it exists
           if (type != null) {
             //System.err.println("inserting tag "+tags[j]);
-            Parse p1 = p.getChildren()[start];
-            Parse p2 = p.getChildren()[end];
+            Parse p1 = children[start];
+            Parse p2 = children[end];
             // System.err.println("Putting "+type+" at "+start+","+end+" for "
             // +j+" "+newParses[si].getProb());
             Parse[] cons = new Parse[end - start + 1];
@@ -434,7 +500,7 @@ public abstract class AbstractBottomUpParser implements Parser {
               cons[end - start] = p2;
               //cons[end-start].label="Cont-"+type;
               for (int ci = 1; ci < end - start; ci++) {
-                cons[ci] = p.getChildren()[ci + start];
+                cons[ci] = children[ci + start];
                 //cons[ci].label="Cont-"+type;
               }
             }
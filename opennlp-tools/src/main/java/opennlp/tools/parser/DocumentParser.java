@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Span;
+
+/**
+ * Parses the tokenized sentences of a document concurrently.
+ * <p>
+ * The sentences are parsed on a bounded pool of threads. The parsers are not thread-safe,
+ * each sentence borrows one from an {@link InstancePool}, all of them share the models of
+ * the same {@link ParserModel}. The threads are started with the document parser and can
+ * be shared by concurrent calls, {@link #close()} stops them.
+ * <p>
+ * The search for a sentence can be limited by a timeout and a maximum number of
+ * derivations, so that a single long sentence does not hold up the whole document.
+ * The limits are checked before each parse is advanced; when one is reached the best
+ * parses found so far are returned and the result is marked as not complete.
+ * <p>
+ * Example:
+ * <pre>
+ * try (DocumentParser parser = new DocumentParser(model, 20, 0.95, 4, 1000, 0)) {
+ *   List&lt;ParseResult&gt; results = parser.parse(sentences, 3);
+ * }
+ * </pre>
+ */
+public class DocumentParser implements AutoCloseable {
+
+  private final InstancePool<AbstractBottomUpParser> pool;
+  private final ExecutorService executor;
+
+  private final long timeout;
+  private final int maxDerivations;
+
+  /**
+   * Initializes the document parser with the default beam size and advance percentage,
+   * the search is not limited.
+   *
+   * @param model the parser model
+   * @param threads the number of threads
+   */
+  public DocumentParser(ParserModel model, int threads) {
+    this(model, AbstractBottomUpParser.defaultBeamSize,
+        AbstractBottomUpParser.defaultAdvancePercentage, threads, 0, 0);
+  }
+
+  /**
+   * Initializes the document parser and starts its threads.
+   *
+   * @param model the parser model
+   * @param beamSize the number of different parses kept during parsing
+   * @param advancePercentage the minimal amount of probability mass which advanced
+   *                          outcomes must represent
+   * @param threads the number of threads
+   * @param timeout the maximum time in milliseconds spent to parse a sentence, zero for no limit
+   * @param maxDerivations the maximum number of parses advanced for a sentence, zero for no limit
+   */
+  public DocumentParser(ParserModel model, int beamSize, double advancePercentage, int threads,
+      long timeout, int maxDerivations) {
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be at least 1 but is " + threads + "!");
+    }
+
+    if (timeout < 0) {
+      throw new IllegalArgumentException("Timeout must not be negative but is " + timeout + "!");
+    }
+
+    if (maxDerivations < 0) {
+      throw new IllegalArgumentException(
+          "Max derivations must not be negative but is " + maxDerivations + "!");
+    }
+
+    this.timeout = timeout;
+    this.maxDerivations = maxDerivations;
+
+    pool = new InstancePool<>(() -> {
+      AbstractBottomUpParser parser =
+          (AbstractBottomUpParser) ParserFactory.create(model, beamSize, advancePercentage);
+      parser.setErrorReporting(false);
+      parser.setTimeout(timeout);
+      parser.setMaxDerivations(maxDerivations);
+      return parser;
+    }, threads);
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setName("opennlp.tools.parser.DocumentParser-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Parses the sentences of a document concurrently.
+   *
+   * @param sentences the tokens of each sentence
+   * @param numParses the maximum number of parses per sentence
+   *
+   * @return the parses of each sentence in input order
+   */
+  public List<ParseResult> parse(List<String[]> sentences, int numParses) {
+    if (numParses < 1) {
+      throw new IllegalArgumentException(
+          "Number of parses must be at least 1 but is " + numParses + "!");
+    }
+
+    List<Future<ParseResult>> futures = new ArrayList<>(sentences.size());
+    try {
+      for (String[] sentence : sentences) {
+        futures.add(executor.submit(() -> parse(sentence, numParses)));
+      }
+
+      List<ParseResult> results = new ArrayList<>(sentences.size());
+      for (Future<ParseResult> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while parsing", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Exception during parsing: " + e.getCause().getMessage(),
+          e.getCause());
+    } finally {
+      for (Future<ParseResult> future : futures) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  /**
+   * Parses a single sentence on the calling thread.
+   *
+   * @param sentence the tokens of the sentence
+   * @param numParses the maximum number of parses
+   *
+   * @return the parses of the sentence
+   */
+  public ParseResult parse(String[] sentence, int numParses) {
+    Parse tokens = createTokenParse(sentence);
+
+    if (sentence.length == 0) {
+      return new ParseResult(sentence, new Parse[] {tokens}, true);
+    }
+
+    AbstractBottomUpParser parser = pool.borrow();
+    try {
+      Parse[] parses;
+      if (numParses == 1) {
+        parses = new Parse[] {parser.parse(tokens)};
+      }
+      else {
+        parses = parser.parse(tokens, numParses);
+      }
+      return new ParseResult(sentence, parses, !parser.isSearchStopped());
+    } finally {
+      pool.release(parser);
+    }
+  }
+
+  /**
+   * @return the maximum time in milliseconds spent to parse a sentence, zero if not limited
+   */
+  public long getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * @return the maximum number of parses advanced for a sentence, zero if not limited
+   */
+  public int getMaxDerivations() {
+    return maxDerivations;
+  }
+
+  /**
+   * Stops the threads and drops the pooled parsers.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    pool.clear();
+  }
+
+  private static Parse createTokenParse(String[] sentence) {
+    String text = String.join(" ", sentence);
+
+    Parse p = new Parse(text, new Span(0, text.length()), AbstractBottomUpParser.INC_NODE, 0, 0);
+    int start = 0;
+    for (int i = 0; i < sentence.length; i++) {
+      p.insert(new Parse(text, new Span(start, start + sentence[i].length()),
+          AbstractBottomUpParser.TOK_NODE, 0, i));
+      start += sentence[i].length() + 1;
+    }
+    return p;
+  }
+}
@@ -18,6 +18,7 @@
 
 package opennlp.tools.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -153,7 +154,7 @@ public class Parse implements Cloneable, Comparable<Parse> {
     this.prob = p;
     this.head = this;
     this.headIndex = index;
-    this.parts = new LinkedList<>();
+    this.parts = new ArrayList<>();
     this.label = null;
     this.parent = null;
   }
@@ -179,7 +180,6 @@ public class Parse implements Cloneable, Comparable<Parse> {
   @Override
   public Object clone() {
     Parse p = new Parse(this.text, this.span, this.type, this.prob, this.head);
-    p.parts = new LinkedList<>();
     p.parts.addAll(this.parts);
 
     if (derivation != null) {
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.parser;
+
+/**
+ * A bounded heap of the best parses advanced during one derivation stage.
+ * <p>
+ * The heap behaves like a {@link java.util.TreeSet} of parses which is only read up to
+ * its capacity: parses are ordered by {@link Parse#compareTo(Parse)}, only the first parse
+ * added for a probability is kept and {@link #last()} is the worst parse ever added.
+ * Parses which can not be among the best are dropped right away, and the backing
+ * array is reused for all stages and sentences.
+ */
+class ParseHeap {
+
+  /**
+   * The kept parses, the worst kept parse is at the root.
+   */
+  private final Parse[] heap;
+
+  private int size;
+
+  /**
+   * The worst parse added since the heap was cleared.
+   */
+  private Parse last;
+
+  ParseHeap(int capacity) {
+    heap = new Parse[capacity];
+  }
+
+  /**
+   * Adds the parse if it is one of the best parses and no parse with the
+   * same probability was added before.
+   *
+   * @param p The parse to add.
+   */
+  void add(Parse p) {
+    if (last == null || p.compareTo(last) > 0) {
+      last = p;
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (heap[i].compareTo(p) == 0) {
+        return;
+      }
+    }
+
+    if (size < heap.length) {
+      heap[size] = p;
+      siftUp(size++);
+    }
+    else if (size > 0 && p.compareTo(heap[0]) < 0) {
+      heap[0] = p;
+      siftDown(0);
+    }
+  }
+
+  /**
+   * @return the number of kept parses, at most the capacity of the heap.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the worst parse added since the heap was cleared.
+   */
+  Parse last() {
+    return last;
+  }
+
+  /**
+   * Moves the kept parses into the specified array, best parse first, and clears the heap.
+   *
+   * @param parses The array to fill, it must be at least as large as the capacity.
+   * @return the number of parses moved into the array.
+   */
+  int drainTo(Parse[] parses) {
+    int count = size;
+    while (size > 0) {
+      parses[size - 1] = heap[0];
+      heap[0] = heap[--size];
+      heap[size] = null;
+      siftDown(0);
+    }
+    last = null;
+    return count;
+  }
+
+  void clear() {
+    for (int i = 0; i < size; i++) {
+      heap[i] = null;
+    }
+    size = 0;
+    last = null;
+  }
+
+  private void siftUp(int index) {
+    Parse p = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (p.compareTo(heap[parent]) <= 0) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = p;
+  }
+
+  private void siftDown(int index) {
+    if (size == 0) {
+      return;
+    }
+    Parse p = heap[index];
+    int half = size >>> 1;
+    while (index < half) {
+      int child = 2 * index + 1;
+      if (child + 1 < size && heap[child + 1].compareTo(heap[child]) > 0) {
+        child++;
+      }
+      if (p.compareTo(heap[child]) >= 0) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = p;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.parser;
+
+/**
+ * The parses of one sentence returned by the {@link DocumentParser}.
+ */
+public class ParseResult {
+
+  private final String[] tokens;
+  private final Parse[] parses;
+  private final boolean complete;
+
+  public ParseResult(String[] tokens, Parse[] parses, boolean complete) {
+    this.tokens = tokens;
+    this.parses = parses;
+    this.complete = complete;
+  }
+
+  /**
+   * @return the tokens of the sentence
+   */
+  public String[] getTokens() {
+    return tokens;
+  }
+
+  /**
+   * Returns the parses of the sentence, the most probable parse first. If the search
+   * was stopped without a complete parse the only returned parse is incomplete.
+   *
+   * @return the parses of the sentence
+   */
+  public Parse[] getParses() {
+    return parses;
+  }
+
+  /**
+   * @return the most probable parse of the sentence
+   */
+  public Parse getBestParse() {
+    return parses[0];
+  }
+
+  /**
+   * Returns whether the search for the parses completed. It is stopped when the
+   * sentence exceeds the timeout or the maximum number of derivations.
+   *
+   * @return true if the search completed, false if it was stopped
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+}
@@ -19,8 +19,8 @@ package opennlp.tools.parser.treeinsert;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -140,7 +140,7 @@ public class Parser extends AbstractBottomUpParser {
    * @return The right frontier of the specified parse tree.
    */
   public static List<Parse> getRightFrontier(Parse root,Set<String> punctSet) {
-    List<Parse> rf = new LinkedList<>();
+    List<Parse> rf = new ArrayList<>();
     Parse top;
     if (AbstractBottomUpParser.TOP_NODE.equals(root.getType()) ||
         AbstractBottomUpParser.INC_NODE.equals(root.getType())) {
@@ -150,11 +150,12 @@ public class Parser extends AbstractBottomUpParser {
       top = root;
     }
     while (!top.isPosTag()) {
-      rf.add(0,top);
+      rf.add(top);
       Parse[] kids = top.getChildren();
       top = kids[kids.length - 1];
     }
-    return new ArrayList<>(rf);
+    Collections.reverse(rf);
+    return rf;
   }
 
   private void setBuilt(Parse p) {
@@ -277,8 +278,8 @@ public class Parser extends AbstractBottomUpParser {
           newParse1.addProb(Math.log(bprob));
           newParsesList.add(newParse1);
           if (checkComplete) {
-            cprobs = checkModel.eval(checkContextGenerator.getContext(newNode, children,
-                advanceNodeIndex,false));
+            checkModel.eval(checkContextGenerator.getContext(newNode, children,
+                advanceNodeIndex,false), cprobs);
             if (debugOn) System.out.println("building " + tag + " " + bprob + " c=" + cprobs[completeIndex]);
             if (cprobs[completeIndex] > probMass) { //just complete advances
               setComplete(newNode);
@@ -390,8 +391,8 @@ public class Parser extends AbstractBottomUpParser {
               newParse2.addProb(Math.log(prob));
               newParsesList.add(newParse2);
               if (checkComplete) {
-                cprobs = checkModel.eval(
-                    checkContextGenerator.getContext(updatedNode,newKids,advanceNodeIndex,true));
+                checkModel.eval(
+                    checkContextGenerator.getContext(updatedNode,newKids,advanceNodeIndex,true), cprobs);
                 if (cprobs[completeIndex] > probMass) {
                   setComplete(updatedNode);
                   newParse2.addProb(Math.log(cprobs[completeIndex]));
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A document and the annotations which were added by the stages of a {@link Pipeline}.
+ * <p>
+ * A document is only accessed by one stage at a time, the annotations of a
+ * stage are visible to all following stages.
+ */
+public final class AnnotatedDocument {
+
+  private final String text;
+
+  private List<AnnotatedSentence> sentences = Collections.emptyList();
+
+  public AnnotatedDocument(String text) {
+    this.text = Objects.requireNonNull(text, "text must not be null");
+  }
+
+  /**
+   * @return the text of the document
+   */
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * @return the sentences of the document, empty if no sentences were detected yet
+   */
+  public List<AnnotatedSentence> getSentences() {
+    return sentences;
+  }
+
+  /**
+   * Sets the sentences of the document.
+   *
+   * @param sentences the sentences in document order
+   */
+  public void setSentences(List<AnnotatedSentence> sentences) {
+    this.sentences = Collections.unmodifiableList(sentences);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder string = new StringBuilder();
+    for (AnnotatedSentence sentence : sentences) {
+      if (string.length() > 0) {
+        string.append('\n');
+      }
+      string.append(sentence);
+    }
+    return string.toString();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import opennlp.tools.util.Span;
+
+/**
+ * A sentence of an {@link AnnotatedDocument} and its annotations. All character
+ * offsets are relative to the text of the document, the tags, chunks and name spans
+ * refer to the tokens of the sentence.
+ */
+public final class AnnotatedSentence {
+
+  private static final Span[] NO_NAMES = new Span[0];
+
+  private final Span span;
+
+  private Span[] tokenSpans;
+  private String[] tokens;
+  private String[] tags;
+  private String[] chunks;
+  private Span[] names = NO_NAMES;
+
+  /**
+   * Initializes the sentence.
+   *
+   * @param span the character offsets of the sentence in the document
+   */
+  public AnnotatedSentence(Span span) {
+    this.span = Objects.requireNonNull(span, "span must not be null");
+  }
+
+  /**
+   * @return the character offsets of the sentence in the document
+   */
+  public Span getSpan() {
+    return span;
+  }
+
+  /**
+   * @return the character offsets of the tokens in the document or null if
+   *     the sentence was not tokenized yet
+   */
+  public Span[] getTokenSpans() {
+    return tokenSpans;
+  }
+
+  /**
+   * @return the tokens or null if the sentence was not tokenized yet
+   */
+  public String[] getTokens() {
+    return tokens;
+  }
+
+  /**
+   * Sets the tokens of the sentence.
+   *
+   * @param tokenSpans the character offsets of the tokens in the document
+   * @param tokens the tokens
+   */
+  public void setTokens(Span[] tokenSpans, String[] tokens) {
+    if (tokenSpans.length != tokens.length) {
+      throw new IllegalArgumentException("Token spans and tokens must have the same length");
+    }
+    this.tokenSpans = tokenSpans;
+    this.tokens = tokens;
+  }
+
+  /**
+   * @return the part-of-speech tags or null if the sentence was not tagged yet
+   */
+  public String[] getTags() {
+    return tags;
+  }
+
+  public void setTags(String[] tags) {
+    this.tags = checkTokenLength(tags);
+  }
+
+  /**
+   * @return the chunk tags or null if the sentence was not chunked yet
+   */
+  public String[] getChunks() {
+    return chunks;
+  }
+
+  public void setChunks(String[] chunks) {
+    this.chunks = checkTokenLength(chunks);
+  }
+
+  /**
+   * @return the token spans of the names found by all name finder stages
+   */
+  public Span[] getNames() {
+    return names;
+  }
+
+  /**
+   * Adds names to the sentence, the names of several name finders are appended.
+   *
+   * @param names the token spans of the names
+   */
+  public void addNames(Span[] names) {
+    if (this.names.length == 0) {
+      this.names = names;
+    }
+    else {
+      Span[] merged = Arrays.copyOf(this.names, this.names.length + names.length);
+      System.arraycopy(names, 0, merged, this.names.length, names.length);
+      this.names = merged;
+    }
+  }
+
+  private String[] checkTokenLength(String[] annotations) {
+    if (tokens == null) {
+      throw new IllegalStateException("The sentence must be tokenized first");
+    }
+    if (annotations.length != tokens.length) {
+      throw new IllegalArgumentException("Expected " + tokens.length + " annotations but got "
+          + annotations.length);
+    }
+    return annotations;
+  }
+
+  @Override
+  public String toString() {
+    if (tokens == null) {
+      return span.toString();
+    }
+
+    StringBuilder string = new StringBuilder();
+    for (int i = 0; i < tokens.length; i++) {
+      if (i > 0) {
+        string.append(' ');
+      }
+      string.append(tokens[i]);
+      if (tags != null) {
+        string.append('_').append(tags[i]);
+      }
+      if (chunks != null) {
+        string.append('_').append(chunks[i]);
+      }
+    }
+    return string.toString();
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+/**
+ * An annotator adds annotations to a document, it is the unit of work of a
+ * {@link PipelineStage}.
+ * <p>
+ * An annotator is called concurrently by all threads of its stage, with a different
+ * document each time, and must therefore be thread-safe.
+ */
+@FunctionalInterface
+public interface Annotator {
+
+  /**
+   * Adds the annotations to the document.
+   *
+   * @param document the document, the annotations of the previous stages are already present
+   */
+  void annotate(AnnotatedDocument document);
+}
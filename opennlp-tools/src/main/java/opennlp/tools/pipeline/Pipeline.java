@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import opennlp.tools.util.CollectionObjectStream;
+import opennlp.tools.util.ObjectStream;
+
+/**
+ * Runs documents through a chain of {@link PipelineStage}s, for example sentence
+ * detection, tokenization, part-of-speech tagging, chunking and name finding.
+ * <p>
+ * Every stage has a bounded input queue and its own threads, which take a document
+ * from the queue, annotate it and pass it on to the queue of the next stage. While a
+ * document is in one stage the next documents are already in the previous stages, so
+ * all stages work at the same time. A full queue blocks the previous stage, and the
+ * number of documents in flight per {@link #process(ObjectStream)} call is limited,
+ * therefore a slow stage slows down the input instead of buffering documents.
+ * <p>
+ * The documents are returned in input order. The threads are started with the pipeline
+ * and can be shared by concurrent calls, {@link #close()} stops them. The
+ * {@link StageMetrics} of each stage show where the time is spent.
+ * <p>
+ * Example:
+ * <pre>
+ * try (Pipeline pipeline = new Pipeline(Arrays.asList(
+ *     PipelineStage.sentenceDetector(sentenceModel, 1),
+ *     PipelineStage.tokenizer(tokenizerModel, 2),
+ *     PipelineStage.posTagger(posModel, 4)))) {
+ *   List&lt;AnnotatedDocument&gt; documents = pipeline.process(texts);
+ * }
+ * </pre>
+ */
+public class Pipeline implements AutoCloseable {
+
+  public static final int DEFAULT_QUEUE_CAPACITY = 32;
+
+  private final Stage[] stages;
+  private final int maxInFlight;
+
+  private volatile boolean closed;
+
+  /**
+   * Initializes the pipeline with the {@link #DEFAULT_QUEUE_CAPACITY}.
+   *
+   * @param stages the stages in processing order
+   */
+  public Pipeline(List<PipelineStage> stages) {
+    this(stages, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  /**
+   * Initializes the pipeline and starts the threads of all stages.
+   *
+   * @param stages the stages in processing order
+   * @param queueCapacity the number of documents which can wait in the queue of a stage
+   */
+  public Pipeline(List<PipelineStage> stages, int queueCapacity) {
+    if (stages.isEmpty()) {
+      throw new IllegalArgumentException("A pipeline needs at least one stage!");
+    }
+
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException(
+          "Queue capacity must be at least 1 but is " + queueCapacity + "!");
+    }
+
+    this.stages = new Stage[stages.size()];
+
+    int threads = 0;
+    for (int i = 0; i < this.stages.length; i++) {
+      this.stages[i] = new Stage(stages.get(i), queueCapacity);
+      threads += stages.get(i).getThreads();
+    }
+
+    // enough to keep every thread and queue of the stages busy
+    maxInFlight = threads + queueCapacity * this.stages.length;
+
+    for (int i = 0; i < this.stages.length; i++) {
+      this.stages[i].start(i + 1 < this.stages.length ? this.stages[i + 1] : null);
+    }
+  }
+
+  /**
+   * Annotates the documents. The documents are read from the input stream when
+   * the returned stream is read, the input stream is closed together with it.
+   *
+   * @param documents the texts of the documents
+   *
+   * @return the annotated documents in input order
+   */
+  public ObjectStream<AnnotatedDocument> process(ObjectStream<String> documents) {
+    if (closed) {
+      throw new IllegalStateException("The pipeline is closed!");
+    }
+    return new Run(documents);
+  }
+
+  /**
+   * Annotates the documents.
+   *
+   * @param documents the texts of the documents
+   *
+   * @return the annotated documents in input order
+   */
+  public List<AnnotatedDocument> process(List<String> documents) throws IOException {
+    List<AnnotatedDocument> annotated = new ArrayList<>(documents.size());
+    try (ObjectStream<AnnotatedDocument> stream = process(new CollectionObjectStream<>(documents))) {
+      AnnotatedDocument document;
+      while ((document = stream.read()) != null) {
+        annotated.add(document);
+      }
+    }
+    return annotated;
+  }
+
+  /**
+   * Annotates a single document.
+   *
+   * @param document the text of the document
+   *
+   * @return the annotated document
+   */
+  public AnnotatedDocument process(String document) throws IOException {
+    return process(Collections.singletonList(document)).get(0);
+  }
+
+  /**
+   * @return the metrics of the stages in processing order
+   */
+  public List<StageMetrics> getMetrics() {
+    List<StageMetrics> metrics = new ArrayList<>(stages.length);
+    for (Stage stage : stages) {
+      metrics.add(stage.metrics);
+    }
+    return Collections.unmodifiableList(metrics);
+  }
+
+  /**
+   * Stops the threads of all stages, documents which are still in the pipeline
+   * are not annotated anymore.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Stage stage : stages) {
+      stage.executor.shutdownNow();
+    }
+  }
+
+  /**
+   * A document on its way through the pipeline.
+   */
+  private static class Task {
+
+    private final Run run;
+    private final int index;
+    private final AnnotatedDocument document;
+
+    private long enqueued;
+    private Throwable error;
+    private String failedStage;
+
+    private Task(Run run, int index, AnnotatedDocument document) {
+      this.run = run;
+      this.index = index;
+      this.document = document;
+    }
+  }
+
+  private static class Stage {
+
+    private final PipelineStage definition;
+    private final BlockingQueue<Task> queue;
+    private final StageMetrics metrics;
+    private final ExecutorService executor;
+
+    private Stage(PipelineStage definition, int queueCapacity) {
+      this.definition = definition;
+      queue = new ArrayBlockingQueue<>(queueCapacity);
+      metrics = new StageMetrics(definition.getName(), definition.getThreads());
+
+      AtomicInteger threadNumber = new AtomicInteger();
+      executor = Executors.newFixedThreadPool(definition.getThreads(), runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setName("opennlp.tools.pipeline.Pipeline." + definition.getName() + "-"
+            + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    private void start(Stage next) {
+      for (int i = 0; i < definition.getThreads(); i++) {
+        executor.execute(() -> work(next));
+      }
+    }
+
+    private void put(Task task) throws InterruptedException {
+      task.enqueued = System.nanoTime();
+      queue.put(task);
+    }
+
+    private void work(Stage next) {
+      Annotator annotator = definition.getAnnotator();
+      try {
+        while (!Thread.currentThread().isInterrupted()) {
+          Task task = queue.take();
+
+          long start = System.nanoTime();
+          boolean failed = false;
+          // a failed document is passed on without annotating it, errors are caught
+          // as well, otherwise the document would never complete and the thread be lost
+          if (task.error == null) {
+            try {
+              annotator.annotate(task.document);
+            } catch (Throwable e) {
+              task.error = e;
+              task.failedStage = definition.getName();
+              failed = true;
+            }
+          }
+          metrics.record(start - task.enqueued, System.nanoTime() - start, failed);
+
+          if (next != null) {
+            next.put(task);
+          }
+          else {
+            task.run.completed.put(task);
+          }
+        }
+      } catch (InterruptedException e) {
+        // the pipeline was closed
+      }
+    }
+  }
+
+  /**
+   * One call of {@link #process(ObjectStream)}. The documents are submitted by the
+   * reading thread, the results are collected from the last stage and reordered.
+   */
+  private class Run implements ObjectStream<AnnotatedDocument> {
+
+    private final ObjectStream<String> documents;
+    private final BlockingQueue<Task> completed = new LinkedBlockingQueue<>();
+    private final Map<Integer, Task> reorderBuffer = new HashMap<>();
+
+    private int submitted;
+    private int next;
+    private boolean exhausted;
+
+    private Run(ObjectStream<String> documents) {
+      this.documents = documents;
+    }
+
+    private void submit() throws IOException, InterruptedException {
+      while (!exhausted && submitted - next < maxInFlight) {
+        String text = documents.read();
+        if (text != null) {
+          stages[0].put(new Task(this, submitted++, new AnnotatedDocument(text)));
+        }
+        else {
+          exhausted = true;
+        }
+      }
+    }
+
+    @Override
+    public AnnotatedDocument read() throws IOException {
+      if (closed) {
+        throw new IllegalStateException("The pipeline is closed!");
+      }
+
+      try {
+        submit();
+
+        if (next == submitted) {
+          return null;
+        }
+
+        Task task;
+        while ((task = reorderBuffer.remove(next)) == null) {
+          Task done = completed.poll(100, TimeUnit.MILLISECONDS);
+          if (done != null) {
+            reorderBuffer.put(done.index, done);
+          }
+          else if (closed) {
+            throw new IllegalStateException("The pipeline was closed while processing!");
+          }
+        }
+        next++;
+
+        if (task.error != null) {
+          throw new IllegalStateException("Failed to annotate document " + task.index
+              + " in stage " + task.failedStage, task.error);
+        }
+
+        return task.document;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the pipeline");
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      documents.close();
+    }
+  }
+}
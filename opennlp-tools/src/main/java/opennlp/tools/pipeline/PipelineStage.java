@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.chunker.ThreadSafeChunkerME;
+import opennlp.tools.namefind.ThreadSafeNameFinderME;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.ThreadSafePOSTaggerME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.sentdetect.ThreadSafeSentenceDetectorME;
+import opennlp.tools.tokenize.ThreadSafeTokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.Span;
+
+/**
+ * A stage of a {@link Pipeline}, an {@link Annotator} which is run by a number of threads.
+ * <p>
+ * The static factory methods create the stages for the ME tools, all threads of a
+ * stage share the same model.
+ */
+public final class PipelineStage {
+
+  private final String name;
+  private final Annotator annotator;
+  private final int threads;
+
+  /**
+   * Initializes the stage.
+   *
+   * @param name the name of the stage, it is used for the metrics and thread names
+   * @param annotator the thread-safe annotator
+   * @param threads the number of threads which run the annotator
+   */
+  public PipelineStage(String name, Annotator annotator, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be at least 1 but is " + threads + "!");
+    }
+
+    this.name = Objects.requireNonNull(name, "name must not be null");
+    this.annotator = Objects.requireNonNull(annotator, "annotator must not be null");
+    this.threads = threads;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Annotator getAnnotator() {
+    return annotator;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * Creates a stage which detects the sentences of the document.
+   */
+  public static PipelineStage sentenceDetector(SentenceModel model, int threads) {
+    ThreadSafeSentenceDetectorME sentenceDetector = new ThreadSafeSentenceDetectorME(model);
+
+    return new PipelineStage("sentences", document -> {
+      Span[] spans = sentenceDetector.sentPosDetect(document.getText());
+
+      List<AnnotatedSentence> sentences = new ArrayList<>(spans.length);
+      for (Span span : spans) {
+        sentences.add(new AnnotatedSentence(span));
+      }
+      document.setSentences(sentences);
+    }, threads);
+  }
+
+  /**
+   * Creates a stage which tokenizes the sentences, it must follow the sentence detector.
+   */
+  public static PipelineStage tokenizer(TokenizerModel model, int threads) {
+    ThreadSafeTokenizerME tokenizer = new ThreadSafeTokenizerME(model);
+
+    return new PipelineStage("tokens", document -> {
+      for (AnnotatedSentence sentence : document.getSentences()) {
+        Span span = sentence.getSpan();
+        String text = span.getCoveredText(document.getText()).toString();
+
+        Span[] tokenSpans = tokenizer.tokenizePos(text);
+        String[] tokens = Span.spansToStrings(tokenSpans, text);
+        for (int i = 0; i < tokenSpans.length; i++) {
+          tokenSpans[i] = new Span(tokenSpans[i], span.getStart());
+        }
+        sentence.setTokens(tokenSpans, tokens);
+      }
+    }, threads);
+  }
+
+  /**
+   * Creates a stage which tags the part-of-speech of the tokens, it must follow the tokenizer.
+   */
+  public static PipelineStage posTagger(POSModel model, int threads) {
+    ThreadSafePOSTaggerME tagger = new ThreadSafePOSTaggerME(model);
+
+    return new PipelineStage("pos", document -> {
+      for (AnnotatedSentence sentence : document.getSentences()) {
+        sentence.setTags(tagger.tag(requireTokens(sentence)));
+      }
+    }, threads);
+  }
+
+  /**
+   * Creates a stage which chunks the sentences, it must follow the part-of-speech tagger.
+   */
+  public static PipelineStage chunker(ChunkerModel model, int threads) {
+    ThreadSafeChunkerME chunker = new ThreadSafeChunkerME(model);
+
+    return new PipelineStage("chunks", document -> {
+      for (AnnotatedSentence sentence : document.getSentences()) {
+        if (sentence.getTags() == null) {
+          throw new IllegalStateException("The sentence must be tagged first");
+        }
+        sentence.setChunks(chunker.chunk(requireTokens(sentence), sentence.getTags()));
+      }
+    }, threads);
+  }
+
+  /**
+   * Creates a stage which finds names, it must follow the tokenizer. The sentences of
+   * a document share the adaptive data of the name finder, which is cleared after
+   * each document.
+   */
+  public static PipelineStage nameFinder(TokenNameFinderModel model, int threads) {
+    ThreadSafeNameFinderME nameFinder = new ThreadSafeNameFinderME(model);
+
+    return new PipelineStage("names", document -> {
+      List<AnnotatedSentence> sentences = document.getSentences();
+
+      String[][] tokens = new String[sentences.size()][];
+      for (int i = 0; i < tokens.length; i++) {
+        tokens[i] = requireTokens(sentences.get(i));
+      }
+
+      Span[][] names = nameFinder.find(tokens);
+      for (int i = 0; i < names.length; i++) {
+        sentences.get(i).addNames(names[i]);
+      }
+    }, threads);
+  }
+
+  private static String[] requireTokens(AnnotatedSentence sentence) {
+    if (sentence.getTokens() == null) {
+      throw new IllegalStateException("The sentence must be tokenized first");
+    }
+    return sentence.getTokens();
+  }
+
+  @Override
+  public String toString() {
+    return name + " (" + threads + " threads)";
+  }
+}
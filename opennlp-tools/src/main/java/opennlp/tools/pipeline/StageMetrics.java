@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency counters of one stage of a {@link Pipeline}. The counters are
+ * updated while the pipeline runs, every getter returns the current value.
+ */
+public final class StageMetrics {
+
+  private final String name;
+  private final int threads;
+
+  private final LongAdder documents = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder waitingNanos = new LongAdder();
+  private final LongAdder processingNanos = new LongAdder();
+
+  StageMetrics(String name, int threads) {
+    this.name = name;
+    this.threads = threads;
+  }
+
+  void record(long waiting, long processing, boolean failed) {
+    documents.increment();
+    waitingNanos.add(waiting);
+    processingNanos.add(processing);
+    if (failed) {
+      failures.increment();
+    }
+  }
+
+  /**
+   * @return the name of the stage
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the number of threads of the stage
+   */
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * @return the number of documents which passed the stage
+   */
+  public long getDocumentCount() {
+    return documents.sum();
+  }
+
+  /**
+   * @return the number of documents which could not be annotated by the stage
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * @param unit the unit of the returned time
+   *
+   * @return the total time the documents waited in the queue of the stage
+   */
+  public long getWaitingTime(TimeUnit unit) {
+    return unit.convert(waitingNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @param unit the unit of the returned time
+   *
+   * @return the total time the threads of the stage spent annotating documents
+   */
+  public long getProcessingTime(TimeUnit unit) {
+    return unit.convert(processingNanos.sum(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Retrieves the average latency of the stage, which is the time a document
+   * waits in the queue of the stage plus the time it takes to annotate it.
+   *
+   * @return the average latency in milliseconds, 0 if no document passed the stage
+   */
+  public double getAverageLatency() {
+    long count = documents.sum();
+    if (count == 0) {
+      return 0;
+    }
+    return (waitingNanos.sum() + processingNanos.sum()) / 1e6 / count;
+  }
+
+  /**
+   * Retrieves the throughput of the stage when all of its threads are busy. The stage
+   * with the lowest throughput limits the throughput of the whole pipeline and
+   * should get more threads.
+   *
+   * @return the documents per second, 0 if no document passed the stage
+   */
+  public double getThroughput() {
+    long processing = processingNanos.sum();
+    if (processing == 0) {
+      return 0;
+    }
+    return documents.sum() * threads * 1e9 / processing;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d documents, %d threads, %.1f docs/s, %.3f ms latency",
+        name, getDocumentCount(), threads, getThroughput(), getAverageLatency());
+  }
+}
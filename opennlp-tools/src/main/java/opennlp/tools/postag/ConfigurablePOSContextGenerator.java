@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.Cache;
 import opennlp.tools.util.featuregen.AdaptiveFeatureGenerator;
 
@@ -102,4 +103,20 @@ public class ConfigurablePOSContextGenerator implements POSContextGenerator {
     }
     return contexts;
   }
+
+  /**
+   * Adds the ids of the features which {@link #getContext(int, String[], String[], Object[])}
+   * generates to the buffer, without creating the feature strings. The hashed features
+   * are not cached.
+   *
+   * @param features the buffer the feature ids are added to
+   * @param index the index of the token
+   * @param tokens the tokens of the sentence
+   * @param tags the previous tags
+   * @param additionalContext the additional context
+   */
+  public void getContext(HashedFeatures features, int index, String[] tokens, String[] tags,
+      Object[] additionalContext) {
+    featureGenerator.createFeatures(features, tokens, index, tags);
+  }
 }
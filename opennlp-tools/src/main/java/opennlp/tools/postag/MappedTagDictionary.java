@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import opennlp.tools.dictionary.SortedTokenTable;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.model.SerializableArtifact;
+
+/**
+ * A read-only {@link TagDictionary} which looks up the words directly in a
+ * {@link ByteBuffer}, usually a file which is mapped into memory with {@link #open(Path)}.
+ * The words are stored in a {@link SortedTokenTable} and every word refers to an interned
+ * tag set, words which have the same tags share one set. Only the tags and the tag sets
+ * are loaded onto the heap.
+ * <p>
+ * The format consists of a header followed by these sections, all values are stored in
+ * big endian byte order and each section starts at a multiple of eight bytes:
+ * <ul>
+ * <li>tags: for each tag the number of chars followed by the chars of the tag</li>
+ * <li>tag set offsets: the offset of each tag set in the tag set tags, and the end offset</li>
+ * <li>tag set tags: the tags of all tag sets</li>
+ * <li>words: a {@link SortedTokenTable} with the tag set of each word as value</li>
+ * </ul>
+ * A mapped tag dictionary is created from a {@link POSDictionary} with
+ * {@link #compile(POSDictionary)} or written with {@link #write(POSDictionary, OutputStream)}.
+ * Instances are immutable and thread-safe.
+ */
+public final class MappedTagDictionary implements TagDictionary, Iterable<String>,
+    SerializableArtifact {
+
+  private static final int MAGIC = 0x4F4E4C54; // ONLT
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_SIZE = 32;
+
+  private final ByteBuffer buffer;
+  private final String[] tags;
+  private final String[][] tagSets;
+  private final SortedTokenTable words;
+
+  /**
+   * Initializes the dictionary from a buffer which contains a dictionary in the
+   * mapped tag dictionary format. The buffer must not be modified afterwards.
+   *
+   * @param buffer the buffer, its content starts at position zero
+   *
+   * @throws InvalidFormatException if the buffer does not contain a valid dictionary
+   */
+  public MappedTagDictionary(ByteBuffer buffer) throws InvalidFormatException {
+    this.buffer = buffer.duplicate();
+
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new InvalidFormatException("Not a mapped tag dictionary!");
+    }
+
+    if (buffer.getInt(4) != FORMAT_VERSION) {
+      throw new InvalidFormatException("Unsupported mapped tag dictionary version: "
+          + buffer.getInt(4));
+    }
+
+    int numTags = buffer.getInt(8);
+    int numTagSets = buffer.getInt(12);
+
+    try {
+      ByteBuffer tagSection = section(buffer, buffer.getInt(16));
+      tags = new String[numTags];
+      for (int i = 0; i < numTags; i++) {
+        char[] tag = new char[tagSection.getInt()];
+        tagSection.asCharBuffer().get(tag);
+        tagSection.position(tagSection.position() + 2 * tag.length);
+        tags[i] = new String(tag);
+      }
+
+      IntBuffer tagSetOffsets = section(buffer, buffer.getInt(20)).asIntBuffer();
+      IntBuffer tagSetTags = section(buffer, buffer.getInt(24)).asIntBuffer();
+      tagSets = new String[numTagSets][];
+      for (int i = 0; i < numTagSets; i++) {
+        int begin = tagSetOffsets.get(i);
+        String[] tagSet = new String[tagSetOffsets.get(i + 1) - begin];
+        for (int ti = 0; ti < tagSet.length; ti++) {
+          tagSet[ti] = tags[tagSetTags.get(begin + ti)];
+        }
+        tagSets[i] = tagSet;
+      }
+
+      words = new SortedTokenTable(section(buffer, buffer.getInt(28)));
+
+      for (int i = 0; i < words.size(); i++) {
+        if (words.getValue(i) < 0 || words.getValue(i) >= numTagSets) {
+          throw new InvalidFormatException("Invalid tag set: " + words.getValue(i));
+        }
+      }
+    }
+    catch (IndexOutOfBoundsException | IllegalArgumentException | BufferUnderflowException e) {
+      throw new InvalidFormatException("Mapped tag dictionary is truncated or corrupt!", e);
+    }
+  }
+
+  private static ByteBuffer section(ByteBuffer buffer, int offset) {
+    ByteBuffer section = buffer.duplicate();
+    section.position(offset);
+    return section.slice();
+  }
+
+  /**
+   * Maps a tag dictionary file into memory.
+   *
+   * @param path the tag dictionary file
+   *
+   * @return the tag dictionary
+   *
+   * @throws IOException if the file can not be read or is not a mapped tag dictionary
+   */
+  public static MappedTagDictionary open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new MappedTagDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Compiles a tag dictionary into a mapped tag dictionary which is stored in a heap buffer.
+   *
+   * @param dictionary the tag dictionary
+   *
+   * @return the mapped tag dictionary
+   */
+  public static MappedTagDictionary compile(POSDictionary dictionary) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try {
+      write(dictionary, bytes);
+      return new MappedTagDictionary(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+    catch (IOException e) {
+      // a byte array stream does not fail and the written format is valid
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Writes a tag dictionary in the mapped tag dictionary format. The stream is not closed.
+   *
+   * @param dictionary the tag dictionary
+   * @param out the stream to write to
+   *
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the dictionary is too large for the format
+   */
+  public static void write(POSDictionary dictionary, OutputStream out) throws IOException {
+
+    Map<String, Integer> tagIndex = new LinkedHashMap<>();
+    Map<List<String>, Integer> tagSetIndex = new LinkedHashMap<>();
+    List<String[]> entries = new ArrayList<>();
+    List<Integer> entryTagSets = new ArrayList<>();
+
+    for (String word : dictionary) {
+      List<String> tagSet = Arrays.asList(dictionary.getTags(word));
+      for (String tag : tagSet) {
+        tagIndex.putIfAbsent(tag, tagIndex.size());
+      }
+      entries.add(new String[] {word});
+      entryTagSets.add(tagSetIndex.computeIfAbsent(tagSet, key -> tagSetIndex.size()));
+    }
+
+    int[] values = new int[entryTagSets.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = entryTagSets.get(i);
+    }
+
+    long tagsSize = 0;
+    long numTagSetTags = 0;
+    for (String tag : tagIndex.keySet()) {
+      tagsSize += 4 + 2 * tag.length();
+    }
+    for (List<String> tagSet : tagSetIndex.keySet()) {
+      numTagSetTags += tagSet.size();
+    }
+
+    long tagsOffset = HEADER_SIZE;
+    long tagSetOffsetsOffset = align(tagsOffset + tagsSize);
+    long tagSetTagsOffset = align(tagSetOffsetsOffset + 4L * (tagSetIndex.size() + 1));
+    long wordsOffset = align(tagSetTagsOffset + 4L * numTagSetTags);
+
+    // the size of the words table is checked when it is written
+    if (wordsOffset > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Dictionary is too large for the mapped tag dictionary format!");
+    }
+
+    DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeInt(tagIndex.size());
+    data.writeInt(tagSetIndex.size());
+    data.writeInt((int) tagsOffset);
+    data.writeInt((int) tagSetOffsetsOffset);
+    data.writeInt((int) tagSetTagsOffset);
+    data.writeInt((int) wordsOffset);
+
+    for (String tag : tagIndex.keySet()) {
+      data.writeInt(tag.length());
+      data.writeChars(tag);
+    }
+    pad(data);
+
+    int tagSetOffset = 0;
+    for (List<String> tagSet : tagSetIndex.keySet()) {
+      data.writeInt(tagSetOffset);
+      tagSetOffset += tagSet.size();
+    }
+    data.writeInt(tagSetOffset);
+    pad(data);
+
+    for (List<String> tagSet : tagSetIndex.keySet()) {
+      for (String tag : tagSet) {
+        data.writeInt(tagIndex.get(tag));
+      }
+    }
+    pad(data);
+
+    SortedTokenTable.write(entries, values, dictionary.isCaseSensitive(), data);
+    data.flush();
+  }
+
+  private static long align(long offset) {
+    return (offset + 7) & ~7L;
+  }
+
+  private static void pad(DataOutputStream data) throws IOException {
+    while (data.size() % 8 != 0) {
+      data.writeByte(0);
+    }
+  }
+
+  /**
+   * Writes this tag dictionary in the mapped tag dictionary format. The stream is not closed.
+   *
+   * @param out the stream to write to
+   *
+   * @throws IOException if writing fails
+   */
+  public void write(OutputStream out) throws IOException {
+    ByteBuffer content = buffer.duplicate();
+    content.clear();
+
+    WritableByteChannel channel = Channels.newChannel(out);
+    while (content.hasRemaining()) {
+      channel.write(content);
+    }
+  }
+
+  /**
+   * Returns a list of valid tags for the specified word.
+   *
+   * @param word The word.
+   *
+   * @return A list of valid tags for the specified word or
+   *     null if no information is available for that word.
+   */
+  @Override
+  public String[] getTags(String word) {
+    int entry = words.indexOf(word);
+
+    if (entry >= 0) {
+      return tagSets[words.getValue(entry)].clone();
+    }
+
+    return null;
+  }
+
+  /**
+   * @return all tags which are used by the words of this dictionary
+   */
+  public String[] getAllTags() {
+    return tags.clone();
+  }
+
+  /**
+   * @return the number of words
+   */
+  public int size() {
+    return words.size();
+  }
+
+  public boolean isCaseSensitive() {
+    return words.isCaseSensitive();
+  }
+
+  /**
+   * Retrieves an iterator over all words in the dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<String>() {
+
+      private int entry;
+
+      public boolean hasNext() {
+        return entry < words.size();
+      }
+
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return words.getToken(entry++, 0);
+      }
+    };
+  }
+
+  /**
+   * Two mapped tag dictionaries are equal if their binary content is equal.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+
+    if (obj instanceof MappedTagDictionary) {
+      MappedTagDictionary dictionary = (MappedTagDictionary) obj;
+
+      ByteBuffer content = buffer.duplicate();
+      content.clear();
+      ByteBuffer otherContent = dictionary.buffer.duplicate();
+      otherContent.clear();
+
+      return content.equals(otherContent);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    ByteBuffer content = buffer.duplicate();
+    content.clear();
+    return content.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "MappedTagDictionary{size=" + size() + ", tags=" + tags.length
+        + ", tagSets=" + tagSets.length + ", caseSensitive=" + isCaseSensitive() + "}";
+  }
+
+  @Override
+  public Class<?> getArtifactSerializerClass() {
+    return POSTaggerFactory.MappedTagDictionarySerializer.class;
+  }
+}
@@ -42,6 +42,7 @@ import opennlp.tools.util.featuregen.AdaptiveFeatureGenerator;
 import opennlp.tools.util.featuregen.AggregatedFeatureGenerator;
 import opennlp.tools.util.featuregen.GeneratorFactory;
 import opennlp.tools.util.model.ArtifactSerializer;
+import opennlp.tools.util.model.ModelUtil;
 import opennlp.tools.util.model.UncloseableInputStream;
 
 /**
@@ -307,6 +308,23 @@ public class POSTaggerFactory extends BaseToolFactory {
     }
   }
 
+  /**
+   * Stores a {@link MappedTagDictionary} in its binary format. When a model is loaded
+   * the dictionary is read into a direct buffer, so the words do not occupy the heap.
+   */
+  public static class MappedTagDictionarySerializer
+      implements ArtifactSerializer<MappedTagDictionary> {
+
+    public MappedTagDictionary create(InputStream in) throws IOException {
+      return new MappedTagDictionary(ModelUtil.readDirectBuffer(in));
+    }
+
+    public void serialize(MappedTagDictionary artifact, OutputStream out)
+        throws IOException {
+      artifact.write(out);
+    }
+  }
+
   protected void validatePOSDictionary(POSDictionary posDict,
       AbstractModel posModel) throws InvalidFormatException {
     Set<String> dictTags = new HashSet<>();
@@ -315,6 +333,11 @@ public class POSTaggerFactory extends BaseToolFactory {
       Collections.addAll(dictTags, posDict.getTags(word));
     }
 
+    validateTags(dictTags, posModel);
+  }
+
+  private static void validateTags(Set<String> dictTags, AbstractModel posModel)
+      throws InvalidFormatException {
     Set<String> modelTags = new HashSet<>();
 
     for (int i = 0; i < posModel.getNumOutcomes(); i++) {
@@ -350,6 +373,14 @@ public class POSTaggerFactory extends BaseToolFactory {
           POSDictionary posDict = (POSDictionary) tagdictEntry;
           validatePOSDictionary(posDict, posModel);
         }
+      } else if (tagdictEntry instanceof MappedTagDictionary) {
+        if (!this.artifactProvider.isLoadedFromSerialized()) {
+          AbstractModel posModel = this.artifactProvider
+              .getArtifact(POSModel.POS_MODEL_ENTRY_NAME);
+          Set<String> dictTags = new HashSet<>();
+          Collections.addAll(dictTags, ((MappedTagDictionary) tagdictEntry).getAllTags());
+          validateTags(dictTags, posModel);
+        }
       } else {
         throw new InvalidFormatException(
             "POSTag dictionary has wrong type!");
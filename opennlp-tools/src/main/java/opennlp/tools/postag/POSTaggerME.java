@@ -48,7 +48,10 @@ import opennlp.tools.util.featuregen.StringPattern;
  * A part-of-speech tagger that uses maximum entropy.  Tries to predict whether
  * words are nouns, verbs, or any of 70 other POS tags depending on their
  * surrounding context.
- *
+ * <p>
+ * Instances of this class are not thread-safe, the last decoded sequence and the
+ * context generator cache are kept in the instance. Use {@link ThreadSafePOSTaggerME}
+ * to share one model between threads.
  */
 public class POSTaggerME implements POSTagger {
 
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Sequence;
+
+/**
+ * A thread-safe version of the {@link POSTaggerME}. One instance can be shared by all
+ * worker threads, it can be used in a single-threaded context as well and only incurs
+ * a minimal overhead.
+ * <p>
+ * All calls share the same immutable {@link POSModel}. Each call borrows a
+ * {@link POSTaggerME} from an {@link InstancePool}, therefore the number of created
+ * taggers, and their context generator caches, is bounded by the number of concurrent
+ * calls and not by the number of threads. The tag probabilities of the last call are
+ * kept per thread.
+ */
+public class ThreadSafePOSTaggerME implements POSTagger, AutoCloseable {
+
+  private final InstancePool<POSTaggerME> pool;
+
+  private final ThreadLocal<double[]> tagProbs = new ThreadLocal<>();
+
+  public ThreadSafePOSTaggerME(POSModel model) {
+    pool = new InstancePool<>(() -> new POSTaggerME(model));
+  }
+
+  @Override
+  public String[] tag(String[] sentence) {
+    return tag(sentence, null);
+  }
+
+  @Override
+  public String[] tag(String[] sentence, Object[] additionaContext) {
+    POSTaggerME tagger = pool.borrow();
+    try {
+      String[] tags = tagger.tag(sentence, additionaContext);
+      tagProbs.set(tagger.probs());
+      return tags;
+    } finally {
+      pool.release(tagger);
+    }
+  }
+
+  /**
+   * Returns at most the specified number of taggings for the specified sentence.
+   *
+   * @param numTaggings The number of tagging to be returned.
+   * @param sentence An array of tokens which make up a sentence.
+   *
+   * @return At most the specified number of taggings for the specified sentence.
+   *
+   * @see POSTaggerME#tag(int, String[])
+   */
+  public String[][] tag(int numTaggings, String[] sentence) {
+    return pool.apply(tagger -> tagger.tag(numTaggings, sentence));
+  }
+
+  @Override
+  public Sequence[] topKSequences(String[] sentence) {
+    return topKSequences(sentence, null);
+  }
+
+  @Override
+  public Sequence[] topKSequences(String[] sentence, Object[] additionaContext) {
+    return pool.apply(tagger -> tagger.topKSequences(sentence, additionaContext));
+  }
+
+  /**
+   * Retrieves an array of all possible part-of-speech tags from the tagger.
+   *
+   * @return String[]
+   */
+  public String[] getAllPosTags() {
+    return pool.apply(POSTaggerME::getAllPosTags);
+  }
+
+  /**
+   * Returns an array with the probabilities for each tag of the sentence
+   * which was last tagged by the calling thread.
+   *
+   * @return an array with the probabilities for each tag of the last tagged sentence.
+   *
+   * @see POSTaggerME#probs()
+   */
+  public double[] probs() {
+    double[] probs = tagProbs.get();
+    if (probs == null) {
+      throw new IllegalStateException("No sentence was tagged by the calling thread");
+    }
+    return probs.clone();
+  }
+
+  /**
+   * Releases the pooled taggers and the per-thread state of the calling thread.
+   */
+  @Override
+  public void close() {
+    pool.clear();
+    tagProbs.remove();
+  }
+}
@@ -43,6 +43,10 @@ import opennlp.tools.util.model.ModelUtil;
  * <p>
  * A maximum entropy model is used to evaluate end-of-sentence characters in a
  * string to determine if they signify the end of a sentence.
+ * <p>
+ * Instances of this class are not thread-safe, the sentence probabilities of the
+ * last call are kept in the instance. Use {@link ThreadSafeSentenceDetectorME} to
+ * share one model between threads.
  */
 public class SentenceDetectorME implements SentenceDetector {
 
@@ -163,7 +167,6 @@ public class SentenceDetectorME implements SentenceDetector {
    */
   public Span[] sentPosDetect(String s) {
     sentProbs.clear();
-    StringBuffer sb = new StringBuffer(s);
     List<Integer> enders = scanner.getPositions(s);
     List<Integer> positions = new ArrayList<>(enders.size());
 
@@ -176,7 +179,7 @@ public class SentenceDetectorME implements SentenceDetector {
       }
       if (positions.size() > 0 && cint < positions.get(positions.size() - 1)) continue;
 
-      double[] probs = model.eval(cgen.getContext(sb, cint));
+      double[] probs = model.eval(cgen.getContext(s, cint));
       String bestOutcome = model.getBestOutcome(probs);
 
       if (bestOutcome.equals(SPLIT) && isAcceptableBreak(s, index, cint)) {
@@ -265,6 +268,27 @@ public class SentenceDetectorME implements SentenceDetector {
     return spans;
   }
 
+  /**
+   * Detects the sentences of a text which is read incrementally, for example from a
+   * {@link java.io.Reader} or a {@link java.nio.CharBuffer}. The spans are returned by the
+   * stream as soon as the sentence is closed, their offsets are relative to the beginning
+   * of the text and each span carries the probability of its end.
+   * <p>
+   * Only a small window of the text around the evaluated end of sentence characters is kept
+   * in memory, so texts of any size can be processed. The spans are the same as those of
+   * {@link #sentPosDetect(String)}, except that {@link #isAcceptableBreak(String, int, int)}
+   * is not called because the text is never available as a whole, and that the end of
+   * sentence characters are taken from {@link EndOfSentenceScanner#getEOSCharacters()}.
+   * The stream does not update {@link #getSentenceProbabilities()}.
+   *
+   * @param in the text, it is closed when the stream is closed
+   *
+   * @return a stream of the sentence spans
+   */
+  public ObjectStream<Span> sentPosDetect(Readable in) {
+    return new SentenceSpanStream(model, cgen, scanner.getEOSCharacters(), useTokenEnd, in);
+  }
+
   /**
    * Returns the probabilities associated with the most recent
    * calls to sentDetect().
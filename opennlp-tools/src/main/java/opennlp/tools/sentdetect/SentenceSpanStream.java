@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.sentdetect;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.StringUtil;
+
+/**
+ * Detects the sentences of a text which is read incrementally from a {@link Readable}
+ * and returns their spans as soon as a sentence is closed. The offsets of the spans
+ * are relative to the beginning of the text.
+ * <p>
+ * Only a window of the text around the end of sentence candidate which is evaluated
+ * is kept in memory. It reaches back two whitespace delimited tokens and forward
+ * two tokens, which is all text the context generator looks at, so the spans are the same
+ * as those of {@link SentenceDetectorME#sentPosDetect(String)}. Tokens longer than
+ * {@link #MAX_CONTEXT_LENGTH} chars are cut in the window, which bounds the memory.
+ */
+class SentenceSpanStream implements ObjectStream<Span> {
+
+  /**
+   * The maximum number of chars the window extends backward and forward
+   * from an end of sentence candidate.
+   */
+  static final int MAX_CONTEXT_LENGTH = 8 * 1024;
+
+  private static final int READ_SIZE = 8 * 1024;
+
+  private final MaxentModel model;
+  private final SDContextGenerator cgen;
+  private final char[] eosCharacters;
+  private final boolean useTokenEnd;
+  private final Readable in;
+
+  private final Queue<Span> spans = new ArrayDeque<>();
+
+  // the window, buffer[0] is the char at windowStart in the text
+  private char[] buffer = new char[2 * READ_SIZE];
+  private int windowStart;
+  private int length;
+  private boolean endOfText;
+  private boolean finished;
+
+  // the next char which is scanned for end of sentence candidates
+  private int scanIndex;
+
+  // the index after the last accepted split
+  private int index;
+
+  // the beginning of the last sentence, -1 if none was found yet
+  private int lastPosition = -1;
+
+  // the first non-whitespace char of the current sentence, -1 if none was read yet
+  private int sentenceStart = -1;
+
+  SentenceSpanStream(MaxentModel model, SDContextGenerator cgen,
+      Set<Character> eosCharacters, boolean useTokenEnd, Readable in) {
+    this.model = model;
+    this.cgen = cgen;
+    this.useTokenEnd = useTokenEnd;
+    this.in = in;
+
+    this.eosCharacters = new char[eosCharacters.size()];
+    int i = 0;
+    for (Character eosCharacter : eosCharacters) {
+      this.eosCharacters[i++] = eosCharacter;
+    }
+  }
+
+  @Override
+  public Span read() throws IOException {
+    while (spans.isEmpty() && !finished) {
+      fill();
+      detect();
+      compact();
+    }
+
+    return spans.poll();
+  }
+
+  private void fill() throws IOException {
+    if (endOfText) {
+      return;
+    }
+
+    if (buffer.length - length < READ_SIZE) {
+      char[] newBuffer = new char[Math.max(2 * buffer.length, length + READ_SIZE)];
+      System.arraycopy(buffer, 0, newBuffer, 0, length);
+      buffer = newBuffer;
+    }
+
+    int count = in.read(CharBuffer.wrap(buffer, length, buffer.length - length));
+    if (count == -1) {
+      endOfText = true;
+    }
+    else {
+      length += count;
+    }
+  }
+
+  private void detect() {
+    int windowEnd = windowStart + length;
+    CharSequence window = CharBuffer.wrap(buffer, 0, length);
+
+    for (; scanIndex < windowEnd; scanIndex++) {
+      char c = charAt(scanIndex);
+
+      if (sentenceStart == -1 && scanIndex >= lastPosition && !StringUtil.isWhitespace(c)) {
+        sentenceStart = scanIndex;
+      }
+
+      if (!isEndOfSentence(c)) {
+        continue;
+      }
+
+      if (!hasContext(scanIndex)) {
+        // wait for more text
+        return;
+      }
+
+      int cint = scanIndex;
+
+      // skip over the leading parts of non-token final delimiters
+      int fws = getFirstWS(cint + 1);
+      boolean isTokenFinal = true;
+      for (int i = cint + 1; i < fws; i++) {
+        if (isEndOfSentence(charAt(i))) {
+          isTokenFinal = false;
+          break;
+        }
+      }
+      if (!isTokenFinal || cint < lastPosition) {
+        continue;
+      }
+
+      double[] probs = model.eval(cgen.getContext(window, cint - windowStart));
+      String bestOutcome = model.getBestOutcome(probs);
+
+      if (bestOutcome.equals(SentenceDetectorME.SPLIT)) {
+        if (index != cint) {
+          int position;
+          if (useTokenEnd) {
+            position = getFirstNonWS(getFirstWS(cint + 1));
+          }
+          else {
+            position = getFirstNonWS(cint + 1);
+          }
+
+          addSpan(position, probs[model.getIndex(bestOutcome)]);
+
+          lastPosition = position;
+          sentenceStart = position < windowEnd ? position : -1;
+        }
+
+        index = cint + 1;
+      }
+    }
+
+    if (endOfText) {
+      if (lastPosition != windowEnd) {
+        addSpan(windowEnd, 1d);
+      }
+      finished = true;
+    }
+  }
+
+  private void addSpan(int end, double prob) {
+    while (end > Math.max(sentenceStart, windowStart) && StringUtil.isWhitespace(charAt(end - 1))) {
+      end--;
+    }
+
+    // a span which contains only white spaces is ignored
+    if (sentenceStart != -1 && end > sentenceStart) {
+      spans.add(new Span(sentenceStart, end, prob));
+    }
+  }
+
+  /**
+   * Checks that the window extends two tokens after the candidate, or to the end of the text.
+   */
+  private boolean hasContext(int position) {
+    int windowEnd = windowStart + length;
+
+    if (endOfText || windowEnd - position > MAX_CONTEXT_LENGTH) {
+      return true;
+    }
+
+    int i = position + 1;
+    while (i < windowEnd && !StringUtil.isWhitespace(charAt(i))) {
+      i++;
+    }
+    while (i < windowEnd && StringUtil.isWhitespace(charAt(i))) {
+      i++;
+    }
+    while (i < windowEnd && !StringUtil.isWhitespace(charAt(i))) {
+      i++;
+    }
+    return i < windowEnd;
+  }
+
+  /**
+   * Discards the text before the two tokens which precede the next unscanned char.
+   */
+  private void compact() {
+    int keepFrom = previousSpaceIndex(previousSpaceIndex(scanIndex));
+    keepFrom = Math.max(keepFrom, scanIndex - MAX_CONTEXT_LENGTH);
+
+    if (keepFrom > windowStart) {
+      int discard = keepFrom - windowStart;
+      System.arraycopy(buffer, discard, buffer, 0, length - discard);
+      length -= discard;
+      windowStart = keepFrom;
+    }
+  }
+
+  private int previousSpaceIndex(int seek) {
+    seek--;
+    while (seek > windowStart && !StringUtil.isWhitespace(charAt(seek))) {
+      seek--;
+    }
+    if (seek > windowStart && StringUtil.isWhitespace(charAt(seek))) {
+      while (seek > windowStart && StringUtil.isWhitespace(charAt(seek - 1))) {
+        seek--;
+      }
+      return seek;
+    }
+    return windowStart;
+  }
+
+  private int getFirstWS(int pos) {
+    int windowEnd = windowStart + length;
+    while (pos < windowEnd && !StringUtil.isWhitespace(charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private int getFirstNonWS(int pos) {
+    int windowEnd = windowStart + length;
+    while (pos < windowEnd && StringUtil.isWhitespace(charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private char charAt(int offset) {
+    return buffer[offset - windowStart];
+  }
+
+  private boolean isEndOfSentence(char c) {
+    for (char eosCharacter : eosCharacters) {
+      if (c == eosCharacter) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (in instanceof Closeable) {
+      ((Closeable) in).close();
+    }
+  }
+}
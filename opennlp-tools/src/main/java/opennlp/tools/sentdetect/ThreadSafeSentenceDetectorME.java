@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.sentdetect;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Span;
+
+/**
+ * A thread-safe version of the {@link SentenceDetectorME}. One instance can be shared
+ * by all worker threads, it can be used in a single-threaded context as well and only
+ * incurs a minimal overhead.
+ * <p>
+ * All calls share the same immutable {@link SentenceModel}. Each call borrows a
+ * {@link SentenceDetectorME} from an {@link InstancePool}, therefore the number of
+ * created sentence detectors is bounded by the number of concurrent calls and not by
+ * the number of threads. The sentence probabilities of the last call are kept per thread.
+ */
+public class ThreadSafeSentenceDetectorME implements SentenceDetector, AutoCloseable {
+
+  private final InstancePool<SentenceDetectorME> pool;
+
+  private final ThreadLocal<double[]> sentProbs = new ThreadLocal<>();
+
+  public ThreadSafeSentenceDetectorME(SentenceModel model) {
+    pool = new InstancePool<>(() -> new SentenceDetectorME(model));
+  }
+
+  @Override
+  public String[] sentDetect(String s) {
+    return Span.spansToStrings(sentPosDetect(s), s);
+  }
+
+  @Override
+  public Span[] sentPosDetect(String s) {
+    SentenceDetectorME sentenceDetector = pool.borrow();
+    try {
+      Span[] sentences = sentenceDetector.sentPosDetect(s);
+      sentProbs.set(sentenceDetector.getSentenceProbabilities());
+      return sentences;
+    } finally {
+      pool.release(sentenceDetector);
+    }
+  }
+
+  /**
+   * Returns the probabilities associated with the most recent call
+   * of the calling thread to {@link #sentDetect(String)} or {@link #sentPosDetect(String)}.
+   *
+   * @return probability for each sentence returned for the most recent
+   *     call to sentDetect. If not applicable an empty array is returned.
+   *
+   * @see SentenceDetectorME#getSentenceProbabilities()
+   */
+  public double[] getSentenceProbabilities() {
+    double[] probs = sentProbs.get();
+    return probs != null ? probs.clone() : new double[0];
+  }
+
+  /**
+   * Releases the pooled sentence detectors and the per-thread state of the calling thread.
+   */
+  @Override
+  public void close() {
+    pool.clear();
+    sentProbs.remove();
+  }
+}
@@ -32,32 +32,31 @@ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 
 package opennlp.tools.stemmer.snowball;
 
-import java.lang.reflect.Method;
-
 class Among {
-    public Among (String s, int substring_i, int result,
-		  String methodname, SnowballProgram methodobject) {
+
+    /**
+     * A routine of the stemmer which has to succeed for the among entry to match.
+     * It is called directly on the stemmer instance which performs the lookup.
+     */
+    interface Routine {
+	boolean call(SnowballProgram program);
+    }
+
+    public Among (String s, int substring_i, int result) {
+	this(s, substring_i, result, null);
+    }
+
+    public Among (String s, int substring_i, int result, Routine method) {
         this.s_size = s.length();
         this.s = s.toCharArray();
         this.substring_i = substring_i;
 	this.result = result;
-	this.methodobject = methodobject;
-	if (methodname.length() == 0) {
-	    this.method = null;
-	} else {
-	    try {
-		this.method = methodobject.getClass().
-		getDeclaredMethod(methodname, new Class[0]);
-	    } catch (NoSuchMethodException e) {
-		throw new RuntimeException(e);
-	    }
-	}
+	this.method = method;
     }
 
     public final int s_size; /* search string */
     public final char[] s; /* search string */
     public final int substring_i; /* index to longest matching substring */
     public final int result; /* result of the lookup */
-    public final Method method; /* method to use if substring matches */
-    public final SnowballProgram methodobject; /* object to invoke method on */
+    public final Routine method; /* routine to call if substring matches */
 }
@@ -32,21 +32,24 @@ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 
 package opennlp.tools.stemmer.snowball;
 
-import java.lang.reflect.InvocationTargetException;
-
 class SnowballProgram {
+
+    /* buffers which grew larger than this are not kept for the next word */
+    private static final int MAX_RETAINED_CAPACITY = 256;
+
     protected SnowballProgram()
     {
-	current = new StringBuffer();
+	current = new StringBuilder();
 	setCurrent("");
     }
 
     /**
      * Set the current string.
      */
-    public void setCurrent(String value)
+    public void setCurrent(CharSequence value)
     {
-	current.replace(0, current.length(), value);
+	current.setLength(0);
+	current.append(value);
 	cursor = 0;
 	limit = current.length();
 	limit_backward = 0;
@@ -59,19 +62,18 @@ class SnowballProgram {
      */
     public String getCurrent()
     {
+        // toString() copies the chars, the buffer is reused for the next word
+        // unless an unusually long word made it grow, then it is dropped to
+        // not waste a large amount of memory.
         String result = current.toString();
-        // Make a new StringBuffer.  If we reuse the old one, and a user of
-        // the library keeps a reference to the buffer returned (for example,
-        // by converting it to a String in a way which doesn't force a copy),
-        // the buffer size will not decrease, and we will risk wasting a large
-        // amount of memory.
-        // Thanks to Wolfram Esser for spotting this problem.
-        current = new StringBuffer();
+        if (current.capacity() > MAX_RETAINED_CAPACITY) {
+            current = new StringBuilder();
+        }
         return result;
     }
 
     // current string
-    protected StringBuffer current;
+    protected StringBuilder current;
 
     protected int cursor;
     protected int limit;
@@ -179,7 +181,7 @@ class SnowballProgram {
 	return true;
     }
 
-    protected boolean eq_s(int s_size, String s)
+    protected boolean eq_s(int s_size, CharSequence s)
     {
 	if (limit - cursor < s_size) return false;
 	int i;
@@ -190,12 +192,12 @@ class SnowballProgram {
 	return true;
     }
 
-		protected boolean eq_s(CharSequence s)
-	{
-		return eq_s(s.length(), s.toString());
-	}
+    protected boolean eq_s(CharSequence s)
+    {
+	return eq_s(s.length(), s);
+    }
 
-    protected boolean eq_s_b(int s_size, String s)
+    protected boolean eq_s_b(int s_size, CharSequence s)
     {
 	if (cursor - limit_backward < s_size) return false;
 	int i;
@@ -207,17 +209,18 @@ class SnowballProgram {
     }
 
     protected boolean eq_s_b(CharSequence s)
-		{
-			return eq_s_b(s.length(), s.toString());
-		}
+    {
+	return eq_s_b(s.length(), s);
+    }
 
     protected boolean eq_v(CharSequence s)
     {
-	return eq_s(s.length(), s.toString());
+	return eq_s(s.length(), s);
     }
 
     protected boolean eq_v_b(CharSequence s)
-    {   return eq_s_b(s.length(), s.toString());
+    {
+	return eq_s_b(s.length(), s);
     }
 
     protected int find_among(Among v[], int v_size)
@@ -272,18 +275,7 @@ class SnowballProgram {
 	    if (common_i >= w.s_size) {
 		cursor = c + w.s_size;
 		if (w.method == null) return w.result;
-		boolean res;
-		try {
-		    Object resobj = w.method.invoke(w.methodobject,
-						    new Object[0]);
-		    res = resobj.toString().equals("true");
-		} catch (InvocationTargetException e) {
-		    res = false;
-		    // FIXME - debug message
-		} catch (IllegalAccessException e) {
-		    res = false;
-		    // FIXME - debug message
-		}
+		boolean res = w.method.call(this);
 		cursor = c + w.s_size;
 		if (res) return w.result;
 	    }
@@ -344,19 +336,7 @@ class SnowballProgram {
 	    if (common_i >= w.s_size) {
 		cursor = c - w.s_size;
 		if (w.method == null) return w.result;
-
-		boolean res;
-		try {
-		    Object resobj = w.method.invoke(w.methodobject,
-						    new Object[0]);
-		    res = resobj.toString().equals("true");
-		} catch (InvocationTargetException e) {
-		    res = false;
-		    // FIXME - debug message
-		} catch (IllegalAccessException e) {
-		    res = false;
-		    // FIXME - debug message
-		}
+		boolean res = w.method.call(this);
 		cursor = c - w.s_size;
 		if (res) return w.result;
 	    }
@@ -372,10 +352,15 @@ class SnowballProgram {
     /* to replace chars between c_bra and c_ket in current by the
      * chars in s.
      */
-    protected int replace_s(int c_bra, int c_ket, String s)
+    protected int replace_s(int c_bra, int c_ket, CharSequence s)
     {
 	int adjustment = s.length() - (c_ket - c_bra);
-	current.replace(c_bra, c_ket, s);
+	if (s instanceof String) {
+	    current.replace(c_bra, c_ket, (String) s);
+	} else {
+	    current.delete(c_bra, c_ket);
+	    current.insert(c_bra, s);
+	}
 	limit += adjustment;
 	if (cursor >= c_ket) cursor += adjustment;
 	else if (cursor > c_bra) cursor = c_bra;
@@ -399,61 +384,37 @@ class SnowballProgram {
 	}
     }
 
-    protected void slice_from(String s)
+    protected void slice_from(CharSequence s)
     {
 	slice_check();
 	replace_s(bra, ket, s);
     }
 
-    protected void slice_from(CharSequence s)
-    {
-        slice_from(s.toString());
-    }
-
     protected void slice_del()
     {
 	slice_from("");
     }
 
-    protected void insert(int c_bra, int c_ket, String s)
+    protected void insert(int c_bra, int c_ket, CharSequence s)
     {
 	int adjustment = replace_s(c_bra, c_ket, s);
 	if (c_bra <= bra) bra += adjustment;
 	if (c_bra <= ket) ket += adjustment;
     }
 
-    protected void insert(int c_bra, int c_ket, CharSequence s)
-    {
-	insert(c_bra, c_ket, s.toString());
-    }
-
-    /* Copy the slice into the supplied StringBuffer */
-    protected StringBuffer slice_to(StringBuffer s)
-    {
-	slice_check();
-	int len = ket - bra;
-	s.replace(0, s.length(), current.substring(bra, ket));
-	return s;
-    }
-
     /* Copy the slice into the supplied StringBuilder */
     protected StringBuilder slice_to(StringBuilder s)
     {
 	slice_check();
-	int len = ket - bra;
-	s.replace(0, s.length(), current.substring(bra, ket));
-	return s;
-    }
-
-    protected StringBuffer assign_to(StringBuffer s)
-    {
-	s.replace(0, s.length(), current.substring(0, limit));
+	s.setLength(0);
+	s.append(current, bra, ket);
 	return s;
     }
 
     protected StringBuilder assign_to(StringBuilder s)
     {
-	s.replace(0, s.length(), current.substring(0, limit));
+	s.setLength(0);
+	s.append(current, 0, limit);
 	return s;
     }
 
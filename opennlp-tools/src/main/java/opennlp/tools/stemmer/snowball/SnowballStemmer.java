@@ -18,7 +18,17 @@
 package opennlp.tools.stemmer.snowball;
 
 import opennlp.tools.stemmer.Stemmer;
+import opennlp.tools.util.Cache;
 
+/**
+ * A {@link Stemmer} which uses one of the Snowball stemming algorithms.
+ * <p>
+ * Optionally the stems of the most recently seen words can be kept in a
+ * bounded cache, this pays off when the same words are stemmed again and again,
+ * e.g. during indexing.
+ * <p>
+ * <b>Note:</b> This class is not thread safe.
+ */
 public class SnowballStemmer implements Stemmer {
 
   public enum ALGORITHM {
@@ -45,9 +55,24 @@ public class SnowballStemmer implements Stemmer {
 
   private final AbstractSnowballStemmer stemmer;
   private final int repeat;
+  private final Cache<String, String> stemCache;
+
+  /**
+   * Initializes the stemmer.
+   *
+   * @param algorithm the stemming algorithm
+   * @param repeat the number of times the algorithm is applied to a word
+   * @param cacheSize the maximum number of words for which the stem is cached,
+   *                  or zero to disable the cache
+   */
+  public SnowballStemmer(ALGORITHM algorithm, int repeat, int cacheSize) {
+
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative but is " + cacheSize + "!");
+    }
 
-  public SnowballStemmer(ALGORITHM algorithm, int repeat) {
     this.repeat = repeat;
+    this.stemCache = cacheSize > 0 ? new Cache<>(cacheSize) : null;
 
     if (ALGORITHM.ARABIC.equals(algorithm)) {
       stemmer = new arabicStemmer();
@@ -111,13 +136,52 @@ public class SnowballStemmer implements Stemmer {
     }
   }
 
+  public SnowballStemmer(ALGORITHM algorithm, int repeat) {
+    this(algorithm, repeat, 0);
+  }
+
   public SnowballStemmer(ALGORITHM algorithm) {
     this(algorithm, 1);
   }
 
   public CharSequence stem(CharSequence word) {
 
-    stemmer.setCurrent(word.toString());
+    if (stemCache == null) {
+      return stemWord(word);
+    }
+
+    String key = word.toString();
+    String stem = stemCache.get(key);
+
+    if (stem == null) {
+      stem = stemWord(key);
+      stemCache.put(key, stem);
+    }
+
+    return stem;
+  }
+
+  /**
+   * Stems all the passed words.
+   *
+   * @param words the words to stem
+   *
+   * @return the stems, in the same order as the words
+   */
+  public CharSequence[] stem(CharSequence[] words) {
+
+    CharSequence[] stems = new CharSequence[words.length];
+
+    for (int i = 0; i < words.length; i++) {
+      stems[i] = stem(words[i]);
+    }
+
+    return stems;
+  }
+
+  private String stemWord(CharSequence word) {
+
+    stemmer.setCurrent(word);
 
     for (int i = 0; i < repeat; i++) {
       stemmer.stem();
@@ -40,149 +40,147 @@ package opennlp.tools.stemmer.snowball;
  */
 class englishStemmer extends opennlp.tools.stemmer.snowball.AbstractSnowballStemmer {
 
-        private final static englishStemmer methodObject = new englishStemmer ();
-
                 private final static Among a_0[] = {
-                    new Among ( "arsen", -1, -1, "", methodObject ),
-                    new Among ( "commun", -1, -1, "", methodObject ),
-                    new Among ( "gener", -1, -1, "", methodObject )
+                    new Among ( "arsen", -1, -1 ),
+                    new Among ( "commun", -1, -1 ),
+                    new Among ( "gener", -1, -1 )
                 };
 
                 private final static Among a_1[] = {
-                    new Among ( "'", -1, 1, "", methodObject ),
-                    new Among ( "'s'", 0, 1, "", methodObject ),
-                    new Among ( "'s", -1, 1, "", methodObject )
+                    new Among ( "'", -1, 1 ),
+                    new Among ( "'s'", 0, 1 ),
+                    new Among ( "'s", -1, 1 )
                 };
 
                 private final static Among a_2[] = {
-                    new Among ( "ied", -1, 2, "", methodObject ),
-                    new Among ( "s", -1, 3, "", methodObject ),
-                    new Among ( "ies", 1, 2, "", methodObject ),
-                    new Among ( "sses", 1, 1, "", methodObject ),
-                    new Among ( "ss", 1, -1, "", methodObject ),
-                    new Among ( "us", 1, -1, "", methodObject )
+                    new Among ( "ied", -1, 2 ),
+                    new Among ( "s", -1, 3 ),
+                    new Among ( "ies", 1, 2 ),
+                    new Among ( "sses", 1, 1 ),
+                    new Among ( "ss", 1, -1 ),
+                    new Among ( "us", 1, -1 )
                 };
 
                 private final static Among a_3[] = {
-                    new Among ( "", -1, 3, "", methodObject ),
-                    new Among ( "bb", 0, 2, "", methodObject ),
-                    new Among ( "dd", 0, 2, "", methodObject ),
-                    new Among ( "ff", 0, 2, "", methodObject ),
-                    new Among ( "gg", 0, 2, "", methodObject ),
-                    new Among ( "bl", 0, 1, "", methodObject ),
-                    new Among ( "mm", 0, 2, "", methodObject ),
-                    new Among ( "nn", 0, 2, "", methodObject ),
-                    new Among ( "pp", 0, 2, "", methodObject ),
-                    new Among ( "rr", 0, 2, "", methodObject ),
-                    new Among ( "at", 0, 1, "", methodObject ),
-                    new Among ( "tt", 0, 2, "", methodObject ),
-                    new Among ( "iz", 0, 1, "", methodObject )
+                    new Among ( "", -1, 3 ),
+                    new Among ( "bb", 0, 2 ),
+                    new Among ( "dd", 0, 2 ),
+                    new Among ( "ff", 0, 2 ),
+                    new Among ( "gg", 0, 2 ),
+                    new Among ( "bl", 0, 1 ),
+                    new Among ( "mm", 0, 2 ),
+                    new Among ( "nn", 0, 2 ),
+                    new Among ( "pp", 0, 2 ),
+                    new Among ( "rr", 0, 2 ),
+                    new Among ( "at", 0, 1 ),
+                    new Among ( "tt", 0, 2 ),
+                    new Among ( "iz", 0, 1 )
                 };
 
                 private final static Among a_4[] = {
-                    new Among ( "ed", -1, 2, "", methodObject ),
-                    new Among ( "eed", 0, 1, "", methodObject ),
-                    new Among ( "ing", -1, 2, "", methodObject ),
-                    new Among ( "edly", -1, 2, "", methodObject ),
-                    new Among ( "eedly", 3, 1, "", methodObject ),
-                    new Among ( "ingly", -1, 2, "", methodObject )
+                    new Among ( "ed", -1, 2 ),
+                    new Among ( "eed", 0, 1 ),
+                    new Among ( "ing", -1, 2 ),
+                    new Among ( "edly", -1, 2 ),
+                    new Among ( "eedly", 3, 1 ),
+                    new Among ( "ingly", -1, 2 )
                 };
 
                 private final static Among a_5[] = {
-                    new Among ( "anci", -1, 3, "", methodObject ),
-                    new Among ( "enci", -1, 2, "", methodObject ),
-                    new Among ( "ogi", -1, 13, "", methodObject ),
-                    new Among ( "li", -1, 16, "", methodObject ),
-                    new Among ( "bli", 3, 12, "", methodObject ),
-                    new Among ( "abli", 4, 4, "", methodObject ),
-                    new Among ( "alli", 3, 8, "", methodObject ),
-                    new Among ( "fulli", 3, 14, "", methodObject ),
-                    new Among ( "lessli", 3, 15, "", methodObject ),
-                    new Among ( "ousli", 3, 10, "", methodObject ),
-                    new Among ( "entli", 3, 5, "", methodObject ),
-                    new Among ( "aliti", -1, 8, "", methodObject ),
-                    new Among ( "biliti", -1, 12, "", methodObject ),
-                    new Among ( "iviti", -1, 11, "", methodObject ),
-                    new Among ( "tional", -1, 1, "", methodObject ),
-                    new Among ( "ational", 14, 7, "", methodObject ),
-                    new Among ( "alism", -1, 8, "", methodObject ),
-                    new Among ( "ation", -1, 7, "", methodObject ),
-                    new Among ( "ization", 17, 6, "", methodObject ),
-                    new Among ( "izer", -1, 6, "", methodObject ),
-                    new Among ( "ator", -1, 7, "", methodObject ),
-                    new Among ( "iveness", -1, 11, "", methodObject ),
-                    new Among ( "fulness", -1, 9, "", methodObject ),
-                    new Among ( "ousness", -1, 10, "", methodObject )
+                    new Among ( "anci", -1, 3 ),
+                    new Among ( "enci", -1, 2 ),
+                    new Among ( "ogi", -1, 13 ),
+                    new Among ( "li", -1, 16 ),
+                    new Among ( "bli", 3, 12 ),
+                    new Among ( "abli", 4, 4 ),
+                    new Among ( "alli", 3, 8 ),
+                    new Among ( "fulli", 3, 14 ),
+                    new Among ( "lessli", 3, 15 ),
+                    new Among ( "ousli", 3, 10 ),
+                    new Among ( "entli", 3, 5 ),
+                    new Among ( "aliti", -1, 8 ),
+                    new Among ( "biliti", -1, 12 ),
+                    new Among ( "iviti", -1, 11 ),
+                    new Among ( "tional", -1, 1 ),
+                    new Among ( "ational", 14, 7 ),
+                    new Among ( "alism", -1, 8 ),
+                    new Among ( "ation", -1, 7 ),
+                    new Among ( "ization", 17, 6 ),
+                    new Among ( "izer", -1, 6 ),
+                    new Among ( "ator", -1, 7 ),
+                    new Among ( "iveness", -1, 11 ),
+                    new Among ( "fulness", -1, 9 ),
+                    new Among ( "ousness", -1, 10 )
                 };
 
                 private final static Among a_6[] = {
-                    new Among ( "icate", -1, 4, "", methodObject ),
-                    new Among ( "ative", -1, 6, "", methodObject ),
-                    new Among ( "alize", -1, 3, "", methodObject ),
-                    new Among ( "iciti", -1, 4, "", methodObject ),
-                    new Among ( "ical", -1, 4, "", methodObject ),
-                    new Among ( "tional", -1, 1, "", methodObject ),
-                    new Among ( "ational", 5, 2, "", methodObject ),
-                    new Among ( "ful", -1, 5, "", methodObject ),
-                    new Among ( "ness", -1, 5, "", methodObject )
+                    new Among ( "icate", -1, 4 ),
+                    new Among ( "ative", -1, 6 ),
+                    new Among ( "alize", -1, 3 ),
+                    new Among ( "iciti", -1, 4 ),
+                    new Among ( "ical", -1, 4 ),
+                    new Among ( "tional", -1, 1 ),
+                    new Among ( "ational", 5, 2 ),
+                    new Among ( "ful", -1, 5 ),
+                    new Among ( "ness", -1, 5 )
                 };
 
                 private final static Among a_7[] = {
-                    new Among ( "ic", -1, 1, "", methodObject ),
-                    new Among ( "ance", -1, 1, "", methodObject ),
-                    new Among ( "ence", -1, 1, "", methodObject ),
-                    new Among ( "able", -1, 1, "", methodObject ),
-                    new Among ( "ible", -1, 1, "", methodObject ),
-                    new Among ( "ate", -1, 1, "", methodObject ),
-                    new Among ( "ive", -1, 1, "", methodObject ),
-                    new Among ( "ize", -1, 1, "", methodObject ),
-                    new Among ( "iti", -1, 1, "", methodObject ),
-                    new Among ( "al", -1, 1, "", methodObject ),
-                    new Among ( "ism", -1, 1, "", methodObject ),
-                    new Among ( "ion", -1, 2, "", methodObject ),
-                    new Among ( "er", -1, 1, "", methodObject ),
-                    new Among ( "ous", -1, 1, "", methodObject ),
-                    new Among ( "ant", -1, 1, "", methodObject ),
-                    new Among ( "ent", -1, 1, "", methodObject ),
-                    new Among ( "ment", 15, 1, "", methodObject ),
-                    new Among ( "ement", 16, 1, "", methodObject )
+                    new Among ( "ic", -1, 1 ),
+                    new Among ( "ance", -1, 1 ),
+                    new Among ( "ence", -1, 1 ),
+                    new Among ( "able", -1, 1 ),
+                    new Among ( "ible", -1, 1 ),
+                    new Among ( "ate", -1, 1 ),
+                    new Among ( "ive", -1, 1 ),
+                    new Among ( "ize", -1, 1 ),
+                    new Among ( "iti", -1, 1 ),
+                    new Among ( "al", -1, 1 ),
+                    new Among ( "ism", -1, 1 ),
+                    new Among ( "ion", -1, 2 ),
+                    new Among ( "er", -1, 1 ),
+                    new Among ( "ous", -1, 1 ),
+                    new Among ( "ant", -1, 1 ),
+                    new Among ( "ent", -1, 1 ),
+                    new Among ( "ment", 15, 1 ),
+                    new Among ( "ement", 16, 1 )
                 };
 
                 private final static Among a_8[] = {
-                    new Among ( "e", -1, 1, "", methodObject ),
-                    new Among ( "l", -1, 2, "", methodObject )
+                    new Among ( "e", -1, 1 ),
+                    new Among ( "l", -1, 2 )
                 };
 
                 private final static Among a_9[] = {
-                    new Among ( "succeed", -1, -1, "", methodObject ),
-                    new Among ( "proceed", -1, -1, "", methodObject ),
-                    new Among ( "exceed", -1, -1, "", methodObject ),
-                    new Among ( "canning", -1, -1, "", methodObject ),
-                    new Among ( "inning", -1, -1, "", methodObject ),
-                    new Among ( "earring", -1, -1, "", methodObject ),
-                    new Among ( "herring", -1, -1, "", methodObject ),
-                    new Among ( "outing", -1, -1, "", methodObject )
+                    new Among ( "succeed", -1, -1 ),
+                    new Among ( "proceed", -1, -1 ),
+                    new Among ( "exceed", -1, -1 ),
+                    new Among ( "canning", -1, -1 ),
+                    new Among ( "inning", -1, -1 ),
+                    new Among ( "earring", -1, -1 ),
+                    new Among ( "herring", -1, -1 ),
+                    new Among ( "outing", -1, -1 )
                 };
 
                 private final static Among a_10[] = {
-                    new Among ( "andes", -1, -1, "", methodObject ),
-                    new Among ( "atlas", -1, -1, "", methodObject ),
-                    new Among ( "bias", -1, -1, "", methodObject ),
-                    new Among ( "cosmos", -1, -1, "", methodObject ),
-                    new Among ( "dying", -1, 3, "", methodObject ),
-                    new Among ( "early", -1, 9, "", methodObject ),
-                    new Among ( "gently", -1, 7, "", methodObject ),
-                    new Among ( "howe", -1, -1, "", methodObject ),
-                    new Among ( "idly", -1, 6, "", methodObject ),
-                    new Among ( "lying", -1, 4, "", methodObject ),
-                    new Among ( "news", -1, -1, "", methodObject ),
-                    new Among ( "only", -1, 10, "", methodObject ),
-                    new Among ( "singly", -1, 11, "", methodObject ),
-                    new Among ( "skies", -1, 2, "", methodObject ),
-                    new Among ( "skis", -1, 1, "", methodObject ),
-                    new Among ( "sky", -1, -1, "", methodObject ),
-                    new Among ( "tying", -1, 5, "", methodObject ),
-                    new Among ( "ugly", -1, 8, "", methodObject )
+                    new Among ( "andes", -1, -1 ),
+                    new Among ( "atlas", -1, -1 ),
+                    new Among ( "bias", -1, -1 ),
+                    new Among ( "cosmos", -1, -1 ),
+                    new Among ( "dying", -1, 3 ),
+                    new Among ( "early", -1, 9 ),
+                    new Among ( "gently", -1, 7 ),
+                    new Among ( "howe", -1, -1 ),
+                    new Among ( "idly", -1, 6 ),
+                    new Among ( "lying", -1, 4 ),
+                    new Among ( "news", -1, -1 ),
+                    new Among ( "only", -1, 10 ),
+                    new Among ( "singly", -1, 11 ),
+                    new Among ( "skies", -1, 2 ),
+                    new Among ( "skis", -1, 1 ),
+                    new Among ( "sky", -1, -1 ),
+                    new Among ( "tying", -1, 5 ),
+                    new Among ( "ugly", -1, 8 )
                 };
 
                 private static final char g_v[] = {17, 65, 16, 1 };
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import opennlp.tools.util.InstancePool;
+import opennlp.tools.util.Span;
+
+/**
+ * A thread-safe version of the {@link TokenizerME}. One instance can be shared by all
+ * worker threads, it can be used in a single-threaded context as well and only incurs
+ * a minimal overhead.
+ * <p>
+ * All calls share the same immutable {@link TokenizerModel}. Each call borrows a
+ * {@link TokenizerME} from an {@link InstancePool}, therefore the number of created
+ * tokenizers is bounded by the number of concurrent calls and not by the number of
+ * threads. The token probabilities of the last call are kept per thread.
+ */
+public class ThreadSafeTokenizerME implements Tokenizer, AutoCloseable {
+
+  private final InstancePool<TokenizerME> pool;
+
+  private final ThreadLocal<double[]> tokProbs = new ThreadLocal<>();
+
+  public ThreadSafeTokenizerME(TokenizerModel model) {
+    pool = new InstancePool<>(() -> new TokenizerME(model));
+  }
+
+  @Override
+  public String[] tokenize(String s) {
+    return Span.spansToStrings(tokenizePos(s), s);
+  }
+
+  @Override
+  public Span[] tokenizePos(String s) {
+    TokenizerME tokenizer = pool.borrow();
+    try {
+      Span[] tokens = tokenizer.tokenizePos(s);
+      tokProbs.set(tokenizer.getTokenProbabilities());
+      return tokens;
+    } finally {
+      pool.release(tokenizer);
+    }
+  }
+
+  /**
+   * Returns the probabilities associated with the most recent call
+   * of the calling thread to {@link #tokenize(String)} or {@link #tokenizePos(String)}.
+   *
+   * @return probability for each token returned for the most recent
+   *     call to tokenize. If not applicable an empty array is returned.
+   *
+   * @see TokenizerME#getTokenProbabilities()
+   */
+  public double[] getTokenProbabilities() {
+    double[] probs = tokProbs.get();
+    return probs != null ? probs.clone() : new double[0];
+  }
+
+  /**
+   * Releases the pooled tokenizers and the per-thread state of the calling thread.
+   */
+  @Override
+  public void close() {
+    pool.clear();
+    tokProbs.remove();
+  }
+}
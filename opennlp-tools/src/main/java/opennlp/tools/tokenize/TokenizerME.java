@@ -69,6 +69,11 @@ import opennlp.tools.util.TrainingParameters;
  * String tokens[] = tokenizer.tokenize("A sentence to be tokenized.");
  * </code>
  *
+ * <p>
+ * Instances of this class are not thread-safe, the tokens and probabilities of the
+ * last call are kept in the instance. Use {@link ThreadSafeTokenizerME} to share one
+ * model between threads.
+ *
  * @see Tokenizer
  * @see TokenizerModel
  * @see TokenSample
@@ -194,9 +199,16 @@ public class TokenizerME extends AbstractTokenizer {
         int end = s.getEnd();
         final int origStart = s.getStart();
         double tokenProb = 1.0;
+
+        // all split positions of the token are evaluated in one batch
+        String[][] contexts = new String[end - origStart - 1][];
+        for (int j = origStart + 1; j < end; j++) {
+          contexts[j - origStart - 1] = cg.getContext(tok, j - origStart);
+        }
+        double[][] batchProbs = model.eval(contexts, new double[contexts.length][model.getNumOutcomes()]);
+
         for (int j = origStart + 1; j < end; j++) {
-          double[] probs =
-              model.eval(cg.getContext(tok, j - origStart));
+          double[] probs = batchProbs[j - origStart - 1];
           String best = model.getBestOutcome(probs);
           tokenProb *= probs[model.getIndex(best)];
           if (best.equals(TokenizerME.SPLIT)) {
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of instances which are not thread-safe, e.g. the ME tools.
+ * <p>
+ * An instance is borrowed for the duration of one call and returned afterwards,
+ * so the number of created instances is bounded by the number of concurrent calls
+ * and not by the number of threads. This makes the pool suitable for executors which
+ * create many short lived threads, where a {@link ThreadLocal} would create and retain
+ * one instance per thread. At most {@code maxIdle} instances are retained, instances
+ * released beyond that are dropped and left to the garbage collector.
+ *
+ * @param <T> the type of the pooled instances
+ */
+public final class InstancePool<T> {
+
+  private final Supplier<T> factory;
+  private final int maxIdle;
+
+  private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  /**
+   * Initializes the pool.
+   *
+   * @param factory creates a new instance when the pool is empty
+   * @param maxIdle the maximum number of retained instances
+   */
+  public InstancePool(Supplier<T> factory, int maxIdle) {
+    if (maxIdle < 0) {
+      throw new IllegalArgumentException("maxIdle must not be negative: " + maxIdle);
+    }
+
+    this.factory = Objects.requireNonNull(factory, "factory must not be null");
+    this.maxIdle = maxIdle;
+  }
+
+  /**
+   * Initializes the pool to retain at most two instances per available processor.
+   *
+   * @param factory creates a new instance when the pool is empty
+   */
+  public InstancePool(Supplier<T> factory) {
+    this(factory, 2 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Retrieves an idle instance or creates a new one if there is none. The instance
+   * is exclusively owned by the caller until it is passed to {@link #release(Object)}.
+   *
+   * @return an instance
+   */
+  public T borrow() {
+    T instance = idle.poll();
+    if (instance != null) {
+      idleCount.decrementAndGet();
+      return instance;
+    }
+    return factory.get();
+  }
+
+  /**
+   * Returns an instance to the pool. The caller must not use it afterwards.
+   *
+   * @param instance an instance which was retrieved with {@link #borrow()}
+   */
+  public void release(T instance) {
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      idle.offer(instance);
+    }
+    else {
+      idleCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Borrows an instance, applies the function to it and releases it again.
+   *
+   * @param function the function which uses the instance, it must not retain it
+   *
+   * @return the result of the function
+   */
+  public <R> R apply(Function<? super T, ? extends R> function) {
+    T instance = borrow();
+    try {
+      return function.apply(instance);
+    } finally {
+      release(instance);
+    }
+  }
+
+  /**
+   * @return the number of idle instances
+   */
+  public int getIdleCount() {
+    return Math.max(idleCount.get(), 0);
+  }
+
+  /**
+   * @return the maximum number of retained instances
+   */
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  /**
+   * Drops all idle instances.
+   */
+  public void clear() {
+    while (idle.poll() != null) {
+      idleCount.decrementAndGet();
+    }
+  }
+}
@@ -18,8 +18,11 @@
 
 package opennlp.tools.util.featuregen;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * An interface for generating features for name entity identification and for
  * updating document level contexts.
@@ -44,6 +47,29 @@ public interface AdaptiveFeatureGenerator {
    */
   void createFeatures(List<String> features, String[] tokens, int index, String[] previousOutcomes);
 
+  /**
+   * Adds the ids of the appropriate features for the token at the specified index with the
+   * specified array of previous outcomes to the specified buffer. The ids must be the hashes
+   * of the features which are added by {@link #createFeatures(List, String[], int, String[])}.
+   * <p>
+   * The default implementation hashes the created feature strings, generators override it
+   * to hash the features without creating the strings.
+   *
+   * @param features The buffer the feature ids are added to.
+   * @param tokens The tokens of the sentence or other text unit being processed.
+   * @param index The index of the token which is currently being processed.
+   * @param previousOutcomes The outcomes for the tokens prior to the specified index.
+   */
+  default void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+    List<String> strings = new ArrayList<>();
+    createFeatures(strings, tokens, index, previousOutcomes);
+
+    for (String feature : strings) {
+      features.add(feature);
+    }
+  }
+
   /**
    * Informs the feature generator that the specified tokens have been classified with the
    * corresponding set of specified outcomes.
@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * The {@link AggregatedFeatureGenerator} aggregates a set of
  * {@link AdaptiveFeatureGenerator}s and calls them to generate the features.
@@ -79,6 +81,15 @@ public class AggregatedFeatureGenerator implements AdaptiveFeatureGenerator {
     }
   }
 
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+
+    for (AdaptiveFeatureGenerator generator : generators) {
+      generator.createFeatures(features, tokens, index, previousOutcomes);
+    }
+  }
+
   /**
    * Calls the {@link AdaptiveFeatureGenerator#updateAdaptiveData(String[], String[])}
    * method on all aggregated {@link AdaptiveFeatureGenerator}s.
@@ -19,6 +19,8 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 public class BigramNameFeatureGenerator implements AdaptiveFeatureGenerator {
 
   public void createFeatures(List<String> features, String[] tokens, int index,
@@ -36,4 +38,20 @@ public class BigramNameFeatureGenerator implements AdaptiveFeatureGenerator {
       features.add("wc,nc=" + wc + "," + nwc);
     }
   }
+
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+                             String[] previousOutcomes) {
+    String wc = FeatureGeneratorUtil.tokenFeature(tokens[index]);
+    if (index > 0) {
+      features.append("pw,w=").append(tokens[index - 1]).append(',').append(tokens[index]).add();
+      String pwc = FeatureGeneratorUtil.tokenFeature(tokens[index - 1]);
+      features.append("pwc,wc=").append(pwc).append(',').append(wc).add();
+    }
+    if (index + 1 < tokens.length) {
+      features.append("w,nw=").append(tokens[index]).append(',').append(tokens[index + 1]).add();
+      String nwc = FeatureGeneratorUtil.tokenFeature(tokens[index + 1]);
+      features.append("wc,nc=").append(wc).append(',').append(nwc).add();
+    }
+  }
 }
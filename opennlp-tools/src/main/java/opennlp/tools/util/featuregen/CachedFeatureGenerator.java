@@ -21,6 +21,7 @@ package opennlp.tools.util.featuregen;
 import java.util.ArrayList;
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.Cache;
 
 /**
@@ -77,6 +78,15 @@ public class CachedFeatureGenerator implements AdaptiveFeatureGenerator {
     features.addAll(cacheFeatures);
   }
 
+  /**
+   * Hashed features are not cached, they are computed by the cached generator directly.
+   */
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+    generator.createFeatures(features, tokens, index, previousOutcomes);
+  }
+
   public void updateAdaptiveData(String[] tokens, String[] outcomes) {
     generator.updateAdaptiveData(tokens, outcomes);
   }
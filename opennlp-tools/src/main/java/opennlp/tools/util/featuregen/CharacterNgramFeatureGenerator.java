@@ -19,6 +19,7 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.ngram.NGramModel;
 import opennlp.tools.util.StringList;
 import opennlp.tools.util.StringUtil;
@@ -55,4 +56,24 @@ public class CharacterNgramFeatureGenerator implements AdaptiveFeatureGenerator
       }
     }
   }
+
+  /**
+   * Adds the distinct lower cased n-grams of the token, the order of the ids is not
+   * the iteration order of the n-gram model.
+   */
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index, String[] preds) {
+    String token = tokens[index];
+    int from = features.size();
+
+    for (int length = minLength; length <= maxLength; length++) {
+      for (int start = 0; start + length <= token.length(); start++) {
+        features.append("ng=");
+        for (int i = start; i < start + length; i++) {
+          features.append(Character.toLowerCase(token.charAt(i)));
+        }
+        features.addDistinct(from);
+      }
+    }
+  }
 }
@@ -19,6 +19,8 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * The definition feature maps the underlying distribution of outcomes.
  */
@@ -30,4 +32,10 @@ public class OutcomePriorFeatureGenerator implements AdaptiveFeatureGenerator {
                              String[] previousOutcomes) {
     features.add(OUTCOME_PRIOR_FEATURE);
   }
+
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+                             String[] previousOutcomes) {
+    features.add(OUTCOME_PRIOR_FEATURE);
+  }
 }
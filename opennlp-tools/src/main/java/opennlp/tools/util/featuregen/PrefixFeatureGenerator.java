@@ -19,6 +19,8 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 public class PrefixFeatureGenerator implements AdaptiveFeatureGenerator {
 
   static final int DEFAULT_MAX_LENGTH = 4;
@@ -42,6 +44,16 @@ public class PrefixFeatureGenerator implements AdaptiveFeatureGenerator {
     }
   }
   
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+    String lex = tokens[index];
+    int prefixes = Math.min(prefixLength, lex.length());
+    for (int li = 0; li < prefixes; li++) {
+      features.append("pre=").append(lex, 0, li + 1).add();
+    }
+  }
+
   private String[] getPrefixes(String lex) {
       
     int prefixes = Math.min(prefixLength, lex.length());
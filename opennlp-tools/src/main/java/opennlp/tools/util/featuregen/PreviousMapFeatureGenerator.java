@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * This {@link AdaptiveFeatureGenerator} generates features indicating the
  * outcome associated with a previously occuring word.
@@ -33,6 +35,11 @@ public class PreviousMapFeatureGenerator implements AdaptiveFeatureGenerator {
     features.add("pd=" + previousMap.get(tokens[index]));
   }
 
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index, String[] preds) {
+    features.add("pd=", String.valueOf(previousMap.get(tokens[index])));
+  }
+
   /**
    * Generates previous decision features for the token based on contents of the previous map.
    */
@@ -19,6 +19,8 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * This feature generator creates sentence begin and end features.
  */
@@ -45,4 +47,17 @@ public class SentenceFeatureGenerator implements AdaptiveFeatureGenerator {
     }
   }
 
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+
+    if (isGenerateFirstWordFeature && index == 0) {
+      features.add("S=begin");
+    }
+
+    if (isGenerateLastWordFeature && tokens.length == index + 1) {
+      features.add("S=end");
+    }
+  }
+
 }
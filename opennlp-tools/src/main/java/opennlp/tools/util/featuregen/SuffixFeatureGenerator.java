@@ -19,6 +19,8 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 public class SuffixFeatureGenerator implements AdaptiveFeatureGenerator {
 
   static final int DEFAULT_MAX_LENGTH = 4;
@@ -42,6 +44,16 @@ public class SuffixFeatureGenerator implements AdaptiveFeatureGenerator {
     }
   }
   
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index,
+      String[] previousOutcomes) {
+    String lex = tokens[index];
+    int suffixes = Math.min(suffixLength, lex.length());
+    for (int li = 0; li < suffixes; li++) {
+      features.append("suf=").append(lex, lex.length() - li - 1, lex.length()).add();
+    }
+  }
+
   private String[] getSuffixes(String lex) {
       
     int suffixes = Math.min(suffixLength, lex.length());
@@ -19,6 +19,7 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.StringUtil;
 
 
@@ -49,4 +50,15 @@ public class TokenClassFeatureGenerator implements AdaptiveFeatureGenerator {
           "," + wordClass);
     }
   }
+
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index, String[] preds) {
+    String wordClass = FeatureGeneratorUtil.tokenFeature(tokens[index]);
+    features.append(TOKEN_CLASS_PREFIX).append('=').append(wordClass).add();
+
+    if (generateWordAndClassFeature) {
+      features.append(TOKEN_AND_CLASS_PREFIX).append('=').appendLowerCase(tokens[index])
+          .append(',').append(wordClass).add();
+    }
+  }
 }
@@ -20,6 +20,7 @@ package opennlp.tools.util.featuregen;
 
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.StringUtil;
 
 /**
@@ -46,4 +47,15 @@ public class TokenFeatureGenerator implements AdaptiveFeatureGenerator {
       features.add(WORD_PREFIX + "=" + tokens[index]);
     }
   }
+
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index, String[] preds) {
+    features.append(WORD_PREFIX).append('=');
+    if (lowercase) {
+      features.appendLowerCase(tokens[index]).add();
+    }
+    else {
+      features.append(tokens[index]).add();
+    }
+  }
 }
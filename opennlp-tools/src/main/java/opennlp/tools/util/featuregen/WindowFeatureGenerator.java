@@ -21,6 +21,8 @@ package opennlp.tools.util.featuregen;
 import java.util.ArrayList;
 import java.util.List;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 /**
  * Generates previous and next features for a given {@link AdaptiveFeatureGenerator}.
  * The window size can be specified.
@@ -110,6 +112,34 @@ public class WindowFeatureGenerator implements AdaptiveFeatureGenerator {
     }
   }
 
+  /**
+   * Adds the ids of the features of the window, the position of the features
+   * is pushed as prefix instead of being concatenated to every feature.
+   */
+  @Override
+  public void createFeatures(HashedFeatures features, String[] tokens, int index, String[] preds) {
+    // current features
+    generator.createFeatures(features, tokens, index, preds);
+
+    // previous features
+    for (int i = 1; i < prevWindowSize + 1; i++) {
+      if (index - i >= 0) {
+        features.append(PREV_PREFIX).append(i).pushPrefix();
+        generator.createFeatures(features, tokens, index - i, preds);
+        features.popPrefix();
+      }
+    }
+
+    // next features
+    for (int i = 1; i < nextWindowSize + 1; i++) {
+      if (i + index < tokens.length) {
+        features.append(NEXT_PREFIX).append(i).pushPrefix();
+        generator.createFeatures(features, tokens, index + i, preds);
+        features.popPrefix();
+      }
+    }
+  }
+
   public void updateAdaptiveData(String[] tokens, String[] outcomes) {
     generator.updateAdaptiveData(tokens, outcomes);
   }
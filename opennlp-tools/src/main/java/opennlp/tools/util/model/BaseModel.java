@@ -30,12 +30,14 @@ import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -179,8 +181,8 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
   protected BaseModel(String componentName, File modelFile) throws IOException  {
     this(componentName, true);
 
-    try (InputStream in = new BufferedInputStream(new FileInputStream(modelFile))) {
-      loadModel(in);
+    try (ZipFile zip = new ZipFile(modelFile)) {
+      loadModel(zip);
     }
   }
 
@@ -244,6 +246,45 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
     checkArtifactMap();
   }
 
+  /**
+   * Loads the model from a zip file. Other than a zip stream the file has a central
+   * directory, the manifest is read first and then all other artifacts are read once.
+   */
+  private void loadModel(ZipFile zip) throws IOException {
+
+    createBaseArtifactSerializers(artifactSerializers);
+
+    ZipEntry manifestEntry = zip.getEntry(MANIFEST_ENTRY);
+    if (manifestEntry != null) {
+      try (InputStream in = zip.getInputStream(manifestEntry)) {
+        artifactMap.put(MANIFEST_ENTRY, artifactSerializers.get("properties").create(in));
+      }
+    }
+
+    initializeFactory();
+
+    loadArtifactSerializers();
+
+    Map<String, Object> artifactMap = new HashMap<>();
+
+    Enumeration<? extends ZipEntry> entries = zip.entries();
+    while (entries.hasMoreElements()) {
+      ZipEntry entry = entries.nextElement();
+
+      if (!entry.isDirectory() && !MANIFEST_ENTRY.equals(entry.getName())) {
+        try (InputStream in = zip.getInputStream(entry)) {
+          artifactMap.put(entry.getName(), loadArtifact(entry.getName(), in));
+        }
+      }
+    }
+
+    this.artifactMap.putAll(artifactMap);
+
+    finishedLoadingArtifacts = true;
+
+    checkArtifactMap();
+  }
+
   private void initializeFactory() throws InvalidFormatException {
     String factoryName = getManifestProperty(FACTORY_NAME);
     if (factoryName == null) {
@@ -296,23 +337,7 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
       // Note: The manifest.properties file will be read here again,
       // there should be no need to prevent that.
 
-      String entryName = entry.getName();
-      String extension = getEntryExtension(entryName);
-
-      ArtifactSerializer factory = artifactSerializers.get(extension);
-
-      String artifactSerializerClazzName =
-          getManifestProperty(SERIALIZER_CLASS_NAME_PREFIX + entryName);
-
-      if (artifactSerializerClazzName != null) {
-        factory = ExtensionLoader.instantiateExtension(ArtifactSerializer.class, artifactSerializerClazzName);
-      }
-
-      if (factory != null) {
-        artifactMap.put(entryName, factory.create(zip));
-      } else {
-        throw new InvalidFormatException("Unknown artifact format: " + extension);
-      }
+      artifactMap.put(entry.getName(), loadArtifact(entry.getName(), zip));
 
       zip.closeEntry();
     }
@@ -322,6 +347,28 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
     finishedLoadingArtifacts = true;
   }
 
+  /**
+   * De-serializes one artifact with the serializer which is configured for it.
+   */
+  private Object loadArtifact(String entryName, InputStream in) throws IOException {
+    String extension = getEntryExtension(entryName);
+
+    ArtifactSerializer factory = artifactSerializers.get(extension);
+
+    String artifactSerializerClazzName =
+        getManifestProperty(SERIALIZER_CLASS_NAME_PREFIX + entryName);
+
+    if (artifactSerializerClazzName != null) {
+      factory = ExtensionLoader.instantiateExtension(ArtifactSerializer.class, artifactSerializerClazzName);
+    }
+
+    if (factory != null) {
+      return factory.create(in);
+    } else {
+      throw new InvalidFormatException("Unknown artifact format: " + extension);
+    }
+  }
+
   /**
    * Extracts the "." extension from an entry name.
    *
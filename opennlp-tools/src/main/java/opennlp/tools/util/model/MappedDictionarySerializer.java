@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import opennlp.tools.dictionary.MappedDictionary;
+
+/**
+ * Stores a {@link MappedDictionary} in its binary format. When a model is loaded the
+ * dictionary is read into a direct buffer, so the entries do not occupy the heap.
+ */
+public class MappedDictionarySerializer implements ArtifactSerializer<MappedDictionary> {
+
+  public MappedDictionary create(InputStream in) throws IOException {
+    return new MappedDictionary(ModelUtil.readDirectBuffer(in));
+  }
+
+  public void serialize(MappedDictionary dictionary, OutputStream out) throws IOException {
+    dictionary.write(out);
+  }
+}
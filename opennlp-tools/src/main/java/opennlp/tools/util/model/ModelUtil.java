@@ -22,6 +22,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
@@ -125,6 +126,26 @@ public final class ModelUtil {
     return byteArrayOut.toByteArray();
   }
 
+  /**
+   * Reads the provided {@link InputStream} into a direct {@link ByteBuffer},
+   * which is stored outside of the heap.
+   *
+   * @param in stream to read data for the buffer from
+   * @return buffer with the contents of the stream, starting at position zero
+   *
+   * @throws IOException if an exception is thrown while reading
+   *     from the provided {@link InputStream}
+   */
+  public static ByteBuffer readDirectBuffer(InputStream in) throws IOException {
+    byte[] bytes = read(in);
+
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+    buffer.put(bytes);
+    buffer.clear();
+
+    return buffer;
+  }
+
   public static void addCutoffAndIterations(Map<String, String> manifestInfoEntries,
       int cutoff, int iterations) {
     manifestInfoEntries.put(BaseModel.TRAINING_CUTOFF_PROPERTY, Integer.toString(cutoff));
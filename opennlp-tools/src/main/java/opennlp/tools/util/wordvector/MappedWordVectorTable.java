@@ -0,0 +1,636 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import opennlp.tools.dictionary.SortedTokenTable;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.java.Experimental;
+
+/**
+ * A {@link WordVectorTable} which reads the vectors directly from a {@link ByteBuffer},
+ * usually a file which is mapped into memory with {@link #open(Path)}. All vectors are
+ * stored in one float section and the tokens in a {@link SortedTokenTable}, opening a
+ * table does not create an object per token.
+ * <p>
+ * The table can search the nearest neighbours of vectors by cosine similarity. The search
+ * compares the queries against all vectors, several queries can be searched together so
+ * the vectors are only read once. A table can contain a quantized index with one byte per
+ * component which is scanned first, the best candidates are scored again with the floats.
+ * <p>
+ * The format consists of a header followed by these sections, all values are stored in
+ * big endian byte order and each section starts at a multiple of eight bytes:
+ * <ul>
+ * <li>norms: the euclidean norm of each vector</li>
+ * <li>vectors: the components of all vectors, row by row</li>
+ * <li>scales: the scale of the quantized components of each vector, only if quantized</li>
+ * <li>codes: the quantized components of all vectors as bytes, only if quantized</li>
+ * <li>tokens: a {@link SortedTokenTable}, the row of a vector is the index of its token</li>
+ * </ul>
+ * Tables are written with {@link #write(WordVectorTable, OutputStream, boolean)}.
+ * Instances are immutable and thread-safe.
+ * <p>
+ * Warning: Experimental new feature, see OPENNLP-1144 for details, the API might be changed anytime.
+ */
+@Experimental
+public final class MappedWordVectorTable implements WordVectorTable {
+
+  private static final int MAGIC = 0x4F4E4C57; // ONLW
+  private static final int FORMAT_VERSION = 1;
+
+  private static final int HEADER_SIZE = 48;
+
+  private static final int FLAG_QUANTIZED = 1;
+
+  // the number of components which are copied at once from the buffer
+  private static final int BLOCK_SIZE = 16 * 1024;
+
+  // the number of candidates per result which are scored again after the quantized scan
+  private static final int RESCORE_FACTOR = 4;
+
+  /**
+   * A token and its cosine similarity to a query.
+   */
+  public static final class Neighbor {
+
+    private final String token;
+    private final float score;
+
+    Neighbor(String token, float score) {
+      this.token = token;
+      this.score = score;
+    }
+
+    public String getToken() {
+      return token;
+    }
+
+    /**
+     * @return the cosine similarity to the query
+     */
+    public float getScore() {
+      return score;
+    }
+
+    @Override
+    public String toString() {
+      return token + "=" + score;
+    }
+  }
+
+  private final ByteBuffer buffer;
+  private final int numVectors;
+  private final int dimension;
+  private final SortedTokenTable tokens;
+  private final FloatBuffer norms;
+  private final FloatBuffer vectors;
+  private final FloatBuffer scales;
+  private final ByteBuffer codes;
+
+  /**
+   * Initializes the table from a buffer which contains a table in the mapped word vector
+   * format. The buffer must not be modified afterwards.
+   *
+   * @param buffer the buffer, its content starts at position zero
+   *
+   * @throws InvalidFormatException if the buffer does not contain a valid table
+   */
+  public MappedWordVectorTable(ByteBuffer buffer) throws InvalidFormatException {
+    this.buffer = buffer.duplicate();
+
+    if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new InvalidFormatException("Not a mapped word vector table!");
+    }
+
+    if (buffer.getInt(4) != FORMAT_VERSION) {
+      throw new InvalidFormatException("Unsupported mapped word vector table version: "
+          + buffer.getInt(4));
+    }
+
+    numVectors = buffer.getInt(8);
+    dimension = buffer.getInt(12);
+    int flags = buffer.getInt(16);
+
+    if (numVectors < 0 || dimension < 0 || (long) numVectors * dimension > Integer.MAX_VALUE) {
+      throw new InvalidFormatException("Mapped word vector table is corrupt!");
+    }
+
+    try {
+      norms = section(buffer, buffer.getInt(20), 4L * numVectors).asFloatBuffer();
+      vectors = section(buffer, buffer.getInt(24), 4L * numVectors * dimension).asFloatBuffer();
+
+      if ((flags & FLAG_QUANTIZED) != 0) {
+        scales = section(buffer, buffer.getInt(28), 4L * numVectors).asFloatBuffer();
+        codes = section(buffer, buffer.getInt(32), (long) numVectors * dimension);
+      }
+      else {
+        scales = null;
+        codes = null;
+      }
+
+      ByteBuffer tokenSection = buffer.duplicate();
+      tokenSection.position(buffer.getInt(36));
+      tokens = new SortedTokenTable(tokenSection.slice());
+    }
+    catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+      throw new InvalidFormatException("Mapped word vector table is truncated or corrupt!", e);
+    }
+
+    if (tokens.size() != numVectors) {
+      throw new InvalidFormatException("The number of tokens does not match the number of vectors!");
+    }
+  }
+
+  private static ByteBuffer section(ByteBuffer buffer, int offset, long length) {
+    if (offset < 0 || offset + length > buffer.capacity()) {
+      throw new IndexOutOfBoundsException("Section exceeds the buffer: " + (offset + length));
+    }
+
+    ByteBuffer section = buffer.duplicate();
+    section.limit((int) (offset + length));
+    section.position(offset);
+    return section.slice();
+  }
+
+  /**
+   * Maps a word vector table file into memory.
+   *
+   * @param path the word vector table file
+   *
+   * @return the table
+   *
+   * @throws IOException if the file can not be read or is not a mapped word vector table
+   */
+  public static MappedWordVectorTable open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new MappedWordVectorTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Writes a word vector table in the mapped word vector format, for example a table which
+   * was parsed with {@link Glove#parse(java.io.InputStream)}.
+   *
+   * @param table the table
+   * @param path the file to write to
+   * @param quantize true to add a quantized index for the nearest neighbour search
+   *
+   * @throws IOException if writing fails
+   */
+  public static void write(WordVectorTable table, Path path, boolean quantize) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(table, out, quantize);
+    }
+  }
+
+  /**
+   * Writes a word vector table in the mapped word vector format. The stream is not closed.
+   *
+   * @param table the table
+   * @param out the stream to write to
+   * @param quantize true to add a quantized index for the nearest neighbour search
+   *
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the table is too large or a vector has
+   *     a different dimension
+   */
+  public static void write(WordVectorTable table, OutputStream out, boolean quantize)
+      throws IOException {
+
+    int dimension = Math.max(0, table.dimension());
+
+    List<String[]> entries = new ArrayList<>(table.size());
+    for (Iterator<String> it = table.tokens(); it.hasNext(); ) {
+      entries.add(new String[] {it.next()});
+    }
+    int[] order = SortedTokenTable.sort(entries, true);
+
+    long normsOffset = HEADER_SIZE;
+    long vectorsOffset = align(normsOffset + 4L * order.length);
+    long scalesOffset = align(vectorsOffset + 4L * order.length * dimension);
+    long codesOffset = quantize ? align(scalesOffset + 4L * order.length) : scalesOffset;
+    long tokensOffset = quantize ? align(codesOffset + (long) order.length * dimension)
+        : codesOffset;
+
+    // the size of the token table, which is written last, is checked by SortedTokenTable.write
+    // together with the bytes written before, so pad() never sees a saturated stream size
+    if (tokensOffset > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Table is too large for the mapped word vector format!");
+    }
+
+    WordVector[] sortedVectors = new WordVector[order.length];
+    for (int row = 0; row < order.length; row++) {
+      sortedVectors[row] = table.get(entries.get(order[row])[0]);
+
+      if (sortedVectors[row].dimension() != dimension) {
+        throw new IllegalArgumentException("Vector dimension must be constant!");
+      }
+    }
+
+    DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeInt(order.length);
+    data.writeInt(dimension);
+    data.writeInt(quantize ? FLAG_QUANTIZED : 0);
+    data.writeInt((int) normsOffset);
+    data.writeInt((int) vectorsOffset);
+    data.writeInt((int) scalesOffset);
+    data.writeInt((int) codesOffset);
+    data.writeInt((int) tokensOffset);
+    data.writeInt(0);
+    data.writeInt(0);
+
+    for (WordVector vector : sortedVectors) {
+      double sum = 0;
+      for (int i = 0; i < dimension; i++) {
+        sum += vector.getAsFloat(i) * vector.getAsFloat(i);
+      }
+      data.writeFloat((float) Math.sqrt(sum));
+    }
+    pad(data);
+
+    for (WordVector vector : sortedVectors) {
+      for (int i = 0; i < dimension; i++) {
+        data.writeFloat(vector.getAsFloat(i));
+      }
+    }
+    pad(data);
+
+    if (quantize) {
+      for (WordVector vector : sortedVectors) {
+        data.writeFloat(maxAbs(vector) / 127f);
+      }
+      pad(data);
+
+      for (WordVector vector : sortedVectors) {
+        float scale = maxAbs(vector) / 127f;
+        for (int i = 0; i < dimension; i++) {
+          data.writeByte(scale > 0 ? Math.round(vector.getAsFloat(i) / scale) : 0);
+        }
+      }
+      pad(data);
+    }
+
+    SortedTokenTable.write(entries, null, true, data);
+    data.flush();
+  }
+
+  private static float maxAbs(WordVector vector) {
+    float max = 0;
+    for (int i = 0; i < vector.dimension(); i++) {
+      max = Math.max(max, Math.abs(vector.getAsFloat(i)));
+    }
+    return max;
+  }
+
+  private static long align(long offset) {
+    return (offset + 7) & ~7L;
+  }
+
+  private static void pad(DataOutputStream data) throws IOException {
+    while (data.size() % 8 != 0) {
+      data.writeByte(0);
+    }
+  }
+
+  @Override
+  public WordVector get(String token) {
+    int row = tokens.indexOf(token);
+
+    if (row >= 0) {
+      FloatBuffer vector = vectors.duplicate();
+      vector.limit((row + 1) * dimension);
+      vector.position(row * dimension);
+      return new FloatBufferVector(vector.slice());
+    }
+
+    return null;
+  }
+
+  @Override
+  public Iterator<String> tokens() {
+    return new Iterator<String>() {
+
+      private int row;
+
+      public boolean hasNext() {
+        return row < numVectors;
+      }
+
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return tokens.getToken(row++, 0);
+      }
+    };
+  }
+
+  @Override
+  public int size() {
+    return numVectors;
+  }
+
+  @Override
+  public int dimension() {
+    return dimension;
+  }
+
+  /**
+   * @return true if the table contains a quantized index for the nearest neighbour search
+   */
+  public boolean isQuantized() {
+    return codes != null;
+  }
+
+  /**
+   * Computes the cosine similarity of the vectors of two tokens.
+   *
+   * @param token1 the first token
+   * @param token2 the second token
+   *
+   * @return the cosine similarity or {@link Float#NaN} if a token is not in the table
+   */
+  public float similarity(String token1, String token2) {
+    int row1 = tokens.indexOf(token1);
+    int row2 = tokens.indexOf(token2);
+
+    if (row1 < 0 || row2 < 0) {
+      return Float.NaN;
+    }
+
+    float[] vector = readRow(row1);
+    return cosine(dot(vector, readRow(row2), 0, dimension), norms.get(row1), norms.get(row2));
+  }
+
+  /**
+   * Searches the tokens which are most similar to a token, the token itself is excluded.
+   *
+   * @param token the token
+   * @param k the maximum number of neighbours
+   *
+   * @return the neighbours, the most similar first, or null if the token is not in the table
+   */
+  public Neighbor[] nearest(String token, int k) {
+    int row = tokens.indexOf(token);
+
+    if (row < 0) {
+      return null;
+    }
+
+    return search(new float[][] {readRow(row)}, new int[] {row}, k)[0];
+  }
+
+  /**
+   * Searches the tokens whose vectors are most similar to a vector.
+   *
+   * @param query the vector, with the dimension of this table
+   * @param k the maximum number of neighbours
+   *
+   * @return the neighbours, the most similar first
+   */
+  public Neighbor[] nearest(float[] query, int k) {
+    return nearest(new float[][] {query}, k)[0];
+  }
+
+  /**
+   * Searches the tokens whose vectors are most similar to each of several vectors.
+   * The vectors of the table are read only once for all queries.
+   *
+   * @param queries the vectors, with the dimension of this table
+   * @param k the maximum number of neighbours per query
+   *
+   * @return the neighbours of each query, the most similar first
+   */
+  public Neighbor[][] nearest(float[][] queries, int k) {
+    int[] excludedRows = new int[queries.length];
+    Arrays.fill(excludedRows, -1);
+    return search(queries, excludedRows, k);
+  }
+
+  private Neighbor[][] search(float[][] queries, int[] excludedRows, int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be at least one: " + k);
+    }
+
+    float[] queryNorms = new float[queries.length];
+    for (int q = 0; q < queries.length; q++) {
+      if (queries[q].length != dimension) {
+        throw new IllegalArgumentException("Query dimension must be " + dimension
+            + " but is " + queries[q].length);
+      }
+      queryNorms[q] = (float) Math.sqrt(dot(queries[q], queries[q], 0, dimension));
+    }
+
+    TopScores[] top;
+    if (isQuantized()) {
+      top = scanCodes(queries, excludedRows, k * RESCORE_FACTOR);
+
+      // score the candidates again with the exact vectors
+      for (int q = 0; q < queries.length; q++) {
+        TopScores candidates = top[q];
+        top[q] = new TopScores(k);
+        for (int i = 0; i < candidates.size; i++) {
+          int row = candidates.rows[i];
+          top[q].offer(row, cosine(dot(queries[q], readRow(row), 0, dimension),
+              queryNorms[q], norms.get(row)));
+        }
+      }
+    }
+    else {
+      top = scanVectors(queries, queryNorms, excludedRows, k);
+    }
+
+    Neighbor[][] neighbors = new Neighbor[queries.length][];
+    for (int q = 0; q < queries.length; q++) {
+      neighbors[q] = new Neighbor[top[q].size];
+      for (int i = 0; i < top[q].size; i++) {
+        neighbors[q][i] = new Neighbor(tokens.getToken(top[q].rows[i], 0), top[q].scores[i]);
+      }
+    }
+    return neighbors;
+  }
+
+  private TopScores[] scanVectors(float[][] queries, float[] queryNorms, int[] excludedRows,
+      int k) {
+    TopScores[] top = new TopScores[queries.length];
+    for (int q = 0; q < queries.length; q++) {
+      top[q] = new TopScores(k);
+    }
+
+    int rowsPerBlock = Math.max(1, BLOCK_SIZE / Math.max(1, dimension));
+    float[] block = new float[rowsPerBlock * dimension];
+    FloatBuffer source = vectors.duplicate();
+
+    for (int start = 0; start < numVectors; start += rowsPerBlock) {
+      int rows = Math.min(rowsPerBlock, numVectors - start);
+      source.position(start * dimension);
+      source.get(block, 0, rows * dimension);
+
+      for (int r = 0; r < rows; r++) {
+        int row = start + r;
+        float norm = norms.get(row);
+
+        for (int q = 0; q < queries.length; q++) {
+          if (row != excludedRows[q]) {
+            top[q].offer(row, cosine(dot(queries[q], block, r * dimension, dimension),
+                queryNorms[q], norm));
+          }
+        }
+      }
+    }
+
+    return top;
+  }
+
+  private TopScores[] scanCodes(float[][] queries, int[] excludedRows, int numCandidates) {
+    TopScores[] top = new TopScores[queries.length];
+    for (int q = 0; q < queries.length; q++) {
+      top[q] = new TopScores(numCandidates);
+    }
+
+    int rowsPerBlock = Math.max(1, BLOCK_SIZE / Math.max(1, dimension));
+    byte[] block = new byte[rowsPerBlock * dimension];
+    ByteBuffer source = codes.duplicate();
+
+    for (int start = 0; start < numVectors; start += rowsPerBlock) {
+      int rows = Math.min(rowsPerBlock, numVectors - start);
+      source.position(start * dimension);
+      source.get(block, 0, rows * dimension);
+
+      for (int r = 0; r < rows; r++) {
+        int row = start + r;
+        float norm = norms.get(row);
+
+        // the query norm is the same for all rows and does not change the order
+        float scale = norm > 0 ? scales.get(row) / norm : 0;
+
+        for (int q = 0; q < queries.length; q++) {
+          if (row != excludedRows[q]) {
+            top[q].offer(row, scale * dot(queries[q], block, r * dimension, dimension));
+          }
+        }
+      }
+    }
+
+    return top;
+  }
+
+  private float[] readRow(int row) {
+    float[] vector = new float[dimension];
+    FloatBuffer source = vectors.duplicate();
+    source.position(row * dimension);
+    source.get(vector);
+    return vector;
+  }
+
+  private static float cosine(float dot, float norm1, float norm2) {
+    if (norm1 == 0 || norm2 == 0) {
+      return 0;
+    }
+    return dot / (norm1 * norm2);
+  }
+
+  // four independent sums let the loop run without waiting on a single accumulator
+  private static float dot(float[] a, float[] b, int offset, int length) {
+    float sum0 = 0;
+    float sum1 = 0;
+    float sum2 = 0;
+    float sum3 = 0;
+
+    int i = 0;
+    for (; i + 3 < length; i += 4) {
+      sum0 += a[i] * b[offset + i];
+      sum1 += a[i + 1] * b[offset + i + 1];
+      sum2 += a[i + 2] * b[offset + i + 2];
+      sum3 += a[i + 3] * b[offset + i + 3];
+    }
+    for (; i < length; i++) {
+      sum0 += a[i] * b[offset + i];
+    }
+
+    return (sum0 + sum1) + (sum2 + sum3);
+  }
+
+  private static float dot(float[] a, byte[] b, int offset, int length) {
+    float sum0 = 0;
+    float sum1 = 0;
+    float sum2 = 0;
+    float sum3 = 0;
+
+    int i = 0;
+    for (; i + 3 < length; i += 4) {
+      sum0 += a[i] * b[offset + i];
+      sum1 += a[i + 1] * b[offset + i + 1];
+      sum2 += a[i + 2] * b[offset + i + 2];
+      sum3 += a[i + 3] * b[offset + i + 3];
+    }
+    for (; i < length; i++) {
+      sum0 += a[i] * b[offset + i];
+    }
+
+    return (sum0 + sum1) + (sum2 + sum3);
+  }
+
+  /**
+   * The rows with the highest scores, sorted by descending score.
+   */
+  private static final class TopScores {
+
+    private final int[] rows;
+    private final float[] scores;
+    private int size;
+
+    TopScores(int capacity) {
+      rows = new int[capacity];
+      scores = new float[capacity];
+    }
+
+    void offer(int row, float score) {
+      if (size == rows.length && !(score > scores[size - 1])) {
+        return;
+      }
+
+      int i = size < rows.length ? size++ : size - 1;
+      while (i > 0 && scores[i - 1] < score) {
+        rows[i] = rows[i - 1];
+        scores[i] = scores[i - 1];
+        i--;
+      }
+      rows[i] = row;
+      scores[i] = score;
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.chunker;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.formats.ResourceAsStreamFactory;
+import opennlp.tools.util.ConcurrencyTestUtil;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.Sequence;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link ThreadSafeChunkerME} class.
+ */
+public class ThreadSafeChunkerMETest {
+
+  private static final String[][] TOKENS = {
+      {"Rockwell", "said", "the", "agreement", "calls", "for", "it", "to", "supply", "200",
+          "additional", "so-called", "shipsets", "for", "the", "planes", "."},
+      {"The", "driver", "got", "badly", "injured", "."}
+  };
+
+  private static final String[][] TAGS = {
+      {"NNP", "VBD", "DT", "NN", "VBZ", "IN", "PRP", "TO", "VB", "CD", "JJ", "JJ", "NNS", "IN",
+          "DT", "NNS", "."},
+      {"DT", "NN", "VBD", "RB", "VBN", "."}
+  };
+
+  private static ChunkerModel model;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    ObjectStream<ChunkSample> sampleStream = new ChunkSampleStream(new PlainTextByLineStream(
+        new ResourceAsStreamFactory(ThreadSafeChunkerMETest.class, "/opennlp/tools/chunker/test.txt"),
+        StandardCharsets.UTF_8));
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 70);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+
+    model = ChunkerME.train("eng", sampleStream, params, new ChunkerFactory());
+  }
+
+  @Test
+  public void testChunk() {
+    ChunkerME chunker = new ChunkerME(model);
+
+    try (ThreadSafeChunkerME threadSafeChunker = new ThreadSafeChunkerME(model)) {
+      for (int i = 0; i < TOKENS.length; i++) {
+        Assert.assertArrayEquals(chunker.chunkAsSpans(TOKENS[i], TAGS[i]),
+            threadSafeChunker.chunkAsSpans(TOKENS[i], TAGS[i]));
+        Assert.assertArrayEquals(chunker.probs(), threadSafeChunker.probs(), 0d);
+        Assert.assertArrayEquals(chunker.topKSequences(TOKENS[i], TAGS[i]),
+            threadSafeChunker.topKSequences(TOKENS[i], TAGS[i]));
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentChunk() throws Exception {
+    ChunkerME chunker = new ChunkerME(model);
+
+    String[][] expectedChunks = new String[TOKENS.length][];
+    double[][] expectedProbs = new double[TOKENS.length][];
+    Sequence[][] expectedSequences = new Sequence[TOKENS.length][];
+    for (int i = 0; i < TOKENS.length; i++) {
+      expectedChunks[i] = chunker.chunk(TOKENS[i], TAGS[i]);
+      expectedProbs[i] = chunker.probs();
+      expectedSequences[i] = chunker.topKSequences(TOKENS[i], TAGS[i]);
+    }
+
+    ThreadSafeChunkerME threadSafeChunker = new ThreadSafeChunkerME(model);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int n = 0; n < 20; n++) {
+        for (int i = 0; i < TOKENS.length; i++) {
+          if (!Arrays.equals(expectedChunks[i], threadSafeChunker.chunk(TOKENS[i], TAGS[i]))
+              || !Arrays.equals(expectedProbs[i], threadSafeChunker.probs())
+              || !Arrays.equals(expectedSequences[i],
+                  threadSafeChunker.topKSequences(TOKENS[i], TAGS[i]))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    });
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.dictionary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.namefind.DictionaryNameFinder;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.StringList;
+import opennlp.tools.util.model.MappedDictionarySerializer;
+
+/**
+ * Tests for the {@link MappedDictionary} class.
+ */
+public class MappedDictionaryTest {
+
+  private static Dictionary createDictionary(boolean caseSensitive) {
+    Dictionary dictionary = new Dictionary(caseSensitive);
+    dictionary.put(new StringList("New", "York"));
+    dictionary.put(new StringList("New", "York", "City"));
+    dictionary.put(new StringList("New"));
+    dictionary.put(new StringList("Boston"));
+    dictionary.put(new StringList("San", "Francisco"));
+    return dictionary;
+  }
+
+  @Test
+  public void testLookupCaseSensitive() {
+    MappedDictionary dictionary = MappedDictionary.compile(createDictionary(true));
+
+    Assert.assertTrue(dictionary.isCaseSensitive());
+    Assert.assertEquals(5, dictionary.size());
+    Assert.assertTrue(dictionary.contains(new StringList("New", "York")));
+    Assert.assertTrue(dictionary.contains(new StringList("New", "York", "City")));
+    Assert.assertTrue(dictionary.contains(new StringList("New")));
+    Assert.assertTrue(dictionary.contains(new StringList("Boston")));
+    Assert.assertFalse(dictionary.contains(new StringList("new", "york")));
+    Assert.assertFalse(dictionary.contains(new StringList("York")));
+    Assert.assertFalse(dictionary.contains(new StringList("New", "York", "City", "Hall")));
+    Assert.assertFalse(dictionary.contains(new StringList("San")));
+  }
+
+  @Test
+  public void testLookupCaseInsensitive() {
+    MappedDictionary dictionary = MappedDictionary.compile(createDictionary(false));
+
+    Assert.assertFalse(dictionary.isCaseSensitive());
+    Assert.assertTrue(dictionary.contains(new StringList("new", "york")));
+    Assert.assertTrue(dictionary.contains(new StringList("NEW", "YORK", "CITY")));
+    Assert.assertTrue(dictionary.contains(new StringList("boston")));
+    Assert.assertFalse(dictionary.contains(new StringList("bostons")));
+  }
+
+  @Test
+  public void testContainsTokenRange() {
+    MappedDictionary dictionary = MappedDictionary.compile(createDictionary(true));
+
+    String[] tokens = {"I", "moved", "from", "New", "York", "City", "to", "Boston"};
+    Assert.assertTrue(dictionary.contains(tokens, 3, 1));
+    Assert.assertTrue(dictionary.contains(tokens, 3, 2));
+    Assert.assertTrue(dictionary.contains(tokens, 3, 3));
+    Assert.assertFalse(dictionary.contains(tokens, 3, 4));
+    Assert.assertTrue(dictionary.contains(tokens, 7, 1));
+    Assert.assertFalse(dictionary.contains(tokens, 0, 1));
+  }
+
+  @Test
+  public void testMatchesDictionary() {
+    Random random = new Random(17);
+    String[] words = {"a", "B", "ab", "Ab", "abc", "b", "ba", "ä", "Ä"};
+
+    for (boolean caseSensitive : new boolean[] {true, false}) {
+      Dictionary dictionary = new Dictionary(caseSensitive);
+      for (int i = 0; i < 200; i++) {
+        String[] tokens = new String[1 + random.nextInt(3)];
+        for (int ti = 0; ti < tokens.length; ti++) {
+          tokens[ti] = words[random.nextInt(words.length)];
+        }
+        dictionary.put(new StringList(tokens));
+      }
+
+      MappedDictionary mapped = MappedDictionary.compile(dictionary);
+      Assert.assertEquals(dictionary.size(), mapped.size());
+      Assert.assertEquals(dictionary.getMinTokenCount(), mapped.getMinTokenCount());
+      Assert.assertEquals(dictionary.getMaxTokenCount(), mapped.getMaxTokenCount());
+
+      for (int i = 0; i < 1000; i++) {
+        String[] tokens = new String[1 + random.nextInt(4)];
+        for (int ti = 0; ti < tokens.length; ti++) {
+          tokens[ti] = words[random.nextInt(words.length)];
+        }
+        StringList entry = new StringList(tokens);
+        Assert.assertEquals(entry.toString(), dictionary.contains(entry), mapped.contains(entry));
+
+        String[] text = new String[random.nextInt(8)];
+        for (int ti = 0; ti < text.length; ti++) {
+          text[ti] = words[random.nextInt(words.length)];
+        }
+        for (int start = 0; start < text.length; start++) {
+          Assert.assertEquals(Arrays.toString(text), dictionary.longestMatch(text, start),
+              mapped.longestMatch(text, start));
+        }
+        Assert.assertArrayEquals(new DictionaryNameFinder(dictionary).find(text),
+            new DictionaryNameFinder(mapped).find(text));
+      }
+
+      Dictionary copy = new Dictionary(caseSensitive);
+      for (StringList entry : mapped) {
+        copy.put(entry);
+      }
+      Assert.assertEquals(dictionary, copy);
+    }
+  }
+
+  @Test
+  public void testAsStringSet() {
+    Set<String> set = MappedDictionary.compile(createDictionary(false)).asStringSet();
+
+    Assert.assertTrue(set.contains("boston"));
+    Assert.assertTrue(set.contains("New"));
+    Assert.assertFalse(set.contains("San"));
+    Assert.assertEquals(5, set.size());
+
+    Set<String> firstTokens = new HashSet<>(set);
+    Assert.assertTrue(firstTokens.contains("San"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testPutIsUnsupported() {
+    MappedDictionary.compile(createDictionary(true)).put(new StringList("Paris"));
+  }
+
+  @Test
+  public void testEmptyDictionary() {
+    Dictionary empty = new Dictionary();
+    MappedDictionary dictionary = MappedDictionary.compile(empty);
+
+    Assert.assertEquals(0, dictionary.size());
+    Assert.assertEquals(empty.getMinTokenCount(), dictionary.getMinTokenCount());
+    Assert.assertEquals(0, dictionary.getMaxTokenCount());
+    Assert.assertFalse(dictionary.contains(new StringList("a")));
+    Assert.assertFalse(dictionary.iterator().hasNext());
+  }
+
+  @Test
+  public void testSerializer() throws IOException {
+    MappedDictionary dictionary = MappedDictionary.compile(createDictionary(false));
+    MappedDictionarySerializer serializer = new MappedDictionarySerializer();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serializer.serialize(dictionary, out);
+
+    MappedDictionary deserialized = serializer.create(new ByteArrayInputStream(out.toByteArray()));
+    Assert.assertEquals(dictionary, deserialized);
+    Assert.assertEquals(dictionary.hashCode(), deserialized.hashCode());
+    Assert.assertTrue(deserialized.contains(new StringList("SAN", "FRANCISCO")));
+  }
+
+  @Test
+  public void testWriteAndOpen() throws IOException {
+    Path file = Files.createTempFile("dictionary", ".bin");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        MappedDictionary.write(createDictionary(true), out);
+      }
+
+      MappedDictionary dictionary = MappedDictionary.open(file);
+      Assert.assertEquals(MappedDictionary.compile(createDictionary(true)), dictionary);
+      Assert.assertTrue(dictionary.contains(new StringList("San", "Francisco")));
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testNameFinder() {
+    DictionaryNameFinder finder = new DictionaryNameFinder(
+        MappedDictionary.compile(createDictionary(true)));
+
+    Span[] names = finder.find(new String[] {"New", "York", "City", "and", "Boston"});
+    Assert.assertArrayEquals(new Span[] {new Span(0, 3, "default"), new Span(4, 5, "default")},
+        names);
+
+    names = finder.find(new String[] {"New", "York", "and", "New", "Orleans", "San"});
+    Assert.assertArrayEquals(new Span[] {new Span(0, 2, "default"), new Span(3, 4, "default")},
+        names);
+  }
+
+  @Test
+  public void testTokenTrie() {
+    Dictionary dictionary = createDictionary(true);
+    MappedDictionary mapped = MappedDictionary.compile(dictionary);
+
+    // the trie of the mapped dictionary is compiled from its entries on request
+    TokenTrie trie = mapped.getTokenTrie();
+    for (StringList entry : dictionary) {
+      String[] tokens = new String[entry.size()];
+      for (int i = 0; i < tokens.length; i++) {
+        tokens[i] = entry.getToken(i);
+      }
+      Assert.assertTrue(trie.contains(tokens));
+      Assert.assertEquals(tokens.length, mapped.longestMatch(tokens, 0));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTableTooLarge() throws IOException {
+    // the stream pretends to be close to the 2 GB limit already
+    DataOutputStream data = new DataOutputStream(new ByteArrayOutputStream()) {
+      {
+        written = Integer.MAX_VALUE - 7 - 64;
+      }
+    };
+
+    SortedTokenTable.write(Arrays.asList(new String[] {"New", "York"}, new String[] {"Boston"}),
+        null, true, data);
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testInvalidFormat() throws IOException {
+    new MappedDictionary(ByteBuffer.wrap(new byte[64]));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.dictionary;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.util.StringList;
+
+/**
+ * Tests for the {@link TokenTrie} class.
+ */
+public class TokenTrieTest {
+
+  private static Dictionary createDictionary(boolean caseSensitive) {
+    Dictionary dictionary = new Dictionary(caseSensitive);
+    dictionary.put(new StringList("New", "York"));
+    dictionary.put(new StringList("New", "York", "City", "Hall"));
+    dictionary.put(new StringList("York"));
+    dictionary.put(new StringList("Berlin"));
+    return dictionary;
+  }
+
+  @Test
+  public void testLongestMatch() {
+    TokenTrie trie = TokenTrie.compile(createDictionary(true));
+
+    String[] tokens = {"New", "York", "City", "Hall", "New", "York", "City", "Berlin"};
+    Assert.assertEquals(4, trie.longestMatch(tokens, 0));
+    Assert.assertEquals(1, trie.longestMatch(tokens, 1));
+    Assert.assertEquals(0, trie.longestMatch(tokens, 2));
+    // "New York City" is only a prefix of an entry
+    Assert.assertEquals(2, trie.longestMatch(tokens, 4));
+    Assert.assertEquals(1, trie.longestMatch(tokens, 7));
+
+    int[] tokenIds = new int[tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokenIds[i] = trie.getTokenId(tokens[i]);
+    }
+    for (int i = 0; i < tokens.length; i++) {
+      Assert.assertEquals(trie.longestMatch(tokens, i), trie.longestMatch(tokenIds, i));
+    }
+
+    Assert.assertEquals(4, trie.getMaxTokenCount());
+    Assert.assertEquals(5, trie.getNumTokens());
+    Assert.assertEquals(7, trie.getNumNodes());
+  }
+
+  @Test
+  public void testCaseSensitive() {
+    TokenTrie trie = TokenTrie.compile(createDictionary(true));
+
+    Assert.assertTrue(trie.contains(new String[] {"New", "York"}));
+    Assert.assertFalse(trie.contains(new String[] {"new", "york"}));
+    Assert.assertFalse(trie.contains(new String[] {"New"}));
+    Assert.assertFalse(trie.contains(new String[0]));
+    Assert.assertEquals(-1, trie.getTokenId("berlin"));
+  }
+
+  @Test
+  public void testCaseInsensitive() {
+    TokenTrie trie = TokenTrie.compile(createDictionary(false));
+
+    Assert.assertTrue(trie.contains(new String[] {"new", "YORK"}));
+    Assert.assertTrue(trie.contains(new String[] {"nEw", "yOrK", "city", "HALL"}));
+    Assert.assertEquals(trie.getTokenId("Berlin"), trie.getTokenId("BERLIN"));
+    Assert.assertEquals(-1, trie.getTokenId("Berlin!"));
+  }
+
+  @Test
+  public void testDictionaryTrieIsRecompiled() {
+    Dictionary dictionary = createDictionary(false);
+    TokenTrie trie = dictionary.getTokenTrie();
+    Assert.assertSame(trie, dictionary.getTokenTrie());
+
+    dictionary.put(new StringList("Paris"));
+    Assert.assertTrue(dictionary.getTokenTrie().contains(new String[] {"paris"}));
+
+    dictionary.remove(new StringList("Paris"));
+    Assert.assertFalse(dictionary.getTokenTrie().contains(new String[] {"paris"}));
+  }
+
+  @Test
+  public void testSameAsDictionary() {
+    Random random = new Random(7);
+    String[] words = {"a", "B", "c", "D", "e", "F", "g"};
+
+    for (boolean caseSensitive : new boolean[] {true, false}) {
+      Dictionary dictionary = new Dictionary(caseSensitive);
+      for (int i = 0; i < 2000; i++) {
+        String[] entry = new String[1 + random.nextInt(4)];
+        for (int t = 0; t < entry.length; t++) {
+          entry[t] = words[random.nextInt(words.length)];
+        }
+        dictionary.put(new StringList(entry));
+      }
+
+      TokenTrie trie = dictionary.getTokenTrie();
+      for (int i = 0; i < 2000; i++) {
+        String[] tokens = new String[1 + random.nextInt(5)];
+        for (int t = 0; t < tokens.length; t++) {
+          String word = words[random.nextInt(words.length)];
+          tokens[t] = random.nextBoolean() ? word.toUpperCase() : word.toLowerCase();
+        }
+        Assert.assertEquals(dictionary.contains(new StringList(tokens)), trie.contains(tokens));
+      }
+    }
+  }
+}
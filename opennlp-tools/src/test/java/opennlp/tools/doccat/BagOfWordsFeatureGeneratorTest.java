@@ -17,13 +17,20 @@
 
 package opennlp.tools.doccat;
 
+import java.util.Collection;
 import java.util.Collections;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import opennlp.tools.ml.model.HashedFeatures;
+
 public class BagOfWordsFeatureGeneratorTest {
 
+  private static long[] hash(Collection<String> features) {
+    return features.stream().mapToLong(HashedFeatures::hash).toArray();
+  }
+
   @Test
   public void testNull() {
     BagOfWordsFeatureGenerator generator = new BagOfWordsFeatureGenerator();
@@ -59,4 +66,19 @@ public class BagOfWordsFeatureGeneratorTest {
             generator.extractFeatures(new String[]{"it", "is", "12.345", "feet", "long"},
                     Collections.emptyMap()).toArray());
   }
+
+  @Test
+  public void testHashedFeatures() {
+    String[] tokens = new String[]{"it", "is", "12.345", "feet", "long"};
+
+    for (boolean onlyLetters : new boolean[] {false, true}) {
+      BagOfWordsFeatureGenerator generator = new BagOfWordsFeatureGenerator(onlyLetters);
+
+      HashedFeatures features = new HashedFeatures();
+      generator.extractFeatures(tokens, Collections.emptyMap(), features);
+
+      Assert.assertArrayEquals(hash(generator.extractFeatures(tokens, Collections.emptyMap())),
+          features.toArray());
+    }
+  }
 }
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.doccat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.formats.ResourceAsStreamFactory;
+import opennlp.tools.util.InputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link BulkDocumentCategorizer} class.
+ */
+public class BulkDocumentCategorizerTest {
+
+  private static DoccatModel model;
+  private static List<String[]> documents;
+
+  private static ObjectStream<DocumentSample> createSampleStream() throws IOException {
+    InputStreamFactory isf = new ResourceAsStreamFactory(
+        BulkDocumentCategorizerTest.class, "/opennlp/tools/doccat/DoccatSample.txt");
+
+    return new DocumentSampleStream(new PlainTextByLineStream(isf, "UTF-8"));
+  }
+
+  @BeforeClass
+  public static void trainModel() throws IOException {
+    DoccatFactory factory = new DoccatFactory(new FeatureGenerator[] {
+        new BagOfWordsFeatureGenerator(), new NGramFeatureGenerator(1, 3)});
+
+    model = DocumentCategorizerME.train("x-unspecified", createSampleStream(),
+        TrainingParameters.defaultParams(), factory);
+
+    documents = new ArrayList<>();
+    // enough documents for several chunks per thread
+    for (int i = 0; i < 5; i++) {
+      try (ObjectStream<DocumentSample> samples = createSampleStream()) {
+        DocumentSample sample;
+        while ((sample = samples.read()) != null) {
+          documents.add(sample.getText());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCategorize() {
+    DocumentCategorizerME doccat = new DocumentCategorizerME(model);
+
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(model, 3)) {
+      Assert.assertEquals(doccat.getNumberOfCategories(), bulk.getNumberOfCategories());
+
+      List<TopCategories> results = bulk.categorize(documents, 1);
+      Assert.assertEquals(documents.size(), results.size());
+
+      for (int i = 0; i < documents.size(); i++) {
+        double[] probs = doccat.categorize(documents.get(i));
+        TopCategories top = results.get(i);
+
+        Assert.assertEquals(1, top.size());
+        Assert.assertEquals(doccat.getBestCategory(probs), top.getBestCategory());
+        Assert.assertEquals(probs[top.getIndex(0)], top.getBestScore(), 1e-10);
+      }
+    }
+  }
+
+  @Test
+  public void testCategorizeScores() {
+    DocumentCategorizerME doccat = new DocumentCategorizerME(model);
+
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(model, 2)) {
+      double[][] scores = new double[documents.size()][bulk.getNumberOfCategories()];
+      bulk.categorize(documents, scores);
+
+      for (int i = 0; i < documents.size(); i++) {
+        Assert.assertArrayEquals(doccat.categorize(documents.get(i)), scores[i], 1e-10);
+      }
+    }
+  }
+
+  @Test
+  public void testJavaSerializationAfterUse() throws Exception {
+    double[][] expected = new double[documents.size()][];
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(model)) {
+      for (int i = 0; i < expected.length; i++) {
+        expected[i] = new double[bulk.getNumberOfCategories()];
+      }
+      bulk.categorize(documents, expected);
+    }
+
+    // the model was compiled by the categorizer
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(model);
+    }
+
+    DoccatModel deserialized;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (DoccatModel) in.readObject();
+    }
+
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(deserialized)) {
+      double[][] scores = new double[documents.size()][bulk.getNumberOfCategories()];
+      bulk.categorize(documents, scores);
+
+      for (int i = 0; i < documents.size(); i++) {
+        Assert.assertArrayEquals(expected[i], scores[i], 0d);
+      }
+    }
+  }
+
+  @Test
+  public void testTopCategories() {
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(model)) {
+      int numCategories = bulk.getNumberOfCategories();
+      double[][] scores = new double[documents.size()][numCategories];
+      bulk.categorize(documents, scores);
+
+      List<TopCategories> results = bulk.categorize(documents, numCategories + 1);
+      for (int i = 0; i < documents.size(); i++) {
+        TopCategories top = results.get(i);
+        Assert.assertEquals(numCategories, top.size());
+
+        for (int rank = 0; rank < top.size(); rank++) {
+          Assert.assertEquals(bulk.getCategory(top.getIndex(rank)), top.getCategory(rank));
+          Assert.assertEquals(scores[i][top.getIndex(rank)], top.getScore(rank), 0);
+          if (rank > 0) {
+            Assert.assertTrue(top.getScore(rank - 1) >= top.getScore(rank));
+          }
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidK() {
+    try (BulkDocumentCategorizer bulk = new BulkDocumentCategorizer(model)) {
+      bulk.categorize(documents, 0);
+    }
+  }
+}
@@ -17,17 +17,23 @@
 
 package opennlp.tools.doccat;
 
+import java.util.Collection;
 import java.util.Collections;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import opennlp.tools.ml.model.HashedFeatures;
 import opennlp.tools.util.InvalidFormatException;
 
 public class NGramFeatureGeneratorTest {
 
   static final String[] TOKENS = new String[]{"a", "b", "c", "d", "e", "f", "g"};
 
+  private static long[] hash(Collection<String> features) {
+    return features.stream().mapToLong(HashedFeatures::hash).toArray();
+  }
+
   @Test
   public void testNull() throws Exception {
     NGramFeatureGenerator generator = new NGramFeatureGenerator();
@@ -126,4 +132,18 @@ public class NGramFeatureGeneratorTest {
             },
         generator.extractFeatures(TOKENS, Collections.emptyMap()).toArray());
   }
+
+  @Test
+  public void testHashedFeatures() throws Exception {
+    int[][] ranges = {{1, 1}, {2, 2}, {1, 3}, {2, 5}};
+    for (int[] range : ranges) {
+      NGramFeatureGenerator generator = new NGramFeatureGenerator(range[0], range[1]);
+
+      HashedFeatures features = new HashedFeatures();
+      generator.extractFeatures(TOKENS, Collections.emptyMap(), features);
+
+      Assert.assertArrayEquals(hash(generator.extractFeatures(TOKENS, Collections.emptyMap())),
+          features.toArray());
+    }
+  }
 }
@@ -19,6 +19,13 @@ package opennlp.tools.langdetect;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -60,6 +67,101 @@ public class LanguageDetectorMETest {
     Assert.assertEquals("ita", language.getLang());
   }
 
+  @Test
+  public void testPredictTopLanguages() {
+    LanguageDetector ld = new LanguageDetectorME(this.model);
+    Language[] languages = ld.predictLanguages("estava em uma marcenaria na Rua Bruno", 2);
+
+    Assert.assertEquals(2, languages.length);
+    Assert.assertEquals("pob", languages[0].getLang());
+    Assert.assertEquals("ita", languages[1].getLang());
+
+    Assert.assertEquals(4, ld.predictLanguages("estava em uma marcenaria na Rua Bruno", 10).length);
+  }
+
+  @Test
+  public void testPredictLanguagesWithMaxentModel() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 100);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+    params.put(TrainingParameters.ALGORITHM_PARAM, "MAXENT");
+    LanguageDetectorModel maxentModel = LanguageDetectorME.train(createSampleStream(), params,
+        new LanguageDetectorFactory());
+
+    // the n-grams are hashed directly into the compiled model
+    LanguageDetector ld = new LanguageDetectorME(maxentModel);
+    LanguageDetectorContextGenerator cg = maxentModel.getFactory().getContextGenerator();
+
+    String[] docs = {"estava em uma marcenaria na Rua Bruno", "Dove è meglio che giochi",
+        "AAAA   http://opennlp.apache.org 12345 :-)", ""};
+    for (String doc : docs) {
+      double[] expected = maxentModel.getMaxentModel().eval(cg.getContext(doc));
+
+      Language[] languages = ld.predictLanguages(doc);
+      Assert.assertEquals(expected.length, languages.length);
+      for (Language language : languages) {
+        Assert.assertEquals(expected[maxentModel.getMaxentModel().getIndex(language.getLang())],
+            language.getConfidence(), 1e-10);
+      }
+
+      Language[] top = ld.predictLanguages(doc, 3);
+      Assert.assertEquals(3, top.length);
+      for (int i = 0; i < top.length; i++) {
+        Assert.assertEquals(languages[i].getLang(), top[i].getLang());
+      }
+      Assert.assertEquals(languages[0].getLang(), ld.predictLanguage(doc).getLang());
+    }
+  }
+
+  @Test
+  public void testPredictLanguagesConcurrently() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 100);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+    params.put(TrainingParameters.ALGORITHM_PARAM, "MAXENT");
+    LanguageDetectorModel maxentModel = LanguageDetectorME.train(createSampleStream(), params,
+        new LanguageDetectorFactory());
+
+    // one instance is shared by all threads
+    LanguageDetector ld = new LanguageDetectorME(maxentModel);
+
+    String[] docs = {"estava em uma marcenaria na Rua Bruno", "Dove è meglio che giochi",
+        "Der Hund sitzt vor dem Haus und bellt", "il était une fois un petit chat"};
+    double[] expected = new double[docs.length];
+    for (int i = 0; i < docs.length; i++) {
+      expected[i] = ld.predictLanguage(docs[i]).getConfidence();
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int offset = t;
+        results.add(executor.submit(() -> {
+          for (int n = 0; n < 500; n++) {
+            int i = (n + offset) % docs.length;
+            if (ld.predictLanguage(docs[i]).getConfidence() != expected[i]) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        Assert.assertTrue(result.get());
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPredictZeroLanguages() {
+    new LanguageDetectorME(this.model).predictLanguages("Dove è meglio che giochi", 0);
+  }
+
   @Test
   public void testSupportedLanguages() {
 
@@ -79,6 +181,33 @@ public class LanguageDetectorMETest {
 
   }
 
+  @Test
+  public void testJavaSerializationAfterUse() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 100);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+    params.put(TrainingParameters.ALGORITHM_PARAM, "MAXENT");
+    LanguageDetectorModel maxentModel = LanguageDetectorME.train(createSampleStream(), params,
+        new LanguageDetectorFactory());
+
+    // the detector compiles the model
+    Language expected = new LanguageDetectorME(maxentModel).predictLanguage("Dove è meglio che giochi");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(maxentModel);
+    }
+
+    LanguageDetectorModel deserialized;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (LanguageDetectorModel) in.readObject();
+    }
+
+    Language language = new LanguageDetectorME(deserialized).predictLanguage("Dove è meglio che giochi");
+    Assert.assertEquals(expected.getLang(), language.getLang());
+    Assert.assertEquals(expected.getConfidence(), language.getConfidence(), 0d);
+  }
+
   protected static byte[] serializeModel(LanguageDetectorModel model) throws IOException {
 
     ByteArrayOutputStream out = new ByteArrayOutputStream();
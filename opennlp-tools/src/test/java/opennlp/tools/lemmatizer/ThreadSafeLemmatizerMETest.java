@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.lemmatizer;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.util.ConcurrencyTestUtil;
+import opennlp.tools.util.MockInputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link ThreadSafeLemmatizerME} class.
+ */
+public class ThreadSafeLemmatizerMETest {
+
+  private static final String[][] TOKENS = {
+      {"Rockwell", "said", "the", "agreement", "calls", "for", "it", "to", "supply", "200",
+          "additional", "so-called", "shipsets", "for", "the", "planes", "."},
+      {"The", "driver", "got", "badly", "injured", "."}
+  };
+
+  private static final String[][] TAGS = {
+      {"NNP", "VBD", "DT", "NN", "VBZ", "IN", "PRP", "TO", "VB", "CD", "JJ", "JJ", "NNS", "IN",
+          "DT", "NNS", "."},
+      {"DT", "NN", "VBD", "RB", "VBN", "."}
+  };
+
+  private static LemmatizerModel model;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    ObjectStream<LemmaSample> sampleStream = new LemmaSampleStream(
+        new PlainTextByLineStream(new MockInputStreamFactory(
+            new File("opennlp/tools/lemmatizer/trial.old.tsv")), "UTF-8"));
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 100);
+    params.put(TrainingParameters.CUTOFF_PARAM, 5);
+
+    model = LemmatizerME.train("eng", sampleStream, params, new LemmatizerFactory());
+  }
+
+  @Test
+  public void testLemmatize() {
+    LemmatizerME lemmatizer = new LemmatizerME(model);
+
+    try (ThreadSafeLemmatizerME threadSafeLemmatizer = new ThreadSafeLemmatizerME(model)) {
+      for (int i = 0; i < TOKENS.length; i++) {
+        Assert.assertArrayEquals(lemmatizer.lemmatize(TOKENS[i], TAGS[i]),
+            threadSafeLemmatizer.lemmatize(TOKENS[i], TAGS[i]));
+        Assert.assertArrayEquals(lemmatizer.probs(), threadSafeLemmatizer.probs(), 0d);
+
+        List<String> toks = Arrays.asList(TOKENS[i]);
+        List<String> tags = Arrays.asList(TAGS[i]);
+        Assert.assertEquals(lemmatizer.lemmatize(toks, tags), threadSafeLemmatizer.lemmatize(toks, tags));
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentLemmatize() throws Exception {
+    LemmatizerME lemmatizer = new LemmatizerME(model);
+
+    String[][] expectedLemmas = new String[TOKENS.length][];
+    double[][] expectedProbs = new double[TOKENS.length][];
+    for (int i = 0; i < TOKENS.length; i++) {
+      expectedLemmas[i] = lemmatizer.lemmatize(TOKENS[i], TAGS[i]);
+      expectedProbs[i] = lemmatizer.probs();
+    }
+
+    ThreadSafeLemmatizerME threadSafeLemmatizer = new ThreadSafeLemmatizerME(model);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int n = 0; n < 20; n++) {
+        for (int i = 0; i < TOKENS.length; i++) {
+          if (!Arrays.equals(expectedLemmas[i], threadSafeLemmatizer.lemmatize(TOKENS[i], TAGS[i]))
+              || !Arrays.equals(expectedProbs[i], threadSafeLemmatizer.probs())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    });
+  }
+}
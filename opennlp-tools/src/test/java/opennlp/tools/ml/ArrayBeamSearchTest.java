@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.BeamSearchTest.IdentityFeatureGenerator;
+import opennlp.tools.ml.BeamSearchTest.IdentityModel;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.util.BeamSearchContextGenerator;
+import opennlp.tools.util.Sequence;
+import opennlp.tools.util.SequenceValidator;
+
+public class ArrayBeamSearchTest {
+
+  /**
+   * A model which assigns pseudo random probabilities which depend
+   * on the context to the outcomes.
+   */
+  static class RandomModel extends IdentityModel {
+
+    private final int numOutcomes;
+
+    RandomModel(String[] outcomes) {
+      super(outcomes);
+      numOutcomes = outcomes.length;
+    }
+
+    @Override
+    public double[] eval(String[] context, double[] probs) {
+      Random random = new Random(String.join(" ", context).hashCode());
+
+      double sum = 0;
+      for (int i = 0; i < numOutcomes; i++) {
+        probs[i] = random.nextDouble();
+        sum += probs[i];
+      }
+
+      for (int i = 0; i < numOutcomes; i++) {
+        probs[i] /= sum;
+      }
+
+      return probs;
+    }
+  }
+
+  /**
+   * Uses the current token and the previous decision as context.
+   */
+  static class PreviousOutcomeContextGenerator implements BeamSearchContextGenerator<String> {
+    public String[] getContext(int index, String[] sequence,
+        String[] priorDecisions, Object[] additionalContext) {
+      return new String[] {sequence[index],
+          index > 0 ? priorDecisions[index - 1] : "*start*"};
+    }
+  }
+
+  @Test
+  public void testBestSequenceZeroLengthInput() {
+    String[] sequence = new String[0];
+    BeamSearchContextGenerator<String> cg = new IdentityFeatureGenerator(sequence);
+
+    MaxentModel model = new IdentityModel(new String[] {"1", "2", "3"});
+
+    ArrayBeamSearch<String> bs = new ArrayBeamSearch<>(3, model);
+
+    Sequence seq = bs.bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) -> true);
+
+    Assert.assertNotNull(seq);
+    Assert.assertEquals(sequence.length, seq.getOutcomes().size());
+  }
+
+  @Test
+  public void testBestSequence() {
+    String[] sequence = {"1", "2", "3", "2", "1"};
+    BeamSearchContextGenerator<String> cg = new IdentityFeatureGenerator(sequence);
+
+    MaxentModel model = new IdentityModel(new String[] {"1", "2", "3"});
+
+    ArrayBeamSearch<String> bs = new ArrayBeamSearch<>(2, model);
+
+    Sequence seq = bs.bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) -> true);
+
+    Assert.assertNotNull(seq);
+    Assert.assertArrayEquals(sequence, seq.getOutcomes().toArray());
+    Assert.assertEquals(5 * Math.log(0.8d), seq.getScore(), 0.000001d);
+  }
+
+  @Test
+  public void testBestSequenceWithValidator() {
+    String[] sequence = {"1", "2", "3", "2", "1"};
+    BeamSearchContextGenerator<String> cg = new IdentityFeatureGenerator(sequence);
+
+    MaxentModel model = new IdentityModel(new String[] {"1", "2", "3"});
+
+    ArrayBeamSearch<String> bs = new ArrayBeamSearch<>(2, model);
+
+    Sequence seq = bs.bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) ->
+            !"2".equals(outcome));
+
+    Assert.assertNotNull(seq);
+    Assert.assertEquals(sequence.length, seq.getOutcomes().size());
+    Assert.assertEquals("1", seq.getOutcomes().get(0));
+    Assert.assertNotEquals("2", seq.getOutcomes().get(1));
+    Assert.assertEquals("3", seq.getOutcomes().get(2));
+    Assert.assertNotEquals("2", seq.getOutcomes().get(3));
+    Assert.assertEquals("1", seq.getOutcomes().get(4));
+  }
+
+  @Test
+  public void testNoValidSequence() {
+    String[] sequence = {"1", "2"};
+    BeamSearchContextGenerator<String> cg = new IdentityFeatureGenerator(sequence);
+
+    MaxentModel model = new IdentityModel(new String[] {"1", "2", "3"});
+
+    ArrayBeamSearch<String> bs = new ArrayBeamSearch<>(2, model);
+
+    Assert.assertNull(bs.bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) -> i == 0));
+  }
+
+  /**
+   * Tests that the same k-best sequences are found as with the {@link BeamSearch}.
+   */
+  @Test
+  public void testSameSequencesAsBeamSearch() {
+    String[] outcomes = {"A", "B", "C", "D", "E", "F", "G"};
+    MaxentModel model = new RandomModel(outcomes);
+
+    BeamSearchContextGenerator<String> cg = new PreviousOutcomeContextGenerator();
+    SequenceValidator<String> validator = (i, inputSequence, outcomesSequence, outcome) ->
+        i == 0 || !outcome.equals(outcomesSequence[i - 1]);
+
+    Random random = new Random(42);
+
+    for (int beamSize = 1; beamSize <= 5; beamSize++) {
+      BeamSearch<String> expected = new BeamSearch<>(beamSize, model);
+      ArrayBeamSearch<String> actual = new ArrayBeamSearch<>(beamSize, model);
+
+      for (int n = 0; n < 20; n++) {
+        String[] sequence = new String[1 + random.nextInt(15)];
+        for (int i = 0; i < sequence.length; i++) {
+          sequence[i] = "t" + random.nextInt(5);
+        }
+
+        int numSequences = 1 + random.nextInt(beamSize);
+
+        Sequence[] expectedSequences = expected.bestSequences(numSequences, sequence, null, cg, validator);
+        Sequence[] actualSequences = actual.bestSequences(numSequences, sequence, null, cg, validator);
+
+        Assert.assertArrayEquals(expectedSequences, actualSequences);
+      }
+    }
+  }
+}
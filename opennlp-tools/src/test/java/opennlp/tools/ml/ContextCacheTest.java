@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.BeamSearchTest.IdentityFeatureGenerator;
+import opennlp.tools.ml.BeamSearchTest.IdentityModel;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.util.BeamSearchContextGenerator;
+import opennlp.tools.util.Sequence;
+
+public class ContextCacheTest {
+
+  @Test
+  public void testContentKeys() {
+    ContextCache cache = new ContextCache(10);
+
+    double[] probs = {0.3, 0.7};
+    cache.put(new String[] {"a", "b"}, probs);
+
+    // the cache must store a copy of the probabilities
+    probs[0] = 1d;
+
+    Assert.assertArrayEquals(new double[] {0.3, 0.7}, cache.get(new String[] {"a", "b"}), 0d);
+    Assert.assertNull(cache.get(new String[] {"b", "a"}));
+
+    Assert.assertEquals(1, cache.getHitCount());
+    Assert.assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testComputeIfAbsent() {
+    ContextCache cache = new ContextCache(10);
+
+    double[] buffer = new double[2];
+
+    double[] probs = cache.computeIfAbsent(new String[] {"a"}, c -> {
+      buffer[0] = 1d;
+      return buffer;
+    });
+
+    Assert.assertNotSame(buffer, probs);
+
+    buffer[0] = 0d;
+
+    Assert.assertArrayEquals(new double[] {1d, 0d}, cache.computeIfAbsent(new String[] {"a"}, c -> {
+      throw new AssertionError("context must be cached");
+    }), 0d);
+
+    Assert.assertEquals(1, cache.getHitCount());
+    Assert.assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedEviction() {
+    ContextCache cache = new ContextCache(2);
+
+    cache.put(new String[] {"a"}, new double[] {1d});
+    cache.put(new String[] {"b"}, new double[] {2d});
+    cache.get(new String[] {"a"});
+    cache.put(new String[] {"c"}, new double[] {3d});
+
+    Assert.assertEquals(2, cache.size());
+    Assert.assertNotNull(cache.get(new String[] {"a"}));
+    Assert.assertNull(cache.get(new String[] {"b"}));
+    Assert.assertNotNull(cache.get(new String[] {"c"}));
+  }
+
+  @Test
+  public void testBoundedSize() {
+    ContextCache cache = new ContextCache(1000);
+
+    for (int i = 0; i < 10000; i++) {
+      cache.put(new String[] {"f=" + i}, new double[] {i});
+    }
+
+    Assert.assertEquals(1000, cache.size());
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    ContextCache cache = new ContextCache(100);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            int value = i % 200;
+            double[] probs = cache.computeIfAbsent(new String[] {Integer.toString(value)},
+                c -> new double[] {value});
+            if (probs[0] != value) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        Assert.assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(40000, cache.getHitCount() + cache.getMissCount());
+    Assert.assertTrue(cache.size() <= 100);
+  }
+
+  @Test
+  public void testBeamSearchWithCache() {
+    String[] sequence = {"1", "2", "3", "2", "1"};
+    BeamSearchContextGenerator<String> cg = new IdentityFeatureGenerator(sequence);
+
+    MaxentModel model = new IdentityModel(new String[] {"1", "2", "3"});
+
+    BeamSearch<String> bs = new BeamSearch<>(2, model, 10);
+
+    Sequence expected = new BeamSearch<String>(2, model).bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) -> true);
+
+    Sequence seq = bs.bestSequence(sequence, null, cg,
+        (int i, String[] inputSequence, String[] outcomesSequence, String outcome) -> true);
+
+    Assert.assertEquals(expected, seq);
+    Assert.assertEquals(3, bs.getContextCache().size());
+    Assert.assertTrue(bs.getContextCache().getHitCount() > 0);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntToLongFunction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelTasksTest {
+
+  @Test
+  public void testSplit() {
+    IntToLongFunction unit = i -> 1;
+    Assert.assertArrayEquals(new int[] {0, 3, 5, 8, 10}, ParallelTasks.split(10, 4, unit));
+    Assert.assertArrayEquals(new int[] {0, 1, 2, 2}, ParallelTasks.split(2, 3, unit));
+    Assert.assertArrayEquals(new int[] {0, 7}, ParallelTasks.split(7, 1, unit));
+
+    // the first index weighs as much as all others together
+    Assert.assertArrayEquals(new int[] {0, 1, 7}, ParallelTasks.split(7, 2, i -> i == 0 ? 6 : 1));
+  }
+
+  @Test
+  public void testSplitSequence() {
+    long[] weights = {1, 1, 4, 1, 1};
+    Assert.assertArrayEquals(new int[] {0, 3, 5}, ParallelTasks.splitSequence(5, 2, consumer -> {
+      for (long weight : weights) {
+        consumer.accept(weight);
+      }
+    }));
+  }
+
+  @Test
+  public void testInvokeAll() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Thread[] threads = new Thread[3];
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int i = 0; i < threads.length; i++) {
+        int task = i;
+        tasks.add(() -> {
+          threads[task] = Thread.currentThread();
+          return null;
+        });
+      }
+
+      ParallelTasks.invokeAll(executor, tasks);
+
+      for (Thread thread : threads) {
+        Assert.assertNotNull(thread);
+      }
+      Assert.assertSame(Thread.currentThread(), threads[2]);
+      Assert.assertNotSame(Thread.currentThread(), threads[0]);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testInvokeAllWithoutExecutor() {
+    int[] calls = new int[1];
+    ParallelTasks.invokeAll(null, Collections.singletonList(() -> calls[0]++));
+    Assert.assertEquals(1, calls[0]);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void testInvokeAllFailingTask() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      tasks.add(() -> {
+        throw new IllegalStateException();
+      });
+      tasks.add(() -> null);
+
+      ParallelTasks.invokeAll(executor, tasks);
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+}
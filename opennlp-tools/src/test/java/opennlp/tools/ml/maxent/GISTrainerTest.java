@@ -23,11 +23,16 @@ import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
+import opennlp.tools.ml.AbstractTrainer;
 import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
 import opennlp.tools.ml.TrainerFactory;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.Context;
+import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.TwoPassDataIndexer;
+import opennlp.tools.ml.model.UniformPrior;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.TrainingParameters;
 
@@ -75,5 +80,29 @@ public class GISTrainerTest {
 
     eventStream.close();
   }
-  
+
+  @Test
+  public void testThreadsProduceSameModel() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractTrainer.CUTOFF_PARAM, 1);
+
+    DataIndexer indexer = new TwoPassDataIndexer();
+    indexer.init(params, new HashMap<>());
+    indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+    GISModel expected = new GISTrainer().trainModel(30, indexer, new UniformPrior(), 1);
+
+    for (int threads = 2; threads <= 5; threads++) {
+      GISModel model = new GISTrainer().trainModel(30, indexer, new UniformPrior(), threads);
+
+      Context[] expectedParams = (Context[]) expected.getDataStructures()[0];
+      Context[] modelParams = (Context[]) model.getDataStructures()[0];
+      Assert.assertEquals(expectedParams.length, modelParams.length);
+      for (int pi = 0; pi < expectedParams.length; pi++) {
+        // only the order of the floating point additions differs
+        Assert.assertArrayEquals(expectedParams[pi].getParameters(),
+            modelParams[pi].getParameters(), 1e-9);
+      }
+    }
+  }
 }
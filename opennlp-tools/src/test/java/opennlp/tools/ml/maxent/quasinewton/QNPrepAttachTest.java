@@ -124,5 +124,18 @@ public class QNPrepAttachTest {
 
     PrepAttachDataUtil.testModel(model, 0.8115870264917059);
   }
-}
 
+  @Test
+  public void testQNOnPrepAttachDataInParallelWithFloatGradient() throws IOException {
+
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, QNTrainer.MAXENT_QN_VALUE);
+    trainParams.put(QNTrainer.THREADS_PARAM, 4);
+    trainParams.put(QNTrainer.FLOAT_GRADIENT_PARAM, true);
+
+    MaxentModel model = TrainerFactory.getEventTrainer(trainParams, null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8115870264917059);
+  }
+}
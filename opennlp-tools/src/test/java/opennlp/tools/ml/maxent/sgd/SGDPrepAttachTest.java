@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.maxent.sgd;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.model.AbstractDataIndexer;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.ml.model.OnDiskDataIndexer;
+import opennlp.tools.ml.model.TwoPassDataIndexer;
+import opennlp.tools.util.TrainingParameters;
+
+public class SGDPrepAttachTest {
+
+  private static TrainingParameters createParameters() {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, SGDTrainer.MAXENT_SGD_VALUE);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(AbstractTrainer.ITERATIONS_PARAM, 30);
+    return trainParams;
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithAdaGrad() throws IOException {
+    MaxentModel model = TrainerFactory.getEventTrainer(createParameters(), null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8105966823471156);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithPlainSGD() throws IOException {
+    TrainingParameters trainParams = createParameters();
+    trainParams.put(SGDTrainer.UPDATER_PARAM, SGDTrainer.UPDATER_SGD_VALUE);
+
+    MaxentModel model = TrainerFactory.getEventTrainer(trainParams, null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8068828918049022);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithL2Params() throws IOException {
+    TrainingParameters trainParams = createParameters();
+    trainParams.put(SGDTrainer.L2COST_PARAM, 0.0001);
+
+    MaxentModel model = TrainerFactory.getEventTrainer(trainParams, null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8197573656845754);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithCutoff() throws IOException {
+    TrainingParameters trainParams = createParameters();
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 5);
+
+    MaxentModel model = TrainerFactory.getEventTrainer(trainParams, null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8123297846001486);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataInParallel() throws IOException {
+    TrainingParameters trainParams = createParameters();
+    trainParams.put(TrainingParameters.THREADS_PARAM, 4);
+
+    MaxentModel model = TrainerFactory.getEventTrainer(trainParams, null)
+                                      .train(PrepAttachDataUtil.createTrainingStream());
+
+    PrepAttachDataUtil.testModel(model, 0.8105966823471156);
+
+    // the shares of the batch gradient are summed in thread order, so the training is
+    // reproducible with the same number of threads
+    MaxentModel model2 = TrainerFactory.getEventTrainer(trainParams, null)
+                                       .train(PrepAttachDataUtil.createTrainingStream());
+    Assert.assertEquals(model, model2);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithIndexer() throws IOException {
+    DataIndexer indexer = new TwoPassDataIndexer();
+    TrainingParameters indexingParameters = new TrainingParameters();
+    indexingParameters.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    indexingParameters.put(AbstractDataIndexer.SORT_PARAM, false);
+    indexer.init(indexingParameters, new HashMap<>());
+    indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+    SGDTrainer trainer = new SGDTrainer();
+    trainer.init(createParameters(), null);
+    MaxentModel model = trainer.train(indexer);
+
+    PrepAttachDataUtil.testModel(model, 0.8128249566724437);
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataWithOnDiskIndexer() throws IOException {
+    // the events must be visited with forEachEvent and never be loaded into memory
+    try (OnDiskDataIndexer indexer = new OnDiskDataIndexer() {
+      @Override
+      public synchronized int[][] getContexts() {
+        throw new UnsupportedOperationException();
+      }
+    }) {
+      TrainingParameters indexingParameters = new TrainingParameters();
+      indexingParameters.put(AbstractTrainer.CUTOFF_PARAM, 1);
+      indexer.init(indexingParameters, new HashMap<>());
+      indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+      SGDTrainer trainer = new SGDTrainer();
+      trainer.init(createParameters(), null);
+      MaxentModel model = trainer.train(indexer);
+
+      PrepAttachDataUtil.testModel(model, 0.8128249566724437);
+    }
+  }
+
+  @Test
+  public void testSGDOnPrepAttachDataIsReproducible() throws IOException {
+    MaxentModel model1 = TrainerFactory.getEventTrainer(createParameters(), null)
+                                       .train(PrepAttachDataUtil.createTrainingStream());
+    MaxentModel model2 = TrainerFactory.getEventTrainer(createParameters(), null)
+                                       .train(PrepAttachDataUtil.createTrainingStream());
+
+    String[] context = {"verb=join", "noun=board", "prep=as", "prep_obj=director"};
+    Assert.assertArrayEquals(model1.eval(context), model2.eval(context), 0d);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSGDWithUnknownUpdater() {
+    TrainingParameters trainParams = createParameters();
+    trainParams.put(SGDTrainer.UPDATER_PARAM, "Adam");
+    TrainerFactory.getEventTrainer(trainParams, null);
+  }
+}
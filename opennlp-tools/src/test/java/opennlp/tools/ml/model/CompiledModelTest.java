@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.maxent.GISTrainer;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.naivebayes.NaiveBayesTrainer;
+import opennlp.tools.ml.perceptron.PerceptronTrainer;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+public class CompiledModelTest {
+
+  private static AbstractModel train(String algorithm) throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, algorithm);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(AbstractTrainer.ITERATIONS_PARAM, 50);
+
+    EventTrainer trainer = TrainerFactory.getEventTrainer(trainParams, null);
+    return (AbstractModel) trainer.train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  private static void assertSameProbabilities(AbstractModel model, CompiledModel compiled)
+      throws IOException {
+
+    Assert.assertEquals(model.getNumOutcomes(), compiled.getNumOutcomes());
+    for (int i = 0; i < model.getNumOutcomes(); i++) {
+      Assert.assertEquals(model.getOutcome(i), compiled.getOutcome(i));
+    }
+
+    List<String[]> contexts = new ArrayList<>();
+    try (ObjectStream<Event> events = PrepAttachDataUtil.createTrainingStream()) {
+      Event event;
+      while ((event = events.read()) != null) {
+        contexts.add(event.getContext());
+      }
+    }
+
+    // unknown and duplicated predicates
+    contexts.add(new String[] {"unknown", "verb=is", "verb=is"});
+    contexts.add(new String[0]);
+
+    double[] probs = new double[compiled.getNumOutcomes()];
+    for (String[] context : contexts) {
+      double[] expected = model.eval(context);
+
+      Assert.assertArrayEquals(expected, compiled.eval(context), 0.0000000001d);
+      Assert.assertArrayEquals(expected, compiled.eval(context, probs), 0.0000000001d);
+
+      int[] rows = new int[context.length];
+      for (int i = 0; i < context.length; i++) {
+        rows[i] = compiled.getPredicateIndex(context[i]);
+      }
+      Assert.assertArrayEquals(expected, compiled.eval(rows, null, probs), 0.0000000001d);
+    }
+  }
+
+  private static void assertCompiledModel(String algorithm) throws IOException {
+    AbstractModel model = train(algorithm);
+
+    for (CompiledModel.Layout layout : CompiledModel.Layout.values()) {
+      CompiledModel compiled = CompiledModel.compile(model, layout);
+      Assert.assertEquals(layout, compiled.getLayout());
+      assertSameProbabilities(model, compiled);
+    }
+
+    assertSameProbabilities(model, CompiledModel.compile(model));
+  }
+
+  @Test
+  public void testMaxentModel() throws IOException {
+    assertCompiledModel(GISTrainer.MAXENT_VALUE);
+  }
+
+  @Test
+  public void testQNModel() throws IOException {
+    assertCompiledModel(QNTrainer.MAXENT_QN_VALUE);
+  }
+
+  @Test
+  public void testPerceptronModel() throws IOException {
+    assertCompiledModel(PerceptronTrainer.PERCEPTRON_VALUE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNaiveBayesModelIsNotSupported() throws IOException {
+    CompiledModel.compile(train(NaiveBayesTrainer.NAIVE_BAYES_VALUE));
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.maxent.GISTrainer;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.naivebayes.NaiveBayesTrainer;
+import opennlp.tools.ml.perceptron.PerceptronTrainer;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+public class HashedFeaturesTest {
+
+  @Test
+  public void testAppendedFeatures() {
+    HashedFeatures features = new HashedFeatures();
+
+    features.add("w=house");
+    features.append("w=").append("xhousex", 1, 6).add();
+    features.append('w').append("=hou").append("se").add();
+    features.append("w=").appendLowerCase("HoUsE").add();
+    features.add("w=", "house");
+
+    Assert.assertEquals(5, features.size());
+    for (int i = 0; i < features.size(); i++) {
+      Assert.assertEquals(HashedFeatures.hash("w=house"), features.get(i));
+    }
+
+    Assert.assertNotEquals(HashedFeatures.hash("w=house"), HashedFeatures.hash("w=House"));
+    Assert.assertEquals(HashedFeatures.hash("w=house"), HashedFeatures.hash("xw=housex", 1, 8));
+  }
+
+  @Test
+  public void testAppendNumber() {
+    int[] numbers = {0, 7, 10, 42, 1000, -1, -250, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    HashedFeatures features = new HashedFeatures();
+    for (int number : numbers) {
+      features.append("n").append(number).add();
+    }
+
+    for (int i = 0; i < numbers.length; i++) {
+      Assert.assertEquals(HashedFeatures.hash("n" + numbers[i]), features.get(i));
+    }
+  }
+
+  @Test
+  public void testPrefixes() {
+    HashedFeatures features = new HashedFeatures();
+
+    features.append("p").append(1).pushPrefix();
+    features.add("w=a");
+    features.append("n2").pushPrefix();
+    features.add("w=b");
+    features.popPrefix();
+    features.add("w=c");
+    features.popPrefix();
+    features.add("w=d");
+
+    Assert.assertArrayEquals(new long[] {HashedFeatures.hash("p1w=a"), HashedFeatures.hash("p1n2w=b"),
+        HashedFeatures.hash("p1w=c"), HashedFeatures.hash("w=d")}, features.toArray());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPopWithoutPrefix() {
+    new HashedFeatures().popPrefix();
+  }
+
+  @Test
+  public void testAddDistinct() {
+    HashedFeatures features = new HashedFeatures();
+    features.add("a");
+
+    Assert.assertTrue(features.append("b").addDistinct(1));
+    Assert.assertFalse(features.append("b").addDistinct(1));
+    Assert.assertTrue(features.append("a").addDistinct(1));
+    Assert.assertFalse(features.append("a").addDistinct(0));
+
+    Assert.assertArrayEquals(new long[] {HashedFeatures.hash("a"), HashedFeatures.hash("b"),
+        HashedFeatures.hash("a")}, features.toArray());
+  }
+
+  @Test
+  public void testClearAndGrow() {
+    HashedFeatures features = new HashedFeatures();
+    features.append("p").pushPrefix();
+
+    for (int i = 0; i < 1000; i++) {
+      features.append("f=").append(i).add();
+    }
+    Assert.assertEquals(1000, features.size());
+    Assert.assertEquals(HashedFeatures.hash("pf=999"), features.get(999));
+
+    features.clear();
+    Assert.assertEquals(0, features.size());
+    features.add("f=1");
+    Assert.assertEquals(HashedFeatures.hash("f=1"), features.get(0));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds() {
+    HashedFeatures features = new HashedFeatures();
+    features.add("a");
+    features.get(1);
+  }
+
+  private static AbstractModel train(String algorithm) throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, algorithm);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(AbstractTrainer.ITERATIONS_PARAM, 20);
+
+    EventTrainer trainer = TrainerFactory.getEventTrainer(trainParams, null);
+    return (AbstractModel) trainer.train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  private static void assertHashedEval(MaxentModel model, MaxentModel hashedModel) throws IOException {
+    List<String[]> contexts = new ArrayList<>();
+    try (ObjectStream<Event> events = PrepAttachDataUtil.createTrainingStream()) {
+      Event event;
+      while ((event = events.read()) != null && contexts.size() < 2000) {
+        contexts.add(event.getContext());
+      }
+    }
+
+    // unknown and duplicated predicates
+    contexts.add(new String[] {"unknown", "verb=is", "verb=is"});
+    contexts.add(new String[0]);
+
+    HashedFeatures features = new HashedFeatures();
+    double[] probs = new double[hashedModel.getNumOutcomes()];
+    for (String[] context : contexts) {
+      features.clear();
+      for (String predicate : context) {
+        features.add(predicate);
+      }
+
+      Assert.assertArrayEquals(model.eval(context), hashedModel.eval(features, probs), 0.0000000001d);
+    }
+  }
+
+  private static void assertHashedEval(String algorithm) throws IOException {
+    AbstractModel model = train(algorithm);
+    assertHashedEval(model, model);
+
+    if (!NaiveBayesTrainer.NAIVE_BAYES_VALUE.equals(algorithm)) {
+      assertHashedEval(model, CompiledModel.compile(model));
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      MappedModel.write(model, out);
+      assertHashedEval(model, new MappedModel(ByteBuffer.wrap(out.toByteArray())));
+    }
+  }
+
+  @Test
+  public void testMaxentModel() throws IOException {
+    assertHashedEval(GISTrainer.MAXENT_VALUE);
+  }
+
+  @Test
+  public void testPerceptronModel() throws IOException {
+    assertHashedEval(PerceptronTrainer.PERCEPTRON_VALUE);
+  }
+
+  @Test
+  public void testQNModel() throws IOException {
+    assertHashedEval(QNTrainer.MAXENT_QN_VALUE);
+  }
+
+  @Test
+  public void testNaiveBayesModel() throws IOException {
+    assertHashedEval(NaiveBayesTrainer.NAIVE_BAYES_VALUE);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.maxent.GISTrainer;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.naivebayes.NaiveBayesTrainer;
+import opennlp.tools.ml.perceptron.PerceptronTrainer;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+public class MappedModelTest {
+
+  private static AbstractModel train(String algorithm) throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, algorithm);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(AbstractTrainer.ITERATIONS_PARAM, 50);
+
+    EventTrainer trainer = TrainerFactory.getEventTrainer(trainParams, null);
+    return (AbstractModel) trainer.train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  private static MappedModel writeAndOpen(AbstractModel model) throws IOException {
+    Path file = Files.createTempFile("opennlp-mapped-model", ".bin");
+    try {
+      MappedModel.write(model, file);
+      return MappedModel.open(file);
+    }
+    finally {
+      file.toFile().deleteOnExit();
+    }
+  }
+
+  private static void assertSameProbabilities(AbstractModel model, MappedModel mapped)
+      throws IOException {
+
+    Assert.assertEquals(model.getModelType(), mapped.getModelType());
+    Assert.assertEquals(model.getNumOutcomes(), mapped.getNumOutcomes());
+    for (int i = 0; i < model.getNumOutcomes(); i++) {
+      Assert.assertEquals(model.getOutcome(i), mapped.getOutcome(i));
+      Assert.assertEquals(i, mapped.getIndex(model.getOutcome(i)));
+    }
+
+    List<String[]> contexts = new ArrayList<>();
+    try (ObjectStream<Event> events = PrepAttachDataUtil.createTrainingStream()) {
+      Event event;
+      while ((event = events.read()) != null) {
+        contexts.add(event.getContext());
+      }
+    }
+
+    // unknown and duplicated predicates
+    contexts.add(new String[] {"unknown", "verb=is", "verb=is"});
+    contexts.add(new String[0]);
+
+    double[] probs = new double[mapped.getNumOutcomes()];
+    for (String[] context : contexts) {
+      double[] expected = model.eval(context);
+
+      Assert.assertArrayEquals(expected, mapped.eval(context), 0.0000000001d);
+      Assert.assertArrayEquals(expected, mapped.eval(context, probs), 0.0000000001d);
+
+      int[] rows = new int[context.length];
+      for (int i = 0; i < context.length; i++) {
+        rows[i] = mapped.getPredicateIndex(context[i]);
+      }
+      Assert.assertArrayEquals(expected, mapped.eval(rows, null, probs), 0.0000000001d);
+      Assert.assertEquals(model.getBestOutcome(expected), mapped.getBestOutcome(expected));
+    }
+  }
+
+  @Test
+  public void testMaxentModel() throws IOException {
+    AbstractModel model = train(GISTrainer.MAXENT_VALUE);
+    assertSameProbabilities(model, writeAndOpen(model));
+  }
+
+  @Test
+  public void testQNModel() throws IOException {
+    AbstractModel model = train(QNTrainer.MAXENT_QN_VALUE);
+    assertSameProbabilities(model, writeAndOpen(model));
+  }
+
+  @Test
+  public void testPerceptronModel() throws IOException {
+    AbstractModel model = train(PerceptronTrainer.PERCEPTRON_VALUE);
+    assertSameProbabilities(model, writeAndOpen(model));
+  }
+
+  @Test
+  public void testHeapBuffer() throws IOException {
+    AbstractModel model = train(GISTrainer.MAXENT_VALUE);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MappedModel.write(model, out);
+
+    MappedModel mapped = new MappedModel(ByteBuffer.wrap(out.toByteArray()));
+    Assert.assertEquals(-1, mapped.getPredicateIndex("unknown"));
+    assertSameProbabilities(model, mapped);
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testInvalidMagic() throws IOException {
+    new MappedModel(ByteBuffer.allocate(128));
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testTruncatedModel() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MappedModel.write(train(PerceptronTrainer.PERCEPTRON_VALUE), out);
+
+    new MappedModel(ByteBuffer.wrap(out.toByteArray(), 0, out.size() / 2).slice());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNaiveBayesIsNotSupported() throws IOException {
+    MappedModel.write(train(NaiveBayesTrainer.NAIVE_BAYES_VALUE), new ByteArrayOutputStream());
+  }
+}
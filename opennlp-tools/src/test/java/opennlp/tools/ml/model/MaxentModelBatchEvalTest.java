@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.EventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.maxent.GISTrainer;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.naivebayes.NaiveBayesTrainer;
+import opennlp.tools.ml.perceptron.PerceptronTrainer;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests that {@link MaxentModel#eval(String[][], double[][])} computes the same
+ * probabilities as the evaluation of the single contexts.
+ */
+public class MaxentModelBatchEvalTest {
+
+  private static String[][] contexts;
+
+  @BeforeClass
+  public static void readContexts() throws IOException {
+    List<String[]> contextList = new ArrayList<>();
+    try (ObjectStream<Event> events = PrepAttachDataUtil.createTrainingStream()) {
+      Event event;
+      while ((event = events.read()) != null) {
+        contextList.add(event.getContext());
+      }
+    }
+
+    contextList.add(new String[] {"unknown", "verb=is", "verb=is"});
+    contextList.add(new String[] {"verb=is", "unknown"});
+    contextList.add(new String[0]);
+
+    contexts = contextList.toArray(new String[contextList.size()][]);
+  }
+
+  private static MaxentModel train(String algorithm) throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, algorithm);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(AbstractTrainer.ITERATIONS_PARAM, 50);
+
+    EventTrainer trainer = TrainerFactory.getEventTrainer(trainParams, null);
+    return trainer.train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  private static void assertBatchEval(MaxentModel model) {
+    double[][] probs = new double[contexts.length][model.getNumOutcomes()];
+
+    // the output matrix must be overwritten
+    for (double[] row : probs) {
+      row[0] = 42;
+    }
+
+    Assert.assertSame(probs, model.eval(contexts, probs));
+
+    double[] buffer = new double[model.getNumOutcomes()];
+    for (int i = 0; i < contexts.length; i++) {
+      Assert.assertArrayEquals(model.eval(contexts[i]), probs[i], 0d);
+      Assert.assertArrayEquals(model.eval(contexts[i]), model.eval(contexts[i], buffer), 0d);
+    }
+  }
+
+  @Test
+  public void testMaxentModel() throws IOException {
+    assertBatchEval(train(GISTrainer.MAXENT_VALUE));
+  }
+
+  @Test
+  public void testQNModel() throws IOException {
+    assertBatchEval(train(QNTrainer.MAXENT_QN_VALUE));
+  }
+
+  @Test
+  public void testPerceptronModel() throws IOException {
+    assertBatchEval(train(PerceptronTrainer.PERCEPTRON_VALUE));
+  }
+
+  @Test
+  public void testNaiveBayesModel() throws IOException {
+    assertBatchEval(train(NaiveBayesTrainer.NAIVE_BAYES_VALUE));
+  }
+
+  @Test
+  public void testCompiledModel() throws IOException {
+    assertBatchEval(CompiledModel.compile((AbstractModel) train(GISTrainer.MAXENT_VALUE)));
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.AbstractEventTrainer;
+import opennlp.tools.ml.AbstractTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.maxent.GISTrainer;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.naivebayes.NaiveBayesTrainer;
+import opennlp.tools.ml.perceptron.PerceptronTrainer;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.ObjectStreamUtils;
+import opennlp.tools.util.TrainingParameters;
+
+public class OnDiskDataIndexerTest {
+
+  @Test
+  public void testIndex() throws IOException {
+    // He belongs to <START:org> Apache Software Foundation <END> .
+    ObjectStream<Event> eventStream = new SimpleEventStreamBuilder()
+        .add("other/w=he n1w=belongs n2w=to po=other pow=other,He powf=other,ic ppo=other")
+        .add("other/w=belongs p1w=he n1w=to n2w=apache po=other pow=other,belongs powf=other,lc ppo=other")
+        .add("other/w=to p1w=belongs p2w=he n1w=apache n2w=software po=other pow=other,to" +
+                    " powf=other,lc ppo=other")
+        .add("org-start/w=apache p1w=to p2w=belongs n1w=software n2w=foundation po=other pow=other,Apache" +
+                    " powf=other,ic ppo=other")
+        .add("org-cont/w=software p1w=apache p2w=to n1w=foundation n2w=. po=org-start" +
+                    " pow=org-start,Software powf=org-start,ic ppo=other")
+        .add("org-cont/w=foundation p1w=software p2w=apache n1w=. po=org-cont pow=org-cont,Foundation" +
+                    " powf=org-cont,ic ppo=org-start")
+        .add("other/w=. p1w=foundation p2w=software po=org-cont pow=org-cont,. powf=org-cont,other" +
+                    " ppo=org-cont")
+        .build();
+
+    try (OnDiskDataIndexer indexer = new OnDiskDataIndexer()) {
+      indexer.init(new TrainingParameters(), null);
+      indexer.index(eventStream);
+
+      // the events are not merged
+      Assert.assertEquals(5, indexer.getNumUniqueEvents());
+      Assert.assertEquals(5, indexer.getNumEvents());
+      Assert.assertArrayEquals(new int[]{0}, indexer.getContexts()[0]);
+      Assert.assertArrayEquals(new int[]{0}, indexer.getContexts()[4]);
+      Assert.assertNull(indexer.getValues());
+      Assert.assertArrayEquals(new int[]{0, 0, 0, 1, 2}, indexer.getOutcomeList());
+      Assert.assertArrayEquals(new int[]{1, 1, 1, 1, 1}, indexer.getNumTimesEventsSeen());
+      Assert.assertArrayEquals(new String[]{"ppo=other"}, indexer.getPredLabels());
+      Assert.assertArrayEquals(new String[]{"other", "org-start", "org-cont"}, indexer.getOutcomeLabels());
+      Assert.assertArrayEquals(new int[]{5}, indexer.getPredCounts());
+    }
+  }
+
+  @Test
+  public void testSameEventsAsTwoPass() throws IOException {
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractDataIndexer.CUTOFF_PARAM, 3);
+    params.put(AbstractDataIndexer.SORT_PARAM, false);
+
+    DataIndexer expected = new TwoPassDataIndexer();
+    expected.init(params, null);
+    expected.index(PrepAttachDataUtil.createTrainingStream());
+
+    // small blocks and windows to scan across many window boundaries
+    try (OnDiskDataIndexer indexer = new OnDiskDataIndexer(7, 1000)) {
+      indexer.init(params, null);
+      indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+      Assert.assertEquals(expected.getNumEvents(), indexer.getNumEvents());
+      Assert.assertArrayEquals(expected.getPredLabels(), indexer.getPredLabels());
+      Assert.assertArrayEquals(expected.getPredCounts(), indexer.getPredCounts());
+      Assert.assertArrayEquals(expected.getOutcomeLabels(), indexer.getOutcomeLabels());
+
+      int[][] contexts = expected.getContexts();
+      int[] outcomes = expected.getOutcomeList();
+      Assert.assertEquals(contexts.length, indexer.getNumUniqueEvents());
+
+      for (int from : new int[] {0, 1, 6, 7, 8, 999, 12345}) {
+        int to = Math.min(from + 2000, contexts.length);
+        List<Integer> visited = new ArrayList<>();
+        indexer.forEachEvent(from, to, (ei, context, values, outcome, numTimesSeen) -> {
+          Assert.assertArrayEquals(contexts[ei], context);
+          Assert.assertNull(values);
+          Assert.assertEquals(outcomes[ei], outcome);
+          Assert.assertEquals(1, numTimesSeen);
+          visited.add(ei);
+        });
+        Assert.assertEquals(to - from, visited.size());
+        Assert.assertEquals(from, (int) visited.get(0));
+        Assert.assertEquals(to - 1, (int) visited.get(visited.size() - 1));
+      }
+
+      Assert.assertArrayEquals(contexts, indexer.getContexts());
+      Assert.assertArrayEquals(outcomes, indexer.getOutcomeList());
+    }
+  }
+
+  @Test
+  public void testRealValues() throws IOException {
+    ObjectStream<Event> eventStream = ObjectStreamUtils.createObjectStream(
+        new Event("a", new String[] {"x", "rare", "y"}, new float[] {0.5f, 2f, 3f}),
+        new Event("b", new String[] {"y", "x"}, null),
+        new Event("a", new String[] {"y", "x"}, new float[] {1.5f, 0.25f}));
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractDataIndexer.CUTOFF_PARAM, 2);
+
+    try (OnDiskDataIndexer indexer = new OnDiskDataIndexer()) {
+      indexer.init(params, null);
+      indexer.index(eventStream);
+
+      Assert.assertArrayEquals(new String[] {"x", "y"}, indexer.getPredLabels());
+      Assert.assertArrayEquals(new int[] {0, 1}, indexer.getContexts()[0]);
+      Assert.assertArrayEquals(new int[] {1, 0}, indexer.getContexts()[2]);
+
+      // the values of the predicates below the cutoff are removed
+      float[][] values = indexer.getValues();
+      Assert.assertArrayEquals(new float[] {0.5f, 3f}, values[0], 0f);
+      Assert.assertNull(values[1]);
+      Assert.assertArrayEquals(new float[] {1.5f, 0.25f}, values[2], 0f);
+    }
+  }
+
+  @Test
+  public void testCloseDeletesCache() throws IOException {
+    File directory = Files.createTempDirectory("opennlp-cache").toFile();
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractDataIndexer.CUTOFF_PARAM, 1);
+    params.put(OnDiskDataIndexer.CACHE_DIRECTORY_PARAM, directory.getPath());
+
+    OnDiskDataIndexer indexer = new OnDiskDataIndexer();
+    indexer.init(params, null);
+    indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+    // only the cache file remains after indexing
+    Assert.assertEquals(1, directory.listFiles().length);
+
+    indexer.close();
+    Assert.assertEquals(0, directory.listFiles().length);
+    directory.delete();
+
+    try {
+      indexer.forEachEvent((ei, context, values, outcome, numTimesSeen) -> { });
+      Assert.fail("The events of a closed indexer must not be visited");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+
+  private static MaxentModel train(String algorithm, String dataIndexer) throws IOException {
+    TrainingParameters params = new TrainingParameters();
+    params.put(AbstractTrainer.ALGORITHM_PARAM, algorithm);
+    params.put(AbstractEventTrainer.DATA_INDEXER_PARAM, dataIndexer);
+    params.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    params.put(AbstractTrainer.ITERATIONS_PARAM, 50);
+    params.put(TrainingParameters.THREADS_PARAM, 2);
+    params.put(AbstractTrainer.VERBOSE_PARAM, false);
+
+    return TrainerFactory.getEventTrainer(params, null).train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  private static void assertSameModel(String algorithm, double delta) throws IOException {
+    MaxentModel expected = train(algorithm, AbstractEventTrainer.DATA_INDEXER_TWO_PASS_VALUE);
+    MaxentModel model = train(algorithm, AbstractEventTrainer.DATA_INDEXER_ON_DISK_VALUE);
+
+    try (ObjectStream<Event> events = PrepAttachDataUtil.createTrainingStream()) {
+      Event event;
+      while ((event = events.read()) != null) {
+        Assert.assertArrayEquals(expected.eval(event.getContext()), model.eval(event.getContext()), delta);
+      }
+    }
+  }
+
+  @Test
+  public void testTrainersOnDisk() throws IOException {
+    // the perceptron and naive bayes don't merge the events and train the same model,
+    // the maxent trainers differ only by the summation order of the unmerged events
+    assertSameModel(PerceptronTrainer.PERCEPTRON_VALUE, 0d);
+    assertSameModel(NaiveBayesTrainer.NAIVE_BAYES_VALUE, 0d);
+    assertSameModel(GISTrainer.MAXENT_VALUE, 1e-6);
+    assertSameModel(QNTrainer.MAXENT_QN_VALUE, 1e-4);
+  }
+}
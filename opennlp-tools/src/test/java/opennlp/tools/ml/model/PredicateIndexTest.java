@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml.model;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PredicateIndexTest {
+
+  @Test
+  public void testIndex() {
+    String[] predicates = new String[10000];
+    for (int i = 0; i < predicates.length; i++) {
+      predicates[i] = "w=" + i;
+    }
+
+    PredicateIndex index = PredicateIndex.build(predicates);
+
+    Assert.assertEquals(predicates.length, index.size());
+
+    Set<Integer> indexes = new HashSet<>();
+    for (String predicate : predicates) {
+      int i = index.getIndex(predicate);
+      Assert.assertTrue(i >= 0 && i < predicates.length);
+      Assert.assertEquals(predicate, index.getPredicate(i));
+      indexes.add(i);
+    }
+
+    Assert.assertEquals(predicates.length, indexes.size());
+
+    Assert.assertEquals(-1, index.getIndex("w=-1"));
+    Assert.assertEquals(-1, index.getIndex("unknown"));
+  }
+
+  @Test
+  public void testUnplacedBuckets() {
+    String[] predicates = new String[10000];
+    for (int i = 0; i < predicates.length; i++) {
+      predicates[i] = "w=" + i;
+    }
+
+    // with a single seed per bucket most buckets can't be placed and go to the map
+    PredicateIndex index = PredicateIndex.build(predicates, 1);
+
+    Assert.assertEquals(predicates.length, index.size());
+
+    Set<Integer> indexes = new HashSet<>();
+    for (String predicate : predicates) {
+      int i = index.getIndex(predicate);
+      Assert.assertEquals(predicate, index.getPredicate(i));
+      char[] chars = predicate.toCharArray();
+      Assert.assertEquals(i, index.getIndex(chars, 0, chars.length, predicate.hashCode()));
+      indexes.add(i);
+    }
+
+    Assert.assertEquals(predicates.length, indexes.size());
+    Assert.assertEquals(-1, index.getIndex("w=-1"));
+  }
+
+  @Test
+  public void testHashCollisions() {
+    // "Aa" and "BB" have the same hash code
+    Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+
+    PredicateIndex index = PredicateIndex.build(new String[] {"Aa", "BB", "C"});
+
+    Assert.assertEquals("Aa", index.getPredicate(index.getIndex("Aa")));
+    Assert.assertEquals("BB", index.getPredicate(index.getIndex("BB")));
+    Assert.assertEquals("C", index.getPredicate(index.getIndex("C")));
+
+    // same hash code as "C"
+    Assert.assertEquals(-1, index.getIndex(new String(new char[] {1, 'C' - 31})));
+  }
+
+  @Test
+  public void testIndexOfChars() {
+    PredicateIndex index = PredicateIndex.build(new String[] {"ab", "abc", "Aa", "BB", "c"});
+
+    char[] chars = "xabcAaBBc".toCharArray();
+    Assert.assertEquals(index.getIndex("ab"), index.getIndex(chars, 1, 3, "ab".hashCode()));
+    Assert.assertEquals(index.getIndex("abc"), index.getIndex(chars, 1, 4, "abc".hashCode()));
+    Assert.assertEquals(index.getIndex("Aa"), index.getIndex(chars, 4, 6, "Aa".hashCode()));
+    Assert.assertEquals(index.getIndex("BB"), index.getIndex(chars, 6, 8, "BB".hashCode()));
+    Assert.assertEquals(index.getIndex("c"), index.getIndex(chars, 8, 9, "c".hashCode()));
+
+    Assert.assertEquals(-1, index.getIndex(chars, 0, 2, "xa".hashCode()));
+    Assert.assertEquals(-1, index.getIndex(chars, 2, 4, "bc".hashCode()));
+  }
+
+  @Test
+  public void testEmpty() {
+    PredicateIndex index = PredicateIndex.build(new String[0]);
+    Assert.assertEquals(0, index.size());
+    Assert.assertEquals(-1, index.getIndex("a"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicatePredicates() {
+    PredicateIndex.build(new String[] {"a", "b", "a"});
+  }
+}
@@ -96,6 +96,23 @@ public class PerceptronPrepAttachTest {
     PrepAttachDataUtil.testModel(model, 0.7791532557563754);
   }
 
+  @Test
+  public void testPerceptronOnPrepAttachDataWithThreads() throws IOException {
+
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(AbstractTrainer.ALGORITHM_PARAM, PerceptronTrainer.PERCEPTRON_VALUE);
+    trainParams.put(AbstractTrainer.CUTOFF_PARAM, 1);
+    trainParams.put(TrainingParameters.THREADS_PARAM, 4);
+
+    EventTrainer trainer = TrainerFactory.getEventTrainer(trainParams, null);
+    AbstractModel modelA = (AbstractModel) trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(modelA, 0.7846001485516216);
+
+    // the parameter mixing does not depend on the scheduling of the threads
+    AbstractModel modelB = (AbstractModel) trainer.train(PrepAttachDataUtil.createTrainingStream());
+    Assert.assertEquals(modelA, modelB);
+  }
+
   @Test
   public void testModelSerialization() throws IOException {
 
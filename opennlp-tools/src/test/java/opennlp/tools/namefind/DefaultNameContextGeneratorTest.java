@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.namefind;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.model.HashedFeatures;
+import opennlp.tools.util.featuregen.AdaptiveFeatureGenerator;
+import opennlp.tools.util.featuregen.CachedFeatureGenerator;
+import opennlp.tools.util.featuregen.OutcomePriorFeatureGenerator;
+import opennlp.tools.util.featuregen.PreviousMapFeatureGenerator;
+import opennlp.tools.util.featuregen.TokenClassFeatureGenerator;
+import opennlp.tools.util.featuregen.TokenFeatureGenerator;
+import opennlp.tools.util.featuregen.WindowFeatureGenerator;
+
+public class DefaultNameContextGeneratorTest {
+
+  @Test
+  public void testHashedContext() {
+    DefaultNameContextGenerator cg = new DefaultNameContextGenerator(new CachedFeatureGenerator(
+        new WindowFeatureGenerator(new TokenFeatureGenerator(), 2, 2),
+        new WindowFeatureGenerator(new TokenClassFeatureGenerator(true), 2, 2),
+        new OutcomePriorFeatureGenerator()), new PreviousMapFeatureGenerator());
+
+    String[] tokens = {"Pierre", "Vinken", ",", "61", "years", "old", "."};
+    String[] outcomes = {"person-start", "person-cont", "other", "other", "other", "other", "other"};
+
+    HashedFeatures features = new HashedFeatures();
+    for (String[] preds : Arrays.asList(null, outcomes)) {
+      for (int index = 0; index < tokens.length; index++) {
+        String[] context = cg.getContext(index, tokens, preds, null);
+
+        features.clear();
+        cg.getContext(features, index, tokens, preds, null);
+
+        Assert.assertEquals(context.length, features.size());
+        for (int i = 0; i < context.length; i++) {
+          Assert.assertEquals(context[i], HashedFeatures.hash(context[i]), features.get(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testHashedContextOfDefaultGenerators() {
+    AdaptiveFeatureGenerator[] generators = null;
+    DefaultNameContextGenerator cg = new DefaultNameContextGenerator(generators);
+
+    String[] tokens = {"a", "b"};
+    String[] context = cg.getContext(1, tokens, null, null);
+
+    HashedFeatures features = new HashedFeatures();
+    cg.getContext(features, 1, tokens, null, null);
+
+    Assert.assertEquals(context.length, features.size());
+    for (int i = 0; i < context.length; i++) {
+      Assert.assertEquals(HashedFeatures.hash(context[i]), features.get(i));
+    }
+  }
+}
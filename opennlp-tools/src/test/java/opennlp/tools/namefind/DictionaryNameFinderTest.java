@@ -117,4 +117,26 @@ public class DictionaryNameFinderTest {
     Assert.assertTrue(names.length == 1);
     Assert.assertTrue(names[0].length() == 2);
   }
+
+  @Test
+  public void testAdjacentNames() {
+    String[] sentence = {"Max", "Vanessa", "Williams", "Max", "michael", "Jordan", "Vanessa"};
+    Span[] names = mNameFinder.find(sentence);
+    Assert.assertArrayEquals(new Span[] {new Span(0, 1, "default"), new Span(1, 3, "default"),
+        new Span(3, 4, "default"), new Span(4, 6, "default"), new Span(6, 7, "default")}, names);
+  }
+
+  @Test
+  public void testDictionaryChangedAfterCreation() {
+    Dictionary dictionary = new Dictionary(false);
+    dictionary.put(new StringList("Max"));
+    DictionaryNameFinder nameFinder = new DictionaryNameFinder(dictionary, "person");
+
+    String[] sentence = {"Max", "and", "Moritz"};
+    Assert.assertEquals(1, nameFinder.find(sentence).length);
+
+    dictionary.put(new StringList("moritz"));
+    Assert.assertArrayEquals(new Span[] {new Span(0, 1, "person"), new Span(2, 3, "person")},
+        nameFinder.find(sentence));
+  }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.namefind;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.util.MockInputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link ThreadSafeNameFinderME} class.
+ */
+public class ThreadSafeNameFinderMETest {
+
+  private static TokenNameFinderModel model;
+  private static List<String[]> sentences;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 70);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+
+    model = NameFinderME.train("eng", null, createSampleStream(), params,
+        TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()));
+
+    sentences = new ArrayList<>();
+    try (ObjectStream<NameSample> samples = createSampleStream()) {
+      NameSample sample;
+      while ((sample = samples.read()) != null) {
+        sentences.add(sample.getSentence());
+      }
+    }
+  }
+
+  private static ObjectStream<NameSample> createSampleStream() throws Exception {
+    return new NameSampleDataStream(new PlainTextByLineStream(new MockInputStreamFactory(
+        new File("opennlp/tools/namefind/AnnotatedSentences.txt")), "ISO-8859-1"));
+  }
+
+  @Test
+  public void testFindDocument() {
+    NameFinderME nameFinder = new NameFinderME(model);
+
+    Span[][] expected = new Span[sentences.size()][];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = nameFinder.find(sentences.get(i));
+    }
+
+    try (ThreadSafeNameFinderME threadSafeNameFinder = new ThreadSafeNameFinderME(model)) {
+      Span[][] names = threadSafeNameFinder.find(sentences.toArray(new String[sentences.size()][]));
+
+      Assert.assertArrayEquals(expected, names);
+
+      // adaptive data must be cleared after each document
+      Assert.assertArrayEquals(expected,
+          threadSafeNameFinder.find(sentences.toArray(new String[sentences.size()][])));
+    }
+  }
+
+  @Test
+  public void testFindDocumentKeepsAdaptiveData() {
+    NameFinderME nameFinder = new NameFinderME(model);
+
+    Span[][] expected = new Span[sentences.size()][];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = nameFinder.find(sentences.get(i));
+    }
+
+    try (ThreadSafeNameFinderME threadSafeNameFinder = new ThreadSafeNameFinderME(model)) {
+      String[][] document = sentences.toArray(new String[sentences.size()][]);
+      for (int i = 0; i < expected.length; i++) {
+        Assert.assertArrayEquals(expected[i], threadSafeNameFinder.find(sentences.get(i)));
+
+        // the document must neither clear nor extend the adaptive data of the sentences
+        threadSafeNameFinder.find(document);
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentFind() throws Exception {
+    NameFinderME nameFinder = new NameFinderME(model);
+
+    List<Span[]> expected = new ArrayList<>();
+    for (String[] sentence : sentences) {
+      expected.add(nameFinder.find(sentence));
+      nameFinder.clearAdaptiveData();
+    }
+
+    ThreadSafeNameFinderME threadSafeNameFinder = new ThreadSafeNameFinderME(model);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(() -> {
+          for (int n = 0; n < 10; n++) {
+            for (int i = 0; i < sentences.size(); i++) {
+              Span[] names = threadSafeNameFinder.find(sentences.get(i));
+              threadSafeNameFinder.clearAdaptiveData();
+              if (!Arrays.equals(expected.get(i), names)) {
+                return false;
+              }
+            }
+          }
+          return true;
+        }));
+      }
+
+      for (Future<Boolean> result : results) {
+        Assert.assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.cmdline.parser.ParserTool;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link DocumentParser} class.
+ */
+public class DocumentParserTest {
+
+  private static ParserModel model;
+  private static List<String[]> sentences;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    model = opennlp.tools.parser.chunking.Parser.train("eng", ParserTestUtil.openTestTrainingData(),
+        ParserTestUtil.createTestHeadRules(), TrainingParameters.defaultParams());
+
+    sentences = new ArrayList<>();
+    try (ObjectStream<Parse> samples = ParserTestUtil.openTestTrainingData()) {
+      Parse sample;
+      while ((sample = samples.read()) != null && sentences.size() < 20) {
+        Parse[] tagNodes = sample.getTagNodes();
+        String[] tokens = new String[tagNodes.length];
+        for (int i = 0; i < tokens.length; i++) {
+          tokens[i] = tagNodes[i].getCoveredText();
+        }
+        sentences.add(tokens);
+      }
+    }
+  }
+
+  private static String show(Parse parse) {
+    StringBuffer sb = new StringBuffer();
+    parse.show(sb);
+    return sb.toString();
+  }
+
+  @Test
+  public void testParseDocument() {
+    Parser parser = ParserFactory.create(model);
+
+    try (DocumentParser documentParser = new DocumentParser(model, 4)) {
+      List<ParseResult> results = documentParser.parse(sentences, 1);
+
+      Assert.assertEquals(sentences.size(), results.size());
+      for (int i = 0; i < sentences.size(); i++) {
+        ParseResult result = results.get(i);
+        Assert.assertSame(sentences.get(i), result.getTokens());
+        Assert.assertTrue(result.isComplete());
+        Assert.assertEquals(1, result.getParses().length);
+
+        Parse expected = ParserTool.parseLine(String.join(" ", sentences.get(i)), parser, 1)[0];
+        Assert.assertEquals(show(expected), show(result.getBestParse()));
+        Assert.assertEquals(expected.getProb(), result.getBestParse().getProb(), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testKBestParses() {
+    try (DocumentParser documentParser = new DocumentParser(model, 2)) {
+      List<ParseResult> kBest = documentParser.parse(sentences, 3);
+      List<ParseResult> best = documentParser.parse(sentences, 1);
+
+      for (int i = 0; i < sentences.size(); i++) {
+        Parse[] parses = kBest.get(i).getParses();
+        Assert.assertTrue(parses.length >= 1 && parses.length <= 3);
+        for (int pi = 1; pi < parses.length; pi++) {
+          Assert.assertTrue(parses[pi - 1].getProb() > parses[pi].getProb());
+        }
+        Assert.assertEquals(best.get(i).getBestParse().getProb(), parses[0].getProb(), 0);
+      }
+    }
+  }
+
+  @Test
+  public void testMaxDerivations() {
+    try (DocumentParser documentParser = new DocumentParser(model,
+        AbstractBottomUpParser.defaultBeamSize, AbstractBottomUpParser.defaultAdvancePercentage,
+        2, 0, 5)) {
+
+      for (ParseResult result : documentParser.parse(sentences, 1)) {
+        Assert.assertFalse(result.isComplete());
+        Assert.assertNotNull(result.getBestParse());
+      }
+    }
+  }
+
+  @Test
+  public void testEmptySentence() {
+    try (DocumentParser documentParser = new DocumentParser(model, 1)) {
+      ParseResult result = documentParser.parse(new String[0], 1);
+      Assert.assertTrue(result.isComplete());
+      Assert.assertEquals(0, result.getBestParse().getChildCount());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidThreads() {
+    new DocumentParser(model, 0);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.util.Span;
+
+/**
+ * Tests for the {@link ParseHeap} class.
+ */
+public class ParseHeapTest {
+
+  private static Parse parse(double prob) {
+    return new Parse("a", new Span(0, 1), AbstractBottomUpParser.INC_NODE, prob, 0);
+  }
+
+  @Test
+  public void testKeepsBestParses() {
+    ParseHeap heap = new ParseHeap(3);
+    double[] probs = {-3, -1, -5, -2, -4, -0.5};
+    for (double prob : probs) {
+      heap.add(parse(prob));
+    }
+
+    Assert.assertEquals(3, heap.size());
+    Assert.assertEquals(-5, heap.last().getProb(), 0);
+
+    Parse[] parses = new Parse[3];
+    Assert.assertEquals(3, heap.drainTo(parses));
+    Assert.assertEquals(-0.5, parses[0].getProb(), 0);
+    Assert.assertEquals(-1, parses[1].getProb(), 0);
+    Assert.assertEquals(-2, parses[2].getProb(), 0);
+
+    Assert.assertEquals(0, heap.size());
+    Assert.assertNull(heap.last());
+  }
+
+  @Test
+  public void testKeepsFirstParseOfSameProbability() {
+    ParseHeap heap = new ParseHeap(2);
+    Parse first = parse(-1);
+    heap.add(first);
+    heap.add(parse(-1));
+    heap.add(parse(-2));
+
+    Assert.assertEquals(2, heap.size());
+
+    Parse[] parses = new Parse[2];
+    heap.drainTo(parses);
+    Assert.assertSame(first, parses[0]);
+    Assert.assertEquals(-2, parses[1].getProb(), 0);
+  }
+
+  @Test
+  public void testClear() {
+    ParseHeap heap = new ParseHeap(2);
+    heap.add(parse(-1));
+    heap.clear();
+
+    Assert.assertEquals(0, heap.size());
+    Assert.assertNull(heap.last());
+
+    heap.add(parse(-3));
+    Assert.assertEquals(-3, heap.last().getProb(), 0);
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.pipeline;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.chunker.ChunkSampleStream;
+import opennlp.tools.chunker.ChunkerFactory;
+import opennlp.tools.chunker.ChunkerME;
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.formats.ResourceAsStreamFactory;
+import opennlp.tools.namefind.BioCodec;
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.NameSampleDataStream;
+import opennlp.tools.namefind.TokenNameFinderFactory;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.postag.POSTaggerMETest;
+import opennlp.tools.sentdetect.SentenceDetectorFactory;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.sentdetect.SentenceSampleStream;
+import opennlp.tools.tokenize.TokenSampleStream;
+import opennlp.tools.tokenize.TokenizerFactory;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.CollectionObjectStream;
+import opennlp.tools.util.MockInputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.TrainingParameters;
+import opennlp.tools.util.model.ModelType;
+
+/**
+ * Tests for the {@link Pipeline} class.
+ */
+public class PipelineTest {
+
+  private static SentenceModel sentenceModel;
+  private static TokenizerModel tokenizerModel;
+  private static POSModel posModel;
+  private static ChunkerModel chunkerModel;
+  private static TokenNameFinderModel nameFinderModel;
+
+  private static List<String> documents;
+
+  @BeforeClass
+  public static void trainModels() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(TrainingParameters.ITERATIONS_PARAM, 70);
+    params.put(TrainingParameters.CUTOFF_PARAM, 1);
+
+    sentenceModel = SentenceDetectorME.train("eng", new SentenceSampleStream(new PlainTextByLineStream(
+        new ResourceAsStreamFactory(PipelineTest.class, "/opennlp/tools/sentdetect/Sentences.txt"),
+        StandardCharsets.UTF_8)), new SentenceDetectorFactory("eng", true, null, null), params);
+
+    tokenizerModel = TokenizerME.train(new TokenSampleStream(new PlainTextByLineStream(
+        new ResourceAsStreamFactory(PipelineTest.class, "/opennlp/tools/tokenize/token.train"),
+        StandardCharsets.UTF_8)), TokenizerFactory.create(null, "eng", null, true, null), params);
+
+    posModel = POSTaggerMETest.trainPOSModel(ModelType.MAXENT);
+
+    chunkerModel = ChunkerME.train("eng", new ChunkSampleStream(new PlainTextByLineStream(
+        new ResourceAsStreamFactory(PipelineTest.class, "/opennlp/tools/chunker/test.txt"),
+        StandardCharsets.UTF_8)), params, new ChunkerFactory());
+
+    nameFinderModel = NameFinderME.train("eng", null, new NameSampleDataStream(
+        new PlainTextByLineStream(new MockInputStreamFactory(
+        new File("opennlp/tools/namefind/AnnotatedSentences.txt")), "ISO-8859-1")), params,
+        TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()));
+
+    // every four lines of the sentence detector training data form a document
+    documents = new ArrayList<>();
+    try (BufferedReader in = new BufferedReader(new InputStreamReader(PipelineTest.class
+        .getResourceAsStream("/opennlp/tools/sentdetect/Sentences.txt"), StandardCharsets.UTF_8))) {
+      StringBuilder document = new StringBuilder();
+      int lines = 0;
+      String line;
+      while ((line = in.readLine()) != null) {
+        if (!line.trim().isEmpty()) {
+          document.append(line).append(' ');
+          if (++lines % 4 == 0) {
+            documents.add(document.toString());
+            document.setLength(0);
+          }
+        }
+      }
+    }
+  }
+
+  private static List<PipelineStage> createStages(int threads) {
+    return Arrays.asList(
+        PipelineStage.sentenceDetector(sentenceModel, 1),
+        PipelineStage.tokenizer(tokenizerModel, threads),
+        PipelineStage.posTagger(posModel, threads),
+        PipelineStage.chunker(chunkerModel, threads),
+        PipelineStage.nameFinder(nameFinderModel, threads));
+  }
+
+  @Test
+  public void testProcess() throws IOException {
+    SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
+    TokenizerME tokenizer = new TokenizerME(tokenizerModel);
+    POSTaggerME tagger = new POSTaggerME(posModel);
+    ChunkerME chunker = new ChunkerME(chunkerModel);
+    NameFinderME nameFinder = new NameFinderME(nameFinderModel);
+
+    try (Pipeline pipeline = new Pipeline(createStages(3), 2)) {
+      List<AnnotatedDocument> annotated = pipeline.process(documents);
+      Assert.assertEquals(documents.size(), annotated.size());
+
+      for (int d = 0; d < documents.size(); d++) {
+        String text = documents.get(d);
+        AnnotatedDocument document = annotated.get(d);
+        Assert.assertEquals(text, document.getText());
+
+        Span[] sentenceSpans = sentenceDetector.sentPosDetect(text);
+        Assert.assertEquals(sentenceSpans.length, document.getSentences().size());
+
+        for (int s = 0; s < sentenceSpans.length; s++) {
+          AnnotatedSentence sentence = document.getSentences().get(s);
+          Assert.assertEquals(sentenceSpans[s], sentence.getSpan());
+
+          String sentenceText = sentenceSpans[s].getCoveredText(text).toString();
+          String[] tokens = tokenizer.tokenize(sentenceText);
+          Assert.assertArrayEquals(tokens, sentence.getTokens());
+          for (int t = 0; t < tokens.length; t++) {
+            Assert.assertEquals(tokens[t], sentence.getTokenSpans()[t].getCoveredText(text));
+          }
+
+          String[] tags = tagger.tag(tokens);
+          Assert.assertArrayEquals(tags, sentence.getTags());
+          Assert.assertArrayEquals(chunker.chunk(tokens, tags), sentence.getChunks());
+          Assert.assertArrayEquals(nameFinder.find(tokens), sentence.getNames());
+        }
+        nameFinder.clearAdaptiveData();
+      }
+
+      for (StageMetrics metrics : pipeline.getMetrics()) {
+        Assert.assertEquals(documents.size(), metrics.getDocumentCount());
+        Assert.assertEquals(0, metrics.getFailureCount());
+        Assert.assertTrue(metrics.getThroughput() > 0);
+      }
+      Assert.assertEquals("sentences", pipeline.getMetrics().get(0).getName());
+      Assert.assertEquals(3, pipeline.getMetrics().get(1).getThreads());
+    }
+  }
+
+  @Test
+  public void testOrderIsPreserved() throws IOException {
+    List<String> texts = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      texts.add(Integer.toString(i));
+    }
+
+    // documents overtake each other in the stages with several threads
+    Random random = new Random(11);
+    Annotator sleep = document -> {
+      try {
+        Thread.sleep(random.nextInt(3));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    try (Pipeline pipeline = new Pipeline(Arrays.asList(new PipelineStage("first", sleep, 4),
+        new PipelineStage("second", sleep, 3)), 4)) {
+      List<AnnotatedDocument> annotated = pipeline.process(texts);
+      for (int i = 0; i < texts.size(); i++) {
+        Assert.assertEquals(texts.get(i), annotated.get(i).getText());
+      }
+    }
+  }
+
+  @Test
+  public void testBackpressure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    Annotator blocked = document -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    AtomicInteger read = new AtomicInteger();
+    ObjectStream<String> input = () -> read.incrementAndGet() <= 1000 ? "text" : null;
+
+    try (Pipeline pipeline = new Pipeline(Arrays.asList(new PipelineStage("blocked", blocked, 2),
+        new PipelineStage("next", document -> { }, 2)), 3)) {
+      ObjectStream<AnnotatedDocument> annotated = pipeline.process(input);
+
+      Thread consumer = new Thread(() -> {
+        try {
+          while (annotated.read() != null) {
+            // consume all documents
+          }
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      consumer.start();
+
+      Thread.sleep(100);
+      // two documents in the blocked threads, three in the full queue and one which
+      // waits to be put into the queue, the input is not read ahead any further
+      Assert.assertEquals(2 + 3 + 1, read.get());
+
+      release.countDown();
+      consumer.join(TimeUnit.SECONDS.toMillis(10));
+      Assert.assertFalse(consumer.isAlive());
+      Assert.assertEquals(1000, pipeline.getMetrics().get(1).getDocumentCount());
+    }
+  }
+
+  @Test
+  public void testConcurrentProcess() throws Exception {
+    try (Pipeline pipeline = new Pipeline(createStages(2))) {
+      List<AnnotatedDocument> expected = pipeline.process(documents);
+
+      List<Thread> threads = new ArrayList<>();
+      List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+      for (int t = 0; t < 4; t++) {
+        Thread thread = new Thread(() -> {
+          try {
+            List<AnnotatedDocument> annotated = pipeline.process(documents);
+            for (int i = 0; i < expected.size(); i++) {
+              Assert.assertEquals(expected.get(i).toString(), annotated.get(i).toString());
+            }
+          } catch (Throwable e) {
+            errors.add(e);
+          }
+        });
+        thread.start();
+        threads.add(thread);
+      }
+
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      Assert.assertEquals(Collections.emptyList(), errors);
+    }
+  }
+
+  @Test
+  public void testFailedStage() throws IOException {
+    Annotator failing = document -> {
+      if (document.getText().equals("fail")) {
+        throw new IllegalArgumentException("failed");
+      }
+    };
+
+    try (Pipeline pipeline = new Pipeline(Arrays.asList(new PipelineStage("failing", failing, 2),
+        new PipelineStage("next", document -> { }, 1)))) {
+      ObjectStream<AnnotatedDocument> annotated =
+          pipeline.process(new CollectionObjectStream<>(Arrays.asList("ok", "fail", "ok")));
+
+      Assert.assertEquals("ok", annotated.read().getText());
+      try {
+        annotated.read();
+        Assert.fail();
+      } catch (IllegalStateException e) {
+        Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+      }
+      Assert.assertEquals("ok", annotated.read().getText());
+      Assert.assertNull(annotated.read());
+
+      Assert.assertEquals(1, pipeline.getMetrics().get(0).getFailureCount());
+      Assert.assertEquals(3, pipeline.getMetrics().get(1).getDocumentCount());
+    }
+  }
+
+  @Test(timeout = 30000)
+  public void testErrorInStage() throws IOException {
+    Annotator failing = document -> {
+      if (document.getText().equals("fail")) {
+        throw new AssertionError("failed");
+      }
+    };
+
+    try (Pipeline pipeline = new Pipeline(Arrays.asList(new PipelineStage("failing", failing, 1),
+        new PipelineStage("next", document -> { }, 1)))) {
+      ObjectStream<AnnotatedDocument> annotated =
+          pipeline.process(new CollectionObjectStream<>(Arrays.asList("ok", "fail", "ok")));
+
+      Assert.assertEquals("ok", annotated.read().getText());
+      try {
+        annotated.read();
+        Assert.fail();
+      } catch (IllegalStateException e) {
+        Assert.assertTrue(e.getCause() instanceof AssertionError);
+      }
+
+      // the single thread of the stage is still alive
+      Assert.assertEquals("ok", annotated.read().getText());
+      Assert.assertNull(annotated.read());
+      Assert.assertEquals("ok", pipeline.process("ok").getText());
+
+      Assert.assertEquals(1, pipeline.getMetrics().get(0).getFailureCount());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPosTaggerRequiresTokens() {
+    AnnotatedDocument document = new AnnotatedDocument("text");
+    document.setSentences(Collections.singletonList(new AnnotatedSentence(new Span(0, 4))));
+
+    PipelineStage.posTagger(posModel, 1).getAnnotator().annotate(document);
+  }
+}
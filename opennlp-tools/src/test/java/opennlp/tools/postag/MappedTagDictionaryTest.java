@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * Tests for the {@link MappedTagDictionary} class.
+ */
+public class MappedTagDictionaryTest {
+
+  private static POSDictionary createDictionary(boolean caseSensitive) {
+    POSDictionary dictionary = new POSDictionary(caseSensitive);
+    dictionary.put("a", "DT");
+    dictionary.put("the", "DT");
+    dictionary.put("Always", "RB", "NNP");
+    dictionary.put("run", "VB", "NN");
+    dictionary.put("walk", "VB", "NN");
+    dictionary.put("McKinsey", "NNP");
+    return dictionary;
+  }
+
+  @Test
+  public void testCaseSensitive() {
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(createDictionary(true));
+
+    Assert.assertTrue(dictionary.isCaseSensitive());
+    Assert.assertEquals(6, dictionary.size());
+    Assert.assertArrayEquals(new String[] {"RB", "NNP"}, dictionary.getTags("Always"));
+    Assert.assertArrayEquals(new String[] {"VB", "NN"}, dictionary.getTags("walk"));
+    Assert.assertArrayEquals(new String[] {"NNP"}, dictionary.getTags("McKinsey"));
+    Assert.assertNull(dictionary.getTags("Mckinsey"));
+    Assert.assertNull(dictionary.getTags("always"));
+    Assert.assertNull(dictionary.getTags("b"));
+    Assert.assertNull(dictionary.getTags(""));
+  }
+
+  @Test
+  public void testCaseInsensitive() {
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(createDictionary(false));
+
+    Assert.assertFalse(dictionary.isCaseSensitive());
+    Assert.assertArrayEquals(new String[] {"NNP"}, dictionary.getTags("McKinsey"));
+    Assert.assertArrayEquals(new String[] {"NNP"}, dictionary.getTags("MCKINSEY"));
+    Assert.assertArrayEquals(new String[] {"RB", "NNP"}, dictionary.getTags("always"));
+    Assert.assertArrayEquals(new String[] {"DT"}, dictionary.getTags("The"));
+    Assert.assertNull(dictionary.getTags("McKinseys"));
+  }
+
+  @Test
+  public void testTagSetsAreInterned() {
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(createDictionary(true));
+
+    Set<String> tags = new HashSet<>();
+    for (String tag : dictionary.getAllTags()) {
+      Assert.assertTrue(tags.add(tag));
+    }
+    Assert.assertEquals(5, tags.size());
+
+    // the returned arrays are copies of the shared tag set
+    dictionary.getTags("run")[0] = "X";
+    Assert.assertArrayEquals(new String[] {"VB", "NN"}, dictionary.getTags("walk"));
+  }
+
+  @Test
+  public void testIterator() {
+    POSDictionary posDictionary = createDictionary(true);
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(posDictionary);
+
+    Set<String> words = new HashSet<>();
+    for (String word : dictionary) {
+      words.add(word);
+      Assert.assertArrayEquals(posDictionary.getTags(word), dictionary.getTags(word));
+    }
+
+    Set<String> expected = new HashSet<>();
+    posDictionary.forEach(expected::add);
+    Assert.assertEquals(expected, words);
+  }
+
+  @Test
+  public void testWriteAndOpen() throws IOException {
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(createDictionary(false));
+
+    Path file = Files.createTempFile("tagdict", ".bin");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        dictionary.write(out);
+      }
+
+      MappedTagDictionary mapped = MappedTagDictionary.open(file);
+      Assert.assertEquals(dictionary, mapped);
+      Assert.assertEquals(dictionary.hashCode(), mapped.hashCode());
+      Assert.assertArrayEquals(new String[] {"RB", "NNP"}, mapped.getTags("ALWAYS"));
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testEmptyDictionary() {
+    MappedTagDictionary dictionary = MappedTagDictionary.compile(new POSDictionary());
+
+    Assert.assertEquals(0, dictionary.size());
+    Assert.assertNull(dictionary.getTags("a"));
+    Assert.assertFalse(dictionary.iterator().hasNext());
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testInvalidFormat() throws IOException {
+    new MappedTagDictionary(ByteBuffer.wrap(new byte[64]));
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testTruncatedFormat() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MappedTagDictionary.write(createDictionary(true), out);
+
+    byte[] bytes = out.toByteArray();
+    new MappedTagDictionary(ByteBuffer.wrap(bytes, 0, bytes.length - 16).slice());
+  }
+}
@@ -19,8 +19,10 @@ package opennlp.tools.postag;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import opennlp.tools.util.model.ModelType;
@@ -62,4 +64,25 @@ public class POSModelTest {
 
     // TODO: add equals to pos model
   }
+
+  @Test
+  public void testPOSModelSerializationToFile() throws IOException {
+    POSModel posModel = POSTaggerMETest.trainPOSModel(ModelType.MAXENT);
+
+    File modelFile = File.createTempFile("pos-model", ".bin");
+    try {
+      posModel.serialize(modelFile);
+
+      POSModel recreatedPosModel = new POSModel(modelFile);
+
+      Assert.assertEquals(posModel.getLanguage(), recreatedPosModel.getLanguage());
+      Assert.assertEquals(posModel.getPosModel().getNumOutcomes(),
+          recreatedPosModel.getPosModel().getNumOutcomes());
+      Assert.assertEquals(posModel.getFactory().getClass(),
+          recreatedPosModel.getFactory().getClass());
+    }
+    finally {
+      modelFile.delete();
+    }
+  }
 }
@@ -104,6 +104,24 @@ public class POSTaggerFactoryTest {
     Assert.assertTrue(factory.getSequenceValidator() instanceof DefaultPOSSequenceValidator);
   }
 
+  @Test
+  public void testPOSTaggerWithMappedTagDictionary() throws IOException {
+    MappedTagDictionary posDict = MappedTagDictionary.compile(POSDictionary.create(
+        POSDictionaryTest.class.getResourceAsStream("TagDictionaryCaseSensitive.xml")));
+    POSModel posModel = trainPOSModel(new POSTaggerFactory(null, null, posDict));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    posModel.serialize(out);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    POSModel fromSerialized = new POSModel(in);
+
+    TagDictionary tagDictionary = fromSerialized.getFactory().getTagDictionary();
+    Assert.assertTrue(tagDictionary instanceof MappedTagDictionary);
+    Assert.assertEquals(posDict, tagDictionary);
+    Assert.assertArrayEquals(new String[] {"NNP"}, tagDictionary.getTags("McKinsey"));
+  }
+
   @Test(expected = InvalidFormatException.class)
   public void testCreateWithInvalidName() throws InvalidFormatException {
     BaseToolFactory.create("X", null);
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.util.ConcurrencyTestUtil;
+import opennlp.tools.util.Sequence;
+import opennlp.tools.util.model.ModelType;
+
+/**
+ * Tests for the {@link ThreadSafePOSTaggerME} class.
+ */
+public class ThreadSafePOSTaggerMETest {
+
+  private static final String[][] SENTENCES = {
+      {"The", "driver", "got", "badly", "injured", "."},
+      {"Last", "September", ",", "I", "tried", "to", "find", "out", "the", "address", "."},
+      {"He", "said", "the", "test", "may", "come", "today", "."}
+  };
+
+  private static POSModel model;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    model = POSTaggerMETest.trainPOSModel(ModelType.MAXENT);
+  }
+
+  @Test
+  public void testTag() {
+    POSTaggerME tagger = new POSTaggerME(model);
+
+    try (ThreadSafePOSTaggerME threadSafeTagger = new ThreadSafePOSTaggerME(model)) {
+      Assert.assertArrayEquals(tagger.getAllPosTags(), threadSafeTagger.getAllPosTags());
+
+      for (String[] sentence : SENTENCES) {
+        Assert.assertArrayEquals(tagger.tag(sentence), threadSafeTagger.tag(sentence));
+        Assert.assertArrayEquals(tagger.probs(), threadSafeTagger.probs(), 0d);
+        Assert.assertArrayEquals(tagger.tag(3, sentence), threadSafeTagger.tag(3, sentence));
+        Assert.assertArrayEquals(tagger.topKSequences(sentence),
+            threadSafeTagger.topKSequences(sentence));
+      }
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testProbsWithoutTag() {
+    try (ThreadSafePOSTaggerME threadSafeTagger = new ThreadSafePOSTaggerME(model)) {
+      threadSafeTagger.probs();
+    }
+  }
+
+  @Test
+  public void testConcurrentTag() throws Exception {
+    POSTaggerME tagger = new POSTaggerME(model);
+
+    String[][] expectedTags = new String[SENTENCES.length][];
+    double[][] expectedProbs = new double[SENTENCES.length][];
+    Sequence[][] expectedSequences = new Sequence[SENTENCES.length][];
+    for (int i = 0; i < SENTENCES.length; i++) {
+      expectedTags[i] = tagger.tag(SENTENCES[i]);
+      expectedProbs[i] = tagger.probs();
+      expectedSequences[i] = tagger.topKSequences(SENTENCES[i]);
+    }
+
+    ThreadSafePOSTaggerME threadSafeTagger = new ThreadSafePOSTaggerME(model);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int n = 0; n < 20; n++) {
+        for (int i = 0; i < SENTENCES.length; i++) {
+          if (!Arrays.equals(expectedTags[i], threadSafeTagger.tag(SENTENCES[i]))
+              || !Arrays.equals(expectedProbs[i], threadSafeTagger.probs())
+              || !Arrays.equals(expectedSequences[i], threadSafeTagger.topKSequences(SENTENCES[i]))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    });
+  }
+}
@@ -19,7 +19,14 @@
 package opennlp.tools.sentdetect;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -27,6 +34,7 @@ import org.junit.Test;
 import opennlp.tools.formats.ResourceAsStreamFactory;
 import opennlp.tools.util.InputStreamFactory;
 import opennlp.tools.util.InsufficientTrainingDataException;
+import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.PlainTextByLineStream;
 import opennlp.tools.util.Span;
 import opennlp.tools.util.TrainingParameters;
@@ -154,4 +162,118 @@ public class SentenceDetectorMETest {
     
   }
   
+  static SentenceModel trainModel(boolean useTokenEnd) throws IOException {
+    InputStreamFactory in = new ResourceAsStreamFactory(SentenceDetectorMETest.class,
+        "/opennlp/tools/sentdetect/Sentences.txt");
+
+    TrainingParameters mlParams = new TrainingParameters();
+    mlParams.put(TrainingParameters.ITERATIONS_PARAM, 100);
+    mlParams.put(TrainingParameters.CUTOFF_PARAM, 0);
+
+    SentenceDetectorFactory factory = new SentenceDetectorFactory("eng", useTokenEnd, null, null);
+
+    return SentenceDetectorME.train("eng", new SentenceSampleStream(
+        new PlainTextByLineStream(in, StandardCharsets.UTF_8)), factory, mlParams);
+  }
+
+  private static List<Span> readAll(ObjectStream<Span> spans) throws IOException {
+    List<Span> result = new ArrayList<>();
+    Span span;
+    while ((span = spans.read()) != null) {
+      result.add(span);
+    }
+    spans.close();
+    return result;
+  }
+
+  private static void assertSameSpans(Span[] expected, double[] probs, List<Span> spans) {
+    Assert.assertEquals(expected.length, spans.size());
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertEquals(expected[i], spans.get(i));
+      Assert.assertEquals(probs[i], spans.get(i).getProb(), 0d);
+    }
+  }
+
+  /**
+   * A reader which returns at most a few chars per read call.
+   */
+  private static class SlowReader extends Reader {
+
+    private final Reader reader;
+    private final int maxChars;
+
+    SlowReader(String text, int maxChars) {
+      this.reader = new StringReader(text);
+      this.maxChars = maxChars;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+      return reader.read(cbuf, off, Math.min(len, maxChars));
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+  }
+
+  @Test
+  public void testStreamingSentenceDetector() throws IOException {
+    SentenceDetectorME sentDetect = new SentenceDetectorME(trainModel(true));
+
+    String[] texts = {
+        "This is a test. There are many tests, this is the second.",
+        "This is a \"test\". I said \"This is a test.\"  Any questions?",
+        "This is a one sentence test space at the end.    ",
+        "    This is a test.",
+        "This is test sentence without a dot at the end and spaces          ",
+        "",
+        "               "
+    };
+
+    for (String text : texts) {
+      Span[] expected = sentDetect.sentPosDetect(text);
+      double[] probs = sentDetect.getSentenceProbabilities();
+
+      assertSameSpans(expected, probs, readAll(sentDetect.sentPosDetect(new StringReader(text))));
+      assertSameSpans(expected, probs, readAll(sentDetect.sentPosDetect(CharBuffer.wrap(text))));
+      assertSameSpans(expected, probs, readAll(sentDetect.sentPosDetect(new SlowReader(text, 1))));
+    }
+  }
+
+  @Test
+  public void testStreamingSentenceDetectorOnLargeText() throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (InputStream in = getClass().getResourceAsStream("/opennlp/tools/sentdetect/Sentences.txt")) {
+      StringBuilder line = new StringBuilder();
+      int c;
+      while ((c = in.read()) != -1) {
+        if (c == '\n') {
+          lines.add(line.toString());
+          line.setLength(0);
+        }
+        else {
+          line.append((char) c);
+        }
+      }
+    }
+
+    String[] separators = {" ", "  ", "\n", "\n\n", "\t ", ""};
+    Random random = new Random(3);
+    StringBuilder text = new StringBuilder();
+    while (text.length() < 200000) {
+      text.append(lines.get(random.nextInt(lines.size())));
+      text.append(separators[random.nextInt(separators.length)]);
+    }
+
+    for (boolean useTokenEnd : new boolean[] {true, false}) {
+      SentenceDetectorME sentDetect = new SentenceDetectorME(trainModel(useTokenEnd));
+      Span[] expected = sentDetect.sentPosDetect(text.toString());
+      Assert.assertTrue(expected.length > 1000);
+
+      assertSameSpans(expected, sentDetect.getSentenceProbabilities(), readAll(sentDetect.sentPosDetect(
+          new SlowReader(text.toString(), 1 + random.nextInt(100)))));
+    }
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.sentdetect;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.util.ConcurrencyTestUtil;
+import opennlp.tools.util.Span;
+
+/**
+ * Tests for the {@link ThreadSafeSentenceDetectorME} class.
+ */
+public class ThreadSafeSentenceDetectorMETest {
+
+  private static final String[] TEXTS = {
+      "This is a test. There are many tests, this is the second.",
+      "This is a \"test\". I said \"This is a test.\"  Any questions?",
+      "This is a one sentence test space at the end.    ",
+      "    This is a test.",
+      "This is test sentence without a dot at the end and spaces          ",
+      ""
+  };
+
+  private static SentenceModel model;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    model = SentenceDetectorMETest.trainModel(false);
+  }
+
+  @Test
+  public void testSentDetect() {
+    SentenceDetectorME sentenceDetector = new SentenceDetectorME(model);
+
+    try (ThreadSafeSentenceDetectorME threadSafeSentenceDetector =
+        new ThreadSafeSentenceDetectorME(model)) {
+      Assert.assertEquals(0, threadSafeSentenceDetector.getSentenceProbabilities().length);
+
+      for (String text : TEXTS) {
+        Assert.assertArrayEquals(sentenceDetector.sentDetect(text),
+            threadSafeSentenceDetector.sentDetect(text));
+        Assert.assertArrayEquals(sentenceDetector.getSentenceProbabilities(),
+            threadSafeSentenceDetector.getSentenceProbabilities(), 0d);
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentSentPosDetect() throws Exception {
+    SentenceDetectorME sentenceDetector = new SentenceDetectorME(model);
+
+    Span[][] expectedSentences = new Span[TEXTS.length][];
+    double[][] expectedProbs = new double[TEXTS.length][];
+    for (int i = 0; i < TEXTS.length; i++) {
+      expectedSentences[i] = sentenceDetector.sentPosDetect(TEXTS[i]);
+      expectedProbs[i] = sentenceDetector.getSentenceProbabilities();
+    }
+
+    ThreadSafeSentenceDetectorME threadSafeSentenceDetector = new ThreadSafeSentenceDetectorME(model);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int n = 0; n < 20; n++) {
+        for (int i = 0; i < TEXTS.length; i++) {
+          if (!Arrays.equals(expectedSentences[i], threadSafeSentenceDetector.sentPosDetect(TEXTS[i]))
+              || !Arrays.equals(expectedProbs[i], threadSafeSentenceDetector.getSentenceProbabilities())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    });
+  }
+}
@@ -67,6 +67,7 @@ public class SnowballStemmerTest {
     Assert.assertEquals(stemmer.stem("esiintyviätaiteilijaystäviään"),
         "esiintyviätaiteilijaystäviä");
     Assert.assertEquals(stemmer.stem("hellbergiä"), "hellberg");
+    Assert.assertEquals(stemmer.stem("huoneiden"), "huone");
 
   }
 
@@ -165,4 +166,27 @@ public class SnowballStemmerTest {
     Assert.assertEquals(stemmer.stem("kaçmamaktadır"), "kaçmamak");
     Assert.assertEquals(stemmer.stem("sarayı'nı"), "sarayı'nı");
   }
+
+  @Test
+  public void testStemWords() {
+    SnowballStemmer stemmer = new SnowballStemmer(ALGORITHM.ENGLISH);
+    CharSequence[] stems = stemmer.stem(new CharSequence[] {"abbreviated", "accompanying",
+        new StringBuilder("accumulated")});
+    Assert.assertArrayEquals(new CharSequence[] {"abbrevi", "accompani", "accumul"}, stems);
+  }
+
+  @Test
+  public void testStemCache() {
+    SnowballStemmer stemmer = new SnowballStemmer(ALGORITHM.ENGLISH, 1, 2);
+    Assert.assertEquals("abbrevi", stemmer.stem("abbreviated"));
+    Assert.assertEquals("accompani", stemmer.stem(new StringBuilder("accompanying")));
+    Assert.assertEquals("abbrevi", stemmer.stem("abbreviated"));
+    Assert.assertEquals("accumul", stemmer.stem("accumulated"));
+    Assert.assertEquals("accompani", stemmer.stem("accompanying"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeCacheSize() {
+    new SnowballStemmer(ALGORITHM.ENGLISH, 1, -1);
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import opennlp.tools.util.ConcurrencyTestUtil;
+import opennlp.tools.util.Span;
+
+/**
+ * Tests for the {@link ThreadSafeTokenizerME} class.
+ */
+public class ThreadSafeTokenizerMETest {
+
+  private static final String[] TEXTS = {
+      "Sounds like it's not properly thought through!",
+      "The test may come today.",
+      "Last September, I tried to find out the address of an old school friend.",
+      "Mr. Smith bought cheapsite.com for 1.5 million dollars, i.e. he paid a lot for it.",
+      "\"We do not like it,\" he said."
+  };
+
+  private static TokenizerModel model;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    model = TokenizerTestUtil.createMaxentTokenModel();
+  }
+
+  @Test
+  public void testTokenize() {
+    TokenizerME tokenizer = new TokenizerME(model);
+
+    try (ThreadSafeTokenizerME threadSafeTokenizer = new ThreadSafeTokenizerME(model)) {
+      Assert.assertEquals(0, threadSafeTokenizer.getTokenProbabilities().length);
+
+      for (String text : TEXTS) {
+        Assert.assertArrayEquals(tokenizer.tokenize(text), threadSafeTokenizer.tokenize(text));
+        Assert.assertArrayEquals(tokenizer.getTokenProbabilities(),
+            threadSafeTokenizer.getTokenProbabilities(), 0d);
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentTokenize() throws Exception {
+    TokenizerME tokenizer = new TokenizerME(model);
+
+    Span[][] expectedTokens = new Span[TEXTS.length][];
+    double[][] expectedProbs = new double[TEXTS.length][];
+    for (int i = 0; i < TEXTS.length; i++) {
+      expectedTokens[i] = tokenizer.tokenizePos(TEXTS[i]);
+      expectedProbs[i] = tokenizer.getTokenProbabilities();
+    }
+
+    ThreadSafeTokenizerME threadSafeTokenizer = new ThreadSafeTokenizerME(model);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int n = 0; n < 20; n++) {
+        for (int i = 0; i < TEXTS.length; i++) {
+          if (!Arrays.equals(expectedTokens[i], threadSafeTokenizer.tokenizePos(TEXTS[i]))
+              || !Arrays.equals(expectedProbs[i], threadSafeTokenizer.getTokenProbabilities())) {
+            return false;
+          }
+        }
+      }
+      return true;
+    });
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link InstancePool} class.
+ */
+public class InstancePoolTest {
+
+  @Test
+  public void testBorrowAndRelease() {
+    AtomicInteger created = new AtomicInteger();
+    InstancePool<StringBuilder> pool = new InstancePool<>(() -> {
+      created.incrementAndGet();
+      return new StringBuilder();
+    }, 1);
+
+    StringBuilder first = pool.borrow();
+    StringBuilder second = pool.borrow();
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(2, created.get());
+    Assert.assertEquals(0, pool.getIdleCount());
+
+    pool.release(first);
+    // only one idle instance is retained
+    pool.release(second);
+    Assert.assertEquals(1, pool.getIdleCount());
+
+    Assert.assertSame(first, pool.borrow());
+    Assert.assertEquals(0, pool.getIdleCount());
+    Assert.assertEquals(2, created.get());
+  }
+
+  @Test
+  public void testApply() {
+    InstancePool<StringBuilder> pool = new InstancePool<>(StringBuilder::new);
+
+    Assert.assertEquals("a", pool.apply(sb -> sb.append("a").toString()));
+    Assert.assertEquals(1, pool.getIdleCount());
+
+    try {
+      pool.apply(sb -> {
+        throw new IllegalStateException();
+      });
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      // the instance must be released anyway
+      Assert.assertEquals(1, pool.getIdleCount());
+    }
+
+    pool.clear();
+    Assert.assertEquals(0, pool.getIdleCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMaxIdle() {
+    new InstancePool<>(Object::new, -1);
+  }
+
+  @Test
+  public void testConcurrentUse() throws Exception {
+    InstancePool<AtomicInteger> pool = new InstancePool<>(AtomicInteger::new, 4);
+
+    ConcurrencyTestUtil.assertConcurrent(() -> {
+      for (int i = 0; i < 1000; i++) {
+        AtomicInteger instance = pool.borrow();
+        try {
+          // an instance must never be owned by two callers
+          if (instance.incrementAndGet() != 1) {
+            return false;
+          }
+          instance.decrementAndGet();
+        } finally {
+          pool.release(instance);
+        }
+      }
+      return true;
+    });
+
+    Assert.assertTrue(pool.getIdleCount() <= 4);
+  }
+}
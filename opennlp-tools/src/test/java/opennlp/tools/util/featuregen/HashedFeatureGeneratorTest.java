@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.featuregen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.ml.model.HashedFeatures;
+
+/**
+ * Tests that the hashed features of the generators are the hashes of their feature strings.
+ */
+public class HashedFeatureGeneratorTest {
+
+  private static final String[] SENTENCE = {"Mr.", "Smith", "visited", "NEW", "York", "in",
+      "1999", ",", "and", "loved", "it", "!"};
+
+  private static long[] hash(List<String> features) {
+    long[] ids = new long[features.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = HashedFeatures.hash(features.get(i));
+    }
+    return ids;
+  }
+
+  static void assertHashedFeatures(AdaptiveFeatureGenerator generator, boolean sameOrder) {
+    HashedFeatures hashed = new HashedFeatures();
+    String[] outcomes = new String[SENTENCE.length];
+    Arrays.fill(outcomes, "other");
+
+    for (int index = 0; index < SENTENCE.length; index++) {
+      List<String> features = new ArrayList<>();
+      generator.createFeatures(features, SENTENCE, index, outcomes);
+
+      hashed.clear();
+      generator.createFeatures(hashed, SENTENCE, index, outcomes);
+
+      long[] expected = hash(features);
+      long[] actual = hashed.toArray();
+      if (!sameOrder) {
+        Arrays.sort(expected);
+        Arrays.sort(actual);
+      }
+      Assert.assertArrayEquals(features.toString(), expected, actual);
+    }
+  }
+
+  @Test
+  public void testTokenFeatures() {
+    assertHashedFeatures(new TokenFeatureGenerator(), true);
+    assertHashedFeatures(new TokenFeatureGenerator(false), true);
+    assertHashedFeatures(new TokenClassFeatureGenerator(), true);
+    assertHashedFeatures(new TokenClassFeatureGenerator(true), true);
+    assertHashedFeatures(new PrefixFeatureGenerator(), true);
+    assertHashedFeatures(new SuffixFeatureGenerator(3), true);
+    assertHashedFeatures(new CharacterNgramFeatureGenerator(), false);
+  }
+
+  @Test
+  public void testContextFeatures() {
+    assertHashedFeatures(new OutcomePriorFeatureGenerator(), true);
+    assertHashedFeatures(new BigramNameFeatureGenerator(), true);
+    assertHashedFeatures(new SentenceFeatureGenerator(true, true), true);
+
+    PreviousMapFeatureGenerator previousMap = new PreviousMapFeatureGenerator();
+    previousMap.updateAdaptiveData(new String[] {"Smith"}, new String[] {"person-start"});
+    assertHashedFeatures(previousMap, true);
+  }
+
+  @Test
+  public void testComposedFeatures() {
+    assertHashedFeatures(new WindowFeatureGenerator(new TokenFeatureGenerator(), 2, 2), true);
+    assertHashedFeatures(new CachedFeatureGenerator(new AggregatedFeatureGenerator(
+        new WindowFeatureGenerator(new TokenClassFeatureGenerator(true), 2, 2),
+        new WindowFeatureGenerator(new WindowFeatureGenerator(new PrefixFeatureGenerator(), 1, 1), 1, 0),
+        new OutcomePriorFeatureGenerator())), true);
+
+    // the default implementation hashes the feature strings
+    assertHashedFeatures(new WindowFeatureGenerator(new TrigramNameFeatureGenerator(), 1, 1), true);
+  }
+}
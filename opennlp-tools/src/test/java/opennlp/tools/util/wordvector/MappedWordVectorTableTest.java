@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * Tests for the {@link MappedWordVectorTable} class.
+ */
+public class MappedWordVectorTableTest {
+
+  private static final String VECTORS =
+      "king 0.9 0.8 0.1 0.0 0.2\n" +
+      "queen 0.85 0.82 0.15 0.05 0.25\n" +
+      "man 0.7 0.1 0.1 0.0 0.1\n" +
+      "woman 0.65 0.15 0.2 0.1 0.15\n" +
+      "apple 0.0 0.1 0.9 0.8 0.0\n" +
+      "pear 0.05 0.1 0.85 0.9 0.05\n" +
+      "zero 0 0 0 0 0\n";
+
+  private static WordVectorTable parse(String vectors) throws IOException {
+    return Glove.parse(new ByteArrayInputStream(vectors.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static MappedWordVectorTable compile(WordVectorTable table, boolean quantize)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MappedWordVectorTable.write(table, out, quantize);
+    return new MappedWordVectorTable(ByteBuffer.wrap(out.toByteArray()));
+  }
+
+  private static float cosine(WordVector v1, WordVector v2) {
+    double dot = 0;
+    double norm1 = 0;
+    double norm2 = 0;
+    for (int i = 0; i < v1.dimension(); i++) {
+      dot += v1.getAsDouble(i) * v2.getAsDouble(i);
+      norm1 += v1.getAsDouble(i) * v1.getAsDouble(i);
+      norm2 += v2.getAsDouble(i) * v2.getAsDouble(i);
+    }
+    return norm1 == 0 || norm2 == 0 ? 0 : (float) (dot / Math.sqrt(norm1 * norm2));
+  }
+
+  @Test
+  public void testGet() throws IOException {
+    WordVectorTable glove = parse(VECTORS);
+    MappedWordVectorTable table = compile(glove, false);
+
+    Assert.assertEquals(7, table.size());
+    Assert.assertEquals(5, table.dimension());
+    Assert.assertFalse(table.isQuantized());
+    Assert.assertNull(table.get("orange"));
+
+    Set<String> tokens = new HashSet<>();
+    for (Iterator<String> it = table.tokens(); it.hasNext(); ) {
+      String token = it.next();
+      tokens.add(token);
+
+      WordVector expected = glove.get(token);
+      WordVector vector = table.get(token);
+      Assert.assertEquals(WordVectorType.FLOAT, vector.getDataType());
+      Assert.assertEquals(5, vector.dimension());
+      for (int i = 0; i < 5; i++) {
+        Assert.assertEquals(expected.getAsFloat(i), vector.getAsFloat(i), 0f);
+        Assert.assertEquals(expected.getAsFloat(i), vector.toFloatBuffer().get(i), 0f);
+      }
+    }
+    Assert.assertEquals(7, tokens.size());
+  }
+
+  @Test
+  public void testSimilarity() throws IOException {
+    WordVectorTable glove = parse(VECTORS);
+    MappedWordVectorTable table = compile(glove, false);
+
+    Assert.assertEquals(cosine(glove.get("king"), glove.get("queen")),
+        table.similarity("king", "queen"), 1e-6f);
+    Assert.assertEquals(1f, table.similarity("pear", "pear"), 1e-6f);
+    Assert.assertEquals(0f, table.similarity("pear", "zero"), 0f);
+    Assert.assertTrue(Float.isNaN(table.similarity("pear", "orange")));
+  }
+
+  @Test
+  public void testNearest() throws IOException {
+    for (boolean quantize : new boolean[] {false, true}) {
+      MappedWordVectorTable table = compile(parse(VECTORS), quantize);
+      Assert.assertEquals(quantize, table.isQuantized());
+
+      MappedWordVectorTable.Neighbor[] neighbors = table.nearest("king", 2);
+      Assert.assertEquals(2, neighbors.length);
+      Assert.assertEquals("queen", neighbors[0].getToken());
+      Assert.assertEquals(table.similarity("king", "queen"), neighbors[0].getScore(), 1e-6f);
+      Assert.assertTrue(neighbors[0].getScore() >= neighbors[1].getScore());
+
+      Assert.assertEquals("apple", table.nearest("pear", 1)[0].getToken());
+      Assert.assertEquals(6, table.nearest("pear", 10).length);
+      Assert.assertNull(table.nearest("orange", 1));
+    }
+  }
+
+  @Test
+  public void testBatchMatchesSingleQueries() throws IOException {
+    Random random = new Random(5);
+    StringBuilder vectors = new StringBuilder();
+    for (int t = 0; t < 500; t++) {
+      vectors.append("t").append(t);
+      for (int i = 0; i < 37; i++) {
+        vectors.append(' ').append(random.nextFloat() - 0.5f);
+      }
+      vectors.append('\n');
+    }
+    WordVectorTable glove = parse(vectors.toString());
+
+    float[][] queries = new float[3][37];
+    for (float[] query : queries) {
+      for (int i = 0; i < query.length; i++) {
+        query[i] = random.nextFloat() - 0.5f;
+      }
+    }
+
+    MappedWordVectorTable exact = compile(glove, false);
+    MappedWordVectorTable quantized = compile(glove, true);
+
+    MappedWordVectorTable.Neighbor[][] batch = exact.nearest(queries, 5);
+    MappedWordVectorTable.Neighbor[][] quantizedBatch = quantized.nearest(queries, 5);
+
+    for (int q = 0; q < queries.length; q++) {
+      MappedWordVectorTable.Neighbor[] single = exact.nearest(queries[q], 5);
+
+      // brute force over the parsed vectors
+      float best = -2;
+      String bestToken = null;
+      for (Iterator<String> it = glove.tokens(); it.hasNext(); ) {
+        String token = it.next();
+        float score = cosine(new FloatArrayVector(queries[q]), glove.get(token));
+        if (score > best) {
+          best = score;
+          bestToken = token;
+        }
+      }
+
+      Assert.assertEquals(bestToken, single[0].getToken());
+      Assert.assertEquals(best, single[0].getScore(), 1e-5f);
+      Assert.assertEquals(bestToken, quantizedBatch[q][0].getToken());
+
+      for (int i = 0; i < 5; i++) {
+        Assert.assertEquals(single[i].getToken(), batch[q][i].getToken());
+        Assert.assertEquals(single[i].getScore(), batch[q][i].getScore(), 0f);
+      }
+    }
+  }
+
+  @Test
+  public void testWriteAndOpen() throws IOException {
+    Path file = Files.createTempFile("vectors", ".bin");
+    try {
+      MappedWordVectorTable.write(parse(VECTORS), file, true);
+
+      MappedWordVectorTable table = MappedWordVectorTable.open(file);
+      Assert.assertEquals(7, table.size());
+      Assert.assertTrue(table.isQuantized());
+      Assert.assertEquals(0.85f, table.get("queen").getAsFloat(0), 0f);
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongQueryDimension() throws IOException {
+    compile(parse(VECTORS), false).nearest(new float[3], 1);
+  }
+
+  @Test(expected = InvalidFormatException.class)
+  public void testInvalidFormat() throws IOException {
+    new MappedWordVectorTable(ByteBuffer.wrap(new byte[64]));
+  }
+}